@@ -0,0 +1,105 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sonar.plugins.python.api.PythonCheck;
+import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.PythonVisitorContext;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.python.SubscriptionVisitor;
+import org.sonar.python.benchmarks.Corpus.CorpusFile;
+import org.sonar.python.caching.CacheContextImpl;
+import org.sonar.python.checks.CheckList;
+import org.sonar.python.semantic.ProjectLevelSymbolTable;
+
+/**
+ * Executes all the rules of {@link CheckList} on the corpus, the way {@code PythonScanner} does: subscription checks
+ * through {@link SubscriptionVisitor#analyze}, other checks through {@link PythonCheck#scanFile}.
+ * Visitor contexts, which include the semantic model, and check instances are created before each invocation, outside of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ChecksBenchmark {
+
+  private List<CorpusFile> files;
+  private ProjectLevelSymbolTable projectLevelSymbolTable;
+  private List<PythonVisitorContext> contexts;
+  private List<PythonSubscriptionCheck> subscriptionChecks;
+  private List<PythonCheck> otherChecks;
+
+  @Setup(Level.Trial)
+  public void loadCorpus() {
+    files = Corpus.load();
+    projectLevelSymbolTable = ProjectLevelSymbolTable.empty();
+  }
+
+  @Setup(Level.Invocation)
+  public void createContextsAndChecks() {
+    List<FileInput> fileInputs = Corpus.fileInputs(files);
+    contexts = new ArrayList<>();
+    for (int i = 0; i < files.size(); i++) {
+      contexts.add(new PythonVisitorContext(fileInputs.get(i), files.get(i), null, "", projectLevelSymbolTable, CacheContextImpl.dummyCache()));
+    }
+    subscriptionChecks = new ArrayList<>();
+    otherChecks = new ArrayList<>();
+    for (Class<?> checkClass : CheckList.getChecks()) {
+      PythonCheck check = newCheck(checkClass);
+      if (check instanceof PythonSubscriptionCheck subscriptionCheck) {
+        subscriptionChecks.add(subscriptionCheck);
+      } else {
+        otherChecks.add(check);
+      }
+    }
+  }
+
+  @Benchmark
+  public void checks() {
+    for (PythonVisitorContext context : contexts) {
+      for (PythonCheck check : otherChecks) {
+        check.scanFile(context);
+      }
+      SubscriptionVisitor.analyze(subscriptionChecks, context);
+    }
+  }
+
+  private static PythonCheck newCheck(Class<?> checkClass) {
+    try {
+      return (PythonCheck) checkClass.getDeclaredConstructor().newInstance();
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+      throw new IllegalStateException("Cannot instantiate " + checkClass.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.benchmarks;
+
+import com.sonar.sslr.api.AstNode;
+import com.sonar.sslr.api.RecognitionException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.sonar.plugins.python.api.PythonFile;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.python.parser.PythonParser;
+import org.sonar.python.tree.PythonTreeMaker;
+
+/**
+ * Python files the benchmarks are run on.
+ * The corpus directory is given by the {@code python.benchmarks.corpus} system property and defaults to the sources of the
+ * ruling tests. At most {@code python.benchmarks.maxFiles} files are taken, in path order, so that runs are comparable.
+ * Files which cannot be parsed are left out.
+ */
+public final class Corpus {
+
+  static final String CORPUS_PROPERTY = "python.benchmarks.corpus";
+  static final String MAX_FILES_PROPERTY = "python.benchmarks.maxFiles";
+  private static final String DEFAULT_CORPUS = "its/sources_ruling";
+  private static final int DEFAULT_MAX_FILES = 100;
+
+  private Corpus() {
+  }
+
+  public static List<CorpusFile> load() {
+    Path root = Path.of(System.getProperty(CORPUS_PROPERTY, DEFAULT_CORPUS));
+    int maxFiles = Integer.getInteger(MAX_FILES_PROPERTY, DEFAULT_MAX_FILES);
+    PythonParser parser = PythonParser.create();
+    List<CorpusFile> files = new ArrayList<>();
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (Path path : paths.filter(p -> p.toString().endsWith(".py")).sorted().toList()) {
+        if (files.size() == maxFiles) {
+          break;
+        }
+        CorpusFile file = new CorpusFile(path.toUri(), path.getFileName().toString(), Files.readString(path, StandardCharsets.UTF_8));
+        if (isParseable(parser, file)) {
+          files.add(file);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read benchmark corpus " + root.toAbsolutePath(), e);
+    }
+    if (files.isEmpty()) {
+      throw new IllegalStateException("No Python file found in " + root.toAbsolutePath() + ", set -D" + CORPUS_PROPERTY + "=<directory>");
+    }
+    return files;
+  }
+
+  public static List<AstNode> parse(List<CorpusFile> files) {
+    PythonParser parser = PythonParser.create();
+    return files.stream().map(file -> parser.parse(file.content())).toList();
+  }
+
+  public static List<FileInput> fileInputs(List<CorpusFile> files) {
+    PythonTreeMaker treeMaker = new PythonTreeMaker();
+    return parse(files).stream().map(treeMaker::fileInput).toList();
+  }
+
+  private static boolean isParseable(PythonParser parser, CorpusFile file) {
+    try {
+      new PythonTreeMaker().fileInput(parser.parse(file.content()));
+      return true;
+    } catch (RecognitionException e) {
+      return false;
+    }
+  }
+
+  public record CorpusFile(URI uri, String fileName, String content) implements PythonFile {
+
+    @Override
+    public String key() {
+      return uri.toString();
+    }
+  }
+}
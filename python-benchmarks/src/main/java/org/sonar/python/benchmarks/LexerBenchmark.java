@@ -0,0 +1,66 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.benchmarks;
+
+import com.sonar.sslr.impl.Lexer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sonar.python.benchmarks.Corpus.CorpusFile;
+import org.sonar.python.lexer.LexerState;
+import org.sonar.python.lexer.PythonLexer;
+
+/**
+ * Tokenizes the corpus with the channels of {@link PythonLexer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LexerBenchmark {
+
+  private List<CorpusFile> files;
+  private LexerState lexerState;
+  private Lexer lexer;
+
+  @Setup
+  public void setup() {
+    files = Corpus.load();
+    lexerState = new LexerState();
+    lexer = PythonLexer.create(lexerState);
+  }
+
+  @Benchmark
+  public void lex(Blackhole blackhole) {
+    for (CorpusFile file : files) {
+      lexerState.reset();
+      blackhole.consume(lexer.lex(file.content()));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.benchmarks;
+
+import com.sonar.sslr.api.AstNode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sonar.python.benchmarks.Corpus.CorpusFile;
+import org.sonar.python.parser.PythonParser;
+import org.sonar.python.tree.PythonTreeMaker;
+
+/**
+ * Parses the corpus with {@link PythonParser#parse(String)}, and converts the parse trees with {@link PythonTreeMaker#fileInput(AstNode)}.
+ * Tree conversion starts from parse trees built once in setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParserBenchmark {
+
+  private List<CorpusFile> files;
+  private List<AstNode> astNodes;
+  private PythonParser parser;
+
+  @Setup
+  public void setup() {
+    files = Corpus.load();
+    astNodes = Corpus.parse(files);
+    parser = PythonParser.create();
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) {
+    for (CorpusFile file : files) {
+      blackhole.consume(parser.parse(file.content()));
+    }
+  }
+
+  @Benchmark
+  public void treeMaker(Blackhole blackhole) {
+    PythonTreeMaker treeMaker = new PythonTreeMaker();
+    for (AstNode astNode : astNodes) {
+      blackhole.consume(treeMaker.fileInput(astNode));
+    }
+  }
+}
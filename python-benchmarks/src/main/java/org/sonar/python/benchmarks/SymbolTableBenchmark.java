@@ -0,0 +1,77 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.python.benchmarks.Corpus.CorpusFile;
+import org.sonar.python.semantic.ProjectLevelSymbolTable;
+import org.sonar.python.semantic.SymbolTableBuilder;
+import org.sonar.python.semantic.v2.SymbolTableBuilderV2;
+
+/**
+ * Builds the symbol tables of the corpus with {@link SymbolTableBuilder}, which includes type inference v1, and with {@link SymbolTableBuilderV2}.
+ * Symbol tables decorate the trees they are built on: fresh trees are made before each invocation, outside of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SymbolTableBenchmark {
+
+  private List<CorpusFile> files;
+  private List<FileInput> fileInputs;
+
+  @Setup(Level.Trial)
+  public void loadCorpus() {
+    files = Corpus.load();
+  }
+
+  @Setup(Level.Invocation)
+  public void buildTrees() {
+    fileInputs = Corpus.fileInputs(files);
+  }
+
+  @Benchmark
+  public void symbolTableBuilder() {
+    for (int i = 0; i < files.size(); i++) {
+      new SymbolTableBuilder("", files.get(i), ProjectLevelSymbolTable.empty()).visitFileInput(fileInputs.get(i));
+    }
+  }
+
+  @Benchmark
+  public void symbolTableBuilderV2(Blackhole blackhole) {
+    for (FileInput fileInput : fileInputs) {
+      blackhole.consume(new SymbolTableBuilderV2(fileInput).build());
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.python.benchmarks.Corpus.CorpusFile;
+import org.sonar.python.semantic.ProjectLevelSymbolTable;
+import org.sonar.python.semantic.v2.ProjectLevelTypeTable;
+import org.sonar.python.semantic.v2.SymbolTable;
+import org.sonar.python.semantic.v2.SymbolTableBuilderV2;
+import org.sonar.python.semantic.v2.TypeInferenceV2;
+
+/**
+ * Runs {@link TypeInferenceV2} on the corpus.
+ * The project level type table is shared by all invocations, as in an analysis: Typeshed stubs are only loaded during warmup.
+ * Trees and their symbol tables are rebuilt before each invocation, outside of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TypeInferenceV2Benchmark {
+
+  private List<CorpusFile> files;
+  private ProjectLevelTypeTable projectLevelTypeTable;
+  private List<FileInput> fileInputs;
+  private List<SymbolTable> symbolTables;
+
+  @Setup(Level.Trial)
+  public void loadCorpus() {
+    files = Corpus.load();
+    projectLevelTypeTable = new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty());
+  }
+
+  @Setup(Level.Invocation)
+  public void buildSymbolTables() {
+    fileInputs = Corpus.fileInputs(files);
+    symbolTables = new ArrayList<>();
+    for (FileInput fileInput : fileInputs) {
+      symbolTables.add(new SymbolTableBuilderV2(fileInput).build());
+    }
+  }
+
+  @Benchmark
+  public void typeInferenceV2(Blackhole blackhole) {
+    for (int i = 0; i < files.size(); i++) {
+      blackhole.consume(new TypeInferenceV2(projectLevelTypeTable, files.get(i), symbolTables.get(i), "").inferTypes(fileInputs.get(i)));
+    }
+  }
+}
@@ -20,12 +20,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.symbols.Symbol;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class AbstractCallExpressionCheck extends PythonSubscriptionCheck {
 
   protected abstract Set<String> functionsToCheck();
@@ -21,7 +21,9 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.NumericLiteral;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Tuple;
 import org.sonar.python.checks.utils.CheckUtils;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class AbstractDuplicateKeyCheck extends PythonSubscriptionCheck {
 
   // Avoid performance issues for big dictionary/set literals
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.regex.Pattern;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 
+@RequiredSemanticLayers({})
 public abstract class AbstractNameCheck extends PythonSubscriptionCheck {
 
   private Pattern pattern = null;
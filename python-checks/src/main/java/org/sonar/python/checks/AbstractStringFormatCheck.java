@@ -23,7 +23,9 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.sonar.plugins.python.api.PythonCheck;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
@@ -41,6 +43,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.types.BuiltinTypes;
 import org.sonar.python.checks.utils.Expressions;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class AbstractStringFormatCheck extends PythonSubscriptionCheck {
 
   protected static final Consumer<String> IGNORE_SYNTAX_ERRORS = message -> {};
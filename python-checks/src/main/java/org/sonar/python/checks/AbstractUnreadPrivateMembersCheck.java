@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Predicate;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.AmbiguousSymbol;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
@@ -30,6 +32,7 @@ import org.sonar.python.tree.TreeUtils;
 
 import static org.sonar.plugins.python.api.tree.Tree.Kind.CLASSDEF;
 
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public abstract class AbstractUnreadPrivateMembersCheck extends PythonSubscriptionCheck {
 
   @Override
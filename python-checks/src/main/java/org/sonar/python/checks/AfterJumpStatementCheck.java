@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
@@ -32,6 +33,7 @@ import org.sonar.plugins.python.api.tree.Tree.Kind;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1763")
+@RequiredSemanticLayers({})
 public class AfterJumpStatementCheck extends PythonSubscriptionCheck {
 
   @Override
@@ -39,13 +41,13 @@ public class AfterJumpStatementCheck extends PythonSubscriptionCheck {
     context.registerSyntaxNodeConsumer(Kind.FILE_INPUT, ctx ->
       {
         FileInput fileInput = (FileInput) ctx.syntaxNode();
-        checkCfg(ControlFlowGraph.build(fileInput, ctx.pythonFile()), ctx, fileInput.statements());
+        checkCfg(ctx.cfgProvider().cfg(fileInput), ctx, fileInput.statements());
       }
     );
     context.registerSyntaxNodeConsumer(Kind.FUNCDEF, ctx ->
       {
         FunctionDef functionDef = (FunctionDef) ctx.syntaxNode();
-        checkCfg(ControlFlowGraph.build(functionDef, ctx.pythonFile()), ctx, functionDef.body());
+        checkCfg(ctx.cfgProvider().cfg(functionDef), ctx, functionDef.body());
       }
     );
 
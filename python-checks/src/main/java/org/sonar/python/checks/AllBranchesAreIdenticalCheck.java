@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.IssueLocation;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
 import org.sonar.plugins.python.api.tree.ConditionalExpression;
@@ -40,6 +42,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.quickfix.TextEditUtils.removeUntil;
 
 @Rule(key = "S3923")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class AllBranchesAreIdenticalCheck extends PythonSubscriptionCheck {
 
   private static final String IF_STATEMENT_MESSAGE = "Remove this if statement or edit its code blocks so that they're not all the same.";
@@ -27,7 +27,9 @@ import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -47,6 +49,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.plugins.python.api.symbols.Usage.Kind.PARAMETER;
 
 @Rule(key = "S930")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ArgumentNumberCheck extends PythonSubscriptionCheck {
 
   private static final String FUNCTION_DEFINITION = "Function definition.";
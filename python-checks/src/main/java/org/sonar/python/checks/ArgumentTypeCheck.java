@@ -26,7 +26,9 @@ import java.util.TreeSet;
 import java.util.function.Predicate;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
@@ -43,6 +45,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.types.InferredTypes.typeName;
 
 @Rule(key = "S5655")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ArgumentTypeCheck extends PythonSubscriptionCheck {
 
   private static class IssueToReport {
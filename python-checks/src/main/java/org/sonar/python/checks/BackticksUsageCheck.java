@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ReprExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
@@ -25,6 +26,7 @@ import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "BackticksUsage")
+@RequiredSemanticLayers({})
 public class BackticksUsageCheck extends PythonSubscriptionCheck {
 
   @Override
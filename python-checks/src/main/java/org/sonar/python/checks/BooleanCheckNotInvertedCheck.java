@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.List;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
@@ -38,6 +40,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1940")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class BooleanCheckNotInvertedCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use the opposite operator (\"%s\") instead.";
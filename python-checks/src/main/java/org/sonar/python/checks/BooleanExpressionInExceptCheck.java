@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
@@ -36,6 +37,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5714")
+@RequiredSemanticLayers({})
 public class BooleanExpressionInExceptCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Rewrite this \"except\" expression as a tuple of exception classes.";
@@ -20,7 +20,9 @@ import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -34,6 +36,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import static java.util.Map.entry;
 
 @Rule(key = "S6545")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class BuiltinGenericsOverTypingModuleCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Use the built-in generic type `%s` instead of its typing counterpart.";
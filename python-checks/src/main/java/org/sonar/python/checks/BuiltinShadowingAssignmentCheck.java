@@ -26,7 +26,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -48,6 +50,7 @@ import org.sonar.python.tree.TreeUtils;
 import org.sonar.python.types.TypeShed;
 
 @Rule(key = "S5806")
+@RequiredSemanticLayers({SemanticLayer.TYPES, SemanticLayer.TYPES_V2})
 public class BuiltinShadowingAssignmentCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Rename this variable; it shadows a builtin.";
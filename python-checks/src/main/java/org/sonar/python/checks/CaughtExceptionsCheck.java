@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
@@ -35,25 +37,37 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 import org.sonar.python.types.v2.PythonType;
 import org.sonar.python.types.v2.TriBool;
+import org.sonar.python.types.v2.TypeCheckBuilder;
 
 import static org.sonar.plugins.python.api.symbols.Symbol.Kind.CLASS;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.EXCEPT_CLAUSE;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.EXCEPT_GROUP_CLAUSE;
+import static org.sonar.plugins.python.api.tree.Tree.Kind.FILE_INPUT;
 import static org.sonar.plugins.python.api.types.BuiltinTypes.BASE_EXCEPTION;
 
 @Rule(key = "S5708")
+@RequiredSemanticLayers({SemanticLayer.TYPES, SemanticLayer.TYPES_V2})
 public class CaughtExceptionsCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Change this expression to be a class deriving from BaseException or a tuple of such classes.";
   public static final String QUICK_FIX_MESSAGE_FORMAT = "Make \"%s\" deriving from \"Exception\"";
 
+  private TypeCheckBuilder isBaseExceptionInstance;
+  private TypeCheckBuilder isTuple;
+  private TypeCheckBuilder isType;
+
   @Override
   public void initialize(Context context) {
-    context.registerSyntaxNodeConsumer(EXCEPT_CLAUSE, CaughtExceptionsCheck::checkExceptClause);
-    context.registerSyntaxNodeConsumer(EXCEPT_GROUP_CLAUSE, CaughtExceptionsCheck::checkExceptClause);
+    context.registerSyntaxNodeConsumer(FILE_INPUT, ctx -> {
+      isBaseExceptionInstance = ctx.typeChecker().typeCheckBuilder().isInstanceOf("BaseException").compile();
+      isTuple = ctx.typeChecker().typeCheckBuilder().isBuiltinWithName("tuple").compile();
+      isType = ctx.typeChecker().typeCheckBuilder().isBuiltinWithName("type").compile();
+    });
+    context.registerSyntaxNodeConsumer(EXCEPT_CLAUSE, this::checkExceptClause);
+    context.registerSyntaxNodeConsumer(EXCEPT_GROUP_CLAUSE, this::checkExceptClause);
   }
 
-  private static void checkExceptClause(SubscriptionContext ctx) {
+  private void checkExceptClause(SubscriptionContext ctx) {
     Expression exception = ((ExceptClause) ctx.syntaxNode()).exception();
     if (exception == null) {
       return;
@@ -64,7 +78,7 @@ public class CaughtExceptionsCheck extends PythonSubscriptionCheck {
       var notInheritsFromBaseException = expressionSymbolOpt
         .filter(Predicate.not(CaughtExceptionsCheck::inheritsFromBaseException))
         .isPresent();
-      if (!canBeOrExtendBaseException(expression, ctx) || notInheritsFromBaseException) {
+      if (!canBeOrExtendBaseException(expression) || notInheritsFromBaseException) {
         var issue = ctx.addIssue(expression, MESSAGE);
         expressionSymbolOpt.ifPresent(symbol -> addQuickFix(issue, symbol));
       }
@@ -101,12 +115,9 @@ public class CaughtExceptionsCheck extends PythonSubscriptionCheck {
       });
   }
 
-  private static boolean canBeOrExtendBaseException(Expression expression, SubscriptionContext ctx) {
+  private boolean canBeOrExtendBaseException(Expression expression) {
     PythonType pythonType = expression.typeV2();
-    TriBool isBaseException = ctx.typeChecker().typeCheckBuilder().isInstanceOf("BaseException").check(pythonType);
-    TriBool isTuple = ctx.typeChecker().typeCheckBuilder().isBuiltinWithName("tuple").check(pythonType);
-    TriBool isType = ctx.typeChecker().typeCheckBuilder().isBuiltinWithName("type").check(pythonType);
-    return isBaseException != TriBool.FALSE || isTuple != TriBool.FALSE || isType == TriBool.TRUE;
+    return isBaseExceptionInstance.check(pythonType) != TriBool.FALSE || isTuple.check(pythonType) != TriBool.FALSE || isType.check(pythonType) == TriBool.TRUE;
   }
 
   private static boolean inheritsFromBaseException(@Nullable Symbol symbol) {
@@ -26,7 +26,9 @@ import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -37,6 +39,7 @@ import static org.sonar.plugins.python.api.symbols.Symbol.Kind.FUNCTION;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.FUNCDEF;
 
 @Rule(key = "S2638")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ChangeMethodContractCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> IGNORING_DECORATORS = Set.of(
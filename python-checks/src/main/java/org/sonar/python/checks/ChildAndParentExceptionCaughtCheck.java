@@ -24,7 +24,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
@@ -41,6 +43,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5713")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ChildAndParentExceptionCaughtCheck extends PythonSubscriptionCheck {
   public static final String QUICK_FIX_MESSAGE = "Remove the redundant Exception";
 
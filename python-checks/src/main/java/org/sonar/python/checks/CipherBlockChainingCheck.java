@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.HashSet;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -37,6 +39,7 @@ import org.sonar.python.tree.TreeUtils;
 import static java.util.Arrays.asList;
 
 @Rule(key = "S3329")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class CipherBlockChainingCheck extends PythonSubscriptionCheck {
 
   private static final HashSet<String> PYCRYPTO_SENSITIVE_FQNS = new HashSet<>();
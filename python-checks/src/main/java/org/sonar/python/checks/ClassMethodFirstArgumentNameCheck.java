@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
@@ -35,6 +37,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S2710")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class ClassMethodFirstArgumentNameCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT_CLASS_PARAMETER_NAMES = "cls,mcs,metacls";
@@ -22,11 +22,13 @@ import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.IssueLocation;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.metrics.CognitiveComplexityVisitor;
 
 @Rule(key = CognitiveComplexityFunctionCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class CognitiveComplexityFunctionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Refactor this function to reduce its Cognitive Complexity from %s to the %s allowed.";
@@ -22,6 +22,7 @@ import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonVisitorCheck;
 import org.sonar.plugins.python.api.PythonVisitorContext;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.IfStatement;
 import org.sonar.plugins.python.api.tree.Statement;
 import org.sonar.plugins.python.api.tree.Token;
@@ -31,6 +32,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.ASSIGNMENT_EXPRESSION;
 
 @Rule(key = CollapsibleIfStatementsCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class CollapsibleIfStatementsCheck extends PythonVisitorCheck {
   public static final String CHECK_KEY = "S1066";
   private static final String MESSAGE = "Merge this if statement with the enclosing one.";
@@ -82,8 +84,8 @@ public class CollapsibleIfStatementsCheck extends PythonVisitorCheck {
   }
 
   private static boolean hasCommentsBetweenEnclosingAndChildIf(IfStatement singleIfChild, IfStatement enclosingIfStatement) {
-    return TreeUtils.tokens(enclosingIfStatement).stream()
-      .anyMatch(token -> !token.trivia().isEmpty() && token.trivia().get(0).token().line() < singleIfChild.firstToken().line());
+    return TreeUtils.hasToken(enclosingIfStatement,
+      token -> !token.trivia().isEmpty() && token.trivia().get(0).token().line() < singleIfChild.firstToken().line());
   }
 
   private static boolean wouldCauseLongLineLength(IfStatement singleIfChild, IfStatement enclosingIf) {
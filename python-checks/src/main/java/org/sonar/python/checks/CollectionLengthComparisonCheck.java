@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import com.sonar.sslr.api.TokenType;
 import java.util.EnumSet;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.symbols.Symbol;
 import static org.sonar.python.checks.utils.Expressions.removeParentheses;
 
 @Rule(key = "S3981")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class CollectionLengthComparisonCheck extends PythonSubscriptionCheck {
 
   private static final EnumSet<PythonPunctuator> INVALID_OPERATORS =
@@ -20,11 +20,13 @@ import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Trivia;
 
 @Rule(key = "CommentRegularExpression")
+@RequiredSemanticLayers({})
 public class CommentRegularExpressionCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT_REGULAR_EXPRESSION = "";
@@ -23,7 +23,9 @@ import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.Statement;
@@ -37,6 +39,7 @@ import org.sonar.python.parser.PythonParser;
 import org.sonar.python.tree.PythonTreeMaker;
 
 @Rule(key = "S125")
+@RequiredSemanticLayers({SemanticLayer.TYPES, SemanticLayer.TYPES_V2})
 public class CommentedCodeCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Remove this commented out code.";
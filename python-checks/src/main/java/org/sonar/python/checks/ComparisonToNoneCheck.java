@@ -17,7 +17,9 @@
 package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
 import org.sonar.plugins.python.api.tree.IsExpression;
@@ -29,6 +31,7 @@ import org.sonar.plugins.python.api.types.InferredType;
 import static org.sonar.python.checks.utils.CheckUtils.isNone;
 
 @Rule(key = "S5727")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ComparisonToNoneCheck extends PythonSubscriptionCheck {
 
   @Override
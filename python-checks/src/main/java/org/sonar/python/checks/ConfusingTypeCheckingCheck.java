@@ -22,7 +22,9 @@ import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -38,6 +40,7 @@ import org.sonar.python.types.InferredTypes;
 import org.sonar.python.types.TypeShed;
 import org.sonar.python.types.v2.PythonType;
 import org.sonar.python.types.v2.TriBool;
+import org.sonar.python.types.v2.TypeCheckBuilder;
 
 import static org.sonar.python.tree.TreeUtils.nameFromExpression;
 import static org.sonar.python.types.InferredTypes.containsDeclaredType;
@@ -46,6 +49,7 @@ import static org.sonar.python.types.InferredTypes.typeName;
 import static org.sonar.python.types.InferredTypes.typeSymbols;
 
 @Rule(key = "S5864")
+@RequiredSemanticLayers({SemanticLayer.TYPES, SemanticLayer.TYPES_V2})
 public class ConfusingTypeCheckingCheck extends PythonSubscriptionCheck {
   @Override
   public void initialize(Context context) {
@@ -203,6 +207,14 @@ public class ConfusingTypeCheckingCheck extends PythonSubscriptionCheck {
 
   private static class NonCallableCalledCheck extends NonCallableCalled {
 
+    private TypeCheckBuilder isCoroutine;
+
+    @Override
+    public void initialize(Context context) {
+      context.registerSyntaxNodeConsumer(Tree.Kind.FILE_INPUT, ctx -> isCoroutine = ctx.typeChecker().typeCheckBuilder().isInstanceOf("typing.Coroutine").compile());
+      super.initialize(context);
+    }
+
     @Override
     protected boolean isExpectedTypeSource(SubscriptionContext ctx, PythonType calleeType) {
       return ctx.typeChecker().typeCheckBuilder().isTypeHintTypeSource().check(calleeType) == TriBool.TRUE;
@@ -210,8 +222,7 @@ public class ConfusingTypeCheckingCheck extends PythonSubscriptionCheck {
 
     @Override
     protected boolean isException(SubscriptionContext ctx, PythonType calleeType) {
-      var isCoroutine = ctx.typeChecker().typeCheckBuilder().isInstanceOf("typing.Coroutine").check(calleeType) == TriBool.TRUE;
-      return super.isException(ctx, calleeType) || isCoroutine;
+      return super.isException(ctx, calleeType) || isCoroutine.check(calleeType) == TriBool.TRUE;
     }
   }
 
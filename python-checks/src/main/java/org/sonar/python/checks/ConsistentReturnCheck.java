@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.cfg.CfgBranchingBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
@@ -32,6 +33,7 @@ import org.sonar.plugins.python.api.tree.WhileStatement;
 import org.sonar.python.checks.utils.Expressions;
 
 @Rule(key = "S3801")
+@RequiredSemanticLayers({})
 public class ConsistentReturnCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Refactor this function to use \"return\" consistently.";
@@ -40,7 +42,7 @@ public class ConsistentReturnCheck extends PythonSubscriptionCheck {
   public void initialize(Context context) {
     context.registerSyntaxNodeConsumer(Kind.FUNCDEF, ctx -> {
       FunctionDef functionDef = (FunctionDef) ctx.syntaxNode();
-      ControlFlowGraph cfg = ControlFlowGraph.build(functionDef, ctx.pythonFile());
+      ControlFlowGraph cfg = ctx.cfgProvider().cfg(functionDef);
       if (cfg == null || hasExceptOrFinally(cfg)) {
         return;
       }
@@ -20,7 +20,9 @@ import java.util.List;
 import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonVisitorCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -44,6 +46,7 @@ import static org.sonar.python.checks.utils.CheckUtils.isConstant;
 import static org.sonar.python.checks.utils.CheckUtils.isImmutableConstant;
 
 @Rule(key = "S5797")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ConstantConditionCheck extends PythonVisitorCheck {
 
   private static final String MESSAGE = "Replace this expression; used as a condition it will always be constant.";
@@ -52,7 +55,7 @@ public class ConstantConditionCheck extends PythonVisitorCheck {
 
   @Override
   public void visitFileInput(FileInput fileInput) {
-    reachingDefinitionsAnalysis = new ReachingDefinitionsAnalysis(getContext().pythonFile());
+    reachingDefinitionsAnalysis = getContext().cfgProvider().reachingDefinitions();
     super.visitFileInput(fileInput);
   }
 
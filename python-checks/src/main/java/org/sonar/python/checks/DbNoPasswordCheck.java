@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
@@ -45,6 +47,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.STATEMENT_LIST;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.STRING_LITERAL;
 
 @Rule(key = "S2115")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class DbNoPasswordCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Add password protection to this database.";
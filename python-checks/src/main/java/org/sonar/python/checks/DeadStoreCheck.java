@@ -20,7 +20,9 @@ import java.util.Set;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
@@ -53,6 +55,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.checks.utils.DeadStoreUtils.isUsedInSubFunction;
 
 @Rule(key = "S1854")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class DeadStoreCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_TEMPLATE = "Remove this assignment to local variable '%s'; the value is never used.";
@@ -70,11 +73,11 @@ public class DeadStoreCheck extends PythonSubscriptionCheck {
       if (TreeUtils.hasDescendant(functionDef, tree -> tree.is(Tree.Kind.TRY_STMT))) {
         return;
       }
-      ControlFlowGraph cfg = ControlFlowGraph.build(functionDef, ctx.pythonFile());
+      ControlFlowGraph cfg = ctx.cfgProvider().cfg(functionDef);
       if (cfg == null) {
         return;
       }
-      LiveVariablesAnalysis lva = LiveVariablesAnalysis.analyze(cfg);
+      LiveVariablesAnalysis lva = ctx.cfgProvider().liveVariables(cfg);
       cfg.blocks().forEach(block -> verifyBlock(ctx, block, lva.getLiveVariables(block), lva.getReadSymbols(), functionDef));
     });
   }
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Map;
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -28,6 +30,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S6730")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DeprecatedNumpyTypesCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Replace this deprecated \"numpy\" type alias with the builtin type \"%s\".";
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
@@ -32,6 +34,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.CALL_EXPR;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.COMPARISON;
 
 @Rule(key = "S6660")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DirectTypeComparisonCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> OPERATORS = Set.of("==", "!=");
@@ -20,7 +20,9 @@ import java.util.List;
 import java.util.Objects;
 import javax.annotation.CheckForNull;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -35,6 +37,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6560")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DjangoNonDictSerializationCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use a dictionary object here, or set the \"safe\" flag to False.";
@@ -17,7 +17,9 @@
 package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.ParenthesizedExpression;
@@ -27,6 +29,7 @@ import org.sonar.python.types.InferredTypes;
 
 @Rule(key = "S2761")
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DoublePrefixOperatorCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use the \"%s\" operator just once or not at all.";
@@ -28,8 +28,10 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonFile;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -55,6 +57,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.semantic.SymbolUtils.pathOf;
 
 @Rule(key = "S5549")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DuplicateArgumentCheck extends PythonSubscriptionCheck {
 
   @Override
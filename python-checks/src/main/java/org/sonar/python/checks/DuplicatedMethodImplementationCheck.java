@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.AnyParameter;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
@@ -38,6 +40,7 @@ import org.sonar.python.tree.NameImpl;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S4144")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DuplicatedMethodImplementationCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Update this function so that its implementation is not identical to %s on line %s.";
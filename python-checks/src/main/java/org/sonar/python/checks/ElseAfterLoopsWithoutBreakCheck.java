@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ElseClause;
 import org.sonar.plugins.python.api.tree.ForStatement;
@@ -26,6 +27,7 @@ import org.sonar.plugins.python.api.tree.WhileStatement;
 
 // https://jira.sonarsource.com/browse/RSPEC-2836
 @Rule(key = "S2836")
+@RequiredSemanticLayers({})
 public class ElseAfterLoopsWithoutBreakCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Add a \"break\" statement or remove this \"else\" clause.";
 
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.Statement;
 import org.sonar.plugins.python.api.tree.Token;
@@ -31,6 +32,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.quickfix.TextEditUtils.insertLineBefore;
 
 @Rule(key = "S1186")
+@RequiredSemanticLayers({})
 public class EmptyFunctionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Add a nested comment explaining why this %s is empty, or complete the implementation.";
@@ -56,7 +58,7 @@ public class EmptyFunctionCheck extends PythonSubscriptionCheck {
       }
 
       if (functionDef.body().statements().size() == 1 && functionDef.body().statements().get(0).is(Tree.Kind.PASS_STMT)) {
-        if (TreeUtils.tokens(functionDef).stream().anyMatch(t -> !t.trivia().isEmpty())) {
+        if (TreeUtils.hasToken(functionDef, t -> !t.trivia().isEmpty())) {
           return;
         }
         if (hasCommentAbove(functionDef)) {
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ExceptClause;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.RaiseStatement;
@@ -29,6 +31,7 @@ import org.sonar.python.checks.utils.CheckUtils;
 import static org.sonar.python.checks.utils.Expressions.removeParentheses;
 
 @Rule(key = "S2737")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ExceptRethrowingCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Add logic to this except clause or eliminate it and rethrow the exception automatically.";
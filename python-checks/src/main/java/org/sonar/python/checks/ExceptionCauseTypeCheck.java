@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -28,12 +30,21 @@ import org.sonar.plugins.python.api.tree.RaiseStatement;
 import org.sonar.plugins.python.api.tree.Tree.Kind;
 import org.sonar.python.types.v2.PythonType;
 import org.sonar.python.types.v2.TriBool;
+import org.sonar.python.types.v2.TypeCheckBuilder;
 
 @Rule(key = "S5707")
+@RequiredSemanticLayers(SemanticLayer.TYPES_V2)
 public class ExceptionCauseTypeCheck extends PythonSubscriptionCheck {
 
+  private TypeCheckBuilder isBaseExceptionInstance;
+  private TypeCheckBuilder isNoneType;
+
   @Override
   public void initialize(Context context) {
+    context.registerSyntaxNodeConsumer(Kind.FILE_INPUT, ctx -> {
+      isBaseExceptionInstance = ctx.typeChecker().typeCheckBuilder().isInstanceOf("BaseException").compile();
+      isNoneType = ctx.typeChecker().typeCheckBuilder().isBuiltinWithName("NoneType").compile();
+    });
     context.registerSyntaxNodeConsumer(Kind.RAISE_STMT, ctx -> {
       RaiseStatement raise = (RaiseStatement) ctx.syntaxNode();
       check(raise.fromExpression(), ctx);
@@ -52,14 +63,14 @@ public class ExceptionCauseTypeCheck extends PythonSubscriptionCheck {
     return e.is(Kind.QUALIFIED_EXPR) && ((QualifiedExpression) e).name().name().equals("__cause__");
   }
 
-  private static void check(@Nullable Expression cause, SubscriptionContext ctx) {
+  private void check(@Nullable Expression cause, SubscriptionContext ctx) {
     if (cause == null) {
       return;
     }
     PythonType causeType = cause.typeV2();
-    TriBool inheritsFromBaseException = ctx.typeChecker().typeCheckBuilder().isInstanceOf("BaseException").check(causeType);
-    TriBool isNoneType = ctx.typeChecker().typeCheckBuilder().isBuiltinWithName("NoneType").check(causeType);
-    if (inheritsFromBaseException == TriBool.FALSE && isNoneType == TriBool.FALSE) {
+    TriBool inheritsFromBaseException = isBaseExceptionInstance.check(causeType);
+    TriBool isNone = isNoneType.check(causeType);
+    if (inheritsFromBaseException == TriBool.FALSE && isNone == TriBool.FALSE) {
       ctx.addIssue(cause, "Replace this expression with an exception or None");
     }
   }
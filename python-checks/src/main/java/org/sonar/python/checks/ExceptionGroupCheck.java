@@ -19,6 +19,7 @@ package org.sonar.python.checks;
 import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ExceptClause;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -29,6 +30,7 @@ import org.sonar.plugins.python.api.tree.Tuple;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.EXCEPT_GROUP_CLAUSE;
 
 @Rule(key = "S6468")
+@RequiredSemanticLayers({})
 public class ExceptionGroupCheck extends PythonSubscriptionCheck {
   private static final Set<String> EXCEPTION_GROUP = Set.of("ExceptionGroup", "BaseExceptionGroup");
   private static final String MESSAGE = "Avoid catching %s exception with 'except*'";
@@ -23,7 +23,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -36,6 +38,7 @@ import org.sonar.python.semantic.BuiltinSymbols;
 
 // https://jira.sonarsource.com/browse/RSPEC-3984
 @Rule(key = "S3984")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ExceptionNotThrownCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Raise this exception or remove this useless statement.";
   public static final String QUICK_FIX_MESSAGE = "Raise this exception";
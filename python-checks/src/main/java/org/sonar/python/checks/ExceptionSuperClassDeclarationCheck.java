@@ -20,7 +20,9 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.ArgList;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.tree.RegularArgument;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S5709")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class ExceptionSuperClassDeclarationCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> FORBIDDEN_SUPER_CLASS_FQNS = new HashSet<>(Arrays.asList(
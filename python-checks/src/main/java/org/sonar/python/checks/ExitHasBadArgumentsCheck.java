@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.ParameterList;
@@ -26,6 +27,7 @@ import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S2733")
+@RequiredSemanticLayers({})
 public class ExitHasBadArgumentsCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_ADD = "Add the missing argument.";
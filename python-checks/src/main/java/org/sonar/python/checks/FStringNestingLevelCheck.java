@@ -27,6 +27,7 @@ import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVersionUtils;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.FormatSpecifier;
@@ -37,6 +38,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6799")
+@RequiredSemanticLayers({})
 public class FStringNestingLevelCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Do not nest f-strings too deeply.";
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.HashSet;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -27,6 +29,7 @@ import org.sonar.plugins.python.api.symbols.Usage;
 import org.sonar.python.checks.utils.CheckUtils;
 
 @Rule(key = "S1700")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class FieldDuplicatesClassNameCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Rename field \"%s\"";
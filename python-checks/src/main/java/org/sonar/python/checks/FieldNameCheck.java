@@ -23,7 +23,9 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.symbols.Usage;
 import org.sonar.python.checks.utils.CheckUtils;
 
 @Rule(key = "S116")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class FieldNameCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Rename this field \"%s\" to match the regular expression %s.";
@@ -20,10 +20,12 @@ import java.text.MessageFormat;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.metrics.ComplexityVisitor;
 
 @Rule(key = "FileComplexity")
+@RequiredSemanticLayers({})
 public class FileComplexityCheck extends PythonSubscriptionCheck {
   private static final int DEFAULT_MAXIMUM_FILE_COMPLEXITY_THRESHOLD = 200;
 
@@ -23,12 +23,14 @@ import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.StringLiteral;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S1451")
+@RequiredSemanticLayers({})
 public class FileHeaderCopyrightCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT_HEADER_FORMAT = "";
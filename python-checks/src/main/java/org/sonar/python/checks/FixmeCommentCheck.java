@@ -19,11 +19,13 @@ package org.sonar.python.checks;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Trivia;
 
 @Rule(key = "S1134")
+@RequiredSemanticLayers({})
 public class FixmeCommentCheck extends PythonSubscriptionCheck {
 
   private static final String FIXME_COMMENT_PATTERN = "^#[ ]*fixme.*";
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nullable;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
@@ -40,6 +42,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class FlaskHardCodedSecret extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Don't disclose %s secret keys.";
   private static final String SECONDARY_MESSAGE = "Assignment to sensitive property.";
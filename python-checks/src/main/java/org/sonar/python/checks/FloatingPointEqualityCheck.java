@@ -20,8 +20,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonLine;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix.Builder;
@@ -38,6 +40,7 @@ import org.sonar.python.types.v2.TriBool;
 import org.sonar.python.types.v2.TypeChecker;
 
 @Rule(key = "S1244")
+@RequiredSemanticLayers({SemanticLayer.SYMBOLS, SemanticLayer.TYPES_V2})
 public class FloatingPointEqualityCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Do not perform equality checks with floating point values.";
@@ -71,7 +74,7 @@ public class FloatingPointEqualityCheck extends PythonSubscriptionCheck {
   }
 
   private void initializeAnalysis(SubscriptionContext ctx) {
-    reachingDefinitionsAnalysis = new ReachingDefinitionsAnalysis(ctx.pythonFile());
+    reachingDefinitionsAnalysis = ctx.cfgProvider().reachingDefinitions();
     importedModuleForIsClose = null;
     importedAlias = null;
     typeChecker = ctx.typeChecker();
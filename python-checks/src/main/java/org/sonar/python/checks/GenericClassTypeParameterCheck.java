@@ -21,8 +21,10 @@ import java.util.List;
 import java.util.Optional;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.IssueLocation;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVersionUtils;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.ArgList;
@@ -37,6 +39,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.checks.utils.Expressions;
 
 @Rule(key = "S6792")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class GenericClassTypeParameterCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use the \"type\" parameter syntax to declare this generic class.";
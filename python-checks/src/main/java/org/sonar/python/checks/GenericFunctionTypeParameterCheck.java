@@ -22,8 +22,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVersionUtils;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.Name;
@@ -34,6 +36,7 @@ import org.sonar.plugins.python.api.tree.TypeAnnotation;
 import org.sonar.python.checks.utils.Expressions;
 
 @Rule(key = "S6796")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class GenericFunctionTypeParameterCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use a generic type parameter for this function instead of a \"TypeVar\".";
@@ -40,8 +40,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVersionUtils;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ExpressionList;
 import org.sonar.plugins.python.api.tree.Name;
@@ -52,6 +54,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6795")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class GenericTypeStatementCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use a generic type parameter instead of a \"TypeVar\" in this type statement.";
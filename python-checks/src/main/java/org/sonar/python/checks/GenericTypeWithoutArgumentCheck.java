@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -33,6 +35,7 @@ import org.sonar.python.semantic.ClassSymbolImpl;
 import org.sonar.python.tree.NameImpl;
 
 @Rule(key = "S6543")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class GenericTypeWithoutArgumentCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Add a type argument to this generic type.";
@@ -22,7 +22,9 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
@@ -39,6 +41,7 @@ import org.sonar.python.checks.utils.GraphQLUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key="S6785")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class GraphQLDenialOfServiceCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> SAFE_VALIDATION_RULE_FQNS = Set.of("graphene.validation.DepthLimitValidator");
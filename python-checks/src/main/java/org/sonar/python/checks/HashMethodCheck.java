@@ -17,7 +17,9 @@
 package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.KeyValuePair;
@@ -30,6 +32,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.SET_LITERAL;
 import static org.sonar.plugins.python.api.types.BuiltinTypes.NONE_TYPE;
 
 @Rule(key = "S6662")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class HashMethodCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make sure this expression is hashable.";
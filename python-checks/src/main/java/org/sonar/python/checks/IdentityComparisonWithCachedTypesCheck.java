@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -40,6 +42,7 @@ import static java.util.Arrays.asList;
 
 // https://jira.sonarsource.com/browse/RSPEC-5795
 @Rule(key = "S5795")
+@RequiredSemanticLayers({SemanticLayer.SYMBOLS, SemanticLayer.TYPES_V2})
 public class IdentityComparisonWithCachedTypesCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE_IS = "Replace this \"is\" operator with \"==\"; identity operator is not reliable here.";
   private static final String MESSAGE_IS_NOT = "Replace this \"is not\" operator with \"!=\"; identity operator is not reliable here.";
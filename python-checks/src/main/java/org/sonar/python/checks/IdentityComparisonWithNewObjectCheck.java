@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -42,6 +44,7 @@ import static org.sonar.plugins.python.api.types.BuiltinTypes.NONE_TYPE;
 
 // https://jira.sonarsource.com/browse/RSPEC-5796
 @Rule(key = "S5796")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class IdentityComparisonWithNewObjectCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE_IS = "Replace this \"is\" operator with \"==\".";
   public static final String IS_QUICK_FIX_MESSAGE = "Replace with \"==\"";
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -34,6 +36,7 @@ import static org.sonar.python.checks.utils.DeadStoreUtils.isParameter;
 import static org.sonar.python.checks.utils.DeadStoreUtils.isUsedInSubFunction;
 
 @Rule(key = "S1226")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class IgnoredParameterCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_TEMPLATE = "Introduce a new variable or use its initial value before reassigning '%s'.";
@@ -43,11 +46,11 @@ public class IgnoredParameterCheck extends PythonSubscriptionCheck {
   public void initialize(Context context) {
     context.registerSyntaxNodeConsumer(Tree.Kind.FUNCDEF, ctx -> {
       FunctionDef functionDef = (FunctionDef) ctx.syntaxNode();
-      ControlFlowGraph cfg = ControlFlowGraph.build(functionDef, ctx.pythonFile());
+      ControlFlowGraph cfg = ctx.cfgProvider().cfg(functionDef);
       if (cfg == null) {
         return;
       }
-      LiveVariablesAnalysis lva = LiveVariablesAnalysis.analyze(cfg);
+      LiveVariablesAnalysis lva = ctx.cfgProvider().liveVariables(cfg);
       Set<CfgBlock> unreachableBlocks = CfgUtils.unreachableBlocks(cfg);
       cfg.blocks().forEach(block -> {
         var unnecessaryAssignments = DeadStoreUtils.findUnnecessaryAssignments(block, lva.getLiveVariables(block), functionDef);
@@ -22,7 +22,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -36,6 +38,7 @@ import org.sonar.python.types.v2.TriBool;
 import org.sonar.python.types.v2.TypeCheckBuilder;
 
 @Rule(key = "S2201")
+@RequiredSemanticLayers(SemanticLayer.TYPES_V2)
 public class IgnoredPureOperationsCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_FORMAT = "The return value of \"%s\" must be used.";
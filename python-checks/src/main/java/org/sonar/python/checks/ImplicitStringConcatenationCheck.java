@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.StringElement;
 import org.sonar.plugins.python.api.tree.StringLiteral;
@@ -30,6 +31,7 @@ import static org.sonar.python.quickfix.TextEditUtils.insertAfter;
 import static org.sonar.python.quickfix.TextEditUtils.replaceRange;
 
 @Rule(key = "S5799")
+@RequiredSemanticLayers({})
 public class ImplicitStringConcatenationCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_SINGLE_LINE = "Merge these implicitly concatenated strings; or did you forget a comma?";
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.AnnotatedAssignment;
@@ -32,6 +34,7 @@ import org.sonar.python.types.InferredTypes;
 import org.sonar.python.types.TypeShed;
 
 @Rule(key = "S5890")
+@RequiredSemanticLayers({SemanticLayer.TYPES, SemanticLayer.TYPES_V2})
 public class InconsistentTypeHintCheck extends PythonSubscriptionCheck {
 
   private static final String NONE_TYPE_NAME = "NoneType";
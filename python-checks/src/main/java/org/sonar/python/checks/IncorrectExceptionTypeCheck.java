@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -31,6 +33,7 @@ import org.sonar.python.semantic.BuiltinSymbols;
 import static org.sonar.plugins.python.api.types.BuiltinTypes.BASE_EXCEPTION;
 
 @Rule(key = "S5632")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class IncorrectExceptionTypeCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Change this code so that it raises an object deriving from BaseException.";
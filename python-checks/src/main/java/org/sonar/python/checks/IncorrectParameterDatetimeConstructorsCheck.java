@@ -17,7 +17,9 @@
 package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -31,6 +33,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6882")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class IncorrectParameterDatetimeConstructorsCheck extends PythonSubscriptionCheck {
   private static final int MIN_YEAR = 1;
   private static final int MAX_YEAR = 9999;
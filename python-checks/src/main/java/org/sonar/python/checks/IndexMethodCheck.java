@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.SliceExpression;
@@ -33,6 +35,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.SUBSCRIPTION;
 import static org.sonar.plugins.python.api.types.BuiltinTypes.NONE_TYPE;
 
 @Rule(key = "S6663")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class IndexMethodCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make sure this object defines an `__index__` method.";
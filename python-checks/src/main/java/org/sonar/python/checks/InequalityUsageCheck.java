@@ -18,12 +18,14 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.python.api.PythonPunctuator;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "InequalityUsage")
+@RequiredSemanticLayers({})
 public class InequalityUsageCheck extends PythonSubscriptionCheck {
 
   @Override
@@ -26,8 +26,9 @@ import java.util.Set;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
-import org.sonar.plugins.python.api.PythonFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -49,10 +50,12 @@ import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.QualifiedExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.api.PythonKeyword;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.checks.utils.CheckUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S2190")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class InfiniteRecursionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Add a way to break out of this %s's recursion.";
@@ -62,7 +65,7 @@ public class InfiniteRecursionCheck extends PythonSubscriptionCheck {
     context.registerSyntaxNodeConsumer(Tree.Kind.FUNCDEF, ctx -> {
       FunctionDef functionDef = (FunctionDef) ctx.syntaxNode();
       List<Tree> allRecursiveCalls = new ArrayList<>();
-      boolean endBlockIsReachable = collectRecursiveCallsAndCheckIfEndBlockIsReachable(functionDef, ctx.pythonFile(), allRecursiveCalls);
+      boolean endBlockIsReachable = collectRecursiveCallsAndCheckIfEndBlockIsReachable(functionDef, ctx.cfgProvider(), allRecursiveCalls);
       if (!allRecursiveCalls.isEmpty() && !endBlockIsReachable) {
         String message = String.format(MESSAGE, functionDef.isMethodDefinition() ? "method" : "function");
         PreciseIssue issue = ctx.addIssue(functionDef.name(), message);
@@ -71,12 +74,12 @@ public class InfiniteRecursionCheck extends PythonSubscriptionCheck {
     });
   }
 
-  private static boolean collectRecursiveCallsAndCheckIfEndBlockIsReachable(FunctionDef functionDef, PythonFile pythonFile, List<Tree> allRecursiveCalls) {
+  private static boolean collectRecursiveCallsAndCheckIfEndBlockIsReachable(FunctionDef functionDef, CfgProvider cfgProvider, List<Tree> allRecursiveCalls) {
     Symbol functionSymbol = functionDef.name().symbol();
     if (functionSymbol == null) {
       return true;
     }
-    ControlFlowGraph cfg = ControlFlowGraph.build(functionDef, pythonFile);
+    ControlFlowGraph cfg = cfgProvider.cfg(functionDef);
     if (cfg == null) {
       return true;
     }
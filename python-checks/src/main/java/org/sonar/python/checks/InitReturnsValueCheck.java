@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.ReturnStatement;
 import org.sonar.plugins.python.api.tree.YieldStatement;
@@ -27,6 +28,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
 
 @Rule(key = InitReturnsValueCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class InitReturnsValueCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_RETURN = "Remove this return value.";
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
@@ -36,6 +38,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5828")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class InvalidOpenModeCheck extends PythonSubscriptionCheck {
 
   private static final String VALID_MODES = "rwatb+Ux";
@@ -24,7 +24,9 @@ import java.util.List;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -46,6 +48,7 @@ import org.sonar.python.cfg.PythonCfgBranchingBlock;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S3516")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class InvariantReturnCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Refactor this method to not always return the same value.";
@@ -62,7 +65,7 @@ public class InvariantReturnCheck extends PythonSubscriptionCheck {
   public void initialize(Context context) {
     context.registerSyntaxNodeConsumer(Kind.FUNCDEF, ctx -> {
       FunctionDef functionDef = (FunctionDef) ctx.syntaxNode();
-      ControlFlowGraph cfg = ControlFlowGraph.build(functionDef, ctx.pythonFile());
+      ControlFlowGraph cfg = ctx.cfgProvider().cfg(functionDef);
       if (cfg != null) {
         List<LatestExecutedBlock> latestExecutedBlocks = collectLatestExecutedBlocks(cfg);
         boolean allBlocksHaveReturnStatement = latestExecutedBlocks.stream().allMatch(LatestExecutedBlock::hasReturnStatement);
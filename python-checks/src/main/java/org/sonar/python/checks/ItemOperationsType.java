@@ -21,7 +21,9 @@ import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nullable;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
 import org.sonar.plugins.python.api.tree.DelStatement;
@@ -33,6 +35,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.tree.TreeUtils.getSymbolFromTree;
 import static org.sonar.python.tree.TreeUtils.nameFromExpression;
 
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public abstract class ItemOperationsType extends PythonSubscriptionCheck {
 
   static final String SECONDARY_MESSAGE = "Definition of \"%s\".";
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -31,6 +33,7 @@ import org.sonar.python.checks.utils.CheckUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S2876")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class IterMethodReturnTypeCheck extends PythonSubscriptionCheck {
   private static final String INVALID_RETURN_VALUE_MESSAGE = "Return an object complying with iterator protocol.";
   private static final String NO_RETURN_STMTS_MESSAGE = INVALID_RETURN_VALUE_MESSAGE
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.sonar.plugins.python.api.LocationInFile;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
 import org.sonar.plugins.python.api.tree.ComprehensionFor;
@@ -34,6 +36,7 @@ import org.sonar.plugins.python.api.tree.YieldExpression;
 import org.sonar.plugins.python.api.tree.YieldStatement;
 import org.sonar.python.api.PythonPunctuator;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class IterationOnNonIterable extends PythonSubscriptionCheck {
 
   static final String SECONDARY_MESSAGE = "Definition of \"%s\".";
@@ -18,11 +18,13 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Tree.Kind;
 
 @Rule(key = "S1143")
+@RequiredSemanticLayers({})
 public class JumpInFinallyCheck extends PythonSubscriptionCheck {
 
   @Override
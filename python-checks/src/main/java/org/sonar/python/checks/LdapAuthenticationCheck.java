@@ -21,7 +21,9 @@ import java.util.HashSet;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.ArgList;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -39,6 +41,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.STRING_LITERAL;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.UNPACKING_EXPR;
 
 @Rule(key = "S4433")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class LdapAuthenticationCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> LDAP_OBJECT_SENSITIVE_METHODS = new HashSet<>(
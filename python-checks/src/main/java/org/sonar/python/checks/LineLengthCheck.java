@@ -20,9 +20,11 @@ import java.text.MessageFormat;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = LineLengthCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class LineLengthCheck extends PythonSubscriptionCheck {
 
   public static final String CHECK_KEY = "LineLength";
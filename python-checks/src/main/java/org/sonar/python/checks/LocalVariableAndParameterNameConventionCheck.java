@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -34,6 +36,7 @@ import org.sonar.plugins.python.api.tree.SubscriptionExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S117")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class LocalVariableAndParameterNameConventionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Rename this %s \"%s\" to match the regular expression %s.";
@@ -18,10 +18,12 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.NumericLiteral;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = LongIntegerWithLowercaseSuffixUsageCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class LongIntegerWithLowercaseSuffixUsageCheck extends PythonSubscriptionCheck {
 
   public static final String CHECK_KEY = "LongIntegerWithLowercaseSuffixUsage";
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.CfgBranchingBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
@@ -38,15 +39,16 @@ import org.sonar.plugins.python.api.tree.WhileStatement;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1751")
+@RequiredSemanticLayers({})
 public class LoopExecutingAtMostOnceCheck extends PythonSubscriptionCheck {
 
   @Override
   public void initialize(Context context) {
     context.registerSyntaxNodeConsumer(Kind.FUNCDEF, ctx ->
-      checkCfg(ControlFlowGraph.build((FunctionDef) ctx.syntaxNode(), ctx.pythonFile()), ctx)
+      checkCfg(ctx.cfgProvider().cfg((FunctionDef) ctx.syntaxNode()), ctx)
     );
     context.registerSyntaxNodeConsumer(Kind.FILE_INPUT, ctx ->
-      checkCfg(ControlFlowGraph.build((FileInput) ctx.syntaxNode(), ctx.pythonFile()), ctx)
+      checkCfg(ctx.cfgProvider().cfg((FileInput) ctx.syntaxNode()), ctx)
     );
   }
 
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.Parameter;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.FunctionDefImpl;
 
 @Rule(key = "S6540")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class MandatoryFunctionParameterTypeHintCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Add a type hint to this function parameter.";
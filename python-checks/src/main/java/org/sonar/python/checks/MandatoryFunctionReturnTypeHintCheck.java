@@ -23,7 +23,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
@@ -39,6 +41,7 @@ import org.sonar.python.tree.FunctionDefImpl;
 import org.sonar.python.types.InferredTypes;
 
 @Rule(key = "S6538")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class MandatoryFunctionReturnTypeHintCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Add a return type hint to this function declaration.";
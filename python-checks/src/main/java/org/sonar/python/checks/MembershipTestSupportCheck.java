@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.AmbiguousSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -32,6 +34,7 @@ import org.sonar.python.tree.TreeUtils;
 import org.sonar.python.types.InferredTypes;
 
 @Rule(key = "S5642")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class MembershipTestSupportCheck extends PythonSubscriptionCheck {
   private static final String PRIMARY_MESSAGE = "Change the type of %s";
   private static final String PRIMARY_MESSAGE_MULTILINE = "Change the type for the target expression of `in`";
@@ -19,6 +19,7 @@ package org.sonar.python.checks;
 import java.util.List;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.AnyParameter;
 import org.sonar.plugins.python.api.tree.ExpressionStatement;
 import org.sonar.plugins.python.api.tree.FunctionDef;
@@ -35,6 +36,7 @@ import static org.sonar.python.checks.utils.CheckUtils.classHasInheritance;
 import static org.sonar.python.checks.utils.CheckUtils.getParentClassDef;
 
 @Rule(key = "S2325")
+@RequiredSemanticLayers({})
 public class MethodShouldBeStaticCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make this method static.";
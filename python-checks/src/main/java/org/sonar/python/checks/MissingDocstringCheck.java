@@ -20,6 +20,7 @@ import javax.annotation.CheckForNull;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonLine;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.FileInput;
@@ -32,6 +33,7 @@ import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S1720")
+@RequiredSemanticLayers({})
 public class MissingDocstringCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE_NO_DOCSTRING = "Add a docstring to this %s.";
@@ -18,9 +18,11 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S113")
+@RequiredSemanticLayers({})
 public class MissingNewlineAtEndOfFileCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Add a new line at the end of this file \"%s\".";
 
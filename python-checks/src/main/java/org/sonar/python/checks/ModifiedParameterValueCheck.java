@@ -29,7 +29,9 @@ import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -61,6 +63,7 @@ import static org.sonar.python.tree.TreeUtils.getSymbolFromTree;
 import static org.sonar.python.tree.TreeUtils.nonTupleParameters;
 
 @Rule(key = "S5717")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ModifiedParameterValueCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Change this default value to \"None\" and initialize this parameter inside the function/method.";
@@ -19,6 +19,7 @@ package org.sonar.python.checks;
 import java.util.List;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
 import org.sonar.plugins.python.api.tree.ExpressionStatement;
@@ -33,6 +34,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.STATEMENT_LIST;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.STRING_LITERAL;
 
 @Rule(key = "S2772")
+@RequiredSemanticLayers({})
 public class NeedlessPassCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Remove this unneeded \"pass\".";
@@ -18,12 +18,14 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ConditionalExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Tree.Kind;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S3358")
+@RequiredSemanticLayers({})
 public class NestedConditionalExpressionCheck extends PythonSubscriptionCheck {
 
   private static final Kind[] COMPREHENSION_KINDS = {
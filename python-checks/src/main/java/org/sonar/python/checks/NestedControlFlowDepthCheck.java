@@ -21,8 +21,10 @@ import java.util.Deque;
 import java.util.Iterator;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonVisitorCheck;
 import org.sonar.plugins.python.api.PythonVisitorContext;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.python.api.PythonKeyword;
 import org.sonar.plugins.python.api.tree.ForStatement;
 import org.sonar.plugins.python.api.tree.IfStatement;
@@ -32,6 +34,7 @@ import org.sonar.plugins.python.api.tree.WhileStatement;
 import org.sonar.plugins.python.api.tree.WithStatement;
 
 @Rule(key = "S134")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NestedControlFlowDepthCheck extends PythonVisitorCheck {
 
   private static final int DEFAULT_MAX = 4;
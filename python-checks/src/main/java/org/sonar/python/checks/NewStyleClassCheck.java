@@ -18,10 +18,12 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = NewStyleClassCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class NewStyleClassCheck extends PythonSubscriptionCheck {
 
   public static final String CHECK_KEY = "S1722";
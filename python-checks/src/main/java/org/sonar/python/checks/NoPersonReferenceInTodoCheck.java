@@ -21,12 +21,14 @@ import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Trivia;
 
 @Rule(key = "S1707")
+@RequiredSemanticLayers({})
 public class NoPersonReferenceInTodoCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Add a citation of the person who can best explain this comment.";
@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Trivia;
@@ -30,6 +31,7 @@ import static org.sonar.python.metrics.FileLinesVisitor.containsNoSonarComment;
  * should be kept to `NoSonar` instead of `S1291`
  */
 @Rule(key = "NoSonar")
+@RequiredSemanticLayers({})
 public class NoSonarCommentCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Is #NOSONAR used to exclude false-positive or to hide real quality flaw?";
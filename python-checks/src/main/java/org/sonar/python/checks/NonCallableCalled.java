@@ -17,7 +17,9 @@
 package org.sonar.python.checks;
 
 import javax.annotation.Nullable;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
@@ -26,6 +28,7 @@ import org.sonar.python.types.v2.TriBool;
 
 import static org.sonar.python.tree.TreeUtils.nameFromExpression;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES_V2)
 public abstract class NonCallableCalled extends PythonSubscriptionCheck {
   @Override
   public void initialize(Context context) {
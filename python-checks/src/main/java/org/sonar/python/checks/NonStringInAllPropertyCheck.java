@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.AmbiguousSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -39,6 +41,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S2823")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NonStringInAllPropertyCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Replace this symbol with a string; \"__all__\" can only contain strings.";
@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -32,6 +34,7 @@ import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key="S5712")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NotImplementedErrorInOperatorMethodsCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Return \"NotImplemented\" instead of raising \"NotImplementedError\"";
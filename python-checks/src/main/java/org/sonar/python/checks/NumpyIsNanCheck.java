@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -31,6 +33,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6725")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NumpyIsNanCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Don't perform an equality/inequality check against \"numpy.nan\".";
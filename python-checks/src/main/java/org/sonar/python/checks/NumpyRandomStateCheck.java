@@ -20,13 +20,16 @@ import java.util.List;
 import java.util.Optional;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S6711")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NumpyRandomStateCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use a \"numpy.random.Generator\" here instead of this legacy function.";
@@ -23,7 +23,9 @@ import java.util.Set;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -39,6 +41,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6900")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NumpyWeekMaskValidationCheck extends PythonSubscriptionCheck {
   private static final Pattern PATTERN_STRING1 = Pattern.compile("^[01]{7}$");
   private static final Pattern PATTERN_STRING2 = Pattern
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.List;
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -32,6 +34,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S6729")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class NumpyWhereOneConditionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use \"np.nonzero\" when only the condition parameter is provided to \"np.where\".";
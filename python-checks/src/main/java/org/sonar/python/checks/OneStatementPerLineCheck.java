@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.EllipsisExpression;
 import org.sonar.plugins.python.api.tree.ExpressionStatement;
@@ -36,6 +37,7 @@ import org.sonar.python.tree.TreeUtils;
  * Note that implementation differs from AbstractOneStatementPerLineCheck due to Python specifics
  */
 @Rule(key = OneStatementPerLineCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class OneStatementPerLineCheck extends PythonSubscriptionCheck {
 
   public static final String CHECK_KEY = "OneStatementPerLine";
@@ -23,7 +23,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.AmbiguousSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -36,6 +38,7 @@ import org.sonar.python.tree.TreeUtils;
 import org.sonar.python.types.InferredTypes;
 
 @Rule(key = "S6742")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class PandasChainInstructionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Refactor this long chain of instructions with \"pandas.pipe\"";
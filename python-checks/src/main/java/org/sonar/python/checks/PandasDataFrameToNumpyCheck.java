@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -27,6 +29,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S6741")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class PandasDataFrameToNumpyCheck extends PythonSubscriptionCheck {
 
   private static final String DATAFRAME_VALUES_FQN = "pandas.core.frame.DataFrame.values";
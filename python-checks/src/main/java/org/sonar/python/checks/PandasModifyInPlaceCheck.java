@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -29,6 +31,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6734")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class PandasModifyInPlaceCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Do not use \"inplace=True\" when modifying a dataframe.";
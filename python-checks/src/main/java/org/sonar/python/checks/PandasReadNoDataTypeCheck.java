@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -31,6 +33,7 @@ import org.sonar.python.types.v2.TriBool;
 import org.sonar.python.types.v2.TypeCheckBuilder;
 
 @Rule(key = "S6740")
+@RequiredSemanticLayers(SemanticLayer.TYPES_V2)
 public class PandasReadNoDataTypeCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Provide the \"dtype\" parameter when calling";
@@ -28,7 +28,9 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -42,6 +44,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6894")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class PandasToDatetimeFormatCheck extends PythonSubscriptionCheck {
 
   static final String PANDAS_TO_DATETIME_FQN = "pandas.core.tools.datetimes.to_datetime";
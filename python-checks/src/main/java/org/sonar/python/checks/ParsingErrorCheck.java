@@ -21,8 +21,10 @@ import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.IssueLocation;
 import org.sonar.plugins.python.api.PythonCheck;
 import org.sonar.plugins.python.api.PythonVisitorContext;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 
 @Rule(key = "ParsingError")
+@RequiredSemanticLayers({})
 public class ParsingErrorCheck implements PythonCheck {
 
   @Override
@@ -18,11 +18,13 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.UnaryExpression;
 import org.sonar.plugins.python.api.tree.Tree.Kind;
 
 @Rule(key = PreIncrementDecrementCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class PreIncrementDecrementCheck extends PythonSubscriptionCheck {
   public static final String CHECK_KEY = "PreIncrementDecrement";
   private static final String MESSAGE = "This statement doesn't produce the expected result, replace use of non-existent pre-%srement operator";
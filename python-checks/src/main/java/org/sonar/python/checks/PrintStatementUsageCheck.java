@@ -18,11 +18,13 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.PrintStatement;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = PrintStatementUsageCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class PrintStatementUsageCheck extends PythonSubscriptionCheck {
   public static final String CHECK_KEY = "PrintStatementUsage";
 
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -27,6 +29,7 @@ import org.sonar.plugins.python.api.tree.UnpackingExpression;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6983")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class PyTorchDataLoaderNumWorkersCheck extends PythonSubscriptionCheck {
   private static final String TORCH_UTILS_DATA_DATA_LOADER = "torch.utils.data.DataLoader";
   public static final String MESSAGE = "Specify the `num_workers` parameter.";
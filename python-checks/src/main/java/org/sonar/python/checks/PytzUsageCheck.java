@@ -20,8 +20,10 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVersionUtils;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.AliasedName;
@@ -32,6 +34,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6890")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class PytzUsageCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Don't use `pytz` module with Python 3.9 and later.";
 
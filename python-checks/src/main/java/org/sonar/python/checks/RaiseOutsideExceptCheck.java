@@ -17,7 +17,9 @@
 package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.RaiseStatement;
@@ -31,6 +33,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.FUNCDEF;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.RAISE_STMT;
 
 @Rule(key = "S5747")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class RaiseOutsideExceptCheck extends PythonSubscriptionCheck {
   @Override
   public void initialize(Context context) {
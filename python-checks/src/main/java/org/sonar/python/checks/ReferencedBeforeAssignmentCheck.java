@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
@@ -36,6 +38,7 @@ import org.sonar.python.cfg.fixpoint.DefinedVariablesAnalysis.DefinedVariables;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S3827")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class ReferencedBeforeAssignmentCheck extends PythonSubscriptionCheck {
 
   @Override
@@ -47,11 +50,11 @@ public class ReferencedBeforeAssignmentCheck extends PythonSubscriptionCheck {
       if (TreeUtils.hasDescendant(functionDef, tree -> tree.is(Tree.Kind.TRY_STMT))) {
         return;
       }
-      ControlFlowGraph cfg = ControlFlowGraph.build(functionDef, ctx.pythonFile());
+      ControlFlowGraph cfg = ctx.cfgProvider().cfg(functionDef);
       if (cfg == null) {
         return;
       }
-      DefinedVariablesAnalysis analysis = DefinedVariablesAnalysis.analyze(cfg, functionDef.localVariables());
+      DefinedVariablesAnalysis analysis = ctx.cfgProvider().definedVariables(cfg, functionDef.localVariables());
       Set<CfgBlock> unreachableBlocks = CfgUtils.unreachableBlocks(cfg);
       cfg.blocks().forEach(block -> checkCfgBlock(block, ctx, analysis.getDefinedVariables(block), unreachableBlocks, analysis, ignoredSymbols));
     });
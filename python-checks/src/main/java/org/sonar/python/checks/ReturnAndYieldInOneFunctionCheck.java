@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.ReturnStatement;
 import org.sonar.plugins.python.api.tree.YieldStatement;
@@ -25,6 +26,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
 
 @Rule(key = ReturnAndYieldInOneFunctionCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class ReturnAndYieldInOneFunctionCheck extends PythonSubscriptionCheck {
 
   public static final String CHECK_KEY = "S2712";
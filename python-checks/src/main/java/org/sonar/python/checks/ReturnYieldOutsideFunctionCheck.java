@@ -19,11 +19,13 @@ package org.sonar.python.checks;
 import java.util.function.Consumer;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Statement;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = ReturnYieldOutsideFunctionCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class ReturnYieldOutsideFunctionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Remove this use of \"%s\".";
@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.IssueLocation;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ElseClause;
 import org.sonar.plugins.python.api.tree.IfStatement;
@@ -32,6 +34,7 @@ import org.sonar.python.checks.utils.CheckUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1871")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SameBranchCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Either merge this branch with the identical one on line \"%s\" or change one of the implementations.";
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.ArrayList;
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ElseClause;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -30,6 +32,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.checks.utils.CheckUtils;
 
 @Rule(key = SameConditionCheck.CHECK_KEY)
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SameConditionCheck extends PythonSubscriptionCheck {
   public static final String CHECK_KEY = "S1862";
   private static final String MESSAGE = "This branch duplicates the one on line %s.";
@@ -24,7 +24,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -35,6 +37,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.CALL_EXPR;
 
 @Rule(key = "S5542")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SecureModeEncryptionAlgorithmsCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use secure mode and padding scheme.";
@@ -20,6 +20,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.AssignmentExpression;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.SubscriptionContext;
@@ -39,6 +41,7 @@ import org.sonar.python.checks.utils.CheckUtils;
 import org.sonar.python.semantic.BuiltinSymbols;
 
 @Rule(key = SelfAssignmentCheck.CHECK_KEY)
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SelfAssignmentCheck extends PythonSubscriptionCheck {
 
   public static final String CHECK_KEY = "S1656";
@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
@@ -36,6 +38,7 @@ import org.sonar.plugins.python.api.tree.NonlocalStatement;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S6928")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SideEffectInTfFunctionCheck extends PythonSubscriptionCheck {
 
   private static final List<String> SIDE_EFFECT_FUNCTIONS = List.of(
@@ -19,13 +19,16 @@ package org.sonar.python.checks;
 import java.util.Arrays;
 import java.util.HashSet;
 import javax.annotation.CheckForNull;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.types.InferredType;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class SillyEquality extends PythonSubscriptionCheck {
 
   private static final HashSet<String> CONSIDERED_OPERATORS = new HashSet<>(Arrays.asList("==", "!="));
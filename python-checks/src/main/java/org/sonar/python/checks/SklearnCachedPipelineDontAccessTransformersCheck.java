@@ -23,7 +23,9 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -43,6 +45,7 @@ import org.sonar.python.types.InferredTypes;
 import static org.sonar.python.checks.utils.Expressions.getAssignedName;
 
 @Rule(key = "S6971")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SklearnCachedPipelineDontAccessTransformersCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Avoid accessing transformers in a cached pipeline.";
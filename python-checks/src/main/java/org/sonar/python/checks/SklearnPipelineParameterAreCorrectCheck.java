@@ -31,7 +31,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -53,6 +55,7 @@ import org.sonar.python.tree.TreeUtils;
 import org.sonar.python.tree.TupleImpl;
 
 @Rule(key = "S6972")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SklearnPipelineParameterAreCorrectCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Provide valid parameters to the estimator.";
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -31,6 +33,7 @@ import org.sonar.python.tree.TreeUtils;
 import static org.sonar.python.checks.utils.Expressions.getAssignedName;
 
 @Rule(key = "S6969")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SklearnPipelineSpecifyMemoryArgumentCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Specify a memory argument for the pipeline.";
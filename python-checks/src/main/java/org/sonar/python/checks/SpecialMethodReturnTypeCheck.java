@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.List;
 import java.util.Map;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -34,6 +36,7 @@ import org.sonar.python.tree.TreeUtils;
 import org.sonar.python.tree.TupleImpl;
 
 @Rule(key = "S935")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class SpecialMethodReturnTypeCheck extends PythonSubscriptionCheck {
   /**
    * Stores the return types expected for specific method names as specified here:
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonVisitorCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Decorator;
 import org.sonar.plugins.python.api.tree.ExpressionStatement;
 import org.sonar.plugins.python.api.tree.FileInput;
@@ -38,6 +39,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1192")
+@RequiredSemanticLayers({})
 public class StringLiteralDuplicationCheck extends PythonVisitorCheck {
 
   private static final Integer MINIMUM_LITERAL_LENGTH = 5;
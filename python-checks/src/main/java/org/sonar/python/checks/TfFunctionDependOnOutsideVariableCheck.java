@@ -24,7 +24,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -40,6 +42,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6911")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TfFunctionDependOnOutsideVariableCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Make sure this function does not depend on a global or free variable.";
   private static final String MESSAGE_SECONDARY = "Variable used here.";
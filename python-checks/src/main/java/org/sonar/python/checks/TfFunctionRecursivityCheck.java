@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.ArrayList;
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6908")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class TfFunctionRecursivityCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make sure to avoid recursive calls in this function.";
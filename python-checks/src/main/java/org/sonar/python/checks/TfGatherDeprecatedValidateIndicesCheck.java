@@ -18,13 +18,16 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6925")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TfGatherDeprecatedValidateIndicesCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Don't set the `validate_indices` argument, it is deprecated.";
   private static final String FQN = "tensorflow.gather";
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -32,6 +34,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6919")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TfInputShapeOnModelSubclassCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Remove this `input_shape` argument, it is deprecated.";
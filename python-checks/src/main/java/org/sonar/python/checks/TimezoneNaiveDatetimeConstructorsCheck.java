@@ -18,13 +18,16 @@ package org.sonar.python.checks;
 
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S6903")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TimezoneNaiveDatetimeConstructorsCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Don't use `%s` to create this datetime object.";
   private static final Set<String> NON_COMPLIANT_FQNS = Set.of("datetime.datetime.utcnow", "datetime.datetime.utcfromtimestamp");
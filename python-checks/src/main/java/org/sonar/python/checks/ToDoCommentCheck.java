@@ -19,12 +19,14 @@ package org.sonar.python.checks;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionCheck;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Trivia;
 
 @Rule(key = "S1135")
+@RequiredSemanticLayers({})
 public class ToDoCommentCheck extends PythonSubscriptionCheck {
 
   private static final String TODO_COMMENT_PATTERN = "^#[ ]*TODO.*";
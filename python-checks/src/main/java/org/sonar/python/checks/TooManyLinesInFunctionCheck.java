@@ -23,7 +23,9 @@ import java.util.Objects;
 import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
@@ -32,6 +34,7 @@ import static org.sonar.python.metrics.FileLinesVisitor.countDocstringLines;
 import static org.sonar.python.metrics.FileLinesVisitor.tokenLineNumbers;
 
 @Rule(key = "S138")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TooManyLinesInFunctionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "This %1$s \"%2$s\" has %3$d lines of code, " +
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.tree.FunctionDef;
@@ -29,6 +31,7 @@ import org.sonar.python.semantic.SymbolUtils;
 import org.sonar.python.tree.FunctionDefImpl;
 
 @Rule(key = TooManyParametersCheck.CHECK_KEY)
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TooManyParametersCheck extends PythonSubscriptionCheck {
   public static final String CHECK_KEY = "S107";
   private static final String MESSAGE = "%s has %s parameters, which is greater than the %s authorized.";
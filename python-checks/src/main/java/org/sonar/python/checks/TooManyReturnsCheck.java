@@ -21,6 +21,7 @@ import java.util.List;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.ReturnStatement;
 import org.sonar.plugins.python.api.tree.Statement;
@@ -29,6 +30,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
 
 @Rule(key = TooManyReturnsCheck.CHECK_KEY)
+@RequiredSemanticLayers({})
 public class TooManyReturnsCheck extends PythonSubscriptionCheck {
   public static final String CHECK_KEY = "S1142";
 
@@ -17,12 +17,15 @@
 package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S6979")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TorchAutogradVariableShouldNotBeUsedCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Replace this call with a call to \"torch.tensor\".";
   private static final String TORCH_AUTOGRAD_VARIABLE = "torch.autograd.Variable";
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.List;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -32,6 +34,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6985")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TorchLoadLeadsToUntrustedCodeExecutionCheck extends PythonSubscriptionCheck {
 
   public static final String TORCH_LOAD = "torch.load";
@@ -44,7 +47,7 @@ public class TorchLoadLeadsToUntrustedCodeExecutionCheck extends PythonSubscript
   @Override
   public void initialize(Context context) {
     context.registerSyntaxNodeConsumer(Tree.Kind.FILE_INPUT, ctx -> reachingDefinitionsAnalysis =
-      new ReachingDefinitionsAnalysis(ctx.pythonFile()));
+      ctx.cfgProvider().reachingDefinitions());
 
     context.registerSyntaxNodeConsumer(Tree.Kind.CALL_EXPR, ctx -> {
       CallExpression callExpression = (CallExpression) ctx.syntaxNode();
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -32,6 +34,7 @@ import org.sonar.plugins.python.api.types.InferredType;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6982")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TorchModuleModeShouldBeSetAfterLoadingCheck extends PythonSubscriptionCheck {
   private static final Set<String> STATE_SETTING_FUNCTION_FQNS = Set.of("eval", "train");
   private static final String LOAD_STATE_DICT_NAME = "load_state_dict";
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -37,6 +39,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6978")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class TorchModuleShouldCallInitCheck extends PythonSubscriptionCheck {
   private static final String TORCH_NN_MODULE = "torch.nn.modules.module.Module";
   private static final String MESSAGE = "Add a call to super().__init__().";
@@ -21,6 +21,7 @@ import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
@@ -30,6 +31,7 @@ import org.sonar.plugins.python.api.tree.Trivia;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S139")
+@RequiredSemanticLayers({})
 public class TrailingCommentCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT_LEGAL_COMMENT_PATTERN = "^#\\s*+([^\\s]++|fmt.*|type.*|noqa.*)$";
@@ -23,10 +23,12 @@ import org.sonar.plugins.python.api.IssueLocation;
 import org.sonar.plugins.python.api.PythonCheck;
 import org.sonar.plugins.python.api.PythonLine;
 import org.sonar.plugins.python.api.PythonVisitorContext;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S1131")
+@RequiredSemanticLayers({})
 public class TrailingWhitespaceCheck implements PythonCheck {
 
   private static final String MESSAGE = "Remove the useless trailing whitespaces at the end of this line.";
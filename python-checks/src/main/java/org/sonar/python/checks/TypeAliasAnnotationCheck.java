@@ -18,8 +18,10 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVersionUtils;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.HasSymbol;
@@ -27,6 +29,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.TypeAnnotation;
 
 @Rule(key = "S6794")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class TypeAliasAnnotationCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use a \"type\" statement instead of this \"TypeAlias\".";
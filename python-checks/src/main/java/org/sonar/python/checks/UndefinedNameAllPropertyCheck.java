@@ -25,8 +25,10 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonFile;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
@@ -51,6 +53,7 @@ import org.sonar.python.semantic.BuiltinSymbols;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5807")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UndefinedNameAllPropertyCheck extends PythonSubscriptionCheck {
 
   @Override
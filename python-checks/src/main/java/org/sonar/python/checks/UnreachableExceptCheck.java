@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -33,6 +35,7 @@ import org.sonar.plugins.python.api.tree.TryStatement;
 import org.sonar.plugins.python.api.tree.Tuple;
 
 @Rule(key = "S1045")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class UnreachableExceptCheck extends PythonSubscriptionCheck {
 
   private static final String SECONDARY_MESSAGE = "Exceptions will be caught here.";
@@ -25,7 +25,9 @@ import java.util.Set;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -50,6 +52,7 @@ import org.sonar.python.tree.FunctionDefImpl;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1172")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UnusedFunctionParameterCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Remove the unused function parameter \"%s\".";
@@ -25,7 +25,9 @@ import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
@@ -54,6 +56,7 @@ import org.sonar.python.tree.FileInputImpl;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S1481")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UnusedLocalVariableCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT = "(_[a-zA-Z0-9_]*|dummy|unused|ignored)";
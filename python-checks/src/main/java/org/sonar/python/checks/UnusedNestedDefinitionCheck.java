@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.FunctionDef;
@@ -29,6 +31,7 @@ import org.sonar.plugins.python.api.symbols.Usage;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5603")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class UnusedNestedDefinitionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Remove this unused %s declaration.";
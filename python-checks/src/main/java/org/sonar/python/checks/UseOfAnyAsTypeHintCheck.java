@@ -21,7 +21,9 @@ import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Decorator;
 import org.sonar.plugins.python.api.tree.FunctionDef;
@@ -32,6 +34,7 @@ import org.sonar.python.semantic.SymbolUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6542")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UseOfAnyAsTypeHintCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Use a more specific type than `Any` for this type hint.";
@@ -19,7 +19,9 @@ package org.sonar.python.checks;
 import java.util.Map;
 import javax.annotation.CheckForNull;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -33,6 +35,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.COMPARISON;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.SLICE_ITEM;
 
 @Rule(key = "S6659")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UseStartsWithEndsWithCheck extends PythonSubscriptionCheck {
   private static final String USE_STARTSWITH_MESSAGE = "Use `startswith` here.";
   private static final String USE_NOT_STARTSWITH_MESSAGE = "Use `not` and `startswith` here.";
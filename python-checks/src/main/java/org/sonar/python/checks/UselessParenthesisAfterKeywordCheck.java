@@ -18,6 +18,7 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.AssertStatement;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
@@ -36,6 +37,7 @@ import org.sonar.plugins.python.api.tree.YieldExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S1721")
+@RequiredSemanticLayers({})
 public class UselessParenthesisAfterKeywordCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Remove the parentheses after this \"%s\" keyword.";
@@ -25,7 +25,9 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
@@ -51,6 +53,7 @@ import org.sonar.plugins.python.api.tree.WithStatement;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S905")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UselessStatementCheck extends PythonSubscriptionCheck {
 
   private static final boolean DEFAULT_REPORT_ON_STRINGS = false;
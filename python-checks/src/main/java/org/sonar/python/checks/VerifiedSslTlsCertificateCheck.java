@@ -28,7 +28,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -58,6 +60,7 @@ import static java.util.Optional.ofNullable;
 
 // https://jira.sonarsource.com/browse/RSPEC-4830
 @Rule(key = "S4830")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class VerifiedSslTlsCertificateCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Enable server certificate validation on this SSL/TLS connection.";
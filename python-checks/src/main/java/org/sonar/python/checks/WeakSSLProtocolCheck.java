@@ -20,13 +20,16 @@ import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.python.checks.cdk.WeakSSLProtocolCheckPart;
 
 @Rule(key = "S4423")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class WeakSSLProtocolCheck extends PythonSubscriptionCheck {
   private static final List<String> WEAK_PROTOCOL_CONSTANTS = Arrays.asList(
     "ssl.PROTOCOL_SSLv2",
@@ -18,12 +18,14 @@ package org.sonar.python.checks;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.UnaryExpression;
 
 @Rule(key = "S2757")
+@RequiredSemanticLayers({})
 public class WrongAssignmentOperatorCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Was %s= meant instead?";
@@ -18,7 +18,9 @@ package org.sonar.python.checks;
 
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
@@ -38,6 +40,7 @@ import javax.annotation.Nullable;
 import static java.util.Optional.ofNullable;
 
 @Rule(key = "S2755")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class XMLParserXXEVulnerableCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Disable access to external entities in XML parsing.";
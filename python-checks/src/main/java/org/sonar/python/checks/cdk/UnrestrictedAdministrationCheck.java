@@ -17,9 +17,12 @@
 package org.sonar.python.checks.cdk;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 
 @Rule(key = "S6321")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UnrestrictedAdministrationCheck extends PythonSubscriptionCheck {
   @Override
   public void initialize(Context context) {
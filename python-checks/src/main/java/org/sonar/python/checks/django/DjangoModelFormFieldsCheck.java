@@ -18,7 +18,9 @@ package org.sonar.python.checks.django;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.StringLiteral;
@@ -29,6 +31,7 @@ import static org.sonar.python.checks.django.DjangoUtils.getFieldAssignment;
 import static org.sonar.python.checks.django.DjangoUtils.getMetaClass;
 
 @Rule(key = "S6559")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class DjangoModelFormFieldsCheck extends PythonSubscriptionCheck {
 
   public static final String ALL_MESSAGE = "Set the fields of this form explicitly instead of using \"__all__\".";
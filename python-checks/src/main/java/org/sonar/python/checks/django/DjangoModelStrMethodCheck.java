@@ -20,7 +20,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.Tree;
@@ -31,6 +33,7 @@ import static org.sonar.python.checks.django.DjangoUtils.getFieldAssignment;
 import static org.sonar.python.checks.django.DjangoUtils.getMetaClass;
 
 @Rule(key = "S6554")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class DjangoModelStrMethodCheck extends PythonSubscriptionCheck {
 
   public static final String MESSAGE = "Define a \"__str__\" method for this Django model.";
@@ -18,7 +18,9 @@ package org.sonar.python.checks.django;
 
 import java.util.Optional;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.tree.Decorator;
 import org.sonar.plugins.python.api.tree.FunctionDef;
@@ -27,6 +29,7 @@ import org.sonar.python.quickfix.TextEditUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6552")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DjangoReceiverDecoratorCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Move this '@receiver' decorator to the top of the other decorators.";
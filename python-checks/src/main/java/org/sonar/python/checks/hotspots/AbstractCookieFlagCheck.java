@@ -29,7 +29,9 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
@@ -49,6 +51,7 @@ import org.sonar.python.tree.TreeUtils;
 
 import static org.sonar.python.checks.utils.Expressions.isFalsy;
 
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public abstract class AbstractCookieFlagCheck extends PythonSubscriptionCheck {
 
   @Override
@@ -23,7 +23,9 @@ import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.ArgList;
@@ -63,6 +65,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.SUBSCRIPTION;
 import static org.sonar.plugins.python.api.tree.Tree.Kind.TUPLE;
 
 @Rule(key = "S5122")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class CorsCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make sure this permissive CORS policy is safe here.";
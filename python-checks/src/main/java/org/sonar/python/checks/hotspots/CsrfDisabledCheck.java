@@ -28,7 +28,9 @@ import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -54,6 +56,7 @@ import org.sonar.python.tree.TreeUtils;
 // updated (06.05.2020)): https://jira.sonarsource.com/browse/SONARPY-668
 // https://jira.sonarsource.com/browse/RSPEC-5792
 @Rule(key = "S4502")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class CsrfDisabledCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make sure disabling CSRF protection is safe here.";
@@ -19,12 +19,15 @@ package org.sonar.python.checks.hotspots;
 import java.util.Arrays;
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.symbols.Symbol;
 
 @Rule(key = "S4787")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DataEncryptionCheck extends PythonSubscriptionCheck {
 
   private static final List<String> FUNCTIONS_TO_CHECK = Arrays.asList(
@@ -22,7 +22,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Argument;
 import org.sonar.plugins.python.api.tree.RegularArgument;
@@ -38,6 +40,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.plugins.python.api.symbols.Symbol;
 
 @Rule(key = "S5247")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class DisabledHtmlAutoEscapeCheck extends PythonSubscriptionCheck {
 
   private static final String AUTO_ESCAPE = "autoescape";
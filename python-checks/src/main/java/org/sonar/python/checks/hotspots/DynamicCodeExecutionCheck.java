@@ -18,12 +18,14 @@ package org.sonar.python.checks.hotspots;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S1523")
+@RequiredSemanticLayers({})
 public class DynamicCodeExecutionCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Make sure that this dynamic injection or execution of code is safe.";
 
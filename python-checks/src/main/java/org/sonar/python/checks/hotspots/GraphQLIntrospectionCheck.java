@@ -21,7 +21,9 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Argument;
 import org.sonar.plugins.python.api.tree.CallExpression;
@@ -35,6 +37,7 @@ import org.sonar.python.checks.utils.GraphQLUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S6786")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class GraphQLIntrospectionCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> SAFE_VALIDATION_RULE_FQNS = Set.of(
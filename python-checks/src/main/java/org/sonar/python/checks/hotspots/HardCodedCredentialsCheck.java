@@ -30,7 +30,9 @@ import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Argument;
@@ -58,6 +60,7 @@ import org.sonar.plugins.python.api.tree.Tree.Kind;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S2068")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class HardCodedCredentialsCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT_CREDENTIAL_WORDS = "password,passwd,pwd,passphrase";
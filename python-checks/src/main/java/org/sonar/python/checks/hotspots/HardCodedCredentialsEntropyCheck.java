@@ -22,7 +22,9 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.AnnotatedAssignment;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
@@ -38,6 +40,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonarsource.analyzer.commons.ShannonEntropy;
 
 @Rule(key = "S6418")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class HardCodedCredentialsEntropyCheck extends PythonSubscriptionCheck {
 
   private static final String DEFAULT_SECRET_KEYWORDS = "api[_.-]?key,auth,credential,secret,token";
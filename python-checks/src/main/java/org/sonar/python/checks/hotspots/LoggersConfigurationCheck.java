@@ -19,7 +19,9 @@ package org.sonar.python.checks.hotspots;
 import java.util.Arrays;
 import java.util.List;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.ArgList;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
@@ -31,6 +33,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.symbols.Symbol;
 
 @Rule(key = "S4792")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class LoggersConfigurationCheck extends PythonSubscriptionCheck {
 
   private static final List<String> FUNCTIONS_TO_CHECK = Arrays.asList(
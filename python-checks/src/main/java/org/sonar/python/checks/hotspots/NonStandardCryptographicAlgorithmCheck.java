@@ -17,7 +17,9 @@
 package org.sonar.python.checks.hotspots;
 
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.ArgList;
@@ -28,6 +30,7 @@ import org.sonar.plugins.python.api.tree.RegularArgument;
 import org.sonar.plugins.python.api.tree.Tree;
 
 @Rule(key = "S2257")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class NonStandardCryptographicAlgorithmCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Make sure using a non-standard cryptographic algorithm is safe here.";
 
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.Argument;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Expression;
@@ -35,6 +37,7 @@ import org.sonar.python.checks.utils.Expressions;
 import org.sonar.plugins.python.api.symbols.Symbol;
 
 @Rule(key = "S5443")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class PubliclyWritableDirectoriesCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Make sure publicly writable directories are used safely here.";
@@ -23,7 +23,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -50,6 +52,7 @@ import static org.sonar.python.tree.TreeUtils.argumentByKeyword;
 import static org.sonar.python.tree.TreeUtils.getSymbolFromTree;
 
 @Rule(key = "S3752")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UnsafeHttpMethodsCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> SAFE_HTTP_METHODS = new HashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS"));
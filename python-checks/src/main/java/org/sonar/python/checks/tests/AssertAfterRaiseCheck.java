@@ -21,7 +21,9 @@ import java.util.Objects;
 import java.util.Optional;
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.IssueLocation;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.ExpressionStatement;
@@ -38,6 +40,7 @@ import org.sonar.python.tests.UnittestUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5915")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class AssertAfterRaiseCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE_MULTIPLE_STATEMENT = "Don’t perform an assertion here; An exception is expected to be raised before its execution.";
   private static final String MESSAGE_SINGLE_STATEMENT = "Refactor this test; if this assertion’s argument raises an exception, the assertion will never get executed.";
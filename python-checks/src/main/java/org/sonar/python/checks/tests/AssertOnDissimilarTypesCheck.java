@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
@@ -42,6 +44,7 @@ import org.sonar.python.types.InferredTypes;
 import static org.sonar.plugins.python.api.types.BuiltinTypes.NONE_TYPE;
 
 @Rule(key = "S5845")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class AssertOnDissimilarTypesCheck extends PythonSubscriptionCheck {
   private static final String MESSAGE = "Change this assertion to not compare dissimilar types";
   private static final String MESSAGE_SECONDARY = "Last assignment of \"%s\"";
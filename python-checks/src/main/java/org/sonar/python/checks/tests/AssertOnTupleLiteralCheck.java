@@ -18,6 +18,7 @@ package org.sonar.python.checks.tests;
 
 import org.sonar.check.Rule;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.tree.AssertStatement;
 import org.sonar.plugins.python.api.tree.Token;
@@ -26,6 +27,7 @@ import org.sonar.plugins.python.api.tree.Tuple;
 import org.sonar.python.quickfix.TextEditUtils;
 
 @Rule(key = "S5905")
+@RequiredSemanticLayers({})
 public class AssertOnTupleLiteralCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Fix this assertion on a tuple literal.";
@@ -20,7 +20,9 @@ import java.util.List;
 import java.util.Map;
 import javax.annotation.CheckForNull;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.Argument;
 import org.sonar.plugins.python.api.tree.BinaryExpression;
@@ -38,6 +40,7 @@ import org.sonar.python.tree.TreeUtils;
 
 
 @Rule(key = "S5906")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class DedicatedAssertionCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Consider using \"%s\" instead.";
@@ -22,7 +22,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.tree.AssertStatement;
 import org.sonar.plugins.python.api.tree.AssignmentStatement;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
@@ -38,6 +40,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.tests.UnittestUtils;
 
 @Rule(key = "S5918")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class ImplicitlySkippedTestCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Skip this test explicitly.";
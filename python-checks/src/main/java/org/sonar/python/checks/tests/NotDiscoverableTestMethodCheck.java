@@ -25,7 +25,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -39,6 +41,7 @@ import org.sonar.python.tests.UnittestUtils;
 import org.sonar.python.tree.TreeUtils;
 
 @Rule(key = "S5899")
+@RequiredSemanticLayers(SemanticLayer.SYMBOLS)
 public class NotDiscoverableTestMethodCheck extends PythonSubscriptionCheck {
 
   private static final String MESSAGE = "Rename this method so that it starts with \"test\" or remove this unused helper.";
@@ -21,7 +21,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.sonar.check.Rule;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
@@ -44,6 +46,7 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.QUALIFIED_EXPR;
 import static org.sonar.python.checks.utils.CheckUtils.isConstant;
 
 @Rule(key = "S5914")
+@RequiredSemanticLayers(SemanticLayer.TYPES)
 public class UnconditionalAssertionCheck extends PythonSubscriptionCheck {
 
   private static final Set<String> BOOLEAN_ASSERTIONS = Set.of("assertTrue", "assertFalse");
@@ -63,7 +66,7 @@ public class UnconditionalAssertionCheck extends PythonSubscriptionCheck {
   @Override
   public void initialize(Context context) {
     context.registerSyntaxNodeConsumer(Tree.Kind.FILE_INPUT, ctx ->
-      reachingDefinitionsAnalysis = new ReachingDefinitionsAnalysis(ctx.pythonFile()));
+      reachingDefinitionsAnalysis = ctx.cfgProvider().reachingDefinitions());
 
     context.registerSyntaxNodeConsumer(Tree.Kind.ASSERT_STMT, ctx -> {
       AssertStatement assertStatement = (AssertStatement) ctx.syntaxNode();
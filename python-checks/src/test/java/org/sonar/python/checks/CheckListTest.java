@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Test;
+import org.sonar.plugins.python.api.RequiredSemanticLayers;
 import org.sonarsource.analyzer.commons.internal.json.simple.JSONArray;
 import org.sonarsource.analyzer.commons.internal.json.simple.JSONObject;
 import org.sonarsource.analyzer.commons.internal.json.simple.parser.JSONParser;
@@ -79,6 +80,18 @@ class CheckListTest {
     }
   }
 
+  /**
+   * Enforces that each check declares the semantic layers it relies on, so that a quality profile does not compute all of them by default.
+   */
+  @Test
+  void semantic_layers_are_declared() {
+    for (Class<?> cls : CheckList.getChecks()) {
+      assertThat(cls.getAnnotation(RequiredSemanticLayers.class))
+        .overridingErrorMessage("No semantic layers declared for " + cls.getSimpleName())
+        .isNotNull();
+    }
+  }
+
   @Test
   void validate_sqKey_field_in_json() throws IOException {
     try (Stream<Path> fileStream = Files.find(METADATA_DIR, 1, (path, attr) -> path.toString().endsWith(".json"))) {
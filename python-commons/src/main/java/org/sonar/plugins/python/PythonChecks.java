@@ -18,6 +18,7 @@ package org.sonar.plugins.python;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nullable;
 import org.sonar.api.batch.rule.CheckFactory;
@@ -29,12 +30,14 @@ import org.sonar.plugins.python.api.PythonCustomRuleRepository;
 public class PythonChecks {
   private final CheckFactory checkFactory;
   private List<Checks<PythonCheck>> checksByRepository = new ArrayList<>();
+  private final List<Map.Entry<String, Iterable<Class<?>>>> checkClassesByRepository = new ArrayList<>();
 
   PythonChecks(CheckFactory checkFactory) {
     this.checkFactory = checkFactory;
   }
   public PythonChecks addChecks(String repositoryKey, Iterable<Class<?>> checkClass) {
     checksByRepository.add(checkFactory.<PythonCheck>create(repositoryKey).addAnnotatedChecks(checkClass));
+    checkClassesByRepository.add(Map.entry(repositoryKey, checkClass));
 
     return this;
   }
@@ -53,6 +56,15 @@ public class PythonChecks {
     return checksByRepository.stream().flatMap(c -> c.all().stream()).toList();
   }
 
+  /**
+   * Creates new instances of the same checks, with the same parameters, so that they can be executed concurrently with these ones.
+   */
+  public PythonChecks newInstances() {
+    PythonChecks pythonChecks = new PythonChecks(checkFactory);
+    checkClassesByRepository.forEach(entry -> pythonChecks.addChecks(entry.getKey(), entry.getValue()));
+    return pythonChecks;
+  }
+
   @Nullable
   public RuleKey ruleKey(PythonCheck check) {
     return checksByRepository.stream().map(c -> c.ruleKey(check)).filter(Objects::nonNull).findFirst().orElse(null);
@@ -16,8 +16,10 @@
  */
 package org.sonar.plugins.python;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.api.batch.sensor.SensorContext;
@@ -82,21 +84,27 @@ import static com.sonar.sslr.api.GenericTokenType.IDENTIFIER;
  * "Attribute docstrings" and "additional docstrings" (see PEP 258) are handled as normal string literals.
  * Reminder: a docstring is a string literal that occurs as the first statement in a module,
  * function, class, or method definition.
+ * <p>
+ * The highlighting is only recorded while visiting the file: it is created on the sensor context by {@link #save()},
+ * so that files can be visited on worker threads, see {@link Scanner#analyzeFile(PythonInputFile)}.
  */
 public class PythonHighlighter extends PythonSubscriptionCheck {
 
-  private NewHighlighting newHighlighting;
+  private final SensorContext context;
+  private final PythonInputFile inputFile;
+  private final List<Highlight> highlights = new ArrayList<>();
   private Set<Token> docStringTokens;
 
   public PythonHighlighter(SensorContext context, PythonInputFile inputFile) {
     docStringTokens = new HashSet<>();
-    newHighlighting = context.newHighlighting();
-    newHighlighting.onFile(inputFile.wrappedFile());
+    this.context = context;
+    this.inputFile = inputFile;
   }
 
   @Override
   public void scanFile(PythonVisitorContext visitorContext) {
     SubscriptionVisitor.analyze(Collections.singletonList(this), visitorContext);
+    save();
   }
 
   @Override
@@ -142,14 +150,24 @@ public class PythonHighlighter extends PythonSubscriptionCheck {
     return "await".equals(value) || "async".equals(value) || "match".equals(value) || "case".equals(value);
   }
 
-  @Override
-  public void leaveFile() {
+  /**
+   * Saves the highlighting computed while visiting the file: to be called once the file has been visited.
+   */
+  public void save() {
+    NewHighlighting newHighlighting = context.newHighlighting();
+    newHighlighting.onFile(inputFile.wrappedFile());
+    for (Highlight highlight : highlights) {
+      TokenLocation location = highlight.location();
+      newHighlighting.highlight(location.startLine(), location.startLineOffset(), location.endLine(), location.endLineOffset(), highlight.typeOfText());
+    }
     newHighlighting.save();
   }
 
   private void highlight(Token token, TypeOfText typeOfText) {
-    TokenLocation tokenLocation = new TokenLocation(token);
-    newHighlighting.highlight(tokenLocation.startLine(), tokenLocation.startLineOffset(), tokenLocation.endLine(), tokenLocation.endLineOffset(), typeOfText);
+    highlights.add(new Highlight(new TokenLocation(token), typeOfText));
+  }
+
+  private record Highlight(TokenLocation location, TypeOfText typeOfText) {
   }
 
 }
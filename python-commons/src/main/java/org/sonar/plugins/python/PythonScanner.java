@@ -24,6 +24,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +33,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.SonarProduct;
@@ -58,7 +60,9 @@ import org.sonar.plugins.python.api.quickfix.PythonQuickFix;
 import org.sonar.plugins.python.api.quickfix.PythonTextEdit;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.cpd.PythonCpdAnalyzer;
+import org.sonar.plugins.python.cpd.PythonCpdAnalyzer.CpdTokenCollector;
 import org.sonar.plugins.python.indexer.PythonIndexer;
+import org.sonar.python.CheckProfiler;
 import org.sonar.python.IPythonLocation;
 import org.sonar.python.SubscriptionVisitor;
 import org.sonar.python.metrics.FileLinesVisitor;
@@ -81,6 +85,11 @@ public class PythonScanner extends Scanner {
   private int recognitionErrorCount = 0;
   private static final Pattern DATABRICKS_MAGIC_COMMAND_PATTERN = Pattern.compile("^\\h*#\\h*(MAGIC|COMMAND).*");
   private boolean foundDatabricks = false;
+  // Parsers and checks are stateful: each worker thread gets its own instances in parallel mode
+  private final ThreadLocal<PythonParser> workerParsers = ThreadLocal.withInitial(PythonParser::create);
+  private final ThreadLocal<PythonChecks> workerChecks = ThreadLocal.withInitial(this::newWorkerChecks);
+  @Nullable
+  private final RulesProfile rulesProfile;
 
   public PythonScanner(
     SensorContext context, PythonChecks checks,
@@ -93,6 +102,17 @@ public class PythonScanner extends Scanner {
     this.parser = parser;
     this.indexer = indexer;
     this.indexer.buildOnce(context);
+    this.rulesProfile = context.config().getBoolean(PythonSensor.PERFORMANCE_MEASURE_PROPERTY).orElse(Boolean.FALSE)
+      ? new RulesProfile(context.config().getBoolean(PythonSensor.PERFORMANCE_MEASURE_ALLOCATIONS_PROPERTY).orElse(Boolean.FALSE))
+      : null;
+  }
+
+  /**
+   * Cost of each rule, measured when performance measures are enabled.
+   */
+  @CheckForNull
+  public RulesProfile rulesProfile() {
+    return rulesProfile;
   }
 
   @Override
@@ -102,11 +122,42 @@ public class PythonScanner extends Scanner {
 
   @Override
   protected void scanFile(PythonInputFile inputFile) throws IOException {
+    Set<PythonCheck> checksExecutedWithoutParsing = checksExecutedWithoutParsingByFiles.getOrDefault(inputFile, Collections.emptySet());
+    analyzeFile(inputFile, checks, parser, checksExecutedWithoutParsing).save();
+  }
+
+  @Override
+  protected boolean supportsParallelExecution() {
+    // Checks relying on end-of-analysis callbacks keep state between files: they cannot be duplicated for each worker thread
+    boolean hasEndOfAnalysisChecks = checks.all().stream().anyMatch(EndOfAnalysis.class::isInstance);
+    if (hasEndOfAnalysisChecks) {
+      LOG.debug("Rules execution cannot be parallelized: some active rules rely on end-of-analysis callbacks");
+    }
+    return !hasEndOfAnalysisChecks;
+  }
+
+  @Override
+  protected FileResults analyzeFile(PythonInputFile inputFile) throws IOException {
+    // Files which may be scanned without parsing are never analyzed on worker threads, hence no check has been executed on them yet
+    return analyzeFile(inputFile, workerChecks.get(), workerParsers.get(), Collections.emptySet());
+  }
+
+  private synchronized PythonChecks newWorkerChecks() {
+    return checks.newInstances();
+  }
+
+  private FileResults analyzeFile(PythonInputFile inputFile, PythonChecks fileChecks, PythonParser fileParser,
+    Set<PythonCheck> checksExecutedWithoutParsing) throws IOException {
     var pythonFile = SonarQubePythonFile.create(inputFile);
     PythonVisitorContext visitorContext;
     InputFile.Type fileType = inputFile.wrappedFile().type();
+    FileMetrics fileMetrics = null;
+    RecognitionException parsingException = null;
+    List<PythonCheck> fileApplicableChecks = fileChecks.all().stream()
+      .filter(check -> isCheckApplicable(check, fileType) && !checksExecutedWithoutParsing.contains(check))
+      .toList();
     try {
-      AstNode astNode = parser.parse(inputFile.contents());
+      AstNode astNode = parse(inputFile, fileParser);
       PythonTreeMaker treeMaker = getTreeMaker(inputFile);
       FileInput parse = treeMaker.fileInput(astNode);
       visitorContext = new PythonVisitorContext(parse,
@@ -115,50 +166,110 @@ public class PythonScanner extends Scanner {
         indexer.packageName(inputFile),
         indexer.projectLevelSymbolTable(),
         indexer.cacheContext(),
-        context.runtime().getProduct());
+        context.runtime().getProduct(),
+        requiredSemanticLayers(fileApplicableChecks));
       if (fileType == InputFile.Type.MAIN) {
-        saveMeasures(inputFile, visitorContext);
+        fileMetrics = new FileMetrics(isNotebook(inputFile));
       }
     } catch (RecognitionException e) {
       visitorContext = new PythonVisitorContext(pythonFile, e, context.runtime().getProduct());
-
-      var line = (inputFile.kind() == PythonInputFile.Kind.IPYTHON) ? ((GeneratedIPythonFile) inputFile).locationMap().get(e.getLine()).line() : e.getLine();
-      var newMessage = e.getMessage().replace("line " + e.getLine(), "line " + line);
-
-      LOG.error("Unable to parse file: " + inputFile);
-      LOG.error(newMessage);
-      recognitionErrorCount++;
-      context.newAnalysisError()
-        .onFile(inputFile.wrappedFile())
-        .at(inputFile.wrappedFile().newPointer(line, 0))
-        .message(newMessage)
-        .save();
+      parsingException = e;
     }
+    CheckProfiler profiler = rulesProfile != null ? rulesProfile.newFileProfiler() : null;
     List<PythonSubscriptionCheck> checksBasedOnTree = new ArrayList<>();
-    for (PythonCheck check : checks.all()) {
-      if (!isCheckApplicable(check, fileType)
-        || checksExecutedWithoutParsingByFiles.getOrDefault(inputFile, Collections.emptySet()).contains(check)) {
-        continue;
-      }
+    for (PythonCheck check : fileApplicableChecks) {
       if (check instanceof PythonSubscriptionCheck pythonSubscriptionCheck) {
         checksBasedOnTree.add(pythonSubscriptionCheck);
+      } else if (profiler != null) {
+        PythonVisitorContext checkedContext = visitorContext;
+        profiler.run(check, () -> check.scanFile(checkedContext));
       } else {
         check.scanFile(visitorContext);
       }
     }
-    SubscriptionVisitor.analyze(checksBasedOnTree, visitorContext);
-    saveIssues(inputFile, visitorContext.getIssues());
-
+    // Metrics, CPD tokens, symbol references and highlighting are computed in the same tree traversal as the rules
+    List<PythonSubscriptionCheck> subscriptionVisitors = new ArrayList<>(checksBasedOnTree);
+    CpdTokenCollector cpdTokenCollector = null;
+    SymbolVisitor symbolVisitor = null;
+    PythonHighlighter highlighter = null;
+    if (fileMetrics != null) {
+      subscriptionVisitors.addAll(fileMetrics.visitors());
+      if (!isInSonarLint(context) && inputFile.kind() == PythonInputFile.Kind.PYTHON) {
+        cpdTokenCollector = new CpdTokenCollector();
+        subscriptionVisitors.add(cpdTokenCollector);
+      }
+    }
     if (visitorContext.rootTree() != null && !isInSonarLint(context)) {
-      new SymbolVisitor(context.newSymbolTable().onFile(inputFile.wrappedFile())).visitFileInput(visitorContext.rootTree());
-      new PythonHighlighter(context, inputFile).scanFile(visitorContext);
+      symbolVisitor = new SymbolVisitor(context, inputFile.wrappedFile());
+      highlighter = new PythonHighlighter(context, inputFile);
+      subscriptionVisitors.add(symbolVisitor);
+      subscriptionVisitors.add(highlighter);
+    }
+    SubscriptionVisitor.analyze(subscriptionVisitors, visitorContext, profiler);
+    if (profiler != null) {
+      rulesProfile.add(inputFile.wrappedFile().key(), profiler, fileChecks::ruleKey);
     }
+    boolean isDatabricks = isDatabricks(visitorContext);
+
+    PythonVisitorContext analyzedContext = visitorContext;
+    FileMetrics analyzedFileMetrics = fileMetrics;
+    RecognitionException analyzedParsingException = parsingException;
+    CpdTokenCollector analyzedCpdTokens = cpdTokenCollector;
+    SymbolVisitor analyzedSymbols = symbolVisitor;
+    PythonHighlighter analyzedHighlighting = highlighter;
+    return () -> {
+      if (analyzedParsingException != null) {
+        reportParsingException(inputFile, analyzedParsingException);
+      } else if (analyzedFileMetrics != null) {
+        saveMeasures(inputFile, analyzedContext, analyzedFileMetrics, analyzedCpdTokens);
+      }
+      saveIssues(inputFile, analyzedContext.getIssues(), fileChecks);
 
-    searchForDataBricks(visitorContext);
+      if (analyzedSymbols != null) {
+        analyzedSymbols.save();
+        analyzedHighlighting.save();
+      }
+      foundDatabricks |= isDatabricks;
+      indexer.fileAnalyzed(inputFile);
+    };
   }
 
-  private void searchForDataBricks(PythonVisitorContext visitorContext) {
-    foundDatabricks |= visitorContext.pythonFile().content().lines().anyMatch(
+  /**
+   * Semantic layers which are not required by any of the checks executed on a file are not computed.
+   * Symbols are always needed outside of SonarLint, to save the symbol references of the file.
+   */
+  private Set<PythonCheck.SemanticLayer> requiredSemanticLayers(List<PythonCheck> fileApplicableChecks) {
+    Set<PythonCheck.SemanticLayer> semanticLayers = EnumSet.noneOf(PythonCheck.SemanticLayer.class);
+    if (!isInSonarLint(context)) {
+      semanticLayers.add(PythonCheck.SemanticLayer.SYMBOLS);
+    }
+    fileApplicableChecks.forEach(check -> semanticLayers.addAll(check.requiredSemanticLayers()));
+    return semanticLayers;
+  }
+
+  private AstNode parse(PythonInputFile inputFile, PythonParser fileParser) throws IOException {
+    String contents = inputFile.contents();
+    // Python files may have been parsed already while indexing the project
+    AstNode parsedFile = inputFile.kind() == PythonInputFile.Kind.PYTHON ? indexer.takeParsedFile(inputFile, contents) : null;
+    return parsedFile != null ? parsedFile : fileParser.parse(contents);
+  }
+
+  private void reportParsingException(PythonInputFile inputFile, RecognitionException e) {
+    var line = (inputFile.kind() == PythonInputFile.Kind.IPYTHON) ? ((GeneratedIPythonFile) inputFile).locationMap().get(e.getLine()).line() : e.getLine();
+    var newMessage = e.getMessage().replace("line " + e.getLine(), "line " + line);
+
+    LOG.error("Unable to parse file: " + inputFile);
+    LOG.error(newMessage);
+    recognitionErrorCount++;
+    context.newAnalysisError()
+      .onFile(inputFile.wrappedFile())
+      .at(inputFile.wrappedFile().newPointer(line, 0))
+      .message(newMessage)
+      .save();
+  }
+
+  private static boolean isDatabricks(PythonVisitorContext visitorContext) {
+    return visitorContext.pythonFile().content().lines().anyMatch(
       line -> DATABRICKS_MAGIC_COMMAND_PATTERN.matcher(line).matches());
   }
 
@@ -257,9 +368,9 @@ public class PythonScanner extends Scanner {
       numSkippedFiles, numTotalFiles);
   }
 
-  private void saveIssues(PythonInputFile inputFile, List<PreciseIssue> issues) {
+  private void saveIssues(PythonInputFile inputFile, List<PreciseIssue> issues, PythonChecks issuesChecks) {
     for (PreciseIssue preciseIssue : issues) {
-      RuleKey ruleKey = checks.ruleKey(preciseIssue.check());
+      RuleKey ruleKey = issuesChecks.ruleKey(preciseIssue.check());
       NewIssue newIssue = context
         .newIssue()
         .forRule(ruleKey);
@@ -328,15 +439,15 @@ public class PythonScanner extends Scanner {
     return newLocation;
   }
 
-  private void saveMeasures(PythonInputFile inputFile, PythonVisitorContext visitorContext) {
-    FileMetrics fileMetrics = new FileMetrics(visitorContext, isNotebook(inputFile));
+  private void saveMeasures(PythonInputFile inputFile, PythonVisitorContext visitorContext, FileMetrics fileMetrics,
+    @Nullable CpdTokenCollector cpdTokenCollector) {
     FileLinesVisitor fileLinesVisitor = fileMetrics.fileLinesVisitor();
 
     noSonarFilter.noSonarInFile(inputFile.wrappedFile(), fileLinesVisitor.getLinesWithNoSonar());
 
     if (!isInSonarLint(context)) {
-      if (inputFile.kind() == PythonInputFile.Kind.PYTHON) {
-        cpdAnalyzer.pushCpdTokens(inputFile.wrappedFile(), visitorContext);
+      if (cpdTokenCollector != null) {
+        cpdAnalyzer.pushCpdTokens(inputFile.wrappedFile(), visitorContext, cpdTokenCollector);
       }
 
       Set<Integer> linesOfCode = fileLinesVisitor.getLinesOfCode();
@@ -17,6 +17,7 @@
 package org.sonar.plugins.python;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +47,7 @@ import org.sonar.python.caching.CacheContextImpl;
 import org.sonar.python.checks.CheckList;
 import org.sonar.python.parser.PythonParser;
 import org.sonar.python.types.TypeShed;
+import org.sonar.python.types.v2.TypeCheckStatistics;
 import org.sonarsource.performance.measure.PerformanceMeasure;
 
 import static org.sonar.plugins.python.api.PythonVersionUtils.PYTHON_VERSION_KEY;
@@ -53,7 +55,8 @@ import static org.sonar.plugins.python.api.PythonVersionUtils.PYTHON_VERSION_KEY
 @DependedUpon(value = "org.sonar.plugins.python.PythonSensor_before_com.sonarsource.dbd.SonarLintPythonBugDetectionSensor")
 public final class PythonSensor implements Sensor {
 
-  private static final String PERFORMANCE_MEASURE_PROPERTY = "sonar.python.performance.measure";
+  static final String PERFORMANCE_MEASURE_PROPERTY = "sonar.python.performance.measure";
+  static final String PERFORMANCE_MEASURE_ALLOCATIONS_PROPERTY = "sonar.python.performance.measure.allocations";
   private static final String PERFORMANCE_MEASURE_FILE_PATH_PROPERTY = "sonar.python.performance.measure.path";
   private static final String PERFORMANCE_MEASURE_DESTINATION_FILE = "sonar-python-performance-measure.json";
 
@@ -134,14 +137,29 @@ public final class PythonSensor implements Sensor {
       pythonIndexer);
     scanner.execute(pythonFiles, context);
     updateDatabricksTelemetry(scanner);
+    updateTypeCheckCacheTelemetry(pythonIndexer);
     sensorTelemetryStorage.send(context);
     durationReport.stop();
+    RulesProfile rulesProfile = scanner.rulesProfile();
+    if (rulesProfile != null) {
+      rulesProfile.writeNextTo(performanceMeasureFile(context).map(Path::of).orElse(null));
+    }
   }
 
   private void updateDatabricksTelemetry(PythonScanner scanner) {
     sensorTelemetryStorage.updateMetric(TelemetryMetricKey.PYTHON_DATABRICKS_FOUND, scanner.getFoundDatabricks());
   }
 
+  private void updateTypeCheckCacheTelemetry(PythonIndexer pythonIndexer) {
+    TypeCheckStatistics typeCheckStatistics = pythonIndexer.projectLevelSymbolTable().typeCheckStatistics();
+    long hits = typeCheckStatistics.hits();
+    long misses = typeCheckStatistics.misses();
+    if (hits + misses > 0) {
+      // Percentage of the checks of compiled type check builders answered from their memoized results
+      sensorTelemetryStorage.updateMetric(TelemetryMetricKey.TYPE_CHECK_CACHE_HIT_RATE, (int) (hits * 100 / (hits + misses)));
+    }
+  }
+
   private void updatePythonVersionTelemetry(SensorContext context, String[] pythonVersionParameter) {
     if (context.runtime().getProduct() == SonarProduct.SONARLINT) {
       return;
@@ -163,13 +181,16 @@ public final class PythonSensor implements Sensor {
   private static PerformanceMeasure.Duration createPerformanceMeasureReport(SensorContext context) {
     return PerformanceMeasure.reportBuilder()
       .activate(context.config().getBoolean(PERFORMANCE_MEASURE_PROPERTY).orElse(Boolean.FALSE))
-      .toFile(context.config().get(PERFORMANCE_MEASURE_FILE_PATH_PROPERTY)
-        .filter(path -> !path.isEmpty())
-        .orElseGet(() -> Optional.ofNullable(context.fileSystem().workDir())
-          .filter(File::exists)
-          .map(file -> file.toPath().resolve(PERFORMANCE_MEASURE_DESTINATION_FILE).toString())
-          .orElse(null)))
+      .toFile(performanceMeasureFile(context).orElse(null))
       .appendMeasurementCost()
       .start("PythonSensor");
   }
+
+  private static Optional<String> performanceMeasureFile(SensorContext context) {
+    return context.config().get(PERFORMANCE_MEASURE_FILE_PATH_PROPERTY)
+      .filter(path -> !path.isEmpty())
+      .or(() -> Optional.ofNullable(context.fileSystem().workDir())
+        .filter(File::exists)
+        .map(file -> file.toPath().resolve(PERFORMANCE_MEASURE_DESTINATION_FILE).toString()));
+  }
 }
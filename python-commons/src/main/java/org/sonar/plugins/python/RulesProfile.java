@@ -0,0 +1,144 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.plugins.python;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.plugins.python.api.PythonCheck;
+import org.sonar.python.CheckProfiler;
+
+/**
+ * Cost of each rule over the whole analysis, aggregated from the {@link CheckProfiler} used on each file.
+ * It is written, with the slowest files of each rule, to its own file next to the performance measure report.
+ */
+public class RulesProfile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RulesProfile.class);
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+  static final int SLOWEST_FILES_COUNT = 10;
+  static final String RULES_MEASURE_NAME = "Rules";
+  static final String RULES_PROFILE_FILE_NAME = "sonar-python-rules-profile.json";
+
+  private final boolean measureAllocations;
+  private final Map<String, RuleMeasure> measuresByRule = new HashMap<>();
+
+  public RulesProfile(boolean measureAllocations) {
+    this.measureAllocations = measureAllocations;
+  }
+
+  public CheckProfiler newFileProfiler() {
+    return new CheckProfiler(measureAllocations);
+  }
+
+  public synchronized void add(String fileKey, CheckProfiler fileProfiler, Function<PythonCheck, RuleKey> ruleKeys) {
+    fileProfiler.measures().forEach((check, measure) -> {
+      RuleKey ruleKey = ruleKeys.apply(check);
+      String ruleName = ruleKey == null ? check.getClass().getName() : ruleKey.toString();
+      measuresByRule.computeIfAbsent(ruleName, RuleMeasure::new).add(fileKey, measure);
+    });
+  }
+
+  /**
+   * Writes the rules measures to {@value #RULES_PROFILE_FILE_NAME}, in the directory of the given performance measure report.
+   * Nothing is done if there is no report path.
+   */
+  public void writeNextTo(@Nullable Path performanceMeasureFile) {
+    if (performanceMeasureFile == null) {
+      return;
+    }
+    Path rulesProfileFile = performanceMeasureFile.resolveSibling(RULES_PROFILE_FILE_NAME);
+    try {
+      Files.writeString(rulesProfileFile, GSON.toJson(toJson()), StandardCharsets.UTF_8);
+      LOG.info("Rules performance measures saved to {}", rulesProfileFile);
+    } catch (IOException e) {
+      LOG.warn("Failed to write rules measures to {}: {}", rulesProfileFile, e.getMessage());
+    }
+  }
+
+  synchronized JsonObject toJson() {
+    long calls = measuresByRule.values().stream().mapToLong(m -> m.calls).sum();
+    long durationNanos = measuresByRule.values().stream().mapToLong(m -> m.durationNanos).sum();
+    long allocatedBytes = measuresByRule.values().stream().mapToLong(m -> m.allocatedBytes).sum();
+    JsonArray rules = new JsonArray();
+    measuresByRule.values().stream()
+      .sorted(Comparator.comparingLong((RuleMeasure m) -> m.durationNanos).reversed())
+      .forEach(rule -> {
+        JsonArray slowestFiles = new JsonArray();
+        rule.slowestFiles.stream()
+          .sorted(Comparator.comparingLong(FileMeasure::durationNanos).reversed())
+          .forEach(file -> slowestFiles.add(measure(file.fileKey, file.calls, file.durationNanos, file.allocatedBytes)));
+        JsonObject ruleJson = measure(rule.ruleName, rule.calls, rule.durationNanos, rule.allocatedBytes);
+        ruleJson.add("children", slowestFiles);
+        rules.add(ruleJson);
+      });
+    JsonObject json = measure(RULES_MEASURE_NAME, calls, durationNanos, allocatedBytes);
+    json.add("children", rules);
+    return json;
+  }
+
+  private JsonObject measure(String name, long calls, long durationNanos, long allocatedBytes) {
+    JsonObject json = new JsonObject();
+    json.addProperty("name", name);
+    json.addProperty("calls", calls);
+    json.addProperty("durationNanos", durationNanos);
+    if (measureAllocations) {
+      json.addProperty("allocatedBytes", allocatedBytes);
+    }
+    return json;
+  }
+
+  private static class RuleMeasure {
+    private final String ruleName;
+    private long calls;
+    private long durationNanos;
+    private long allocatedBytes;
+    // smallest durations first, so that the fastest of the slowest files is the one evicted
+    private final PriorityQueue<FileMeasure> slowestFiles = new PriorityQueue<>(Comparator.comparingLong(FileMeasure::durationNanos));
+
+    private RuleMeasure(String ruleName) {
+      this.ruleName = ruleName;
+    }
+
+    private void add(String fileKey, CheckProfiler.Measure measure) {
+      calls += measure.calls();
+      durationNanos += measure.durationNanos();
+      allocatedBytes += measure.allocatedBytes();
+      slowestFiles.add(new FileMeasure(fileKey, measure.calls(), measure.durationNanos(), measure.allocatedBytes()));
+      if (slowestFiles.size() > SLOWEST_FILES_COUNT) {
+        slowestFiles.poll();
+      }
+    }
+  }
+
+  private record FileMeasure(String fileKey, long calls, long durationNanos, long allocatedBytes) {
+  }
+}
@@ -18,8 +18,15 @@ package org.sonar.plugins.python;
 
 import com.sonar.sslr.api.RecognitionException;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.batch.fs.InputFile;
@@ -29,7 +36,10 @@ import org.sonarsource.analyzer.commons.ProgressReport;
 public abstract class Scanner {
   private static final Logger LOG = LoggerFactory.getLogger(Scanner.class);
   private static final String FAIL_FAST_PROPERTY_NAME = "sonar.internal.analysis.failFast";
+  static final String THREADS_PROPERTY_NAME = "sonar.python.analysis.threads";
+  private static final int PENDING_FILES_PER_THREAD = 2;
   protected final SensorContext context;
+  private int numScannedWithoutParsing = 0;
 
   protected Scanner(SensorContext context) {
     this.context = context;
@@ -41,35 +51,121 @@ public abstract class Scanner {
     LOG.info("Starting {}", name);
     List<String> filenames = files.stream().map(PythonInputFile::wrappedFile).map(InputFile::toString).toList();
 
-    int numScannedWithoutParsing = 0;
+    numScannedWithoutParsing = 0;
     progressReport.start(filenames);
+    int threads = numberOfThreads(context);
+    boolean completed;
+    if (threads > 1) {
+      LOG.debug("Using {} threads for {}", threads, name);
+      completed = executeInParallel(files, context, progressReport, threads);
+    } else {
+      completed = executeSequentially(files, context, progressReport);
+    }
+    if (!completed) {
+      return;
+    }
+    endOfAnalysis();
+    progressReport.stop();
+    this.reportStatistics(numScannedWithoutParsing, files.size());
+  }
+
+  private boolean executeSequentially(List<PythonInputFile> files, SensorContext context, ProgressReport progressReport) {
     for (PythonInputFile file : files) {
       if (context.isCancelled()) {
         progressReport.cancel();
-        return;
+        return false;
       }
-      try {
-        boolean successfullyScannedWithoutParsing = false;
-        if (canBeScannedWithoutParsing(file)) {
-          successfullyScannedWithoutParsing = this.scanFileWithoutParsing(file);
+      scanFileOnAnalysisThread(file, context, progressReport);
+    }
+    return true;
+  }
+
+  /**
+   * Files are analyzed by a pool of worker threads while the results are saved on the calling thread, in the order of the input files.
+   * The number of files being analyzed ahead of the last saved one is bounded to keep memory usage under control.
+   * Files which may be scanned without parsing are handled entirely on the calling thread.
+   */
+  private boolean executeInParallel(List<PythonInputFile> files, SensorContext context, ProgressReport progressReport, int threads) {
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "sonar-python-" + name().replace(' ', '-'));
+      thread.setDaemon(true);
+      return thread;
+    });
+    Deque<PendingFile> pendingFiles = new ArrayDeque<>();
+    int maxPendingFiles = threads * PENDING_FILES_PER_THREAD;
+    try {
+      for (PythonInputFile file : files) {
+        if (context.isCancelled()) {
+          progressReport.cancel();
+          return false;
         }
-        if (!successfullyScannedWithoutParsing) {
-          this.scanFile(file);
-        } else {
-          ++numScannedWithoutParsing;
+        Future<FileResults> results = canBeScannedWithoutParsing(file) ? null : executor.submit(() -> analyzeFile(file));
+        pendingFiles.add(new PendingFile(file, results));
+        if (pendingFiles.size() >= maxPendingFiles) {
+          savePendingFile(pendingFiles.poll(), context, progressReport);
         }
-      } catch (Exception e) {
-        this.processException(e, file);
-        if (context.config().getBoolean(FAIL_FAST_PROPERTY_NAME).orElse(false) && !isParseErrorOnTestFile(file, e)) {
-          throw new IllegalStateException("Exception when analyzing " + file, e);
+      }
+      while (!pendingFiles.isEmpty()) {
+        if (context.isCancelled()) {
+          progressReport.cancel();
+          return false;
         }
-      } finally {
-        progressReport.nextFile();
+        savePendingFile(pendingFiles.poll(), context, progressReport);
       }
+      return true;
+    } finally {
+      executor.shutdownNow();
     }
-    endOfAnalysis();
-    progressReport.stop();
-    this.reportStatistics(numScannedWithoutParsing, files.size());
+  }
+
+  private void savePendingFile(PendingFile pendingFile, SensorContext context, ProgressReport progressReport) {
+    if (pendingFile.results() == null) {
+      scanFileOnAnalysisThread(pendingFile.file(), context, progressReport);
+      return;
+    }
+    try {
+      pendingFile.results().get().save();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while analyzing " + pendingFile.file(), e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      handleException(cause instanceof Exception exception ? exception : new IllegalStateException(cause), pendingFile.file(), context);
+    } catch (Exception e) {
+      handleException(e, pendingFile.file(), context);
+    } finally {
+      progressReport.nextFile();
+    }
+  }
+
+  private void scanFileOnAnalysisThread(PythonInputFile file, SensorContext context, ProgressReport progressReport) {
+    try {
+      boolean successfullyScannedWithoutParsing = false;
+      if (canBeScannedWithoutParsing(file)) {
+        successfullyScannedWithoutParsing = this.scanFileWithoutParsing(file);
+      }
+      if (!successfullyScannedWithoutParsing) {
+        this.scanFile(file);
+      } else {
+        ++numScannedWithoutParsing;
+      }
+    } catch (Exception e) {
+      handleException(e, file, context);
+    } finally {
+      progressReport.nextFile();
+    }
+  }
+
+  private void handleException(Exception e, PythonInputFile file, SensorContext context) {
+    this.processException(e, file);
+    if (context.config().getBoolean(FAIL_FAST_PROPERTY_NAME).orElse(false) && !isParseErrorOnTestFile(file, e)) {
+      throw new IllegalStateException("Exception when analyzing " + file, e);
+    }
+  }
+
+  private int numberOfThreads(SensorContext context) {
+    int threads = context.config().getInt(THREADS_PROPERTY_NAME).orElse(1);
+    return threads > 1 && supportsParallelExecution() ? threads : 1;
   }
 
   protected abstract String name();
@@ -80,6 +176,23 @@ public abstract class Scanner {
     return false;
   }
 
+  /**
+   * Whether files can be analyzed concurrently, see {@link #analyzeFile(PythonInputFile)}.
+   * Parallel execution is only effective when "sonar.python.analysis.threads" is set to a value greater than 1.
+   */
+  protected boolean supportsParallelExecution() {
+    return false;
+  }
+
+  /**
+   * Analyzes a file on a worker thread when running in parallel mode.
+   * Implementations must not report anything to the sensor context: this has to be deferred to the returned {@link FileResults},
+   * which are saved on the analysis thread, in the order of the input files.
+   */
+  protected FileResults analyzeFile(PythonInputFile file) throws IOException {
+    return () -> scanFile(file);
+  }
+
   protected void endOfAnalysis() {
     // no op
   }
@@ -94,6 +207,14 @@ public abstract class Scanner {
     return false;
   }
 
+  @FunctionalInterface
+  protected interface FileResults {
+    void save() throws IOException;
+  }
+
+  private record PendingFile(PythonInputFile file, @Nullable Future<FileResults> results) {
+  }
+
   private static boolean isParseErrorOnTestFile(PythonInputFile file, Exception e) {
     // As test files may contain invalid syntax on purpose, we avoid failing the analysis when encountering parse errors on them
     return e instanceof RecognitionException && file.wrappedFile().type() == InputFile.Type.TEST;
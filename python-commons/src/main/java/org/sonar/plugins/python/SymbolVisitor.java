@@ -17,13 +17,18 @@
 package org.sonar.plugins.python;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.symbol.NewSymbol;
 import org.sonar.api.batch.sensor.symbol.NewSymbolTable;
+import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.PythonVisitorContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
-import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.ComprehensionExpression;
 import org.sonar.plugins.python.api.tree.DictCompExpression;
@@ -31,51 +36,63 @@ import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.LambdaExpression;
 import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.SubscriptionVisitor;
 
-public class SymbolVisitor extends BaseTreeVisitor {
+/**
+ * Saves the symbol references of a file. It can be executed in the same {@link SubscriptionVisitor} pass as the rules,
+ * in which case {@link #save()} has to be called once the file has been visited.
+ * The references are only recorded while visiting the file: the symbol table of the sensor context is created when saving them,
+ * so that files can be visited on worker threads, see {@link Scanner#analyzeFile(PythonInputFile)}.
+ */
+public class SymbolVisitor extends PythonSubscriptionCheck {
 
-  private final NewSymbolTable newSymbolTable;
+  private final SensorContext context;
+  private final InputFile inputFile;
+  // Ranges of the usages of each symbol, the first one being its declaration
+  private final List<List<TextRange>> symbolsUsages = new ArrayList<>();
 
-  public SymbolVisitor(NewSymbolTable newSymbolTable) {
-    this.newSymbolTable = newSymbolTable;
+  public SymbolVisitor(SensorContext context, InputFile inputFile) {
+    this.context = context;
+    this.inputFile = inputFile;
   }
 
   @Override
-  public void visitClassDef(ClassDef classDef) {
-    classDef.classFields().forEach(this::handleSymbol);
-    classDef.instanceFields().forEach(this::handleSymbol);
-    super.visitClassDef(classDef);
+  public void scanFile(PythonVisitorContext visitorContext) {
+    SubscriptionVisitor.analyze(Collections.singletonList(this), visitorContext);
+    save();
   }
 
   @Override
-  public void visitFunctionDef(FunctionDef functionDef) {
-    functionDef.localVariables().forEach(this::handleSymbol);
-    super.visitFunctionDef(functionDef);
-  }
-
-  @Override
-  public void visitLambda(LambdaExpression lambdaExpression) {
-    lambdaExpression.localVariables().forEach(this::handleSymbol);
-    super.visitLambda(lambdaExpression);
-  }
-
-  @Override
-  public void visitPyListOrSetCompExpression(ComprehensionExpression tree) {
-    tree.localVariables().forEach(this::handleSymbol);
-    super.visitPyListOrSetCompExpression(tree);
+  public void initialize(Context context) {
+    context.registerSyntaxNodeConsumer(Tree.Kind.FILE_INPUT, ctx -> handleSymbols(((FileInput) ctx.syntaxNode()).globalVariables()));
+    context.registerSyntaxNodeConsumer(Tree.Kind.CLASSDEF, ctx -> {
+      ClassDef classDef = (ClassDef) ctx.syntaxNode();
+      handleSymbols(classDef.classFields());
+      handleSymbols(classDef.instanceFields());
+    });
+    context.registerSyntaxNodeConsumer(Tree.Kind.FUNCDEF, ctx -> handleSymbols(((FunctionDef) ctx.syntaxNode()).localVariables()));
+    context.registerSyntaxNodeConsumer(Tree.Kind.LAMBDA, ctx -> handleSymbols(((LambdaExpression) ctx.syntaxNode()).localVariables()));
+    context.registerSyntaxNodeConsumer(Tree.Kind.DICT_COMPREHENSION, ctx -> handleSymbols(((DictCompExpression) ctx.syntaxNode()).localVariables()));
+    for (Tree.Kind kind : List.of(Tree.Kind.LIST_COMPREHENSION, Tree.Kind.SET_COMPREHENSION, Tree.Kind.GENERATOR_EXPR)) {
+      context.registerSyntaxNodeConsumer(kind, ctx -> handleSymbols(((ComprehensionExpression) ctx.syntaxNode()).localVariables()));
+    }
   }
 
-  @Override
-  public void visitDictCompExpression(DictCompExpression tree) {
-    tree.localVariables().forEach(this::handleSymbol);
-    super.visitDictCompExpression(tree);
+  public void save() {
+    NewSymbolTable newSymbolTable = context.newSymbolTable().onFile(inputFile);
+    for (List<TextRange> usages : symbolsUsages) {
+      TextRange declaration = usages.get(0);
+      NewSymbol newSymbol = newSymbolTable.newSymbol(declaration.startLine(), declaration.startColumn(), declaration.endLine(), declaration.endColumn());
+      for (int i = 1; i < usages.size(); i++) {
+        TextRange reference = usages.get(i);
+        newSymbol.newReference(reference.startLine(), reference.startColumn(), reference.endLine(), reference.endColumn());
+      }
+    }
+    newSymbolTable.save();
   }
 
-  @Override
-  public void visitFileInput(FileInput fileInput) {
-    fileInput.globalVariables().forEach(this::handleSymbol);
-    super.visitFileInput(fileInput);
-    newSymbolTable.save();
+  private void handleSymbols(Collection<Symbol> symbols) {
+    symbols.forEach(this::handleSymbol);
   }
 
   private void handleSymbol(Symbol symbol) {
@@ -85,13 +102,13 @@ public class SymbolVisitor extends BaseTreeVisitor {
     }
     List<Usage> usages = new ArrayList<>(symbol.usages());
     usages.sort(Comparator.comparingInt(u -> u.tree().firstToken().line()));
-    Tree firstUsageTree = usages.get(0).tree();
-    NewSymbol newSymbol = newSymbolTable.newSymbol(firstUsageTree.firstToken().line(), firstUsageTree.firstToken().column(),
-      firstUsageTree.lastToken().line(), firstUsageTree.lastToken().column() + firstUsageTree.lastToken().value().length());
-    for (int i = 1; i < usages.size(); i++) {
-      Tree usageTree = usages.get(i).tree();
-      newSymbol.newReference(usageTree.firstToken().line(), usageTree.firstToken().column(),
-        usageTree.lastToken().line(), usageTree.lastToken().column() + usageTree.lastToken().value().length());
-    }
+    symbolsUsages.add(usages.stream().map(usage -> textRange(usage.tree())).toList());
+  }
+
+  private static TextRange textRange(Tree tree) {
+    return new TextRange(tree.firstToken().line(), tree.firstToken().column(), tree.lastToken().line(), tree.lastToken().column() + tree.lastToken().value().length());
+  }
+
+  private record TextRange(int startLine, int startColumn, int endLine, int endColumn) {
   }
 }
@@ -17,16 +17,22 @@
 package org.sonar.plugins.python.caching;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.plugins.python.api.caching.CacheContext;
+import org.sonar.python.caching.ModuleNamesSerializer;
+import org.sonar.python.index.AmbiguousDescriptor;
 import org.sonar.python.index.Descriptor;
 import org.sonar.python.types.protobuf.DescriptorsProtos;
 
@@ -41,67 +47,85 @@ public class Caching {
   public static final String PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX = "python:descriptors:";
   public static final String PROJECT_FILES_KEY = "python:files";
   public static final String CONTENT_HASHES_KEY = "python:content_hashes:";
+  public static final String INDEX_SEGMENT_KEY = "python:index_segment";
   public static final String TYPESHED_MODULES_KEY = "python:typeshed_modules";
+  public static final String TYPESHED_DESCRIPTORS_KEY = "python:typeshed_descriptors";
   public static final String CACHE_VERSION_KEY = "python:cache_version";
   public static final String CPD_TOKENS_CACHE_KEY_PREFIX = "python:cpd:data:";
-  public static final String CPD_TOKENS_STRING_TABLE_KEY_PREFIX = "python:cpd:stringTable:";
 
   private static final Logger LOG = LoggerFactory.getLogger(Caching.class);
 
   public final String cacheVersion;
 
+  // Per-file entries (imports, descriptors and content hashes) are packed in a single cache entry, read once and written once
+  private IndexSegment previousIndexSegment;
+  private final IndexSegment.Builder nextIndexSegment = new IndexSegment.Builder();
+
   public Caching(CacheContext cacheContext, String cacheVersion) {
     this.cacheContext = cacheContext;
     this.cacheVersion = cacheVersion;
   }
 
   public void writeImportsMapEntry(String fileKey, Set<String> imports) {
-    byte[] importData = String.join(";", imports).getBytes(StandardCharsets.UTF_8);
+    byte[] importData = ModuleNamesSerializer.serialize(imports);
     String cacheKey = importsMapCacheKey(fileKey);
-    cacheContext.getWriteCache().write(cacheKey, importData);
+    nextIndexSegment.put(cacheKey, importData);
   }
 
   public void writeFileContentHash(String fileKey, byte[] hash) {
     String cacheKey = fileContentHashCacheKey(fileKey);
-    cacheContext.getWriteCache().write(cacheKey, hash);
+    nextIndexSegment.put(cacheKey, hash);
+  }
+
+  /**
+   * Writes the per-file entries written or copied from the previous analysis since the creation of this instance.
+   */
+  public void writeIndexSegment() {
+    cacheContext.getWriteCache().write(INDEX_SEGMENT_KEY, nextIndexSegment.build());
   }
 
   public void writeFilesList(List<String> mainFiles) {
-    byte[] projectFiles = String.join(";", mainFiles).getBytes(StandardCharsets.UTF_8);
+    byte[] projectFiles = ModuleNamesSerializer.serialize(mainFiles);
     cacheContext.getWriteCache().write(PROJECT_FILES_KEY, projectFiles);
   }
 
   public void writeTypeshedModules(Set<String> stubModules) {
-    byte[] stubModulesBytes = String.join(";", stubModules).getBytes(StandardCharsets.UTF_8);
+    byte[] stubModulesBytes = ModuleNamesSerializer.serialize(stubModules);
     cacheContext.getWriteCache().write(TYPESHED_MODULES_KEY, stubModulesBytes);
   }
 
+  public void writeTypeshedDescriptors(Map<String, Map<String, Descriptor>> descriptorsByModule) {
+    DescriptorsProtos.ModuleDescriptorsByName.Builder builder = DescriptorsProtos.ModuleDescriptorsByName.newBuilder();
+    descriptorsByModule.forEach((moduleName, descriptors) -> builder.putModules(moduleName, toProtobufModuleDescriptor(new HashSet<>(descriptors.values()))));
+    cacheContext.getWriteCache().write(TYPESHED_DESCRIPTORS_KEY, builder.build().toByteArray());
+  }
+
   public void writeCacheVersion() {
     cacheContext.getWriteCache().write(CACHE_VERSION_KEY, cacheVersion.getBytes(StandardCharsets.UTF_8));
   }
 
   public void writeProjectLevelSymbolTableEntry(String fileKey, Set<Descriptor> descriptors) {
     String cacheKey = projectSymbolTableCacheKey(fileKey);
-    cacheContext.getWriteCache().write(cacheKey, toProtobufModuleDescriptor(descriptors).toByteArray());
+    nextIndexSegment.put(cacheKey, toProtobufModuleDescriptor(descriptors).toByteArray());
   }
 
   public void copyFromPrevious(String fileKey) {
-    cacheContext.getWriteCache().copyFromPrevious(importsMapCacheKey(fileKey));
-    cacheContext.getWriteCache().copyFromPrevious(projectSymbolTableCacheKey(fileKey));
-    cacheContext.getWriteCache().copyFromPrevious(fileContentHashCacheKey(fileKey));
+    for (String cacheKey : List.of(importsMapCacheKey(fileKey), projectSymbolTableCacheKey(fileKey), fileContentHashCacheKey(fileKey))) {
+      byte[] bytes = previousIndexSegment().get(cacheKey);
+      if (bytes != null) {
+        nextIndexSegment.put(cacheKey, bytes);
+      }
+    }
   }
 
   @CheckForNull
   public Set<Descriptor> readProjectLevelSymbolTableEntry(String fileKey) {
-    String key = projectSymbolTableCacheKey(fileKey);
-    if (cacheContext.getReadCache().contains(key)) {
-      byte[] bytes = cacheContext.getReadCache().readBytes(key);
-      if (bytes != null) {
-        try {
-          return fromProtobuf(DescriptorsProtos.ModuleDescriptor.parseFrom(bytes));
-        } catch (InvalidProtocolBufferException e) {
-          LOG.debug("Failed to deserialize project level symbol table entry for module: \"{}\"", fileKey);
-        }
+    byte[] bytes = previousIndexSegment().get(projectSymbolTableCacheKey(fileKey));
+    if (bytes != null) {
+      try {
+        return fromProtobuf(DescriptorsProtos.ModuleDescriptor.parseFrom(bytes));
+      } catch (InvalidProtocolBufferException e) {
+        LOG.debug("Failed to deserialize project level symbol table entry for module: \"{}\"", fileKey);
       }
     }
     return null;
@@ -110,16 +134,31 @@ public class Caching {
   @CheckForNull
   public Set<String> readImportMapEntry(String fileKey) {
     String cacheKey = importsMapCacheKey(fileKey);
-    byte[] bytes = cacheContext.getReadCache().readBytes(cacheKey);
+    byte[] bytes = previousIndexSegment().get(cacheKey);
     if (bytes != null) {
-      return new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+      return readModuleNames(cacheKey, bytes);
     }
     return null;
   }
 
+  @CheckForNull
   public byte[] readFileContentHash(String fileKey) {
-    String cacheKey = fileContentHashCacheKey(fileKey);
-    return cacheContext.getReadCache().readBytes(cacheKey);
+    return previousIndexSegment().get(fileContentHashCacheKey(fileKey));
+  }
+
+  private IndexSegment previousIndexSegment() {
+    if (previousIndexSegment == null) {
+      previousIndexSegment = IndexSegment.empty();
+      byte[] bytes = cacheContext.getReadCache().readBytes(INDEX_SEGMENT_KEY);
+      if (bytes != null) {
+        try {
+          previousIndexSegment = IndexSegment.parse(bytes);
+        } catch (IOException e) {
+          LOG.debug("Failed to deserialize the index segment: {}", e.getMessage());
+        }
+      }
+    }
+    return previousIndexSegment;
   }
 
   public Set<String> readFilesList() {
@@ -130,14 +169,48 @@ public class Caching {
     return readSet(TYPESHED_MODULES_KEY);
   }
 
+  /**
+   * Returns the descriptors of Typeshed stub modules which were used during the previous analysis, by module name.
+   * They are only valid if the cache version is up-to-date, as they depend on both the plugin version and the Python versions of the project.
+   */
+  public Map<String, Map<String, Descriptor>> readTypeshedDescriptors() {
+    byte[] bytes = cacheContext.getReadCache().readBytes(TYPESHED_DESCRIPTORS_KEY);
+    if (bytes == null) {
+      return Collections.emptyMap();
+    }
+    try {
+      Map<String, Map<String, Descriptor>> descriptorsByModule = new HashMap<>();
+      DescriptorsProtos.ModuleDescriptorsByName.parseFrom(bytes).getModulesMap().forEach((moduleName, moduleDescriptor) ->
+        descriptorsByModule.put(moduleName, fromProtobuf(moduleDescriptor).stream()
+          .collect(Collectors.toMap(Descriptor::name, Function.identity(), AmbiguousDescriptor::create))));
+      return descriptorsByModule;
+    } catch (InvalidProtocolBufferException e) {
+      LOG.debug("Failed to deserialize Typeshed descriptors");
+      return Collections.emptyMap();
+    }
+  }
+
   private Set<String> readSet(String cacheKey) {
     byte[] bytes = cacheContext.getReadCache().readBytes(cacheKey);
     if (bytes != null) {
-      return new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+      Set<String> moduleNames = readModuleNames(cacheKey, bytes);
+      if (moduleNames != null) {
+        return moduleNames;
+      }
     }
     return Collections.emptySet();
   }
 
+  @CheckForNull
+  private static Set<String> readModuleNames(String cacheKey, byte[] bytes) {
+    try {
+      return ModuleNamesSerializer.deserialize(bytes);
+    } catch (IOException e) {
+      LOG.debug("Failed to deserialize module names for key: \"{}\"", cacheKey);
+      return null;
+    }
+  }
+
   public boolean isCacheVersionUpToDate() {
     byte[] bytes = cacheContext.getReadCache().readBytes(CACHE_VERSION_KEY);
     if (bytes != null) {
@@ -0,0 +1,141 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.plugins.python.caching;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import org.sonar.python.caching.VarLengthInputStream;
+import org.sonar.python.caching.VarLengthOutputStream;
+
+/**
+ * Packs many small cache entries into a single one, so that they are read and written with a single cache access.
+ * The segment starts with a table of the keys and sizes of its entries, followed by their data: only this table is decoded when the
+ * segment is read, the data of an entry is copied out of the segment when it is requested.
+ */
+public class IndexSegment {
+
+  private static final IndexSegment EMPTY = new IndexSegment(new byte[0], 0, Collections.emptyMap());
+
+  private final byte[] bytes;
+  private final int dataStart;
+  private final Map<String, Slice> slices;
+
+  private IndexSegment(byte[] bytes, int dataStart, Map<String, Slice> slices) {
+    this.bytes = bytes;
+    this.dataStart = dataStart;
+    this.slices = slices;
+  }
+
+  public static IndexSegment empty() {
+    return EMPTY;
+  }
+
+  public static IndexSegment parse(byte[] bytes) throws IOException {
+    if (bytes.length < Integer.BYTES) {
+      throw new IOException("Index segment is truncated");
+    }
+    int tableLength = ByteBuffer.wrap(bytes).getInt();
+    int dataStart = Integer.BYTES + tableLength;
+    if (tableLength < 0 || dataStart > bytes.length) {
+      throw new IOException("Index segment is truncated");
+    }
+    Map<String, Slice> slices = new LinkedHashMap<>();
+    try (VarLengthInputStream in = new VarLengthInputStream(Arrays.copyOfRange(bytes, Integer.BYTES, dataStart))) {
+      int size = in.readInt();
+      int offset = 0;
+      for (int i = 0; i < size; i++) {
+        String key = in.readUTF();
+        int length = in.readInt();
+        slices.put(key, new Slice(offset, length));
+        offset += length;
+      }
+      if (dataStart + offset != bytes.length) {
+        throw new IOException("Index segment is truncated");
+      }
+    }
+    return new IndexSegment(bytes, dataStart, slices);
+  }
+
+  public boolean contains(String key) {
+    return slices.containsKey(key);
+  }
+
+  @CheckForNull
+  public byte[] get(String key) {
+    Slice slice = slices.get(key);
+    if (slice == null) {
+      return null;
+    }
+    int start = dataStart + slice.offset();
+    return Arrays.copyOfRange(bytes, start, start + slice.length());
+  }
+
+  public Set<String> keys() {
+    return Collections.unmodifiableSet(slices.keySet());
+  }
+
+  private record Slice(int offset, int length) {
+  }
+
+  public static class Builder {
+
+    private final Map<String, byte[]> entries = new LinkedHashMap<>();
+
+    /**
+     * Same contract as {@link org.sonar.api.batch.sensor.cache.WriteCache}: an entry can only be written once.
+     */
+    public Builder put(String key, byte[] data) {
+      if (entries.putIfAbsent(key, data) != null) {
+        throw new IllegalArgumentException(String.format("Same key cannot be written to multiple times (%s)", key));
+      }
+      return this;
+    }
+
+    public boolean isEmpty() {
+      return entries.isEmpty();
+    }
+
+    public byte[] build() {
+      ByteArrayOutputStream table = new ByteArrayOutputStream();
+      ByteArrayOutputStream segment = new ByteArrayOutputStream();
+      try (VarLengthOutputStream tableOut = new VarLengthOutputStream(table); DataOutputStream out = new DataOutputStream(segment)) {
+        tableOut.writeInt(entries.size());
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+          tableOut.writeUTF(entry.getKey());
+          tableOut.writeInt(entry.getValue().length);
+        }
+        out.writeInt(table.size());
+        table.writeTo(out);
+        for (byte[] data : entries.values()) {
+          out.write(data);
+        }
+      } catch (IOException e) {
+        // writing to a byte array cannot fail
+        throw new IllegalStateException(e);
+      }
+      return segment.toByteArray();
+    }
+  }
+}
@@ -20,23 +20,25 @@ import com.sonar.sslr.api.GenericTokenType;
 import com.sonar.sslr.api.TokenType;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.cpd.NewCpdTokens;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVisitorContext;
 import org.sonar.plugins.python.api.caching.CacheContext;
+import org.sonar.python.SubscriptionVisitor;
 import org.sonar.python.TokenLocation;
 import org.sonar.python.api.PythonTokenType;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.caching.CpdSerializer;
-import org.sonar.python.tree.TreeUtils;
 
 import static org.sonar.plugins.python.caching.Caching.CPD_TOKENS_CACHE_KEY_PREFIX;
-import static org.sonar.plugins.python.caching.Caching.CPD_TOKENS_STRING_TABLE_KEY_PREFIX;
 
 public class PythonCpdAnalyzer {
 
@@ -49,49 +51,42 @@ public class PythonCpdAnalyzer {
   }
 
   public void pushCpdTokens(InputFile inputFile, PythonVisitorContext visitorContext) {
-    Tree root = visitorContext.rootTree();
-    if (root != null) {
-      NewCpdTokens cpdTokens = context.newCpdTokens().onFile(inputFile);
-      List<Token> tokens = TreeUtils.tokens(root);
-      List<Token> tokensToCache = new ArrayList<>();
-      for (int i = 0; i < tokens.size(); i++) {
-        Token token = tokens.get(i);
-        TokenType currentTokenType = token.type();
-        TokenType nextTokenType = i + 1 < tokens.size() ? tokens.get(i + 1).type() : GenericTokenType.EOF;
-        // INDENT/DEDENT could not be completely ignored during CPD see https://docs.python.org/3/reference/lexical_analysis.html#indentation
-        // Just taking into account DEDENT is enough, but because the DEDENT token has an empty value, it's the
-        // preceding new line which is added in its place to create a difference
-        if (isNewLineWithIndentationChange(currentTokenType, nextTokenType) || !isIgnoredType(currentTokenType)) {
-          TokenLocation location = new TokenLocation(token);
-          cpdTokens.addToken(location.startLine(), location.startLineOffset(), location.endLine(), location.endLineOffset(), token.value());
-          tokensToCache.add(token);
-        }
-      }
-      saveTokensToCache(visitorContext, tokensToCache);
-      cpdTokens.save();
+    if (visitorContext.rootTree() != null) {
+      CpdTokenCollector tokenCollector = new CpdTokenCollector();
+      SubscriptionVisitor.analyze(Collections.singletonList(tokenCollector), visitorContext);
+      pushCpdTokens(inputFile, visitorContext, tokenCollector);
     }
   }
 
+  /**
+   * Pushes the tokens gathered by a collector which has already been executed on the file.
+   */
+  public void pushCpdTokens(InputFile inputFile, PythonVisitorContext visitorContext, CpdTokenCollector tokenCollector) {
+    NewCpdTokens cpdTokens = context.newCpdTokens().onFile(inputFile);
+    for (Token token : tokenCollector.tokens()) {
+      TokenLocation location = new TokenLocation(token);
+      cpdTokens.addToken(location.startLine(), location.startLineOffset(), location.endLine(), location.endLineOffset(), token.value());
+    }
+    saveTokensToCache(visitorContext, tokenCollector.tokens());
+    cpdTokens.save();
+  }
+
   public boolean pushCachedCpdTokens(InputFile inputFile, CacheContext cacheContext) {
     String dataKey = dataCacheKey(inputFile.key());
-    String tableKey = stringTableCacheKey(inputFile.key());
     byte[] dataBytes = cacheContext.getReadCache().readBytes(dataKey);
-    byte[] tableBytes = cacheContext.getReadCache().readBytes(tableKey);
-    if (dataBytes == null || tableBytes == null) {
+    if (dataBytes == null) {
       return false;
     }
 
     try {
-      List<CpdSerializer.TokenInfo> tokens = CpdSerializer.deserialize(dataBytes, tableBytes);
-
       NewCpdTokens cpdTokens = context.newCpdTokens().onFile(inputFile);
-      tokens.forEach(tokenInfo ->
-        cpdTokens.addToken(tokenInfo.startLine, tokenInfo.startLineOffset, tokenInfo.endLine, tokenInfo.endLineOffset, tokenInfo.value));
+      // tokens are added while the data is read: a partial read is discarded by not saving them, as save() is skipped on failure
+      CpdSerializer.deserialize(dataBytes, cpdTokens::addToken);
       cpdTokens.save();
       cacheContext.getWriteCache().copyFromPrevious(dataKey);
-      cacheContext.getWriteCache().copyFromPrevious(tableKey);
       return true;
-    } catch (IOException e) {
+    } catch (IOException | IllegalArgumentException e) {
+      // IllegalArgumentException: corrupted data can lead to invalid token locations
       LOG.warn("Failed to deserialize CPD tokens ({}: {})", e.getClass().getSimpleName(), e.getMessage());
     }
 
@@ -107,14 +102,57 @@ public class PythonCpdAnalyzer {
     try {
       String fileKey = visitorContext.pythonFile().key();
 
-      CpdSerializer.SerializationResult result = CpdSerializer.serialize(tokensToCache);
-      cacheContext.getWriteCache().write(stringTableCacheKey(fileKey), result.stringTable);
-      cacheContext.getWriteCache().write(dataCacheKey(fileKey), result.data);
+      cacheContext.getWriteCache().write(dataCacheKey(fileKey), CpdSerializer.serialize(tokensToCache));
     } catch (Exception e) {
       LOG.warn("Could not write CPD tokens to cache ({}: {})", e.getClass().getSimpleName(), e.getMessage());
     }
   }
 
+  /**
+   * Collects the tokens of a file which are relevant for duplication detection.
+   * It can be executed in the same {@link SubscriptionVisitor} pass as the rules.
+   */
+  public static class CpdTokenCollector extends PythonSubscriptionCheck {
+
+    private final List<Token> tokens = new ArrayList<>();
+    private Token previousToken = null;
+
+    @Override
+    public void initialize(Context context) {
+      context.registerSyntaxNodeConsumer(Tree.Kind.FILE_INPUT, ctx -> {
+        tokens.clear();
+        previousToken = null;
+      });
+      context.registerSyntaxNodeConsumer(Tree.Kind.TOKEN, ctx -> visitToken((Token) ctx.syntaxNode()));
+    }
+
+    @Override
+    public void leaveFile() {
+      visitToken(null);
+    }
+
+    /**
+     * Whether a token is kept depends on the type of the following one, hence tokens are handled with a delay of one token.
+     */
+    private void visitToken(@Nullable Token nextToken) {
+      if (previousToken != null) {
+        TokenType currentTokenType = previousToken.type();
+        TokenType nextTokenType = nextToken != null ? nextToken.type() : GenericTokenType.EOF;
+        // INDENT/DEDENT could not be completely ignored during CPD see https://docs.python.org/3/reference/lexical_analysis.html#indentation
+        // Just taking into account DEDENT is enough, but because the DEDENT token has an empty value, it's the
+        // preceding new line which is added in its place to create a difference
+        if (isNewLineWithIndentationChange(currentTokenType, nextTokenType) || !isIgnoredType(currentTokenType)) {
+          tokens.add(previousToken);
+        }
+      }
+      previousToken = nextToken;
+    }
+
+    public List<Token> tokens() {
+      return Collections.unmodifiableList(tokens);
+    }
+  }
+
   private static boolean isNewLineWithIndentationChange(TokenType currentTokenType, TokenType nextTokenType) {
     return currentTokenType.equals(PythonTokenType.NEWLINE) && nextTokenType.equals(PythonTokenType.DEDENT);
   }
@@ -129,8 +167,4 @@ public class PythonCpdAnalyzer {
   private static String dataCacheKey(String fileKey) {
     return CPD_TOKENS_CACHE_KEY_PREFIX + fileKey.replace('\\', '/');
   }
-
-  private static String stringTableCacheKey(String fileKey) {
-    return CPD_TOKENS_STRING_TABLE_KEY_PREFIX + fileKey.replace('\\', '/');
-  }
 }
@@ -0,0 +1,253 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.plugins.python.indexer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.CheckForNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.python.index.Descriptor;
+import org.sonar.python.semantic.ProjectLevelSymbolTable.ModuleSymbols;
+import org.sonar.python.types.protobuf.DescriptorsProtos;
+
+import static org.sonar.python.index.DescriptorsToProtobuf.fromProtobuf;
+import static org.sonar.python.index.DescriptorsToProtobuf.toProtobufModuleDescriptor;
+
+/**
+ * Global symbols of the project files, persisted on disk so that SonarLint only indexes the files that changed since the previous session.
+ * Entries are keyed by file URI and are only valid for the same file content and module name.
+ * The file is a log of records: saving appends the entries changed since the previous save, so that a file event does not rewrite
+ * the whole project. The file is rewritten from the current entries when most of its records are superseded by later ones.
+ */
+class PersistedProjectIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PersistedProjectIndex.class);
+  private static final int PUT_RECORD = 1;
+  private static final int REMOVE_RECORD = 2;
+
+  private final Path path;
+  private final String version;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+  // Number of records in the file, superseded ones included, or -1 if the file cannot be appended to and has to be rewritten
+  private int fileRecords = -1;
+
+  private PersistedProjectIndex(Path path, String version) {
+    this.path = path;
+    this.version = version;
+  }
+
+  static PersistedProjectIndex load(Path path, String version) {
+    PersistedProjectIndex index = new PersistedProjectIndex(path, version);
+    if (Files.isRegularFile(path)) {
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+        index.read(in);
+      } catch (IOException e) {
+        LOG.debug("Failed to load the persisted project index \"{}\": {}", path, e.getMessage());
+        index.entries.clear();
+        index.fileRecords = -1;
+      }
+    }
+    return index;
+  }
+
+  private void read(DataInputStream in) throws IOException {
+    if (!version.equals(in.readUTF())) {
+      LOG.debug("Persisted project index was written by a different version of the analyzer and will be rebuilt");
+      return;
+    }
+    int records = 0;
+    int recordKind;
+    while ((recordKind = in.read()) != -1) {
+      try {
+        readRecord(recordKind, in);
+      } catch (EOFException e) {
+        // The last record was not completely written: the entries read so far are still valid
+        LOG.debug("Persisted project index \"{}\" is truncated and will be rewritten", path);
+        return;
+      }
+      records++;
+    }
+    fileRecords = records;
+  }
+
+  private void readRecord(int recordKind, DataInputStream in) throws IOException {
+    String key = in.readUTF();
+    if (recordKind == REMOVE_RECORD) {
+      entries.remove(key);
+      return;
+    }
+    if (recordKind != PUT_RECORD) {
+      throw new IOException("Unexpected record kind " + recordKind);
+    }
+    String contentHash = in.readUTF();
+    String moduleFQN = in.readUTF();
+    byte[] descriptorsBytes = new byte[in.readInt()];
+    in.readFully(descriptorsBytes);
+    Set<Descriptor> descriptors = fromProtobuf(DescriptorsProtos.ModuleDescriptor.parseFrom(descriptorsBytes));
+    Set<String> importedModulesFQN = readStrings(in);
+    Set<String> djangoViewsFQN = readStrings(in);
+    entries.put(key, new Entry(contentHash, new ModuleSymbols(moduleFQN, descriptors, importedModulesFQN, djangoViewsFQN)));
+  }
+
+  private static Set<String> readStrings(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    Set<String> strings = new HashSet<>();
+    for (int i = 0; i < size; i++) {
+      strings.add(in.readUTF());
+    }
+    return strings;
+  }
+
+  /**
+   * @return the module symbols stored for the given file, or null if the file is not indexed or changed since it was indexed.
+   */
+  @CheckForNull
+  ModuleSymbols get(String key, String contentHash, String moduleFQN) {
+    Entry entry = entries.get(key);
+    if (entry == null || !entry.contentHash().equals(contentHash) || !entry.moduleSymbols().fullyQualifiedModuleName().equals(moduleFQN)) {
+      return null;
+    }
+    return entry.moduleSymbols();
+  }
+
+  void put(String key, String contentHash, ModuleSymbols moduleSymbols) {
+    entries.put(key, new Entry(contentHash, moduleSymbols));
+    changedKeys.add(key);
+  }
+
+  void remove(String key) {
+    if (entries.remove(key) != null) {
+      changedKeys.add(key);
+    }
+  }
+
+  /**
+   * Drops the entries of the files which are no longer part of the project.
+   */
+  void retainAll(Set<String> keys) {
+    for (String key : Set.copyOf(entries.keySet())) {
+      if (!keys.contains(key)) {
+        remove(key);
+      }
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  synchronized void save() {
+    if (changedKeys.isEmpty() && fileRecords >= 0) {
+      return;
+    }
+    try {
+      if (fileRecords < 0 || fileRecords + changedKeys.size() > 2 * entries.size()) {
+        rewrite();
+      } else {
+        append();
+      }
+    } catch (IOException e) {
+      fileRecords = -1;
+      LOG.debug("Failed to save the persisted project index \"{}\": {}", path, e.getMessage());
+    }
+  }
+
+  private void rewrite() throws IOException {
+    // Entries changed from now on are saved again by the next save
+    changedKeys.clear();
+    Map<String, Entry> snapshot = Map.copyOf(entries);
+    Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+      out.writeUTF(version);
+      for (Map.Entry<String, Entry> mapEntry : snapshot.entrySet()) {
+        writePutRecord(out, mapEntry.getKey(), mapEntry.getValue());
+      }
+    }
+    Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+    fileRecords = snapshot.size();
+  }
+
+  private void append() throws IOException {
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.APPEND)))) {
+      Iterator<String> keys = changedKeys.iterator();
+      while (keys.hasNext()) {
+        String key = keys.next();
+        keys.remove();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+          out.writeByte(REMOVE_RECORD);
+          out.writeUTF(key);
+        } else {
+          writePutRecord(out, key, entry);
+        }
+        fileRecords++;
+      }
+    }
+  }
+
+  private static void writePutRecord(DataOutputStream out, String key, Entry entry) throws IOException {
+    ModuleSymbols moduleSymbols = entry.moduleSymbols();
+    out.writeByte(PUT_RECORD);
+    out.writeUTF(key);
+    out.writeUTF(entry.contentHash());
+    out.writeUTF(moduleSymbols.fullyQualifiedModuleName());
+    byte[] descriptorsBytes = toProtobufModuleDescriptor(moduleSymbols.descriptors()).toByteArray();
+    out.writeInt(descriptorsBytes.length);
+    out.write(descriptorsBytes);
+    writeStrings(out, moduleSymbols.importedModulesFQN());
+    writeStrings(out, moduleSymbols.djangoViewsFQN());
+  }
+
+  private static void writeStrings(DataOutputStream out, Set<String> strings) throws IOException {
+    out.writeInt(strings.size());
+    for (String string : strings) {
+      out.writeUTF(string);
+    }
+  }
+
+  static String contentHash(String contents) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(contents.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required to be supported by every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Entry(String contentHash, ModuleSymbols moduleSymbols) {
+  }
+}
@@ -18,10 +18,12 @@ package org.sonar.plugins.python.indexer;
 
 import com.sonar.sslr.api.AstNode;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -48,15 +50,19 @@ public abstract class PythonIndexer {
   protected String projectBaseDirAbsolutePath;
 
   private final Map<URI, String> packageNames = new HashMap<>();
-  private final PythonParser parser = PythonParser.create();
+  // Files may be indexed concurrently, see GlobalSymbolsScanner: parsers are not thread-safe
+  private final ThreadLocal<PythonParser> parser = ThreadLocal.withInitial(PythonParser::create);
   private final ProjectLevelSymbolTable projectLevelSymbolTable = ProjectLevelSymbolTable.empty();
+  // Parse results of indexed files, kept until rules execution so that files are not parsed twice. Softly referenced to be
+  // reclaimed under memory pressure, in which case the file is simply parsed again.
+  private final Map<URI, SoftReference<ParsedFile>> parsedFiles = new ConcurrentHashMap<>();
 
   public ProjectLevelSymbolTable projectLevelSymbolTable() {
     return projectLevelSymbolTable;
   }
 
 
-  public String packageName(PythonInputFile inputFile) {
+  public synchronized String packageName(PythonInputFile inputFile) {
     if (!packageNames.containsKey(inputFile.wrappedFile().uri())) {
       String name = pythonPackageName(inputFile.wrappedFile().file(), projectBaseDirAbsolutePath);
       packageNames.put(inputFile.wrappedFile().uri(), name);
@@ -84,17 +90,66 @@ public abstract class PythonIndexer {
   }
 
   void addFile(PythonInputFile inputFile) throws IOException {
-    AstNode astNode = parser.parse(inputFile.wrappedFile().contents());
+    addModule(inputFile, computeModule(inputFile));
+  }
+
+  /**
+   * Parses the file and computes its global symbols without modifying the project-level symbol table.
+   * This can run on any thread.
+   */
+  ProjectLevelSymbolTable.ModuleSymbols computeModule(PythonInputFile inputFile) throws IOException {
+    return computeModule(inputFile, inputFile.wrappedFile().contents());
+  }
+
+  final ProjectLevelSymbolTable.ModuleSymbols computeModule(PythonInputFile inputFile, String contents) {
+    AstNode astNode = parser.get().parse(contents);
+    if (retainsParsedFiles()) {
+      parsedFiles.put(inputFile.wrappedFile().uri(), new SoftReference<>(new ParsedFile(contents, astNode)));
+    }
     FileInput astRoot = new PythonTreeMaker().fileInput(astNode);
+    String packageName = pythonPackageName(inputFile.wrappedFile().file(), projectBaseDirAbsolutePath);
+    PythonFile pythonFile = SonarQubePythonFile.create(inputFile.wrappedFile());
+    return projectLevelSymbolTable.computeModule(astRoot, packageName, pythonFile);
+  }
+
+  synchronized void addModule(PythonInputFile inputFile, ProjectLevelSymbolTable.ModuleSymbols moduleSymbols) {
     String packageName = pythonPackageName(inputFile.wrappedFile().file(), projectBaseDirAbsolutePath);
     packageNames.put(inputFile.wrappedFile().uri(), packageName);
     projectLevelSymbolTable.addProjectPackage(packageName);
-    PythonFile pythonFile = SonarQubePythonFile.create(inputFile.wrappedFile());
-    projectLevelSymbolTable.addModule(astRoot, packageName, pythonFile);
+    projectLevelSymbolTable.addModule(moduleSymbols);
+  }
+
+  /**
+   * @return true if the parse results computed while indexing should be kept for the rules execution phase.
+   * This is only worth it when all indexed files are scanned right after indexing.
+   */
+  protected boolean retainsParsedFiles() {
+    return false;
+  }
+
+  /**
+   * Returns the parse result computed for the given file while indexing, if it is still available and was computed from the same content.
+   * A parse result is handed out only once: the file is expected to be scanned a single time after indexing.
+   */
+  @CheckForNull
+  public AstNode takeParsedFile(PythonInputFile inputFile, String contents) {
+    SoftReference<ParsedFile> reference = parsedFiles.remove(inputFile.wrappedFile().uri());
+    ParsedFile parsedFile = reference == null ? null : reference.get();
+    if (parsedFile == null || !parsedFile.contents().equals(contents)) {
+      return null;
+    }
+    return parsedFile.astNode();
   }
 
   public abstract void buildOnce(SensorContext context);
 
+  /**
+   * Called once the rules have been executed on the given file.
+   */
+  public void fileAnalyzed(PythonInputFile inputFile) {
+    // no op by default
+  }
+
   public abstract void postAnalysis(SensorContext context);
 
   public void setSonarLintCache(@Nullable SonarLintCache sonarLintCache) {
@@ -132,6 +187,9 @@ public abstract class PythonIndexer {
 
   public abstract CacheContext cacheContext();
 
+  private record ParsedFile(String contents, AstNode astNode) {
+  }
+
   class GlobalSymbolsScanner extends Scanner {
 
     protected GlobalSymbolsScanner(SensorContext context) {
@@ -151,6 +209,24 @@ public abstract class PythonIndexer {
       }
     }
 
+    /**
+     * Modules are computed independently of each other: they are computed by worker threads and added to the project-level
+     * symbol table on the analysis thread, in the order of the input files.
+     */
+    @Override
+    protected boolean supportsParallelExecution() {
+      return true;
+    }
+
+    @Override
+    protected FileResults analyzeFile(PythonInputFile inputFile) throws IOException {
+      if (inputFile.kind() != PythonInputFile.Kind.PYTHON) {
+        return () -> {};
+      }
+      ProjectLevelSymbolTable.ModuleSymbols moduleSymbols = computeModule(inputFile);
+      return () -> addModule(inputFile, moduleSymbols);
+    }
+
     @Override
     protected void processException(Exception e, PythonInputFile file) {
       LOG.debug("Unable to construct project-level symbol table for file: {}", file);
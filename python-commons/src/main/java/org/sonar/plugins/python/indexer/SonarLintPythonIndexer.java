@@ -16,12 +16,19 @@
  */
 package org.sonar.plugins.python.indexer;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +42,11 @@ import org.sonar.plugins.python.PythonInputFileImpl;
 import org.sonar.python.caching.CacheContextImpl;
 import org.sonar.python.caching.PythonReadCacheImpl;
 import org.sonar.python.caching.PythonWriteCacheImpl;
+import org.sonar.python.index.Descriptor;
+import org.sonar.python.index.DescriptorSignatures;
+import org.sonar.python.semantic.DependencyGraph;
+import org.sonar.python.semantic.ProjectLevelSymbolTable.ModuleSymbols;
+import org.sonar.python.semantic.SymbolUtils;
 import org.sonarsource.api.sonarlint.SonarLintSide;
 import org.sonarsource.sonarlint.plugin.api.module.file.ModuleFileEvent;
 import org.sonarsource.sonarlint.plugin.api.module.file.ModuleFileListener;
@@ -47,10 +59,17 @@ public class SonarLintPythonIndexer extends PythonIndexer implements ModuleFileL
 
   private CacheContext cacheContext;
   private final Map<String, InputFile> indexedFiles = new HashMap<>();
+  // Modules whose analysis results may be outdated because of the file events processed since they were last analyzed
+  private final Set<String> staleModules = new HashSet<>();
   private static final Logger LOG = LoggerFactory.getLogger(SonarLintPythonIndexer.class);
   private boolean shouldBuildProjectSymbolTable = true;
   private static final long DEFAULT_MAX_LINES_FOR_INDEXING = 300_000;
   private static final String MAX_LINES_PROPERTY = "sonar.python.sonarlint.indexing.maxlines";
+  private static final String PERSIST_PROPERTY = "sonar.python.sonarlint.indexing.persist";
+  private static final String PERSISTED_INDEX_FILE_PREFIX = "sonar-python-project-index-";
+  // Global symbols of the project files from the previous sessions, null when they cannot be persisted
+  private PersistedProjectIndex persistedIndex;
+  private final AtomicInteger reusedModules = new AtomicInteger();
 
   public SonarLintPythonIndexer(ModuleFileSystem moduleFileSystem) {
     this.moduleFileSystem = moduleFileSystem;
@@ -65,23 +84,48 @@ public class SonarLintPythonIndexer extends PythonIndexer implements ModuleFileL
     shouldBuildProjectSymbolTable = false;
     List<PythonInputFile> files = getInputFiles(moduleFileSystem);
     collectPackageNames(files);
-    long nLines = files.stream().map(PythonInputFile::wrappedFile).map(InputFile::lines).mapToLong(Integer::longValue).sum();
-    long maxLinesForIndexing = context.config().getLong(MAX_LINES_PROPERTY).orElse(DEFAULT_MAX_LINES_FOR_INDEXING);
-    if (nLines > maxLinesForIndexing) {
-      // Avoid performance issues for large projects
-      LOG.debug("Project symbol table deactivated due to project size (total number of lines is {}, maximum for indexing is {})", nLines, maxLinesForIndexing);
-      LOG.debug("Update \"sonar.python.sonarlint.indexing.maxlines\" to set a different limit.");
-      return;
+    persistedIndex = loadPersistedIndex(context);
+    if (persistedIndex != null) {
+      // Only the files which changed since the previous session are parsed: the size of the project is no longer a concern
+      persistedIndex.retainAll(files.stream().map(SonarLintPythonIndexer::indexKey).collect(Collectors.toSet()));
+    } else {
+      long nLines = files.stream().map(PythonInputFile::wrappedFile).map(InputFile::lines).mapToLong(Integer::longValue).sum();
+      long maxLinesForIndexing = context.config().getLong(MAX_LINES_PROPERTY).orElse(DEFAULT_MAX_LINES_FOR_INDEXING);
+      if (nLines > maxLinesForIndexing) {
+        // Avoid performance issues for large projects
+        LOG.debug("Project symbol table deactivated due to project size (total number of lines is {}, maximum for indexing is {})", nLines, maxLinesForIndexing);
+        LOG.debug("Update \"sonar.python.sonarlint.indexing.maxlines\" to set a different limit.");
+        return;
+      }
     }
     LOG.debug("Input files for indexing: {}", files);
     // computes "globalSymbolsByModuleName"
     GlobalSymbolsScanner globalSymbolsStep = new GlobalSymbolsScanner(context);
     globalSymbolsStep.execute(files, context);
+    if (persistedIndex != null) {
+      LOG.debug("{}/{} source files have been indexed from the persisted project index", reusedModules.get(), files.size());
+      persistedIndex.save();
+    }
+  }
+
+  @CheckForNull
+  private static PersistedProjectIndex loadPersistedIndex(SensorContext context) {
+    File workDir = context.fileSystem().workDir();
+    if (!context.config().getBoolean(PERSIST_PROPERTY).orElse(true) || workDir == null) {
+      return null;
+    }
+    // The work directory may be shared by several projects
+    String projectId = PersistedProjectIndex.contentHash(context.fileSystem().baseDir().getAbsolutePath()).substring(0, 16);
+    Path path = workDir.toPath().resolve(PERSISTED_INDEX_FILE_PREFIX + projectId + ".bin");
+    return PersistedProjectIndex.load(path, SonarQubePythonIndexer.getCacheVersion(context));
   }
 
   @Override
   public void postAnalysis(SensorContext context) {
-    // no op
+    if (persistedIndex != null) {
+      // persists the changes made by the file events
+      persistedIndex.save();
+    }
   }
 
   // SonarLintCache has to be set lazily because SonarLintPythonIndex is injected in the PythonSensor
@@ -113,8 +157,25 @@ public class SonarLintPythonIndexer extends PythonIndexer implements ModuleFileL
   }
 
   @Override
-  void addFile(PythonInputFile inputFile) throws IOException {
-    super.addFile(inputFile);
+  ModuleSymbols computeModule(PythonInputFile inputFile) throws IOException {
+    if (persistedIndex == null) {
+      return super.computeModule(inputFile);
+    }
+    String contents = inputFile.wrappedFile().contents();
+    String contentHash = PersistedProjectIndex.contentHash(contents);
+    ModuleSymbols moduleSymbols = persistedIndex.get(indexKey(inputFile), contentHash, moduleFQN(inputFile));
+    if (moduleSymbols != null) {
+      reusedModules.incrementAndGet();
+      return moduleSymbols;
+    }
+    moduleSymbols = computeModule(inputFile, contents);
+    persistedIndex.put(indexKey(inputFile), contentHash, moduleSymbols);
+    return moduleSymbols;
+  }
+
+  @Override
+  synchronized void addModule(PythonInputFile inputFile, ModuleSymbols moduleSymbols) {
+    super.addModule(inputFile, moduleSymbols);
     indexedFiles.put(inputFile.wrappedFile().absolutePath(), inputFile.wrappedFile());
   }
 
@@ -122,6 +183,13 @@ public class SonarLintPythonIndexer extends PythonIndexer implements ModuleFileL
   void removeFile(PythonInputFile inputFile) {
     super.removeFile(inputFile);
     indexedFiles.remove(inputFile.wrappedFile().absolutePath());
+    if (persistedIndex != null) {
+      persistedIndex.remove(indexKey(inputFile));
+    }
+  }
+
+  private static String indexKey(PythonInputFile inputFile) {
+    return inputFile.wrappedFile().uri().toString();
   }
 
   @Override
@@ -133,6 +201,8 @@ public class SonarLintPythonIndexer extends PythonIndexer implements ModuleFileL
       return;
     }
     ModuleFileEvent.Type type = moduleFileEvent.getType();
+    String moduleFQN = moduleFQN(target);
+    Set<Descriptor> previousDescriptors = projectLevelSymbolTable().descriptorsForModule(moduleFQN);
     if (type.equals(ModuleFileEvent.Type.DELETED) || type.equals(ModuleFileEvent.Type.MODIFIED)) {
       removeFile(target);
     }
@@ -143,5 +213,46 @@ public class SonarLintPythonIndexer extends PythonIndexer implements ModuleFileL
         LOG.debug("Failed to load file \"{}\" ({}) to the project symbol table", target.wrappedFile().filename(), type);
       }
     }
+    invalidate(moduleFQN, previousDescriptors);
+  }
+
+  /**
+   * Dependent modules only need to be analyzed again when the descriptors exported by the changed module are different.
+   */
+  private synchronized void invalidate(String moduleFQN, @Nullable Set<Descriptor> previousDescriptors) {
+    Set<Descriptor> descriptors = projectLevelSymbolTable().descriptorsForModule(moduleFQN);
+    if (DescriptorSignatures.haveSameSignatures(previousDescriptors, descriptors)) {
+      if (descriptors != null) {
+        staleModules.add(moduleFQN);
+      }
+      return;
+    }
+    Map<String, Set<String>> importsByModule = projectLevelSymbolTable().importsByModule();
+    Set<String> projectModulesFQN = new HashSet<>(importsByModule.keySet());
+    projectModulesFQN.add(moduleFQN);
+    Set<String> impactedModules = DependencyGraph.from(importsByModule, projectModulesFQN).impactedModules(List.of(moduleFQN));
+    if (descriptors == null) {
+      // the module itself no longer exists
+      impactedModules.remove(moduleFQN);
+    }
+    LOG.debug("Exported symbols of module \"{}\" changed, {} module(s) must be analyzed again", moduleFQN, impactedModules.size());
+    staleModules.addAll(impactedModules);
+  }
+
+  /**
+   * @return the fully qualified names of the modules whose analysis results may be outdated because of the processed file events.
+   */
+  public synchronized Set<String> staleModules() {
+    return Set.copyOf(staleModules);
+  }
+
+  @Override
+  public synchronized void fileAnalyzed(PythonInputFile inputFile) {
+    staleModules.remove(moduleFQN(inputFile));
+  }
+
+  private String moduleFQN(PythonInputFile inputFile) {
+    String packageName = SymbolUtils.pythonPackageName(inputFile.wrappedFile().file(), projectBaseDirAbsolutePath);
+    return SymbolUtils.fullyQualifiedModuleName(packageName, inputFile.wrappedFile().filename());
   }
 }
@@ -82,13 +82,20 @@ public class SonarQubePythonIndexer extends PythonIndexer {
   @Override
   public void postAnalysis(SensorContext context) {
     if (caching.isCacheEnabled()) {
-      Set<String> stubModules = projectLevelSymbolTable().typeShedDescriptorsProvider().stubModules();
+      TypeShedDescriptorsProvider typeshedReader = projectLevelSymbolTable().typeShedDescriptorsProvider();
+      Set<String> stubModules = typeshedReader.stubModules();
       if (!stubModules.isEmpty()) {
         caching.writeTypeshedModules(stubModules);
+        caching.writeTypeshedDescriptors(typeshedReader.stubModulesDescriptors());
       }
     }
   }
 
+  @Override
+  protected boolean retainsParsedFiles() {
+    return true;
+  }
+
   private boolean shouldOptimizeAnalysis(SensorContext context) {
     return caching.isCacheEnabled()
       && (context.canSkipUnchangedFiles() || context.config().getBoolean(SONAR_CAN_SKIP_UNCHANGED_FILES_KEY).orElse(false))
@@ -136,9 +143,11 @@ public class SonarQubePythonIndexer extends PythonIndexer {
    * In a full analysis, Typeshed symbols are loaded lazily depending on which module is encountered during parsing.
    * SonarSecurity needs all Typeshed symbols used in the project to be properly loaded.
    * For that reason, we load all symbols that were used in the previous analysis upfront, even if the file using them will not be parsed.
+   * Their descriptors are retrieved from the cache when available, to avoid converting the same stubs again.
    */
   private void loadTypeshedSymbols() {
     TypeShedDescriptorsProvider typeshedReader = projectLevelSymbolTable().typeShedDescriptorsProvider();
+    typeshedReader.addStubModulesDescriptors(caching.readTypeshedDescriptors());
     Set<String> typeShedModules = caching.readTypeshedModules();
     typeShedModules.forEach(typeshedReader::descriptorsForModule);
   }
@@ -183,6 +192,7 @@ public class SonarQubePythonIndexer extends PythonIndexer {
     if (caching.isCacheEnabled()) {
       saveGlobalSymbolsInCache(files);
       saveMainFilesListInCache(new HashSet<>(inputFileToFQN.values()));
+      caching.writeIndexSegment();
       // Information on used Typeshed stubs needs to be done at the end of the analysis, as it is not computed during indexing anymore
       caching.writeCacheVersion();
     }
@@ -234,7 +244,7 @@ public class SonarQubePythonIndexer extends PythonIndexer {
     return caching.cacheContext();
   }
 
-  private static String getCacheVersion(SensorContext context) {
+  static String getCacheVersion(SensorContext context) {
     String implementationVersion = getImplementationVersion(SonarQubePythonIndexer.class);
     var pythonVersions = context.config().getStringArray(PYTHON_VERSION_KEY);
     if (pythonVersions.length == 0) {
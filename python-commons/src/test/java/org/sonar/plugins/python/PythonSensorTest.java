@@ -27,7 +27,6 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -95,10 +94,12 @@ import org.sonar.plugins.python.indexer.TestModuleFileSystem;
 import org.sonar.plugins.python.warnings.AnalysisWarningsWrapper;
 import org.sonar.python.api.PythonKeyword;
 import org.sonar.python.caching.CpdSerializer;
+import org.sonar.python.caching.ModuleNamesSerializer;
 import org.sonar.python.checks.CheckList;
 import org.sonar.python.index.VariableDescriptor;
 import org.sonar.python.tree.TokenImpl;
 import org.sonar.python.types.TypeShed;
+import org.sonar.python.types.protobuf.DescriptorsProtos;
 import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.SonarLintInputFile;
@@ -114,9 +115,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.sonar.plugins.python.caching.Caching.CACHE_VERSION_KEY;
 import static org.sonar.plugins.python.caching.Caching.CPD_TOKENS_CACHE_KEY_PREFIX;
-import static org.sonar.plugins.python.caching.Caching.CPD_TOKENS_STRING_TABLE_KEY_PREFIX;
 import static org.sonar.plugins.python.caching.Caching.IMPORTS_MAP_CACHE_KEY_PREFIX;
 import static org.sonar.plugins.python.caching.Caching.PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX;
+import static org.sonar.plugins.python.caching.Caching.TYPESHED_DESCRIPTORS_KEY;
 import static org.sonar.plugins.python.caching.Caching.TYPESHED_MODULES_KEY;
 import static org.sonar.plugins.python.caching.Caching.fileContentHashCacheKey;
 import static org.sonar.plugins.python.caching.Caching.importsMapCacheKey;
@@ -512,7 +513,9 @@ class PythonSensorTest {
         .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, "S930"))
         .build())
       .build();
-    context.setSettings(new MapSettings().setProperty("sonar.python.sonarlint.indexing.maxlines", 1));
+    context.setSettings(new MapSettings()
+      .setProperty("sonar.python.sonarlint.indexing.maxlines", 1)
+      .setProperty("sonar.python.sonarlint.indexing.persist", false));
 
     PythonInputFile mainFile = inputFile("main.py");
     PythonIndexer pythonIndexer = pythonIndexer(Collections.singletonList(mainFile));
@@ -755,6 +758,55 @@ class PythonSensorTest {
     assertThat(location.line()).isEqualTo(2);
   }
 
+  @Test
+  void test_issues_in_parallel() {
+    activeRules = new ActiveRulesBuilder()
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY))
+        .build())
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, "S134"))
+        .build())
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, "ParsingError"))
+        .build())
+      .build();
+
+    PythonInputFile file1 = inputFile(FILE_1);
+    PythonInputFile file2 = inputFile(FILE_2);
+    inputFile("parse_error.py");
+    inputFile("main.py");
+    inputFile("mod.py");
+    context.setSettings(new MapSettings().setProperty("sonar.python.analysis.threads", 4));
+    sensor().execute(context);
+
+    assertThat(context.allIssues())
+      .extracting(issue -> issue.ruleKey().rule())
+      .containsExactlyInAnyOrder(ONE_STATEMENT_PER_LINE_RULE_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY, "S134", "ParsingError");
+    assertThat(context.allAnalysisErrors()).hasSize(1);
+    assertThat(context.measure(file1.wrappedFile().key(), CoreMetrics.NCLOC)).isNotNull();
+    assertThat(context.measure(file2.wrappedFile().key(), CoreMetrics.NCLOC)).isNotNull();
+    assertThat(logTester.logs(Level.DEBUG)).contains("Using 4 threads for rules execution");
+  }
+
+  @Test
+  void no_parallel_execution_with_end_of_analysis_checks() {
+    activeRules = new ActiveRulesBuilder()
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CUSTOM_REPOSITORY_KEY, CUSTOM_RULE_KEY))
+        .build())
+      .build();
+
+    inputFile(FILE_1);
+    context.setSettings(new MapSettings().setProperty("sonar.python.analysis.threads", 4));
+    sensor().execute(context);
+
+    assertThat(logTester.logs(Level.DEBUG))
+      .contains("Rules execution cannot be parallelized: some active rules rely on end-of-analysis callbacks")
+      .doesNotContain("Using 4 threads for rules execution");
+    assertThat(traceLogTester.logs(Level.TRACE)).contains("End of analysis called!");
+  }
+
   @Test
   void cancelled_analysis() {
     PythonInputFile inputFile = inputFile(FILE_1);
@@ -790,6 +842,32 @@ class PythonSensorTest {
     assertThat(new String(Files.readAllBytes(defaultPerformanceFile), UTF_8)).contains("\"PythonSensor\"");
   }
 
+  @Test
+  void saving_rules_performance_measure() throws IOException {
+    MapSettings mapSettings = new MapSettings();
+    mapSettings.setProperty("sonar.python.performance.measure", "true");
+    mapSettings.setProperty("sonar.python.performance.measure.allocations", "true");
+    context.setSettings(mapSettings);
+    activeRules = new ActiveRulesBuilder()
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY))
+        .build())
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, FILE_COMPLEXITY_RULE_KEY))
+        .build())
+      .build();
+
+    inputFile(FILE_2);
+    sensor().execute(context);
+    Path defaultPerformanceFile = workDir.resolve("sonar-python-performance-measure.json");
+    assertThat(new String(Files.readAllBytes(defaultPerformanceFile), UTF_8)).contains("\"PythonSensor\"");
+    Path rulesProfileFile = workDir.resolve("sonar-python-rules-profile.json");
+    String report = new String(Files.readAllBytes(rulesProfileFile), UTF_8);
+    assertThat(report)
+      .contains("\"Rules\"", "\"python:OneStatementPerLine\"", "\"python:FileComplexity\"", "\"allocatedBytes\"")
+      .contains("\"moduleKey:" + FILE_2 + "\"");
+  }
+
   @Test
   void saving_performance_measure_custom_path() throws IOException {
     Path customPerformanceFile = workDir.resolve("custom.performance.measure.json");
@@ -845,12 +923,11 @@ class PythonSensorTest {
     writeCache.bind(readCache);
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
-    CpdSerializer.SerializationResult cpdTokens = CpdSerializer.serialize(Collections.emptyList());
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data);
-    readCache.put(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    byte[] cpdTokens = CpdSerializer.serialize(Collections.emptyList());
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
     context.setPreviousCache(readCache);
     context.setNextCache(writeCache);
     context.setCacheEnabled(true);
@@ -863,7 +940,7 @@ class PythonSensorTest {
   }
 
   @Test
-  void test_typeshed_stubs_information_is_saved_to_cache() {
+  void test_typeshed_stubs_information_is_saved_to_cache() throws IOException {
     activeRules = new ActiveRulesBuilder()
       .addRule(new NewActiveRule.Builder()
         .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY))
@@ -887,7 +964,7 @@ class PythonSensorTest {
     assertThat(issue.ruleKey().rule()).isEqualTo(ONE_STATEMENT_PER_LINE_RULE_KEY);
 
     byte[] bytes = writeCache.getData().get(TYPESHED_MODULES_KEY);
-    Set<String> resolvedTypeshedModules = new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+    Set<String> resolvedTypeshedModules = ModuleNamesSerializer.deserialize(bytes);
     // typing comes from TypeCheckBuilder querying the ProjectLevelType table (by looking for TypeVar) in its checks, which then queries & cache info in TypeShedDescriptorsProvider
     assertThat(resolvedTypeshedModules).containsExactlyInAnyOrder(
       "typing", "math",
@@ -897,7 +974,7 @@ class PythonSensorTest {
   }
 
   @Test
-  void typeshed_symbols_are_read_from_cache() {
+  void typeshed_symbols_are_read_from_cache() throws IOException {
     activeRules = new ActiveRulesBuilder()
       .addRule(new NewActiveRule.Builder()
         .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY))
@@ -916,7 +993,7 @@ class PythonSensorTest {
     List<String> typeshedModules = List.of("typing", "math",
       "django", "django.urls.conf", "django.urls",
       "fastapi", "fastapi.responses");
-    readCache.put(TYPESHED_MODULES_KEY, String.join(";", typeshedModules).getBytes(StandardCharsets.UTF_8));
+    readCache.put(TYPESHED_MODULES_KEY, ModuleNamesSerializer.serialize(typeshedModules));
     context.setNextCache(writeCache);
     context.setCacheEnabled(true);
     context.setSettings(new MapSettings().setProperty("sonar.python.skipUnchanged", true));
@@ -928,7 +1005,7 @@ class PythonSensorTest {
     assertThat(issue.ruleKey().rule()).isEqualTo(ONE_STATEMENT_PER_LINE_RULE_KEY);
 
     byte[] bytes = writeCache.getData().get(TYPESHED_MODULES_KEY);
-    Set<String> resolvedTypeshedModules = new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+    Set<String> resolvedTypeshedModules = ModuleNamesSerializer.deserialize(bytes);
     assertThat(resolvedTypeshedModules).containsExactlyInAnyOrder(
       "typing", "math",
       "django", "django.urls.conf", "django.urls",
@@ -950,13 +1027,12 @@ class PythonSensorTest {
     writeCache.bind(readCache);
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
-    CpdSerializer.SerializationResult cpdTokens = CpdSerializer.serialize(Collections.emptyList());
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(TYPESHED_MODULES_KEY, String.join(";", List.of("math")).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data);
-    readCache.put(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    byte[] cpdTokens = CpdSerializer.serialize(Collections.emptyList());
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.put(TYPESHED_MODULES_KEY, ModuleNamesSerializer.serialize(List.of("math")));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
 
     context.setPreviousCache(readCache);
     context.setNextCache(writeCache);
@@ -968,10 +1044,49 @@ class PythonSensorTest {
     assertThat(logTester.logs(Level.INFO))
       .contains("The Python analyzer was able to leverage cached data from previous analyses for 1 out of 1 files. These files were not parsed.");
     byte[] bytes = writeCache.getData().get(TYPESHED_MODULES_KEY);
-    Set<String> resolvedTypeshedModules = new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+    Set<String> resolvedTypeshedModules = ModuleNamesSerializer.deserialize(bytes);
     assertThat(resolvedTypeshedModules).containsExactlyInAnyOrder("math");
   }
 
+  @Test
+  void typeshed_descriptors_are_read_from_cache() throws IOException {
+    activeRules = new ActiveRulesBuilder()
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, ONE_STATEMENT_PER_LINE_RULE_KEY))
+        .build())
+      .build();
+
+    PythonInputFile inputFile = inputFile(FILE_USING_TYPESHED, Type.MAIN, InputFile.Status.SAME);
+    TestReadCache readCache = getValidReadCache();
+    TestWriteCache writeCache = new TestWriteCache();
+    writeCache.bind(readCache);
+
+    byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
+    byte[] cpdTokens = CpdSerializer.serialize(Collections.emptyList());
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.put(TYPESHED_MODULES_KEY, ModuleNamesSerializer.serialize(List.of("math")));
+    DescriptorsProtos.ModuleDescriptorsByName typeshedDescriptors = DescriptorsProtos.ModuleDescriptorsByName.newBuilder()
+      .putModules("math", toProtobufModuleDescriptor(Set.of(new VariableDescriptor("cached", "math.cached", null))))
+      .build();
+    readCache.put(TYPESHED_DESCRIPTORS_KEY, typeshedDescriptors.toByteArray());
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+
+    context.setPreviousCache(readCache);
+    context.setNextCache(writeCache);
+    context.setCacheEnabled(true);
+    context.setSettings(new MapSettings().setProperty("sonar.python.skipUnchanged", true));
+    sensor().execute(context);
+
+    // Cached descriptors are used as is, instead of being converted again from Typeshed stubs
+    var writtenDescriptors = DescriptorsProtos.ModuleDescriptorsByName.parseFrom(writeCache.getData().get(TYPESHED_DESCRIPTORS_KEY));
+    assertThat(writtenDescriptors.getModulesMap()).containsOnlyKeys("math");
+    assertThat(writtenDescriptors.getModulesMap().get("math").getVarDescriptorsList())
+      .extracting(DescriptorsProtos.VarDescriptor::getName)
+      .containsExactly("cached");
+  }
+
   @Test
   void test_scan_without_parsing_test_file() {
     activeRules = new ActiveRulesBuilder()
@@ -986,9 +1101,9 @@ class PythonSensorTest {
     PythonInputFile inputFile = inputFile(FILE_TEST_FILE, Type.TEST, InputFile.Status.SAME);
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("test_func", "test_file.test_func", null))).toByteArray();
     TestReadCache readCache = getValidReadCache();
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
     TestWriteCache writeCache = new TestWriteCache();
     writeCache.bind(readCache);
 
@@ -1018,9 +1133,9 @@ class PythonSensorTest {
     writeCache.bind(readCache);
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
     context.setPreviousCache(readCache);
     context.setNextCache(writeCache);
     context.setCacheEnabled(true);
@@ -1050,9 +1165,9 @@ class PythonSensorTest {
     writeCache.bind(readCache);
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
-    readCache.put(importsMapCacheKey(inputFile2.wrappedFile().key()), String.join(";", List.of("file1.py")).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile2.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(fileContentHashCacheKey(inputFile2.wrappedFile().key()), inputFile2.wrappedFile().md5Hash().getBytes(UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey(inputFile2.wrappedFile().key()), ModuleNamesSerializer.serialize(List.of("file1.py")));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile2.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile2.wrappedFile().key()), inputFile2.wrappedFile().md5Hash().getBytes(UTF_8));
     context.setPreviousCache(readCache);
     context.setNextCache(writeCache);
     context.setCacheEnabled(true);
@@ -1085,7 +1200,7 @@ class PythonSensorTest {
     context.setSettings(new MapSettings().setProperty("sonar.python.skipUnchanged", true));
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
-    readCache.put(IMPORTS_MAP_CACHE_KEY_PREFIX + "file2", String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
+    readCache.put(IMPORTS_MAP_CACHE_KEY_PREFIX + "file2", ModuleNamesSerializer.serialize(Collections.emptyList()));
     readCache.put(PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX + "file2", serializedSymbolTable);
     sensor().execute(contextMock);
 
@@ -1112,13 +1227,13 @@ class PythonSensorTest {
     sensor().execute(context);
 
     assertThat(writeCache.getData().keySet()).containsExactlyInAnyOrder(
-      "python:cache_version", "python:files", "python:descriptors:moduleKey:pass.py", "python:imports:moduleKey:pass.py",
-      "python:cpd:data:moduleKey:pass.py", "python:cpd:stringTable:moduleKey:pass.py", "python:content_hashes:moduleKey:pass.py", "python:typeshed_modules");
+      "python:cache_version", "python:files", "python:index_segment",
+      "python:cpd:data:moduleKey:pass.py", "python:typeshed_modules",
+      "python:typeshed_descriptors");
 
     byte[] tokenData = writeCache.getData().get("python:cpd:data:moduleKey:pass.py");
-    byte[] stringTable = writeCache.getData().get("python:cpd:stringTable:moduleKey:pass.py");
 
-    List<CpdSerializer.TokenInfo> actualTokens = CpdSerializer.deserialize(tokenData, stringTable);
+    List<CpdSerializer.TokenInfo> actualTokens = CpdSerializer.deserialize(tokenData);
     assertThat(actualTokens)
       .hasSize(1);
 
@@ -1173,14 +1288,12 @@ class PythonSensorTest {
     sensor().execute(context);
 
     byte[] mainTokensData = writeCache.getData().get("python:cpd:data:moduleKey:main.py");
-    byte[] mainTokensTable = writeCache.getData().get("python:cpd:stringTable:moduleKey:main.py");
-    List<CpdSerializer.TokenInfo> actualTokensForMain = CpdSerializer.deserialize(mainTokensData, mainTokensTable);
+    List<CpdSerializer.TokenInfo> actualTokensForMain = CpdSerializer.deserialize(mainTokensData);
     assertThat(actualTokensForMain)
       .hasSize(14);
 
     byte[] passTokensData = writeCache.getData().get("python:cpd:data:moduleKey:pass.py");
-    byte[] passTokensTable = writeCache.getData().get("python:cpd:stringTable:moduleKey:pass.py");
-    List<CpdSerializer.TokenInfo> actualTokensForPass = CpdSerializer.deserialize(passTokensData, passTokensTable);
+    List<CpdSerializer.TokenInfo> actualTokensForPass = CpdSerializer.deserialize(passTokensData);
     assertThat(actualTokensForPass)
       .hasSize(1);
   }
@@ -1198,13 +1311,12 @@ class PythonSensorTest {
     List<Token> tokens = List.of(new TokenImpl(sslrToken));
 
     TestReadCache readCache = getValidReadCache();
-    CpdSerializer.SerializationResult cpdTokens = CpdSerializer.serialize(tokens);
-    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data);
-    readCache.put(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
+    byte[] cpdTokens = CpdSerializer.serialize(tokens);
+    readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Collections.emptySet()).toByteArray();
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
 
     TestWriteCache writeCache = new TestWriteCache();
     writeCache.bind(readCache);
@@ -1226,8 +1338,7 @@ class PythonSensorTest {
 
     // Verify that we carried the tokens over to the next cache
     assertThat(writeCache.getData())
-      .containsEntry(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data)
-      .containsEntry(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
+      .containsEntry(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
   }
 
   @Test
@@ -1242,8 +1353,8 @@ class PythonSensorTest {
 
     TestReadCache readCache = getValidReadCache();
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Collections.emptySet()).toByteArray();
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
 
     TestWriteCache writeCache = new TestWriteCache();
     writeCache.bind(readCache);
@@ -1265,11 +1376,10 @@ class PythonSensorTest {
 
     // Verify that we carried the tokens over to the next cache
     List<Token> expectedTokens = List.of(new TokenImpl(passToken(inputFile.wrappedFile().uri())));
-    CpdSerializer.SerializationResult cpdTokens = CpdSerializer.serialize(expectedTokens);
+    byte[] cpdTokens = CpdSerializer.serialize(expectedTokens);
 
     assertThat(writeCache.getData())
-      .containsEntry(Caching.CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data)
-      .containsEntry(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
+      .containsEntry(Caching.CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
   }
 
   @Test
@@ -1287,12 +1397,11 @@ class PythonSensorTest {
     TestReadCache readCache = getValidReadCache();
 
     readCache.put(CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), "not valid data".getBytes(UTF_8));
-    readCache.put(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), "not valid string table".getBytes(UTF_8));
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Collections.emptySet()).toByteArray();
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
 
     TestWriteCache writeCache = new TestWriteCache();
     writeCache.bind(readCache);
@@ -1317,11 +1426,10 @@ class PythonSensorTest {
 
     // Verify that we carried the tokens over to the next cache
     List<Token> expectedTokens = List.of(new TokenImpl(passToken(inputFile.wrappedFile().uri())));
-    CpdSerializer.SerializationResult cpdTokens = CpdSerializer.serialize(expectedTokens);
+    byte[] cpdTokens = CpdSerializer.serialize(expectedTokens);
 
     assertThat(writeCache.getData())
-      .containsEntry(Caching.CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data)
-      .containsEntry(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
+      .containsEntry(Caching.CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
   }
 
   @Test
@@ -1363,9 +1471,9 @@ class PythonSensorTest {
 
     TestReadCache readCache = getValidReadCache();
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Collections.emptySet()).toByteArray();
-    readCache.put(importsMapCacheKey(inputFile.wrappedFile().key()), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
-    readCache.put(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey(inputFile.wrappedFile().key()), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey(inputFile.wrappedFile().key()), serializedSymbolTable);
+    readCache.putIndexEntry(fileContentHashCacheKey(inputFile.wrappedFile().key()), inputFile.wrappedFile().md5Hash().getBytes(UTF_8));
 
     TestWriteCache writeCache = new TestWriteCache();
     writeCache.bind(readCache);
@@ -1390,11 +1498,10 @@ class PythonSensorTest {
 
     // Verify that we carried the tokens over to the next cache
     List<Token> expectedTokens = List.of(new TokenImpl(passToken(inputFile.wrappedFile().uri())));
-    CpdSerializer.SerializationResult cpdTokens = CpdSerializer.serialize(expectedTokens);
+    byte[] cpdTokens = CpdSerializer.serialize(expectedTokens);
 
     assertThat(writeCache.getData())
-      .containsEntry(Caching.CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.data)
-      .containsEntry(CPD_TOKENS_STRING_TABLE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens.stringTable);
+      .containsEntry(Caching.CPD_TOKENS_CACHE_KEY_PREFIX + inputFile.wrappedFile().key(), cpdTokens);
   }
 
   @Test
@@ -1468,6 +1575,21 @@ class PythonSensorTest {
     verify(spyContext, times(1)).addTelemetryProperty(TelemetryMetricKey.PYTHON_DATABRICKS_FOUND.key(), "0");
   }
 
+  @Test
+  void send_type_check_cache_hit_rate() {
+    activeRules = new ActiveRulesBuilder()
+      .addRule(new NewActiveRule.Builder()
+        .setRuleKey(RuleKey.of(CheckList.REPOSITORY_KEY, "S112"))
+        .build())
+      .build();
+
+    inputFile("generic_exceptions.py");
+    var spyContext = spy(context);
+    sensor().execute(spyContext);
+    // The second raised class is checked against the memoized result of the first one
+    verify(spyContext, times(1)).addTelemetryProperty(TelemetryMetricKey.TYPE_CHECK_CACHE_HIT_RATE.key(), "50");
+  }
+
   private com.sonar.sslr.api.Token passToken(URI uri) {
     return com.sonar.sslr.api.Token.builder()
       .setType(PythonKeyword.PASS)
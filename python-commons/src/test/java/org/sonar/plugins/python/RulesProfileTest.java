@@ -0,0 +1,136 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.plugins.python;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.event.Level;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.testfixtures.log.LogTesterJUnit5;
+import org.sonar.plugins.python.api.PythonCheck;
+import org.sonar.plugins.python.api.PythonVisitorCheck;
+import org.sonar.python.CheckProfiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RulesProfileTest {
+
+  @RegisterExtension
+  public LogTesterJUnit5 logTester = new LogTesterJUnit5().setLevel(Level.WARN);
+
+  @TempDir
+  Path workDir;
+
+  private final PythonCheck check1 = new PythonVisitorCheck() {};
+  private final PythonCheck check2 = new PythonVisitorCheck() {};
+  private final Map<PythonCheck, RuleKey> ruleKeys = Map.of(check1, RuleKey.of("python", "S1"));
+
+  @Test
+  void rules_are_aggregated_over_files() {
+    RulesProfile rulesProfile = new RulesProfile(false);
+    for (int i = 0; i < RulesProfile.SLOWEST_FILES_COUNT + 5; i++) {
+      CheckProfiler profiler = rulesProfile.newFileProfiler();
+      profiler.run(check1, () -> {});
+      profiler.run(check1, () -> {});
+      profiler.run(check2, () -> {});
+      rulesProfile.add("file" + i, profiler, ruleKeys::get);
+    }
+
+    JsonObject json = rulesProfile.toJson();
+    assertThat(json.get("name").getAsString()).isEqualTo(RulesProfile.RULES_MEASURE_NAME);
+    assertThat(json.get("calls").getAsLong()).isEqualTo(3L * (RulesProfile.SLOWEST_FILES_COUNT + 5));
+    assertThat(json.has("allocatedBytes")).isFalse();
+
+    JsonArray rules = json.getAsJsonArray("children");
+    assertThat(rules).hasSize(2);
+    JsonObject rule1 = findByName(rules, "python:S1");
+    assertThat(rule1.get("calls").getAsLong()).isEqualTo(2L * (RulesProfile.SLOWEST_FILES_COUNT + 5));
+    JsonArray slowestFiles = rule1.getAsJsonArray("children");
+    assertThat(slowestFiles).hasSize(RulesProfile.SLOWEST_FILES_COUNT);
+    long previousDuration = Long.MAX_VALUE;
+    for (var file : slowestFiles) {
+      long duration = file.getAsJsonObject().get("durationNanos").getAsLong();
+      assertThat(duration).isLessThanOrEqualTo(previousDuration);
+      assertThat(file.getAsJsonObject().get("calls").getAsLong()).isEqualTo(2);
+      previousDuration = duration;
+    }
+    // checks without rule key are named after their class
+    assertThat(findByName(rules, check2.getClass().getName())).isNotNull();
+  }
+
+  @Test
+  void allocations_are_reported_when_measured() {
+    RulesProfile rulesProfile = new RulesProfile(true);
+    CheckProfiler profiler = rulesProfile.newFileProfiler();
+    profiler.run(check1, () -> {});
+    rulesProfile.add("file", profiler, ruleKeys::get);
+
+    JsonObject json = rulesProfile.toJson();
+    assertThat(json.has("allocatedBytes")).isTrue();
+    JsonObject rule = findByName(json.getAsJsonArray("children"), "python:S1");
+    assertThat(rule.has("allocatedBytes")).isTrue();
+    assertThat(rule.getAsJsonArray("children").get(0).getAsJsonObject().has("allocatedBytes")).isTrue();
+  }
+
+  @Test
+  void written_next_to_performance_report() throws IOException {
+    Path report = workDir.resolve("report.json");
+    Files.writeString(report, "{\"name\": \"PythonSensor\"}");
+    RulesProfile rulesProfile = new RulesProfile(false);
+    CheckProfiler profiler = rulesProfile.newFileProfiler();
+    profiler.run(check1, () -> {});
+    rulesProfile.add("file", profiler, ruleKeys::get);
+
+    rulesProfile.writeNextTo(report);
+
+    assertThat(report).hasContent("{\"name\": \"PythonSensor\"}");
+    Path rulesProfileFile = workDir.resolve(RulesProfile.RULES_PROFILE_FILE_NAME);
+    JsonObject json = JsonParser.parseString(Files.readString(rulesProfileFile, StandardCharsets.UTF_8)).getAsJsonObject();
+    assertThat(json.get("name").getAsString()).isEqualTo(RulesProfile.RULES_MEASURE_NAME);
+    assertThat(json.getAsJsonArray("children")).hasSize(1);
+  }
+
+  @Test
+  void missing_report_path_or_unwritable_directory() throws IOException {
+    RulesProfile rulesProfile = new RulesProfile(false);
+    rulesProfile.writeNextTo(null);
+    assertThat(workDir).isEmptyDirectory();
+
+    Path notADirectory = workDir.resolve("file");
+    Files.writeString(notADirectory, "");
+    rulesProfile.writeNextTo(notADirectory.resolve("report.json"));
+    assertThat(logTester.logs(Level.WARN)).anyMatch(log -> log.startsWith("Failed to write rules measures to"));
+  }
+
+  private static JsonObject findByName(JsonArray measures, String name) {
+    for (var measure : measures) {
+      if (measure.getAsJsonObject().get("name").getAsString().equals(name)) {
+        return measure.getAsJsonObject();
+      }
+    }
+    return null;
+  }
+}
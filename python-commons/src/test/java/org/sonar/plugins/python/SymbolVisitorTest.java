@@ -27,8 +27,6 @@ import org.sonar.api.batch.fs.internal.DefaultTextPointer;
 import org.sonar.api.batch.fs.internal.DefaultTextRange;
 import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
 import org.sonar.api.batch.sensor.internal.SensorContextTester;
-import org.sonar.plugins.python.api.PythonVisitorContext;
-import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.python.TestPythonVisitorRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,10 +47,8 @@ class SymbolVisitorTest {
     context.fileSystem().add(inputFile);
     componentKey = inputFile.key();
 
-    SymbolVisitor symbolVisitor = new SymbolVisitor(context.newSymbolTable().onFile(inputFile));
-    PythonVisitorContext context = TestPythonVisitorRunner.createContext(file);
-    FileInput fileInput = context.rootTree();
-    fileInput.accept(symbolVisitor);
+    SymbolVisitor symbolVisitor = new SymbolVisitor(context, inputFile);
+    TestPythonVisitorRunner.scanFile(file, symbolVisitor);
   }
 
   @Test
@@ -17,15 +17,13 @@
 package org.sonar.plugins.python.caching;
 
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.Mockito;
@@ -34,12 +32,16 @@ import org.sonar.api.testfixtures.log.LogTesterJUnit5;
 import org.sonar.plugins.python.api.caching.PythonReadCache;
 import org.sonar.plugins.python.api.caching.PythonWriteCache;
 import org.sonar.python.caching.CacheContextImpl;
+import org.sonar.python.caching.ModuleNamesSerializer;
 import org.sonar.python.caching.PythonReadCacheImpl;
 import org.sonar.python.caching.PythonWriteCacheImpl;
+import org.sonar.python.index.AliasDescriptor;
+import org.sonar.python.index.AmbiguousDescriptor;
 import org.sonar.python.index.ClassDescriptor;
 import org.sonar.python.index.Descriptor;
 import org.sonar.python.index.DescriptorsToProtobuf;
 import org.sonar.python.index.FunctionDescriptor;
+import org.sonar.python.index.TypeAnnotationDescriptor;
 import org.sonar.python.index.VariableDescriptor;
 import org.sonar.python.types.protobuf.DescriptorsProtos;
 
@@ -47,7 +49,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.sonar.plugins.python.caching.Caching.IMPORTS_MAP_CACHE_KEY_PREFIX;
+import static org.sonar.plugins.python.caching.Caching.INDEX_SEGMENT_KEY;
 import static org.sonar.plugins.python.caching.Caching.PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX;
+import static org.sonar.plugins.python.caching.Caching.TYPESHED_DESCRIPTORS_KEY;
 import static org.sonar.python.index.DescriptorsToProtobuf.fromProtobuf;
 
 class CachingTest {
@@ -59,7 +63,7 @@ class CachingTest {
 
 
   @Test
-  void writeProjectLevelSymbolTableEntry() throws InvalidProtocolBufferException {
+  void writeProjectLevelSymbolTableEntry() throws IOException {
     TestWriteCache writeCache = new TestWriteCache();
     PythonWriteCache pythonWriteCache = new PythonWriteCacheImpl(writeCache);
     TestReadCache readCache = new TestReadCache();
@@ -73,9 +77,11 @@ class CachingTest {
       new VariableDescriptor("x", "mod.x", null)
     );
     caching.writeProjectLevelSymbolTableEntry("mod", initialDescriptors);
-    Map<String, byte[]> data = writeCache.getData();
+    assertThat(writeCache.getData()).isEmpty();
+    caching.writeIndexSegment();
+    IndexSegment indexSegment = IndexSegment.parse(writeCache.getData().get(INDEX_SEGMENT_KEY));
     String cacheKey = PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX + "mod";
-    Set<Descriptor> retrievedDescriptors = fromProtobuf(DescriptorsProtos.ModuleDescriptor.parseFrom(data.get(cacheKey)));
+    Set<Descriptor> retrievedDescriptors = fromProtobuf(DescriptorsProtos.ModuleDescriptor.parseFrom(indexSegment.get(cacheKey)));
     assertThat(cacheContext.isCacheEnabled()).isTrue();
     assertThat(retrievedDescriptors).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(initialDescriptors);
   }
@@ -96,7 +102,7 @@ class CachingTest {
       new VariableDescriptor("x", "mod.x", null)
     );
     String cacheKey = PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX + "mod";
-    readCache.put(cacheKey, DescriptorsToProtobuf.toProtobufModuleDescriptor(initialDescriptors).toByteArray());
+    readCache.putIndexEntry(cacheKey, DescriptorsToProtobuf.toProtobufModuleDescriptor(initialDescriptors).toByteArray());
     Set<Descriptor> retrievedDescriptorsOptional = caching.readProjectLevelSymbolTableEntry("mod");
     assertThat(retrievedDescriptorsOptional).isNotNull().usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(initialDescriptors);
   }
@@ -118,18 +124,17 @@ class CachingTest {
     InputStream inputStream = mock(InputStream.class);
     when(inputStream.readAllBytes()).thenThrow(new IOException("Boom!"));
     PythonReadCacheImpl pythonReadCache = Mockito.spy(new PythonReadCacheImpl(readCache));
-    String cacheKey = PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX + "mod";
-    readCache.put(cacheKey, new byte[0]);
-    Mockito.when(pythonReadCache.read(cacheKey)).thenReturn(inputStream);
+    readCache.put(INDEX_SEGMENT_KEY, new byte[0]);
+    Mockito.when(pythonReadCache.read(INDEX_SEGMENT_KEY)).thenReturn(inputStream);
 
     CacheContextImpl cacheContext = new CacheContextImpl(true, new PythonWriteCacheImpl(writeCache), pythonReadCache);
     Caching caching = new Caching(cacheContext, CACHE_VERSION);
     assertThat(caching.readProjectLevelSymbolTableEntry("mod")).isNull();
-    assertThat(logTester.logs(Level.DEBUG)).contains("Unable to read data for key: \"python:descriptors:mod\"");
+    assertThat(logTester.logs(Level.DEBUG)).contains("Unable to read data for key: \"python:index_segment\"");
   }
 
   @Test
-  void writeImportsMapEntry() {
+  void writeImportsMapEntry() throws IOException {
     TestWriteCache writeCache = new TestWriteCache();
     PythonWriteCache pythonWriteCache = new PythonWriteCacheImpl(writeCache);
     PythonReadCache pythonReadCache = new PythonReadCacheImpl(new TestReadCache());
@@ -140,8 +145,9 @@ class CachingTest {
 
     String cacheKey = IMPORTS_MAP_CACHE_KEY_PREFIX + "mod";
     caching.writeImportsMapEntry("mod", imports);
-    Map<String, byte[]> data = writeCache.getData();
-    Set<String> retrievedDescriptors = Arrays.stream(new String(data.get(cacheKey), StandardCharsets.UTF_8).split(";")).collect(Collectors.toSet());
+    caching.writeIndexSegment();
+    IndexSegment indexSegment = IndexSegment.parse(writeCache.getData().get(INDEX_SEGMENT_KEY));
+    Set<String> retrievedDescriptors = ModuleNamesSerializer.deserialize(indexSegment.get(cacheKey));
     assertThat(retrievedDescriptors).containsExactlyInAnyOrderElementsOf(imports);
   }
 
@@ -157,7 +163,7 @@ class CachingTest {
     Caching caching = new Caching(cacheContext, CACHE_VERSION);
     Set<String> imports = Set.of("mod2", "pkg1.mod3", "pkg2.pkg3.mod4");
     String cacheKey = IMPORTS_MAP_CACHE_KEY_PREFIX + "mod";
-    readCache.put(cacheKey, String.join(";", imports).getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(cacheKey, ModuleNamesSerializer.serialize(imports));
     assertThat(caching.readImportMapEntry("mod")).containsExactlyInAnyOrderElementsOf(imports);
   }
 
@@ -182,8 +188,77 @@ class CachingTest {
 
     Caching caching = new Caching(cacheContext, CACHE_VERSION);
     String module = "mod";
-    readCache.put(PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX + "mod", new byte[] {42});
+    readCache.putIndexEntry(PROJECT_SYMBOL_TABLE_CACHE_KEY_PREFIX + "mod", new byte[] {42});
     assertThat(caching.readProjectLevelSymbolTableEntry(module)).isNull();
     assertThat(logTester.logs(Level.DEBUG)).contains("Failed to deserialize project level symbol table entry for module: \"mod\"");
   }
+
+  @Test
+  void copyIndexEntriesFromPrevious() throws IOException {
+    TestWriteCache writeCache = new TestWriteCache();
+    TestReadCache readCache = new TestReadCache();
+    CacheContextImpl cacheContext = new CacheContextImpl(true, new PythonWriteCacheImpl(writeCache), new PythonReadCacheImpl(readCache));
+    Caching caching = new Caching(cacheContext, CACHE_VERSION);
+
+    readCache.putIndexEntry(Caching.importsMapCacheKey("mod"), "mod2".getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(Caching.fileContentHashCacheKey("mod"), new byte[] {1, 2});
+    readCache.putIndexEntry(Caching.fileContentHashCacheKey("other"), new byte[] {3});
+    caching.copyFromPrevious("mod");
+    caching.writeFileContentHash("new", new byte[] {4});
+    caching.writeIndexSegment();
+
+    IndexSegment indexSegment = IndexSegment.parse(writeCache.getData().get(INDEX_SEGMENT_KEY));
+    assertThat(indexSegment.keys()).containsExactly(Caching.importsMapCacheKey("mod"), Caching.fileContentHashCacheKey("mod"), Caching.fileContentHashCacheKey("new"));
+    assertThat(indexSegment.get(Caching.fileContentHashCacheKey("mod"))).containsExactly(1, 2);
+    assertThat(indexSegment.get(Caching.fileContentHashCacheKey("new"))).containsExactly(4);
+    assertThat(indexSegment.get(Caching.fileContentHashCacheKey("other"))).isNull();
+  }
+
+  @Test
+  void corruptedIndexSegment() {
+    TestReadCache readCache = new TestReadCache();
+    CacheContextImpl cacheContext = new CacheContextImpl(true, new PythonWriteCacheImpl(new TestWriteCache()), new PythonReadCacheImpl(readCache));
+    Caching caching = new Caching(cacheContext, CACHE_VERSION);
+
+    readCache.put(INDEX_SEGMENT_KEY, new byte[] {0, 0, 0, 42, 1});
+    assertThat(caching.readFileContentHash("mod")).isNull();
+    assertThat(logTester.logs(Level.DEBUG)).contains("Failed to deserialize the index segment: Index segment is truncated");
+  }
+
+  @Test
+  void writeAndReadTypeshedDescriptors() {
+    TestWriteCache writeCache = new TestWriteCache();
+    TestReadCache readCache = new TestReadCache();
+    CacheContextImpl cacheContext = new CacheContextImpl(true, new PythonWriteCacheImpl(writeCache), new PythonReadCacheImpl(readCache));
+    Caching caching = new Caching(cacheContext, CACHE_VERSION);
+
+    TypeAnnotationDescriptor intType = new TypeAnnotationDescriptor("int", TypeAnnotationDescriptor.TypeKind.INSTANCE, List.of(), "int");
+    TypeAnnotationDescriptor listType = new TypeAnnotationDescriptor("list[int]", TypeAnnotationDescriptor.TypeKind.INSTANCE, List.of(intType), "list");
+    FunctionDescriptor function = new FunctionDescriptor("foo", "mod.foo", Collections.emptyList(), false, false, Collections.emptyList(), false, null, null, listType);
+    ClassDescriptor classDescriptor = new ClassDescriptor("C", "other.C", Collections.emptyList(), Collections.emptySet(), false, null, false, false, null, false);
+    AliasDescriptor alias = new AliasDescriptor("C", "mod.C", classDescriptor);
+    AmbiguousDescriptor ambiguous = AmbiguousDescriptor.create(
+      new AliasDescriptor("bar", "mod.bar", new FunctionDescriptor("bar", "other.bar", Collections.emptyList(), false, false, Collections.emptyList(), false, null, null)),
+      new VariableDescriptor("bar", "mod.bar", null));
+    VariableDescriptor importedModule = new VariableDescriptor("os", "os", null, true);
+    Map<String, Map<String, Descriptor>> descriptorsByModule = Map.of(
+      "mod", Map.of("foo", function, "C", alias, "bar", ambiguous, "os", importedModule),
+      "unknown", Map.of());
+
+    caching.writeTypeshedDescriptors(descriptorsByModule);
+    readCache.put(TYPESHED_DESCRIPTORS_KEY, writeCache.getData().get(TYPESHED_DESCRIPTORS_KEY));
+    assertThat(caching.readTypeshedDescriptors()).usingRecursiveComparison().isEqualTo(descriptorsByModule);
+  }
+
+  @Test
+  void readTypeshedDescriptorsMissingOrCorruptedEntry() {
+    TestReadCache readCache = new TestReadCache();
+    CacheContextImpl cacheContext = new CacheContextImpl(true, new PythonWriteCacheImpl(new TestWriteCache()), new PythonReadCacheImpl(readCache));
+    Caching caching = new Caching(cacheContext, CACHE_VERSION);
+    assertThat(caching.readTypeshedDescriptors()).isEmpty();
+
+    readCache.put(TYPESHED_DESCRIPTORS_KEY, new byte[] {42});
+    assertThat(caching.readTypeshedDescriptors()).isEmpty();
+    assertThat(logTester.logs(Level.DEBUG)).contains("Failed to deserialize Typeshed descriptors");
+  }
 }
@@ -17,6 +17,7 @@
 package org.sonar.plugins.python.caching;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
@@ -47,6 +48,24 @@ public class TestReadCache implements ReadCache {
     return this;
   }
 
+  /**
+   * Adds an entry to the index segment of the cache, see {@link Caching#INDEX_SEGMENT_KEY}.
+   */
+  public TestReadCache putIndexEntry(String key, byte[] data) {
+    IndexSegment.Builder builder = new IndexSegment.Builder();
+    byte[] segmentBytes = this.data.get(Caching.INDEX_SEGMENT_KEY);
+    if (segmentBytes != null) {
+      try {
+        IndexSegment segment = IndexSegment.parse(segmentBytes);
+        segment.keys().forEach(k -> builder.put(k, segment.get(k)));
+      } catch (IOException e) {
+        throw new IllegalStateException("Invalid index segment", e);
+      }
+    }
+    builder.put(key, data);
+    return put(Caching.INDEX_SEGMENT_KEY, builder.build());
+  }
+
   public TestReadCache putAll(Map<String, byte[]> data) {
     this.data.putAll(data);
     return this;
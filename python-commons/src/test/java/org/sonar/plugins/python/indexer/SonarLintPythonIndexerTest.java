@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.slf4j.event.Level;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.config.internal.MapSettings;
 import org.sonar.api.batch.sensor.internal.SensorContextTester;
 import org.sonar.api.testfixtures.log.LogTesterJUnit5;
 import org.sonar.plugins.python.Python;
@@ -92,6 +93,11 @@ class SonarLintPythonIndexerTest {
     assertThat(pythonIndexer.canBeFullyScannedWithoutParsing(file1)).isFalse();
   }
 
+  @Test
+  void parsed_files_are_not_retained() throws IOException {
+    assertThat(pythonIndexer.takeParsedFile(file1, file1.contents())).isNull();
+  }
+
   @Test
   void build_once_should_build_once() {
     PythonInputFile file3 = inputFile("added.py");
@@ -174,6 +180,138 @@ class SonarLintPythonIndexerTest {
     assertThat(modAddSymbol).isNotNull();
   }
 
+  @Test
+  void test_stale_modules() {
+    assertThat(pythonIndexer.staleModules()).isEmpty();
+
+    // "main" imports "mod": changing the body of a function of "mod" does not impact "main"
+    process(ModuleFileEvent.Type.MODIFIED, modifiedFile("mod.py", "def add(p1, p2):\n    return p2 + p1\n"));
+    assertThat(pythonIndexer.staleModules()).containsExactly("mod");
+
+    process(ModuleFileEvent.Type.MODIFIED, modifiedFile("mod.py", "def add(p1, p2, p3):\n    return p1 + p2 + p3\n"));
+    assertThat(pythonIndexer.staleModules()).containsExactlyInAnyOrder("mod", "main");
+
+    pythonIndexer.fileAnalyzed(file1);
+    pythonIndexer.fileAnalyzed(file2);
+    assertThat(pythonIndexer.staleModules()).isEmpty();
+
+    process(ModuleFileEvent.Type.DELETED, file2.wrappedFile());
+    assertThat(pythonIndexer.staleModules()).containsExactly("main");
+
+    pythonIndexer.fileAnalyzed(file1);
+    process(ModuleFileEvent.Type.CREATED, file2.wrappedFile());
+    assertThat(pythonIndexer.staleModules()).containsExactlyInAnyOrder("mod", "main");
+  }
+
+  @Test
+  void test_persisted_index() throws IOException {
+    assertThat(logTester.logs(Level.DEBUG)).contains("0/2 source files have been indexed from the persisted project index");
+
+    logTester.clear();
+    SonarLintPythonIndexer indexer = new SonarLintPythonIndexer(moduleFileSystem);
+    indexer.buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).contains("2/2 source files have been indexed from the persisted project index");
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.add")).isNotNull();
+    assertThat(indexer.projectLevelSymbolTable().importsByModule().get("main")).containsExactly("mod");
+
+    logTester.clear();
+    PythonInputFile modifiedMod = new PythonInputFileImpl(modifiedFile("mod.py", "def sub(p1, p2):\n    return p1 - p2\n"));
+    indexer = new SonarLintPythonIndexer(new TestModuleFileSystem(List.of(file1, modifiedMod)));
+    indexer.buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).contains("1/2 source files have been indexed from the persisted project index");
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.add")).isNull();
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.sub")).isNotNull();
+  }
+
+  @Test
+  void test_persisted_index_file_events() {
+    process(ModuleFileEvent.Type.DELETED, file2.wrappedFile());
+    pythonIndexer.postAnalysis(context);
+
+    logTester.clear();
+    SonarLintPythonIndexer indexer = new SonarLintPythonIndexer(moduleFileSystem);
+    indexer.buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).contains("1/2 source files have been indexed from the persisted project index");
+  }
+
+  @Test
+  void test_persisted_index_file_events_are_appended() throws IOException {
+    Path indexPath = persistedIndexPath();
+    byte[] indexBytes = Files.readAllBytes(indexPath);
+    InputFile modifiedMod = modifiedFile("mod.py", "def sub(p1, p2):\n    return p1 - p2\n");
+    process(ModuleFileEvent.Type.MODIFIED, modifiedMod);
+    pythonIndexer.postAnalysis(context);
+    byte[] appendedIndexBytes = Files.readAllBytes(indexPath);
+    assertThat(appendedIndexBytes).startsWith(indexBytes).hasSizeGreaterThan(indexBytes.length);
+
+    logTester.clear();
+    SonarLintPythonIndexer indexer = new SonarLintPythonIndexer(new TestModuleFileSystem(List.of(file1, new PythonInputFileImpl(modifiedMod))));
+    indexer.buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).contains("2/2 source files have been indexed from the persisted project index");
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.add")).isNull();
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.sub")).isNotNull();
+
+    process(ModuleFileEvent.Type.MODIFIED, modifiedFile("mod.py", "def mul(p1, p2):\n    return p1 * p2\n"));
+    pythonIndexer.postAnalysis(context);
+    assertThat(Files.readAllBytes(indexPath)).startsWith(appendedIndexBytes);
+    // More than half of the records of the file would be superseded: it is rewritten
+    process(ModuleFileEvent.Type.MODIFIED, modifiedFile("mod.py", "def div(p1, p2):\n    return p1 / p2\n"));
+    pythonIndexer.postAnalysis(context);
+    assertThat(Files.readAllBytes(indexPath)).hasSizeLessThan(appendedIndexBytes.length);
+  }
+
+  @Test
+  void test_truncated_persisted_index() throws IOException {
+    Path indexPath = persistedIndexPath();
+    InputFile modifiedMod = modifiedFile("mod.py", "def sub(p1, p2):\n    return p1 - p2\n");
+    process(ModuleFileEvent.Type.MODIFIED, modifiedMod);
+    pythonIndexer.postAnalysis(context);
+    byte[] indexBytes = Files.readAllBytes(indexPath);
+    Files.write(indexPath, Arrays.copyOf(indexBytes, indexBytes.length - 1));
+
+    logTester.clear();
+    SonarLintPythonIndexer indexer = new SonarLintPythonIndexer(new TestModuleFileSystem(List.of(file1, new PythonInputFileImpl(modifiedMod))));
+    indexer.buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).anyMatch(log -> log.startsWith("Persisted project index") && log.endsWith("is truncated and will be rewritten"));
+    assertThat(logTester.logs(Level.DEBUG)).contains("1/2 source files have been indexed from the persisted project index");
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.sub")).isNotNull();
+
+    logTester.clear();
+    new SonarLintPythonIndexer(new TestModuleFileSystem(List.of(file1, new PythonInputFileImpl(modifiedMod)))).buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).contains("2/2 source files have been indexed from the persisted project index");
+  }
+
+  @Test
+  void test_corrupted_persisted_index() throws IOException {
+    try (var files = Files.list(context.fileSystem().workDir().toPath())) {
+      for (Path path : files.toList()) {
+        Files.writeString(path, "corrupted");
+      }
+    }
+    logTester.clear();
+    SonarLintPythonIndexer indexer = new SonarLintPythonIndexer(moduleFileSystem);
+    indexer.buildOnce(context);
+    assertThat(logTester.logs(Level.DEBUG)).anyMatch(log -> log.startsWith("Failed to load the persisted project index"));
+    assertThat(logTester.logs(Level.DEBUG)).contains("0/2 source files have been indexed from the persisted project index");
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.add")).isNotNull();
+  }
+
+  @Test
+  void test_persisted_index_disabled() throws IOException {
+    SensorContextTester otherContext = SensorContextTester.create(baseDir);
+    Path workDir = Files.createTempDirectory("workDir");
+    otherContext.fileSystem().setWorkDir(workDir);
+    otherContext.setSettings(new MapSettings().setProperty("sonar.python.sonarlint.indexing.persist", false));
+    SonarLintPythonIndexer indexer = new SonarLintPythonIndexer(moduleFileSystem);
+    indexer.buildOnce(otherContext);
+    indexer.postAnalysis(otherContext);
+
+    assertThat(indexer.projectLevelSymbolTable().getSymbol("mod.add")).isNotNull();
+    try (var files = Files.list(workDir)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
   @Test
   void test_indexer_non_python_file() {
     testNonPythonFile("txt");
@@ -222,6 +360,29 @@ class SonarLintPythonIndexerTest {
     assertThat(projectLevelSymbolTable.getSymbolsFromModule("non_python")).isNull();
   }
 
+  private Path persistedIndexPath() throws IOException {
+    try (var files = Files.list(context.fileSystem().workDir().toPath())) {
+      return files.findFirst().orElseThrow();
+    }
+  }
+
+  private void process(ModuleFileEvent.Type type, InputFile target) {
+    ModuleFileEvent moduleFileEvent = mock(ModuleFileEvent.class);
+    when(moduleFileEvent.getType()).thenReturn(type);
+    when(moduleFileEvent.getTarget()).thenReturn(target);
+    pythonIndexer.process(moduleFileEvent);
+  }
+
+  private InputFile modifiedFile(String name, String contents) {
+    return TestInputFileBuilder.create("moduleKey", name)
+      .setModuleBaseDir(baseDir.toPath())
+      .setCharset(StandardCharsets.UTF_8)
+      .setType(InputFile.Type.MAIN)
+      .setLanguage(Python.KEY)
+      .setContents(contents)
+      .build();
+  }
+
   private PythonInputFile inputFile(String name) {
     PythonInputFile inputFile = createInputFile(name);
     context.fileSystem().add(inputFile.wrappedFile());
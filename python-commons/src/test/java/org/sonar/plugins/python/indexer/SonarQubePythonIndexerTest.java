@@ -24,9 +24,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -38,12 +38,16 @@ import org.sonar.api.testfixtures.log.LogTesterJUnit5;
 import org.sonar.plugins.python.PythonInputFile;
 import org.sonar.plugins.python.api.caching.PythonReadCache;
 import org.sonar.plugins.python.api.caching.PythonWriteCache;
+import org.sonar.plugins.python.caching.IndexSegment;
 import org.sonar.plugins.python.caching.TestReadCache;
 import org.sonar.plugins.python.caching.TestWriteCache;
 import org.sonar.python.caching.CacheContextImpl;
+import org.sonar.python.caching.ModuleNamesSerializer;
 import org.sonar.python.caching.PythonReadCacheImpl;
 import org.sonar.python.caching.PythonWriteCacheImpl;
+import org.sonar.python.index.Descriptor;
 import org.sonar.python.index.VariableDescriptor;
+import org.sonar.python.semantic.ProjectLevelSymbolTable;
 import org.sonar.python.types.TypeShed;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +56,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.sonar.plugins.python.TestUtils.createInputFile;
 import static org.sonar.plugins.python.caching.Caching.CACHE_VERSION_KEY;
+import static org.sonar.plugins.python.caching.Caching.INDEX_SEGMENT_KEY;
 import static org.sonar.plugins.python.caching.Caching.PROJECT_FILES_KEY;
 import static org.sonar.plugins.python.caching.Caching.TYPESHED_MODULES_KEY;
 import static org.sonar.plugins.python.caching.Caching.fileContentHashCacheKey;
@@ -102,12 +107,12 @@ class SonarQubePythonIndexerTest {
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
 
@@ -132,12 +137,12 @@ class SonarQubePythonIndexerTest {
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("unknown", "mod", "other")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("unknown", "mod", "other")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
 
@@ -152,19 +157,19 @@ class SonarQubePythonIndexerTest {
   }
 
   @Test
-  void test_deleted_dependency() {
+  void test_deleted_dependency() throws IOException {
     file1 = createInputFile(baseDir, "main.py", InputFile.Status.SAME, InputFile.Type.MAIN);
 
     List<PythonInputFile> inputFiles = new ArrayList<>(List.of(file1));
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("unknown", "mod", "other")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("unknown", "mod", "other")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
     readCache.put(PROJECT_FILES_KEY, importsAsByteArray(List.of("main", "mod")));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
 
@@ -176,24 +181,24 @@ class SonarQubePythonIndexerTest {
       .contains("Partially optimized analysis can be performed for 1 out of 1 files.");
 
     byte[] bytes = writeCache.getData().get(PROJECT_FILES_KEY);
-    HashSet<String> retrievedFileList = new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+    Set<String> retrievedFileList = ModuleNamesSerializer.deserialize(bytes);
     assertThat(retrievedFileList).containsExactlyInAnyOrder("main");
   }
 
   @Test
-  void test_deleted_unrelated_file() {
+  void test_deleted_unrelated_file() throws IOException {
     file1 = createInputFile(baseDir, "mod.py", InputFile.Status.SAME, InputFile.Type.MAIN);
 
     List<PythonInputFile> inputFiles = new ArrayList<>(List.of(file1));
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("unknown", "mod", "other")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("unknown", "mod", "other")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
     readCache.put(PROJECT_FILES_KEY, importsAsByteArray(List.of("main", "mod")));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
 
@@ -203,7 +208,7 @@ class SonarQubePythonIndexerTest {
       .contains("Fully optimized analysis can be performed for 1 out of 1 files.");
 
     byte[] bytes = writeCache.getData().get(PROJECT_FILES_KEY);
-    HashSet<String> retrievedFileList = new HashSet<>(Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split(";")));
+    Set<String> retrievedFileList = ModuleNamesSerializer.deserialize(bytes);
     assertThat(retrievedFileList).containsExactlyInAnyOrder("mod");
   }
 
@@ -215,8 +220,8 @@ class SonarQubePythonIndexerTest {
     List<PythonInputFile> inputFiles = new ArrayList<>(Arrays.asList(file1, file2));
 
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
     pythonIndexer.buildOnce(context);
 
     assertThat(pythonIndexer.canBePartiallyScannedWithoutParsing(file1)).isFalse();
@@ -236,10 +241,10 @@ class SonarQubePythonIndexerTest {
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
 
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
@@ -259,10 +264,10 @@ class SonarQubePythonIndexerTest {
 
     List<PythonInputFile> inputFiles = new ArrayList<>(Arrays.asList(file1, file2));
 
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), importsAsByteArray(Collections.emptyList()));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
 
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
@@ -287,12 +292,12 @@ class SonarQubePythonIndexerTest {
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
 
     pythonIndexer.buildOnce(context);
 
@@ -316,12 +321,12 @@ class SonarQubePythonIndexerTest {
 
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
 
     pythonIndexer.buildOnce(context);
 
@@ -337,14 +342,14 @@ class SonarQubePythonIndexerTest {
   void test_test_files_use_cache() {
     file1 = createInputFile(baseDir, "main.py", InputFile.Status.SAME, InputFile.Type.TEST);
     file2 = createInputFile(baseDir, "mod.py", InputFile.Status.CHANGED, InputFile.Type.TEST);
-    readCache.put(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:main.py"), file1.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
 
     List<PythonInputFile> inputFiles = new ArrayList<>(Arrays.asList(file1, file2));
 
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     byte[] serializedSymbolTable = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("x", "main.x", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:main.py"), importsAsByteArray(List.of("mod")));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:main.py"), serializedSymbolTable);
 
     pythonIndexer.buildOnce(context);
 
@@ -405,6 +410,24 @@ class SonarQubePythonIndexerTest {
     assertThat(logTester.logs(Level.INFO)).doesNotContain("Using cached data to retrieve global symbols.");
   }
 
+  @Test
+  void test_parsed_files_are_retained_for_rules_execution() throws IOException {
+    file1 = createInputFile(baseDir, "main.py", InputFile.Status.CHANGED, InputFile.Type.MAIN);
+    file2 = createInputFile(baseDir, "mod.py", InputFile.Status.CHANGED, InputFile.Type.MAIN);
+
+    List<PythonInputFile> inputFiles = new ArrayList<>(Arrays.asList(file1, file2));
+
+    pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
+    pythonIndexer.buildOnce(context);
+
+    assertThat(pythonIndexer.takeParsedFile(file1, file1.contents())).isNotNull();
+    // Parse results are handed out only once
+    assertThat(pythonIndexer.takeParsedFile(file1, file1.contents())).isNull();
+    // Parse results computed from a different content are discarded
+    assertThat(pythonIndexer.takeParsedFile(file2, file2.contents() + "\nx = 42")).isNull();
+    assertThat(pythonIndexer.takeParsedFile(file2, file2.contents())).isNull();
+  }
+
   @Test
   void test_typeshed_modules_not_cached_if_empty() {
     file1 = createInputFile(baseDir, "main.py", InputFile.Status.CHANGED, InputFile.Type.MAIN);
@@ -430,14 +453,15 @@ class SonarQubePythonIndexerTest {
   }
 
   @Test
-  void test_no_data_in_cache_for_parse_error() {
+  void test_no_data_in_cache_for_parse_error() throws IOException {
     file1 = createInputFile(baseDir, "parse_error.py", InputFile.Status.ADDED, InputFile.Type.MAIN);
 
     List<PythonInputFile> inputFiles = new ArrayList<>(List.of(file1));
 
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
-    assertThat(writeCache.getData().containsKey(projectSymbolTableCacheKey("moduleKey:parse_error.py"))).isFalse();
+    IndexSegment indexSegment = IndexSegment.parse(writeCache.getData().get(INDEX_SEGMENT_KEY));
+    assertThat(indexSegment.contains(projectSymbolTableCacheKey("moduleKey:parse_error.py"))).isFalse();
   }
 
   @Test
@@ -448,9 +472,9 @@ class SonarQubePythonIndexerTest {
     List<PythonInputFile> inputFiles = new ArrayList<>(List.of(file1));
 
     byte[] outdatedEntry = toProtobufModuleDescriptor(Set.of(new VariableDescriptor("outdated", "mod.outdated", null))).toByteArray();
-    readCache.put(importsMapCacheKey("moduleKey:mod.py"), String.join(";", Collections.emptyList()).getBytes(StandardCharsets.UTF_8));
-    readCache.put(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
-    readCache.put(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
+    readCache.putIndexEntry(importsMapCacheKey("moduleKey:mod.py"), ModuleNamesSerializer.serialize(Collections.emptyList()));
+    readCache.putIndexEntry(projectSymbolTableCacheKey("moduleKey:mod.py"), outdatedEntry);
+    readCache.putIndexEntry(fileContentHashCacheKey("moduleKey:mod.py"), file2.wrappedFile().md5Hash().getBytes(StandardCharsets.UTF_8));
     pythonIndexer = new SonarQubePythonIndexer(inputFiles, cacheContext, context);
     pythonIndexer.buildOnce(context);
 
@@ -470,7 +494,32 @@ class SonarQubePythonIndexerTest {
     assertThat(pythonIndexer.projectLevelSymbolTable().getSymbolsFromModule("notebook")).isEmpty();
   }
 
+  @Test
+  void test_parallel_indexing() throws IOException {
+    List<PythonInputFile> inputFiles = Stream.of("main.py", "mod.py", "added.py", "parse_error.py", "notebook.ipynb")
+      .map(name -> createInputFile(baseDir, name, InputFile.Status.ADDED, InputFile.Type.MAIN))
+      .toList();
+    SonarQubePythonIndexer sequentialIndexer = new SonarQubePythonIndexer(inputFiles, CacheContextImpl.dummyCache(), context);
+    sequentialIndexer.buildOnce(context);
+
+    context.settings().setProperty("sonar.python.analysis.threads", 4);
+    pythonIndexer = new SonarQubePythonIndexer(inputFiles, CacheContextImpl.dummyCache(), context);
+    pythonIndexer.buildOnce(context);
+
+    ProjectLevelSymbolTable expected = sequentialIndexer.projectLevelSymbolTable();
+    ProjectLevelSymbolTable actual = pythonIndexer.projectLevelSymbolTable();
+    assertThat(logTester.logs(Level.DEBUG)).contains("Using 4 threads for global symbols computation");
+    assertThat(actual.importsByModule()).isEqualTo(expected.importsByModule()).containsKeys("main", "mod", "added");
+    for (String module : List.of("main", "mod", "added")) {
+      assertThat(actual.getDescriptorsFromModule(module))
+        .extracting(Descriptor::fullyQualifiedName)
+        .containsExactlyInAnyOrderElementsOf(expected.getDescriptorsFromModule(module).stream().map(Descriptor::fullyQualifiedName).toList());
+    }
+    assertThat(actual.getSymbol("mod.add")).isNotNull();
+    assertThat(pythonIndexer.takeParsedFile(inputFiles.get(0), inputFiles.get(0).contents())).isNotNull();
+  }
+
   private byte[] importsAsByteArray(List<String> mod) {
-    return String.join(";", mod).getBytes(StandardCharsets.UTF_8);
+    return ModuleNamesSerializer.serialize(mod);
   }
 }
@@ -0,0 +1,6 @@
+def f():
+    raise Exception
+
+
+def g():
+    raise Exception
@@ -17,7 +17,10 @@
 package org.sonar.plugins.python.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.api.Beta;
 import org.sonar.plugins.python.api.tree.Token;
@@ -34,6 +37,39 @@ public interface PythonCheck {
     return true;
   }
 
+  /**
+   * Semantic information this check relies on. Layers which are not required by any check executed on a file may not be computed.
+   * By default, the layers declared with {@link RequiredSemanticLayers} are required, or all layers when the check declares none.
+   */
+  @Beta
+  default Set<SemanticLayer> requiredSemanticLayers() {
+    RequiredSemanticLayers declaredLayers = getClass().getAnnotation(RequiredSemanticLayers.class);
+    if (declaredLayers == null) {
+      return EnumSet.allOf(SemanticLayer.class);
+    }
+    Set<SemanticLayer> layers = EnumSet.noneOf(SemanticLayer.class);
+    layers.addAll(Arrays.asList(declaredLayers.value()));
+    return layers;
+  }
+
+  @Beta
+  enum SemanticLayer {
+    /**
+     * Symbols of the legacy semantic model, e.g. {@link org.sonar.plugins.python.api.tree.HasSymbol#symbol()}.
+     */
+    SYMBOLS,
+    /**
+     * Types of the legacy semantic model, e.g. {@link org.sonar.plugins.python.api.tree.Expression#type()}.
+     * Type inference also resolves the symbols of qualified expressions: this layer implies {@link #SYMBOLS}.
+     */
+    TYPES,
+    /**
+     * Symbols and types of the new semantic model, e.g. {@link org.sonar.plugins.python.api.tree.Expression#typeV2()}
+     * and {@link PythonVisitorContext#typeChecker()}.
+     */
+    TYPES_V2
+  }
+
   class PreciseIssue {
 
     private final PythonCheck check;
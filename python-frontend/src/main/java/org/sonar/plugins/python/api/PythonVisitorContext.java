@@ -19,14 +19,18 @@ package org.sonar.plugins.python.api;
 import com.sonar.sslr.api.RecognitionException;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.api.SonarProduct;
 import org.sonar.plugins.python.api.PythonCheck.PreciseIssue;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.caching.CacheContext;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.python.types.v2.TypeChecker;
 import org.sonar.python.caching.CacheContextImpl;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.semantic.ProjectLevelSymbolTable;
 import org.sonar.python.semantic.SymbolTableBuilder;
 import org.sonar.python.semantic.v2.ProjectLevelTypeTable;
@@ -39,17 +43,19 @@ public class PythonVisitorContext extends PythonInputFileContext {
   private final RecognitionException parsingException;
   private List<PreciseIssue> issues = new ArrayList<>();
   private final TypeChecker typeChecker;
+  private final CfgProvider cfgProvider;
 
   public PythonVisitorContext(FileInput rootTree, PythonFile pythonFile, @Nullable File workingDirectory, String packageName) {
     super(pythonFile, workingDirectory, CacheContextImpl.dummyCache(), ProjectLevelSymbolTable.empty());
     this.rootTree = rootTree;
     this.parsingException = null;
-    SymbolTableBuilder symbolTableBuilder = new SymbolTableBuilder(packageName, pythonFile);
+    this.cfgProvider = new CfgProvider(pythonFile);
+    SymbolTableBuilder symbolTableBuilder = new SymbolTableBuilder(packageName, ProjectLevelSymbolTable.empty(), cfgProvider);
     symbolTableBuilder.visitFileInput(rootTree);
     var symbolTable = new SymbolTableBuilderV2(rootTree).build();
     var projectLevelTypeTable = new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty());
-    new TypeInferenceV2(projectLevelTypeTable, pythonFile, symbolTable, packageName).inferTypes(rootTree);
-    this.typeChecker = new TypeChecker(projectLevelTypeTable);
+    new TypeInferenceV2(projectLevelTypeTable, symbolTable, packageName, cfgProvider).inferTypes(rootTree);
+    this.typeChecker = new TypeChecker(projectLevelTypeTable, projectLevelTypeTable.compiledTypeCheckBuilders());
   }
 
   public PythonVisitorContext(FileInput rootTree, PythonFile pythonFile, @Nullable File workingDirectory, String packageName,
@@ -57,32 +63,50 @@ public class PythonVisitorContext extends PythonInputFileContext {
     super(pythonFile, workingDirectory, cacheContext, projectLevelSymbolTable);
     this.rootTree = rootTree;
     this.parsingException = null;
-    new SymbolTableBuilder(packageName, pythonFile, projectLevelSymbolTable).visitFileInput(rootTree);
+    this.cfgProvider = new CfgProvider(pythonFile);
+    new SymbolTableBuilder(packageName, projectLevelSymbolTable, cfgProvider).visitFileInput(rootTree);
 
     var symbolTable = new SymbolTableBuilderV2(rootTree)
       .build();
-    var projectLevelTypeTable = new ProjectLevelTypeTable(projectLevelSymbolTable);
-    new TypeInferenceV2(projectLevelTypeTable, pythonFile, symbolTable, packageName).inferTypes(rootTree);
-    this.typeChecker = new TypeChecker(projectLevelTypeTable);
+    var projectLevelTypeTable = projectLevelSymbolTable.projectLevelTypeTable();
+    new TypeInferenceV2(projectLevelTypeTable, symbolTable, packageName, cfgProvider).inferTypes(rootTree);
+    this.typeChecker = new TypeChecker(projectLevelTypeTable, projectLevelTypeTable.compiledTypeCheckBuilders());
   }
 
   public PythonVisitorContext(FileInput rootTree, PythonFile pythonFile, @Nullable File workingDirectory, String packageName,
     ProjectLevelSymbolTable projectLevelSymbolTable, CacheContext cacheContext, SonarProduct sonarProduct) {
+    this(rootTree, pythonFile, workingDirectory, packageName, projectLevelSymbolTable, cacheContext, sonarProduct, EnumSet.allOf(SemanticLayer.class));
+  }
+
+  /**
+   * Only the given semantic layers are computed, see {@link PythonCheck#requiredSemanticLayers()}.
+   * Control flow graphs are always computed on demand, see {@link #cfgProvider()}.
+   */
+  public PythonVisitorContext(FileInput rootTree, PythonFile pythonFile, @Nullable File workingDirectory, String packageName,
+    ProjectLevelSymbolTable projectLevelSymbolTable, CacheContext cacheContext, SonarProduct sonarProduct, Set<SemanticLayer> semanticLayers) {
     super(pythonFile, workingDirectory, cacheContext, sonarProduct, projectLevelSymbolTable);
     this.rootTree = rootTree;
     this.parsingException = null;
-    new SymbolTableBuilder(packageName, pythonFile, projectLevelSymbolTable).visitFileInput(rootTree);
-    var symbolTable = new SymbolTableBuilderV2(rootTree)
-      .build();
-    var projectLevelTypeTable = new ProjectLevelTypeTable(projectLevelSymbolTable);
-    new TypeInferenceV2(projectLevelTypeTable, pythonFile, symbolTable, packageName).inferTypes(rootTree);
-    this.typeChecker = new TypeChecker(projectLevelTypeTable);
+    this.cfgProvider = new CfgProvider(pythonFile);
+    if (semanticLayers.contains(SemanticLayer.TYPES)) {
+      new SymbolTableBuilder(packageName, projectLevelSymbolTable, cfgProvider).visitFileInput(rootTree);
+    } else if (semanticLayers.contains(SemanticLayer.SYMBOLS)) {
+      new SymbolTableBuilder(packageName, projectLevelSymbolTable, cfgProvider).buildSymbols(rootTree);
+    }
+    var projectLevelTypeTable = projectLevelSymbolTable.projectLevelTypeTable();
+    if (semanticLayers.contains(SemanticLayer.TYPES_V2)) {
+      var symbolTable = new SymbolTableBuilderV2(rootTree)
+        .build();
+      new TypeInferenceV2(projectLevelTypeTable, symbolTable, packageName, cfgProvider).inferTypes(rootTree);
+    }
+    this.typeChecker = new TypeChecker(projectLevelTypeTable, projectLevelTypeTable.compiledTypeCheckBuilders());
   }
 
   public PythonVisitorContext(PythonFile pythonFile, RecognitionException parsingException) {
     super(pythonFile, null, CacheContextImpl.dummyCache(), ProjectLevelSymbolTable.empty());
     this.rootTree = null;
     this.parsingException = parsingException;
+    this.cfgProvider = new CfgProvider(pythonFile);
     this.typeChecker = new TypeChecker(new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty()));
   }
 
@@ -90,6 +114,7 @@ public class PythonVisitorContext extends PythonInputFileContext {
     super(pythonFile, null, CacheContextImpl.dummyCache(), sonarProduct, ProjectLevelSymbolTable.empty());
     this.rootTree = null;
     this.parsingException = parsingException;
+    this.cfgProvider = new CfgProvider(pythonFile);
     this.typeChecker = new TypeChecker(new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty()));
   }
 
@@ -101,6 +126,13 @@ public class PythonVisitorContext extends PythonInputFileContext {
     return typeChecker;
   }
 
+  /**
+   * Control flow graphs and data flow analyses of this file, computed at most once and shared between all visitors.
+   */
+  public CfgProvider cfgProvider() {
+    return cfgProvider;
+  }
+
   public RecognitionException parsingException() {
     return parsingException;
   }
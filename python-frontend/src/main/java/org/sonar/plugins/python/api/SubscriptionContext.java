@@ -26,6 +26,7 @@ import org.sonar.plugins.python.api.caching.CacheContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.types.v2.TypeChecker;
 
 public interface SubscriptionContext {
@@ -67,4 +68,10 @@ public interface SubscriptionContext {
   CacheContext cacheContext();
 
   TypeChecker typeChecker();
+
+  /**
+   * Control flow graphs and data flow analyses of the analyzed file, shared with the other checks.
+   */
+  @Beta
+  CfgProvider cfgProvider();
 }
@@ -0,0 +1,98 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import org.sonar.plugins.python.api.PythonCheck;
+
+/**
+ * Measures the time spent, and optionally the memory allocated, by each check while analyzing a file.
+ * A profiler is not thread-safe: it is meant to be used for a single file, by the thread analyzing it.
+ */
+public class CheckProfiler {
+
+  private final com.sun.management.ThreadMXBean allocationsBean;
+  private final Map<PythonCheck, Measure> measuresByCheck = new HashMap<>();
+
+  /**
+   * @param measureAllocations whether the bytes allocated by checks should be measured. It is ignored when the JVM
+   * cannot measure thread allocations.
+   */
+  public CheckProfiler(boolean measureAllocations) {
+    this.allocationsBean = measureAllocations ? allocationsBean() : null;
+  }
+
+  public void run(PythonCheck check, Runnable execution) {
+    long allocatedBytesBefore = allocatedBytes();
+    long start = System.nanoTime();
+    try {
+      execution.run();
+    } finally {
+      long durationNanos = System.nanoTime() - start;
+      measuresByCheck.computeIfAbsent(check, c -> new Measure()).add(durationNanos, allocatedBytes() - allocatedBytesBefore);
+    }
+  }
+
+  public Map<PythonCheck, Measure> measures() {
+    return Collections.unmodifiableMap(measuresByCheck);
+  }
+
+  public boolean measuresAllocations() {
+    return allocationsBean != null;
+  }
+
+  private long allocatedBytes() {
+    return allocationsBean == null ? 0L : allocationsBean.getCurrentThreadAllocatedBytes();
+  }
+
+  @CheckForNull
+  private static com.sun.management.ThreadMXBean allocationsBean() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+      && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+      return bean;
+    }
+    return null;
+  }
+
+  public static class Measure {
+    private long calls;
+    private long durationNanos;
+    private long allocatedBytes;
+
+    private void add(long durationNanos, long allocatedBytes) {
+      this.calls++;
+      this.durationNanos += durationNanos;
+      this.allocatedBytes += allocatedBytes;
+    }
+
+    public long calls() {
+      return calls;
+    }
+
+    public long durationNanos() {
+      return durationNanos;
+    }
+
+    public long allocatedBytes() {
+      return allocatedBytes;
+    }
+  }
+}
@@ -45,9 +45,11 @@ import org.sonar.plugins.python.api.tree.StringElement;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.Tree.Kind;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.regex.PythonAnalyzerRegexSource;
 import org.sonar.python.regex.PythonRegexIssueLocation;
 import org.sonar.python.regex.RegexContext;
+import org.sonar.python.tree.PyTree;
 import org.sonar.python.types.v2.TypeChecker;
 import org.sonarsource.analyzer.commons.regex.RegexParseResult;
 import org.sonarsource.analyzer.commons.regex.RegexParser;
@@ -60,18 +62,32 @@ public class SubscriptionVisitor {
   private final PythonVisitorContext pythonVisitorContext;
   private Tree currentElement;
   private final HashMap<String, RegexParseResult> regexCache = new HashMap<>();
+  @Nullable
+  private final CheckProfiler profiler;
 
   public static void analyze(Collection<PythonSubscriptionCheck> checks, PythonVisitorContext pythonVisitorContext) {
-    SubscriptionVisitor subscriptionVisitor = new SubscriptionVisitor(checks, pythonVisitorContext);
+    analyze(checks, pythonVisitorContext, null);
+  }
+
+  /**
+   * @param profiler when not null, records the cost of every call made to the checks
+   */
+  public static void analyze(Collection<PythonSubscriptionCheck> checks, PythonVisitorContext pythonVisitorContext, @Nullable CheckProfiler profiler) {
+    SubscriptionVisitor subscriptionVisitor = new SubscriptionVisitor(checks, pythonVisitorContext, profiler);
     FileInput rootTree = pythonVisitorContext.rootTree();
     if (rootTree != null) {
       subscriptionVisitor.scan(rootTree);
-      checks.forEach(PythonSubscriptionCheck::leaveFile);
+      if (profiler == null) {
+        checks.forEach(PythonSubscriptionCheck::leaveFile);
+      } else {
+        checks.forEach(check -> profiler.run(check, check::leaveFile));
+      }
     }
   }
 
-  private SubscriptionVisitor(Collection<PythonSubscriptionCheck> checks, PythonVisitorContext pythonVisitorContext) {
+  private SubscriptionVisitor(Collection<PythonSubscriptionCheck> checks, PythonVisitorContext pythonVisitorContext, @Nullable CheckProfiler profiler) {
     this.pythonVisitorContext = pythonVisitorContext;
+    this.profiler = profiler;
     for (PythonSubscriptionCheck check : checks) {
       check.initialize((elementType, consumer) -> {
         List<SubscriptionContextImpl> elementConsumers = consumers.computeIfAbsent(elementType, c -> new ArrayList<>());
@@ -80,15 +96,24 @@ public class SubscriptionVisitor {
     }
   }
 
+  /**
+   * Subtrees which are known not to contain any kind of node with consumers are not visited.
+   */
   private void scan(Tree element) {
+    long[] subscribedKinds = PyTree.kindsBitSet(consumers.keySet());
     Deque<Tree> stack = new ArrayDeque<>();
     stack.push(element);
     while (!stack.isEmpty()) {
       currentElement = stack.pop();
-      consumers.getOrDefault(currentElement.getKind(), Collections.emptyList()).forEach(SubscriptionContextImpl::execute);
-      for (int i = currentElement.children().size() - 1; i >= 0; i--) {
-        if (currentElement.children().get(i) != null) {
-          stack.push(currentElement.children().get(i));
+      List<SubscriptionContextImpl> elementConsumers = consumers.get(currentElement.getKind());
+      if (elementConsumers != null) {
+        elementConsumers.forEach(SubscriptionContextImpl::execute);
+      }
+      List<Tree> children = currentElement.children();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        Tree child = children.get(i);
+        if (child != null && (!(child instanceof PyTree pyTree) || pyTree.subtreeMayContain(subscribedKinds))) {
+          stack.push(child);
         }
       }
     }
@@ -104,7 +129,11 @@ public class SubscriptionVisitor {
     }
 
     public void execute() {
-      consumer.accept(this);
+      if (profiler == null) {
+        consumer.accept(this);
+      } else {
+        profiler.run(check, () -> consumer.accept(this));
+      }
     }
 
     @Override
@@ -184,6 +213,11 @@ public class SubscriptionVisitor {
       return pythonVisitorContext.typeChecker();
     }
 
+    @Override
+    public CfgProvider cfgProvider() {
+      return pythonVisitorContext.cfgProvider();
+    }
+
     public RegexParseResult regexForStringElement(StringElement stringElement, FlagSet flagSet) {
       return regexCache.computeIfAbsent(stringElement.hashCode() + "-" + flagSet.getMask(),
         s -> new RegexParser(new PythonAnalyzerRegexSource(stringElement), flagSet).parse());
@@ -23,7 +23,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nullable;
+import org.sonar.api.SonarProduct;
 import org.sonar.plugins.python.api.PythonCheck;
 import org.sonar.plugins.python.api.PythonFile;
 import org.sonar.plugins.python.api.PythonVisitorContext;
@@ -73,6 +75,14 @@ public class TestPythonVisitorRunner {
     return new PythonVisitorContext(rootTree, pythonFile, workingDirectory, packageName, projectLevelSymbolTable, cacheContext);
   }
 
+  public static PythonVisitorContext createContext(File file, @Nullable File workingDirectory, String packageName,
+    ProjectLevelSymbolTable projectLevelSymbolTable, CacheContext cacheContext, Set<PythonCheck.SemanticLayer> semanticLayers) {
+    TestPythonFile pythonFile = new TestPythonFile(file);
+    FileInput rootTree = parseFile(pythonFile);
+    return new PythonVisitorContext(rootTree, pythonFile, workingDirectory, packageName, projectLevelSymbolTable, cacheContext, SonarProduct.SONARQUBE,
+      semanticLayers);
+  }
+
   public static PythonVisitorContext createNotebookContext(File file, Map<Integer, IPythonLocation> locations, String content, String packageName,
     ProjectLevelSymbolTable projectLevelSymbolTable, CacheContext cacheContext) {
     TestPythonFile pythonFile = new TestPythonFile(file);
@@ -19,13 +19,33 @@ package org.sonar.python.caching;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import javax.annotation.Nullable;
+import java.util.stream.Stream;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.python.TokenLocation;
-
+import org.sonar.python.api.PythonKeyword;
+import org.sonar.python.api.PythonPunctuator;
+
+/**
+ * Serializes CPD tokens in a single blob per file.
+ * Start lines are delta-encoded against the previous token, end positions are only stored when they can't be derived from the value,
+ * and token values are references to a string table which is pre-seeded with keywords and punctuators: only the other values are
+ * stored inline, the first time they occur.
+ */
 public class CpdSerializer {
 
+  private static final String END = "END";
+  private static final String CORRUPTED_FORMAT = "Can't read data from cache, format corrupted";
+  // Changing this dictionary changes the format: cached data is invalidated by the plugin version
+  private static final List<String> PREDEFINED_VALUES = Stream.concat(
+      Arrays.stream(PythonKeyword.values()).map(PythonKeyword::getValue),
+      Arrays.stream(PythonPunctuator.values()).map(PythonPunctuator::getValue))
+    .distinct()
+    .toList();
+  // Reference to a value which is written inline, as it is not in the string table yet
+  private static final int NEW_VALUE = 0;
+
   private CpdSerializer() {
     // Prevent instantiation
   }
@@ -51,135 +71,89 @@ public class CpdSerializer {
     }
   }
 
-  public static class SerializationResult {
-    public final byte[] data;
-    public final byte[] stringTable;
-
-    public SerializationResult(byte[] data, byte[] stringTable) {
-      this.data = data;
-      this.stringTable = stringTable;
-    }
+  @FunctionalInterface
+  public interface TokenConsumer {
+    void accept(int startLine, int startLineOffset, int endLine, int endLineOffset, String value);
   }
 
-  public static SerializationResult serialize(List<Token> tokens) throws IOException {
-    return new Serializer().convert(tokens);
-  }
-
-  public static List<TokenInfo> deserialize(byte[] dataBytes, byte[] stringTableBytes) throws IOException {
-    return new Deserializer(new VarLengthInputStream(dataBytes), new VarLengthInputStream(stringTableBytes)).convert();
-  }
-
-  private static class Serializer {
-    private final ByteArrayOutputStream stream;
-    private final VarLengthOutputStream out;
-    private final StringTable stringTable;
-
-    private Serializer() {
-      stream = new ByteArrayOutputStream();
-      out = new VarLengthOutputStream(stream);
-      stringTable = new StringTable();
-    }
-
-    public SerializationResult convert(List<Token> tokens) throws IOException {
-      try (out; stream) {
-        writeInt(tokens.size());
-        for (Token token : tokens) {
-          write(token);
+  public static byte[] serialize(List<Token> tokens) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try (VarLengthOutputStream out = new VarLengthOutputStream(stream)) {
+      StringTable stringTable = new StringTable(new ArrayList<>(PREDEFINED_VALUES));
+      out.writeInt(tokens.size());
+      int previousLine = 0;
+      for (Token token : tokens) {
+        TokenLocation location = new TokenLocation(token);
+        String value = token.value();
+        boolean derivedEnd = location.endLine() == location.startLine() && location.endLineOffset() == location.startLineOffset() + value.length();
+        // the lowest bit tells whether the end position is stored
+        out.writeInt(((location.startLine() - previousLine) << 1) | (derivedEnd ? 0 : 1));
+        out.writeInt(location.startLineOffset());
+        writeValue(out, stringTable, value);
+        if (!derivedEnd) {
+          out.writeInt(location.endLine() - location.startLine());
+          out.writeInt(location.endLineOffset());
         }
-        out.writeUTF("END");
-
-        return new SerializationResult(stream.toByteArray(), writeStringTable());
+        previousLine = location.startLine();
       }
+      out.writeUTF(END);
     }
-
-    private void write(Token token) throws IOException {
-      TokenLocation location = new TokenLocation(token);
-      writeInt(location.startLine());
-      writeInt(location.startLineOffset());
-      writeInt(location.endLine());
-      writeInt(location.endLineOffset());
-      writeText(token.value());
-    }
-
-    private void writeText(@Nullable String text) throws IOException {
-      out.writeInt(stringTable.getIndex(text));
-    }
-
-    private void writeInt(int number) throws IOException {
-      out.writeInt(number);
-    }
-
-    private byte[] writeStringTable() throws IOException {
-      ByteArrayOutputStream stringTableStream = new ByteArrayOutputStream();
-      VarLengthOutputStream output = new VarLengthOutputStream(stringTableStream);
-      List<String> byIndex = stringTable.getStringList();
-      output.writeInt(byIndex.size());
-      for (String string : byIndex) {
-        output.writeUTF(string);
-      }
-
-      output.writeUTF("END");
-      return stringTableStream.toByteArray();
-    }
+    return stream.toByteArray();
   }
 
-  private static class Deserializer {
-    private final VarLengthInputStream in;
-    private final VarLengthInputStream stringTableIn;
-
-    private StringTable stringTable;
-
-    private Deserializer(VarLengthInputStream in, VarLengthInputStream stringTableIn) {
-      this.in = in;
-      this.stringTableIn = stringTableIn;
+  private static void writeValue(VarLengthOutputStream out, StringTable stringTable, String value) throws IOException {
+    int size = stringTable.getStringList().size();
+    int index = stringTable.getIndex(value);
+    if (index == size) {
+      out.writeInt(NEW_VALUE);
+      out.writeUTF(value);
+    } else {
+      out.writeInt(index + 1);
     }
+  }
 
-    public List<TokenInfo> convert() throws IOException {
-      try (in; stringTableIn) {
-        stringTable = readStringTable();
-        int sizeOfCpdTokens = readInt();
-        List<TokenInfo> cpdTokens = new ArrayList<>(sizeOfCpdTokens);
-
-        for (int i = 0; i < sizeOfCpdTokens; i++) {
-          readCpdToken(cpdTokens);
-        }
-
-        if (!"END".equals(in.readUTF())) {
-          throw new IOException("Can't read data from cache, format corrupted");
+  /**
+   * Passes the deserialized tokens to the consumer in their original order, without materializing them.
+   */
+  public static void deserialize(byte[] data, TokenConsumer consumer) throws IOException {
+    try (VarLengthInputStream in = new VarLengthInputStream(data)) {
+      List<String> stringTable = new ArrayList<>(PREDEFINED_VALUES);
+      int size = in.readInt();
+      int line = 0;
+      for (int i = 0; i < size; i++) {
+        int lineAndEndFlag = in.readInt();
+        line += lineAndEndFlag >>> 1;
+        int startLineOffset = in.readInt();
+        String value = readValue(in, stringTable);
+        if ((lineAndEndFlag & 1) == 0) {
+          consumer.accept(line, startLineOffset, line, startLineOffset + value.length(), value);
+        } else {
+          int endLine = line + in.readInt();
+          consumer.accept(line, startLineOffset, endLine, in.readInt(), value);
         }
-        return cpdTokens;
       }
+      if (!END.equals(in.readUTF())) {
+        throw new IOException(CORRUPTED_FORMAT);
+      }
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException(CORRUPTED_FORMAT, e);
     }
+  }
 
-    private void readCpdToken(List<TokenInfo> cpdTokens) throws IOException {
-      cpdTokens.add(new TokenInfo(
-        readInt(),
-        readInt(),
-        readInt(),
-        readInt(),
-        readString()
-      ));
-    }
-
-    private int readInt() throws IOException {
-      return in.readInt();
-    }
-
-    private String readString() throws IOException {
-      return stringTable.getString(in.readInt());
-    }
+  public static List<TokenInfo> deserialize(byte[] data) throws IOException {
+    List<TokenInfo> tokens = new ArrayList<>();
+    deserialize(data, (startLine, startLineOffset, endLine, endLineOffset, value) ->
+      tokens.add(new TokenInfo(startLine, startLineOffset, endLine, endLineOffset, value)));
+    return tokens;
+  }
 
-    private StringTable readStringTable() throws IOException {
-      int size = stringTableIn.readInt();
-      List<String> byIndex = new ArrayList<>(size);
-      for (int i = 0; i < size; i++) {
-        byIndex.add(stringTableIn.readUTF());
-      }
-      if (!"END".equals(stringTableIn.readUTF())) {
-        throw new IOException("Can't read data from cache, format corrupted");
-      }
-      return new StringTable(byIndex);
+  private static String readValue(VarLengthInputStream in, List<String> stringTable) throws IOException {
+    int reference = in.readInt();
+    if (reference == NEW_VALUE) {
+      String value = in.readUTF();
+      stringTable.add(value);
+      return value;
     }
+    return stringTable.get(reference - 1);
   }
-
 }
@@ -0,0 +1,103 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.caching;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializes sets of dotted names, such as fully qualified module names.
+ * Names of a project share most of their segments: each distinct segment is stored once in a string table, and names are stored as
+ * sequences of segment indexes.
+ */
+public class ModuleNamesSerializer {
+
+  private static final String END = "END";
+  private static final String CORRUPTED_FORMAT = "Can't read data from cache, format corrupted";
+
+  private ModuleNamesSerializer() {
+    // Prevent instantiation
+  }
+
+  public static byte[] serialize(Collection<String> names) {
+    StringTable stringTable = new StringTable();
+    List<int[]> encodedNames = new ArrayList<>(names.size());
+    for (String name : names) {
+      String[] segments = name.split("\\.", -1);
+      int[] indexes = new int[segments.length];
+      for (int i = 0; i < segments.length; i++) {
+        indexes[i] = stringTable.getIndex(segments[i]);
+      }
+      encodedNames.add(indexes);
+    }
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try (VarLengthOutputStream out = new VarLengthOutputStream(stream)) {
+      List<String> segments = stringTable.getStringList();
+      out.writeInt(segments.size());
+      for (String segment : segments) {
+        out.writeUTF(segment);
+      }
+      out.writeInt(encodedNames.size());
+      for (int[] indexes : encodedNames) {
+        out.writeInt(indexes.length);
+        for (int index : indexes) {
+          out.writeInt(index);
+        }
+      }
+      out.writeUTF(END);
+    } catch (IOException e) {
+      // writing to a byte array cannot fail
+      throw new IllegalStateException(e);
+    }
+    return stream.toByteArray();
+  }
+
+  public static Set<String> deserialize(byte[] bytes) throws IOException {
+    try (VarLengthInputStream in = new VarLengthInputStream(bytes)) {
+      int nbSegments = in.readInt();
+      List<String> segments = new ArrayList<>();
+      for (int i = 0; i < nbSegments; i++) {
+        segments.add(in.readUTF());
+      }
+      int nbNames = in.readInt();
+      Set<String> names = new HashSet<>();
+      StringBuilder name = new StringBuilder();
+      for (int i = 0; i < nbNames; i++) {
+        name.setLength(0);
+        int length = in.readInt();
+        for (int j = 0; j < length; j++) {
+          if (j > 0) {
+            name.append('.');
+          }
+          name.append(segments.get(in.readInt()));
+        }
+        names.add(name.toString());
+      }
+      if (!END.equals(in.readUTF())) {
+        throw new IOException(CORRUPTED_FORMAT);
+      }
+      return names;
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException(CORRUPTED_FORMAT, e);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.cfg;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import org.sonar.plugins.python.api.PythonFile;
+import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
+import org.sonar.plugins.python.api.symbols.Symbol;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.plugins.python.api.tree.FunctionDef;
+import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.cfg.fixpoint.DefinedVariablesAnalysis;
+import org.sonar.python.cfg.fixpoint.LiveVariablesAnalysis;
+import org.sonar.python.cfg.fixpoint.ReachingDefinitionsAnalysis;
+
+/**
+ * Builds the control flow graphs of a file, and runs the standard fixpoint analyses on them, at most once.
+ * Control flow graphs only depend on the syntax tree: they are shared by type inference and checks.
+ * Results are kept for the lifetime of the provider, which should not outlive the analysis of the file.
+ */
+public class CfgProvider {
+
+  private final PythonFile pythonFile;
+  private final Map<Tree, Optional<ControlFlowGraph>> cfgByScope = new HashMap<>();
+  private final Map<ControlFlowGraph, LiveVariablesAnalysis> liveVariablesByCfg = new HashMap<>();
+  private final Map<ControlFlowGraph, DefinedVariablesAnalysis> definedVariablesByCfg = new HashMap<>();
+  private ReachingDefinitionsAnalysis reachingDefinitionsAnalysis;
+
+  public CfgProvider(PythonFile pythonFile) {
+    this.pythonFile = pythonFile;
+  }
+
+  @CheckForNull
+  public ControlFlowGraph cfg(FunctionDef functionDef) {
+    return cfgByScope.computeIfAbsent(functionDef, tree -> Optional.ofNullable(ControlFlowGraph.build(functionDef, pythonFile))).orElse(null);
+  }
+
+  @CheckForNull
+  public ControlFlowGraph cfg(FileInput fileInput) {
+    return cfgByScope.computeIfAbsent(fileInput, tree -> Optional.ofNullable(ControlFlowGraph.build(fileInput, pythonFile))).orElse(null);
+  }
+
+  public LiveVariablesAnalysis liveVariables(ControlFlowGraph cfg) {
+    return liveVariablesByCfg.computeIfAbsent(cfg, LiveVariablesAnalysis::analyze);
+  }
+
+  /**
+   * @param localVariables local variables of the scope the control flow graph was built for. As there is a single graph per scope,
+   * they are only used the first time the analysis is requested for the given graph.
+   */
+  public DefinedVariablesAnalysis definedVariables(ControlFlowGraph cfg, Set<Symbol> localVariables) {
+    return definedVariablesByCfg.computeIfAbsent(cfg, graph -> DefinedVariablesAnalysis.analyze(graph, localVariables));
+  }
+
+  public ReachingDefinitionsAnalysis reachingDefinitions() {
+    if (reachingDefinitionsAnalysis == null) {
+      reachingDefinitionsAnalysis = new ReachingDefinitionsAnalysis(this);
+    }
+    return reachingDefinitionsAnalysis;
+  }
+
+  public PythonFile pythonFile() {
+    return pythonFile;
+  }
+}
@@ -17,9 +17,9 @@
 package org.sonar.python.cfg.fixpoint;
 
 import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
@@ -38,13 +38,19 @@ public class DefinedVariablesAnalysis {
   }
 
   private void compute(ControlFlowGraph cfg, Set<Symbol> localVariables) {
-    Map<Symbol, VariableDefinition> initialState = new HashMap<>();
+    SymbolIndex symbolIndex = new SymbolIndex();
+    BitSet variables = new BitSet();
+    BitSet initiallyDefined = new BitSet();
     for (Symbol variable : localVariables) {
+      int index = symbolIndex.indexOf(variable);
+      variables.set(index);
       boolean isParameter = variable.usages().stream().anyMatch(u -> u.kind() == Usage.Kind.PARAMETER);
-      initialState.put(variable, isParameter ? VariableDefinition.DEFINED : VariableDefinition.UNDEFINED);
+      if (isParameter) {
+        initiallyDefined.set(index);
+      }
     }
     Set<CfgBlock> blocks = cfg.blocks();
-    blocks.forEach(block -> definedVariablesPerBlock.put(block, DefinedVariables.build(block, initialState)));
+    blocks.forEach(block -> definedVariablesPerBlock.put(block, DefinedVariables.build(block, symbolIndex, variables, initiallyDefined)));
     Deque<CfgBlock> workList = new ArrayDeque<>(blocks);
     while (!workList.isEmpty()) {
       CfgBlock currentBlock = workList.pop();
@@ -60,71 +66,93 @@ public class DefinedVariablesAnalysis {
     return definedVariablesPerBlock.get(block);
   }
 
+  private static BitSet definedBits(SymbolIndex symbolIndex, Map<Symbol, VariableDefinition> state) {
+    BitSet defined = new BitSet();
+    state.forEach((symbol, definition) -> {
+      if (definition == VariableDefinition.DEFINED) {
+        defined.set(symbolIndex.indexOf(symbol));
+      }
+    });
+    return defined;
+  }
+
   public enum VariableDefinition {
     UNDEFINED,
-    DEFINED;
-
-    static VariableDefinition join(VariableDefinition v1, VariableDefinition v2) {
-      if (v1 == UNDEFINED && v2 == UNDEFINED) {
-        return UNDEFINED;
-      }
-      return DEFINED;
-    }
+    DEFINED
   }
 
+  /**
+   * Program states are bitsets of the defined symbols, numbered by a {@link SymbolIndex} shared by all the blocks of the CFG.
+   * The variables of the initial state are always part of a state, possibly undefined. Other symbols are only part of it once
+   * defined, as they are only ever added by the blocks writing them.
+   */
   public static class DefinedVariables extends CfgBlockState {
 
-    private Map<Symbol, VariableDefinition> in = new HashMap<>();
+    private final SymbolIndex symbolIndex;
+    private final BitSet variables;
+    private BitSet killBits;
+
+    private BitSet in;
 
-    private Map<Symbol, VariableDefinition> out = new HashMap<>();
+    private BitSet out = new BitSet();
 
-    private DefinedVariables(CfgBlock block) {
+    private DefinedVariables(CfgBlock block, SymbolIndex symbolIndex, BitSet variables, BitSet initiallyDefined) {
       super(block);
+      this.symbolIndex = symbolIndex;
+      this.variables = variables;
+      this.in = (BitSet) initiallyDefined.clone();
     }
 
     /**
      * Builds a new DefinedVariables instance for the given block and initializes the 'kill' symbol sets.
      */
     public static DefinedVariables build(CfgBlock block, Map<Symbol, VariableDefinition> initialState) {
-      DefinedVariables instance = new DefinedVariables(block);
-      instance.in = initialState;
+      SymbolIndex symbolIndex = new SymbolIndex();
+      return build(block, symbolIndex, symbolIndex.bitSet(initialState.keySet()), definedBits(symbolIndex, initialState));
+    }
+
+    static DefinedVariables build(CfgBlock block, SymbolIndex symbolIndex, BitSet variables, BitSet initiallyDefined) {
+      DefinedVariables instance = new DefinedVariables(block, symbolIndex, variables, initiallyDefined);
       instance.init(block);
+      instance.killBits = symbolIndex.bitSet(instance.kill);
       return instance;
     }
 
     /**
      * Propagates forward: first computes the in set from all predecessors, then the out set.
+     * A variable is defined when it is defined in at least one predecessor.
      */
     private boolean propagate(Map<CfgBlock, DefinedVariables> definedVariablesPerBlock) {
-      block.predecessors().stream()
-        .map(definedVariablesPerBlock::get)
-        .map(DefinedVariables::getOut)
-        .forEach(predecessorOuts -> in = join(in, predecessorOuts));
-      Map<Symbol, VariableDefinition> newOut = new HashMap<>(in);
-      kill.forEach(symbol -> newOut.put(symbol, VariableDefinition.DEFINED));
+      for (CfgBlock predecessor : block.predecessors()) {
+        in.or(definedVariablesPerBlock.get(predecessor).out);
+      }
+      BitSet newOut = (BitSet) in.clone();
+      newOut.or(killBits);
       boolean outHasChanged = !newOut.equals(out);
       out = newOut;
       return outHasChanged;
     }
 
-    private static Map<Symbol, VariableDefinition> join(Map<Symbol, VariableDefinition> programState1, Map<Symbol, VariableDefinition> programState2) {
-      Map<Symbol, VariableDefinition> result = new HashMap<>();
-      Set<Symbol> allKeys = new HashSet<>(programState1.keySet());
-      allKeys.addAll(programState2.keySet());
-      for (Symbol key : allKeys) {
-        VariableDefinition varDef1 = programState1.getOrDefault(key, VariableDefinition.UNDEFINED);
-        VariableDefinition varDef2 = programState2.getOrDefault(key, VariableDefinition.UNDEFINED);
-        result.put(key, VariableDefinition.join(varDef1, varDef2));
-      }
-      return result;
-    }
-
+    /**
+     * Returns a new map built from the program state at the entry of the block.
+     */
     public Map<Symbol, VariableDefinition> getIn() {
-      return in;
+      return toMap(in);
     }
 
+    /**
+     * Returns a new map built from the program state at the exit of the block.
+     */
     public Map<Symbol, VariableDefinition> getOut() {
-      return out;
+      return toMap(out);
+    }
+
+    private Map<Symbol, VariableDefinition> toMap(BitSet defined) {
+      BitSet symbols = (BitSet) variables.clone();
+      symbols.or(defined);
+      Map<Symbol, VariableDefinition> result = new HashMap<>();
+      symbols.stream().forEach(index -> result.put(symbolIndex.symbol(index), defined.get(index) ? VariableDefinition.DEFINED : VariableDefinition.UNDEFINED));
+      return result;
     }
   }
 }
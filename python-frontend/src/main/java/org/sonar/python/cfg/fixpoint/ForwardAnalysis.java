@@ -17,10 +17,17 @@
 package org.sonar.python.cfg.fixpoint;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.CheckForNull;
 import org.sonar.plugins.python.api.cfg.CfgBlock;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
 import org.sonar.plugins.python.api.tree.Tree;
@@ -35,23 +42,97 @@ import org.sonar.plugins.python.api.tree.Tree;
 public abstract class ForwardAnalysis {
 
   protected final Map<CfgBlock, ProgramStateAtBlock> programStateByBlock = new HashMap<>();
+  private Statistics statistics = null;
 
+  /**
+   * Blocks are processed in reverse postorder, so that a block is usually visited after all its non-back-edge predecessors.
+   * A block that is already waiting in the work list is not queued a second time.
+   */
   public ProgramState compute(ControlFlowGraph cfg) {
     ProgramState initialState = initialState();
     Set<CfgBlock> blocks = cfg.blocks();
     blocks.forEach(block -> programStateByBlock.put(block, new ProgramStateAtBlock(block, initialState)));
-    Deque<CfgBlock> workList = new ArrayDeque<>(blocks);
+    Map<CfgBlock, Integer> orderByBlock = reversePostOrder(cfg);
+    TreeSet<CfgBlock> workList = new TreeSet<>(Comparator.comparing(orderByBlock::get));
+    workList.addAll(blocks);
+    int[] visitsByOrder = new int[orderByBlock.size()];
+    int iterations = 0;
+    int maxBlockVisits = 0;
     while (!workList.isEmpty()) {
-      CfgBlock currentBlock = workList.pop();
+      CfgBlock currentBlock = workList.pollFirst();
+      iterations++;
+      maxBlockVisits = Math.max(maxBlockVisits, ++visitsByOrder[orderByBlock.get(currentBlock)]);
       ProgramStateAtBlock programStateAtBlock = programStateByBlock.get(currentBlock);
       boolean outHasChanged = programStateAtBlock.propagate();
       if (outHasChanged) {
-        currentBlock.successors().forEach(workList::push);
+        workList.addAll(currentBlock.successors());
       }
     }
+    statistics = new Statistics(blocks.size(), iterations, maxBlockVisits);
     return programStateByBlock.get(cfg.end()).out;
   }
 
+  /**
+   * Blocks reachable from the start block come first, in reverse postorder. Unreachable blocks are ordered after them.
+   */
+  private static Map<CfgBlock, Integer> reversePostOrder(ControlFlowGraph cfg) {
+    List<CfgBlock> postOrder = new ArrayList<>();
+    Set<CfgBlock> visited = new HashSet<>();
+    depthFirstPostOrder(cfg.start(), visited, postOrder);
+    Map<CfgBlock, Integer> orderByBlock = new HashMap<>();
+    for (int i = postOrder.size() - 1; i >= 0; i--) {
+      orderByBlock.put(postOrder.get(i), orderByBlock.size());
+    }
+    for (CfgBlock block : cfg.blocks()) {
+      if (!visited.contains(block)) {
+        List<CfgBlock> unreachablePostOrder = new ArrayList<>();
+        depthFirstPostOrder(block, visited, unreachablePostOrder);
+        for (int i = unreachablePostOrder.size() - 1; i >= 0; i--) {
+          orderByBlock.put(unreachablePostOrder.get(i), orderByBlock.size());
+        }
+      }
+    }
+    return orderByBlock;
+  }
+
+  private static void depthFirstPostOrder(CfgBlock root, Set<CfgBlock> visited, List<CfgBlock> postOrder) {
+    Deque<CfgBlock> stack = new ArrayDeque<>();
+    Deque<Iterator<CfgBlock>> successors = new ArrayDeque<>();
+    visited.add(root);
+    stack.push(root);
+    successors.push(root.successors().iterator());
+    while (!stack.isEmpty()) {
+      Iterator<CfgBlock> iterator = successors.peek();
+      if (iterator.hasNext()) {
+        CfgBlock successor = iterator.next();
+        if (visited.add(successor)) {
+          stack.push(successor);
+          successors.push(successor.successors().iterator());
+        }
+      } else {
+        postOrder.add(stack.pop());
+        successors.pop();
+      }
+    }
+  }
+
+  /**
+   * Statistics of the last computed fixpoint, e.g. to find the functions on which type inference converges slowly.
+   * Returns null if no fixpoint was computed yet.
+   */
+  @CheckForNull
+  public Statistics statistics() {
+    return statistics;
+  }
+
+  /**
+   * @param blocks number of blocks of the control flow graph
+   * @param iterations number of blocks taken from the work list before reaching the fixpoint
+   * @param maxBlockVisits highest number of times a single block was visited
+   */
+  public record Statistics(int blocks, int iterations, int maxBlockVisits) {
+  }
+
   public abstract ProgramState initialState();
 
   protected class ProgramStateAtBlock {
@@ -17,6 +17,7 @@
 package org.sonar.python.cfg.fixpoint;
 
 import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,7 +43,8 @@ public class LiveVariablesAnalysis {
    * An alternative terminology for "kill/gen" is "def/use"
    */
   private void compute(ControlFlowGraph cfg) {
-    cfg.blocks().forEach(block -> liveVariablesPerBlock.put(block, LiveVariables.build(block)));
+    SymbolIndex symbolIndex = new SymbolIndex();
+    cfg.blocks().forEach(block -> liveVariablesPerBlock.put(block, LiveVariables.build(block, symbolIndex)));
     Deque<CfgBlock> workList = new ArrayDeque<>(cfg.blocks());
     while (!workList.isEmpty()) {
       CfgBlock currentBlock = workList.pop();
@@ -72,30 +74,45 @@ public class LiveVariablesAnalysis {
     return readAtLeastOnce;
   }
 
+  /**
+   * Sets of variables are bitsets over the symbols numbered by a {@link SymbolIndex} shared by all the blocks of the CFG.
+   */
   public static class LiveVariables extends CfgBlockState {
+
+    private final SymbolIndex symbolIndex;
+    private BitSet genBits;
+    private BitSet killBits;
+
     /**
      * The Live-In variables are variables which has values that:
      * - are needed by this block
      * OR
      * - are needed by a successor block and are not killed in this block.
      */
-    private Set<Symbol> in = new HashSet<>();
+    private BitSet in = new BitSet();
 
     /**
      * The Live-Out variables are variables which are needed by successors.
      */
-    private Set<Symbol> out = new HashSet<>();
+    private BitSet out = new BitSet();
 
-    private LiveVariables(CfgBlock block) {
+    private LiveVariables(CfgBlock block, SymbolIndex symbolIndex) {
       super(block);
+      this.symbolIndex = symbolIndex;
     }
 
     /**
      * Builds a new LiveVariables instance for the given block and initializes the 'kill' and 'gen' symbol sets.
      */
     public static LiveVariables build(CfgBlock block) {
-      LiveVariables instance = new LiveVariables(block);
+      return build(block, new SymbolIndex());
+    }
+
+    static LiveVariables build(CfgBlock block, SymbolIndex symbolIndex) {
+      LiveVariables instance = new LiveVariables(block, symbolIndex);
       instance.init(block);
+      instance.genBits = symbolIndex.bitSet(instance.gen);
+      instance.killBits = symbolIndex.bitSet(instance.kill);
       return instance;
     }
 
@@ -103,32 +120,32 @@ public class LiveVariablesAnalysis {
      * Propagates backwards: first computes the 'out' set, then the 'in' set.
      */
     private boolean propagate(Map<CfgBlock, LiveVariables> liveVariablesPerBlock) {
-      out.clear();
-      block.successors().stream()
-        .map(liveVariablesPerBlock::get)
-        .map(LiveVariables::getIn)
-        .forEach(out::addAll);
+      BitSet newOut = new BitSet();
+      for (CfgBlock successor : block.successors()) {
+        newOut.or(liveVariablesPerBlock.get(successor).in);
+      }
       // in = gen + (out - kill)
-      Set<Symbol> newIn = new HashSet<>(gen);
-      newIn.addAll(difference(out, kill));
+      BitSet newIn = (BitSet) newOut.clone();
+      newIn.andNot(killBits);
+      newIn.or(genBits);
       boolean inHasChanged = !newIn.equals(in);
+      out = newOut;
       in = newIn;
       return inHasChanged;
     }
 
-    private static Set<Symbol> difference(Set<Symbol> out, Set<Symbol> kill) {
-      Set<Symbol> result = new HashSet<>(out);
-      result.removeIf(kill::contains);
-      return result;
-    }
-
-
+    /**
+     * Read-only view of the Live-In variables.
+     */
     public Set<Symbol> getIn() {
-      return in;
+      return symbolIndex.asSet(in);
     }
 
+    /**
+     * Read-only view of the Live-Out variables.
+     */
     public Set<Symbol> getOut() {
-      return out;
+      return symbolIndex.asSet(out);
     }
   }
 }
@@ -17,6 +17,8 @@
 package org.sonar.python.cfg.fixpoint;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
@@ -40,6 +42,7 @@ import org.sonar.plugins.python.api.tree.Expression;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.tree.TreeUtils;
 
 import static org.sonar.plugins.python.api.tree.Tree.Kind.ASSIGNMENT_STMT;
@@ -49,18 +52,28 @@ import static org.sonar.plugins.python.api.tree.Tree.Kind.TRY_STMT;
 /**
  * https://en.wikipedia.org/wiki/Reaching_definition
  * Data flow analysis to determinate what definitions may reach a given point in the code.
- * Program state is represented by a map where:
- *  - key is symbol
- *  - value is set of possible expressions that symbol may have been assigned to
+ * Definitions, i.e. the assignments of an expression to a symbol, are numbered for each analyzed CFG.
+ * Program state is represented by the bitset of the definitions which may reach a point: the possible expressions that
+ * a symbol may have been assigned to are those of its reaching definitions.
  */
 public class ReachingDefinitionsAnalysis {
   private final Map<CfgBlock, ProgramStateAtBlock> programStateByBlock = new HashMap<>();
   private final Map<Name, Set<Expression>> assignedExpressionByName = new HashMap<>();
-  private final PythonFile pythonFile;
+  private final CfgProvider cfgProvider;
   private final Map<Symbol, Set<Name>> assignedNamesBySymbol = new HashMap<>();
+  private final List<Expression> assignedValueByDefinition = new ArrayList<>();
+  private final Map<Name, Integer> definitionByAssignedName = new HashMap<>();
+  private final Map<Symbol, BitSet> definitionsBySymbol = new HashMap<>();
 
   public ReachingDefinitionsAnalysis(PythonFile pythonFile) {
-    this.pythonFile = pythonFile;
+    this(new CfgProvider(pythonFile));
+  }
+
+  /**
+   * Prefer {@link CfgProvider#reachingDefinitions()}, which shares a single analysis between all the users of the provider.
+   */
+  public ReachingDefinitionsAnalysis(CfgProvider cfgProvider) {
+    this.cfgProvider = cfgProvider;
   }
 
   public Set<Expression> valuesAtLocation(Name variable) {
@@ -77,11 +90,11 @@ public class ReachingDefinitionsAnalysis {
     if (enclosingFunction == null || TreeUtils.hasDescendant(enclosingFunction, t -> t.is(TRY_STMT))) {
       return Collections.emptySet();
     }
-    ControlFlowGraph cfg = ControlFlowGraph.build(enclosingFunction, pythonFile);
+    ControlFlowGraph cfg = cfgProvider.cfg(enclosingFunction);
     if (cfg == null) {
       return Collections.emptySet();
     }
-    compute(cfg, enclosingFunction.localVariables());
+    compute(cfg);
     return assignedExpressionByName.getOrDefault(variable, Collections.emptySet());
   }
 
@@ -96,17 +109,23 @@ public class ReachingDefinitionsAnalysis {
     if (hasMissingBindingUsage) {
       return Collections.emptySet();
     }
-    return Optional.ofNullable(programStateAtElement.out.get(symbol))
-        .orElse(Collections.emptySet());
+    BitSet definitions = definitionsBySymbol.get(symbol);
+    if (definitions == null || !definitions.intersects(programStateAtElement.out)) {
+      return Collections.emptySet();
+    }
+    Set<Expression> assignedExpressions = new HashSet<>();
+    definitions.stream()
+      .filter(programStateAtElement.out::get)
+      .forEach(definition -> assignedExpressions.add(assignedValueByDefinition.get(definition)));
+    return assignedExpressions;
   }
 
-  private void compute(ControlFlowGraph cfg, Set<Symbol> localVariables) {
-    Map<Symbol, Set<Expression>> initialState = new HashMap<>();
-    for (Symbol variable : localVariables) {
-      initialState.put(variable, new HashSet<>());
-    }
+  private void compute(ControlFlowGraph cfg) {
+    assignedValueByDefinition.clear();
+    definitionByAssignedName.clear();
+    definitionsBySymbol.clear();
     Set<CfgBlock> blocks = cfg.blocks();
-    blocks.forEach(block -> programStateByBlock.put(block, new ProgramStateAtBlock(block, initialState)));
+    blocks.forEach(block -> programStateByBlock.put(block, new ProgramStateAtBlock(block)));
     Deque<CfgBlock> workList = new ArrayDeque<>(blocks);
     while (!workList.isEmpty()) {
       CfgBlock currentBlock = workList.pop();
@@ -121,7 +140,7 @@ public class ReachingDefinitionsAnalysis {
 
   private void updateProgramStateByElement(ControlFlowGraph cfg) {
     for (CfgBlock block : cfg.blocks()) {
-      Map<Symbol, Set<Expression>> inputState = programStateByBlock.get(block).in;
+      BitSet inputState = programStateByBlock.get(block).in;
       for (Tree element : block.elements()) {
         ProgramStateAtElement programStateAtElement = new ProgramStateAtElement(inputState, element);
         element.accept(new BaseTreeVisitor() {
@@ -143,12 +162,11 @@ public class ReachingDefinitionsAnalysis {
   private class ProgramStateAtBlock {
 
     private final CfgBlock block;
-    private Map<Symbol, Set<Expression>> in;
-    private Map<Symbol, Set<Expression>> out = new HashMap<>();
+    private final BitSet in = new BitSet();
+    private BitSet out = new BitSet();
 
-    private ProgramStateAtBlock(CfgBlock block, Map<Symbol, Set<Expression>> initialState) {
+    private ProgramStateAtBlock(CfgBlock block) {
       this.block = block;
-      this.in = initialState;
       this.block.elements().forEach(element -> updateProgramState(element, out));
     }
 
@@ -156,8 +174,8 @@ public class ReachingDefinitionsAnalysis {
      * Propagates forward: first computes the in set from all predecessors, then the out set.
      */
     private boolean propagate() {
-      block.predecessors().forEach(predecessor -> in = join(in, programStateByBlock.get(predecessor).out));
-      Map<Symbol, Set<Expression>> newOut = new HashMap<>(in);
+      block.predecessors().forEach(predecessor -> in.or(programStateByBlock.get(predecessor).out));
+      BitSet newOut = (BitSet) in.clone();
       block.elements().forEach(element -> updateProgramState(element, newOut));
       boolean outHasChanged = !newOut.equals(out);
       out = newOut;
@@ -166,29 +184,15 @@ public class ReachingDefinitionsAnalysis {
   }
 
   private class ProgramStateAtElement {
-    private final Map<Symbol, Set<Expression>> out;
+    private final BitSet out;
 
-    public ProgramStateAtElement(Map<Symbol, Set<Expression>> in, Tree element) {
-      out = join(in, Collections.emptyMap());
+    public ProgramStateAtElement(BitSet in, Tree element) {
+      out = (BitSet) in.clone();
       updateProgramState(element, out);
     }
   }
 
-  private static Map<Symbol, Set<Expression>> join(Map<Symbol, Set<Expression>> programState1,
-      Map<Symbol, Set<Expression>> programState2) {
-    Map<Symbol, Set<Expression>> result = new HashMap<>();
-    Set<Symbol> allKeys = new HashSet<>(programState1.keySet());
-    allKeys.addAll(programState2.keySet());
-    for (Symbol key : allKeys) {
-      Set<Expression> union = new HashSet<>();
-      union.addAll(programState1.getOrDefault(key, Collections.emptySet()));
-      union.addAll(programState2.getOrDefault(key, Collections.emptySet()));
-      result.put(key, union);
-    }
-    return result;
-  }
-
-  private void updateProgramState(Tree element, Map<Symbol, Set<Expression>> out) {
+  private void updateProgramState(Tree element, BitSet out) {
     if (element.is(ASSIGNMENT_STMT)) {
       updateStateForAssignment((AssignmentStatement) element, out);
     }
@@ -197,20 +201,19 @@ public class ReachingDefinitionsAnalysis {
     }
   }
 
-  private void updateStateForAssignment(AssignmentStatement element, Map<Symbol, Set<Expression>> programState) {
+  private void updateStateForAssignment(AssignmentStatement element, BitSet programState) {
     List<Expression> lhsExpressions = element.lhsExpressions().stream()
         .flatMap(exprList -> exprList.expressions().stream())
         .toList();
     performUpdate(programState, lhsExpressions, element::assignedValue);
   }
 
-  private void updateStateForAnnotatedAssignement(AnnotatedAssignment element,
-      Map<Symbol, Set<Expression>> programState) {
+  private void updateStateForAnnotatedAssignement(AnnotatedAssignment element, BitSet programState) {
     List<Expression> lhsExpressions = List.of(element.variable());
     performUpdate(programState, lhsExpressions, element::assignedValue);
   }
 
-  private void performUpdate(Map<Symbol, Set<Expression>> programState, List<Expression> lhsExpressions,
+  private void performUpdate(BitSet programState, List<Expression> lhsExpressions,
       Supplier<Expression> assignedValueSupplier) {
     getLhsExpression(lhsExpressions)
         .ifPresent(name -> TreeUtils.getSymbolFromTree(name)
@@ -218,15 +221,30 @@ public class ReachingDefinitionsAnalysis {
   }
 
   private void performUpdate(Symbol symbol, Supplier<Expression> assignedValueSupplier, Expression lhsExpression,
-      Map<Symbol, Set<Expression>> programState) {
-    assignedNamesBySymbol.computeIfAbsent(symbol, s -> new HashSet<>()).add(((Name) lhsExpression));
-    Set<Expression> assignedValues = new HashSet<>();
+      BitSet programState) {
+    Name assignedName = (Name) lhsExpression;
+    assignedNamesBySymbol.computeIfAbsent(symbol, s -> new HashSet<>()).add(assignedName);
     var assignedValue = assignedValueSupplier.get();
     if (assignedValue != null) {
-      assignedValues.add(assignedValue);
+      int definition = definition(symbol, assignedName, assignedValue);
       // performing a strong update
-      programState.put(symbol, assignedValues);
+      programState.andNot(definitionsBySymbol.get(symbol));
+      programState.set(definition);
+    }
+  }
+
+  /**
+   * Returns the number of the definition of the given assigned name, numbering it if it was not numbered yet.
+   */
+  private int definition(Symbol symbol, Name assignedName, Expression assignedValue) {
+    Integer definition = definitionByAssignedName.get(assignedName);
+    if (definition == null) {
+      definition = assignedValueByDefinition.size();
+      assignedValueByDefinition.add(assignedValue);
+      definitionByAssignedName.put(assignedName, definition);
+      definitionsBySymbol.computeIfAbsent(symbol, s -> new BitSet()).set(definition);
     }
+    return definition;
   }
 
   private static Optional<Name> getLhsExpression(List<Expression> lhsExpressions) {
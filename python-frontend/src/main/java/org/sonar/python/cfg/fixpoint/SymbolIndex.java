@@ -0,0 +1,92 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.cfg.fixpoint;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.sonar.plugins.python.api.symbols.Symbol;
+
+/**
+ * Numbers the symbols of a control flow graph, so that the program states of an analysis can be represented as bitsets.
+ */
+class SymbolIndex {
+
+  private final Map<Symbol, Integer> indexBySymbol = new HashMap<>();
+  private final List<Symbol> symbols = new ArrayList<>();
+
+  /**
+   * Returns the number of the given symbol, numbering it if it was not numbered yet.
+   */
+  int indexOf(Symbol symbol) {
+    Integer index = indexBySymbol.get(symbol);
+    if (index == null) {
+      index = symbols.size();
+      indexBySymbol.put(symbol, index);
+      symbols.add(symbol);
+    }
+    return index;
+  }
+
+  Symbol symbol(int index) {
+    return symbols.get(index);
+  }
+
+  BitSet bitSet(Collection<Symbol> symbolsToSet) {
+    BitSet bitSet = new BitSet();
+    symbolsToSet.forEach(symbol -> bitSet.set(indexOf(symbol)));
+    return bitSet;
+  }
+
+  /**
+   * Read-only view of the symbols whose bit is set. The bitset must not be modified afterwards.
+   */
+  Set<Symbol> asSet(BitSet bitSet) {
+    return new SymbolSet(bitSet);
+  }
+
+  private class SymbolSet extends AbstractSet<Symbol> {
+
+    private final BitSet bitSet;
+
+    private SymbolSet(BitSet bitSet) {
+      this.bitSet = bitSet;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      Integer index = indexBySymbol.get(o);
+      return index != null && bitSet.get(index);
+    }
+
+    @Override
+    public Iterator<Symbol> iterator() {
+      return bitSet.stream().mapToObj(SymbolIndex.this::symbol).iterator();
+    }
+
+    @Override
+    public int size() {
+      return bitSet.cardinality();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * Compares descriptors by the information other modules may rely on.
+ * Definition locations are ignored: moving a declaration within its module does not change what dependent modules see of it.
+ */
+public class DescriptorSignatures {
+
+  private DescriptorSignatures() {}
+
+  public static boolean haveSameSignatures(@Nullable Collection<Descriptor> descriptors, @Nullable Collection<Descriptor> otherDescriptors) {
+    if (descriptors == null || otherDescriptors == null) {
+      return descriptors == otherDescriptors;
+    }
+    return descriptors.size() == otherDescriptors.size() && sortedSignatures(descriptors).equals(sortedSignatures(otherDescriptors));
+  }
+
+  static String signature(Descriptor descriptor) {
+    String prefix = descriptor.kind() + "|" + descriptor.name() + "|" + descriptor.fullyQualifiedName();
+    switch (descriptor.kind()) {
+      case CLASS:
+        ClassDescriptor classDescriptor = (ClassDescriptor) descriptor;
+        return prefix + "|" + classDescriptor.superClasses() + "|" + classDescriptor.hasDecorators() + "|" + classDescriptor.hasSuperClassWithoutDescriptor()
+          + "|" + classDescriptor.hasMetaClass() + "|" + classDescriptor.metaclassFQN() + "|" + classDescriptor.supportsGenerics()
+          + "|" + sortedSignatures(classDescriptor.members());
+      case FUNCTION:
+        FunctionDescriptor functionDescriptor = (FunctionDescriptor) descriptor;
+        return prefix + "|" + functionDescriptor.isAsynchronous() + "|" + functionDescriptor.isInstanceMethod() + "|" + functionDescriptor.decorators()
+          + "|" + functionDescriptor.hasDecorators() + "|" + functionDescriptor.annotatedReturnTypeName()
+          + "|" + signature(functionDescriptor.typeAnnotationDescriptor())
+          + "|" + functionDescriptor.parameters().stream().map(DescriptorSignatures::signature).toList();
+      case VARIABLE:
+        VariableDescriptor variableDescriptor = (VariableDescriptor) descriptor;
+        return prefix + "|" + variableDescriptor.annotatedType() + "|" + variableDescriptor.isImportedModule();
+      case AMBIGUOUS:
+        return prefix + "|" + sortedSignatures(((AmbiguousDescriptor) descriptor).alternatives());
+      case ALIAS:
+        return prefix + "|" + signature(((AliasDescriptor) descriptor).originalDescriptor());
+      case MODULE:
+      default:
+        return prefix + "|" + sortedSignatures(((ModuleDescriptor) descriptor).members().values());
+    }
+  }
+
+  private static String signature(FunctionDescriptor.Parameter parameter) {
+    return parameter.name() + ":" + parameter.annotatedType() + ":" + parameter.hasDefaultValue() + ":" + parameter.isKeywordVariadic()
+      + ":" + parameter.isPositionalVariadic() + ":" + parameter.isKeywordOnly() + ":" + parameter.isPositionalOnly();
+  }
+
+  private static String signature(@Nullable TypeAnnotationDescriptor typeAnnotationDescriptor) {
+    if (typeAnnotationDescriptor == null) {
+      return "null";
+    }
+    return typeAnnotationDescriptor.prettyPrintedName() + ":" + typeAnnotationDescriptor.kind() + ":" + typeAnnotationDescriptor.fullyQualifiedName()
+      + typeAnnotationDescriptor.args().stream().map(DescriptorSignatures::signature).toList();
+  }
+
+  private static List<String> sortedSignatures(Collection<Descriptor> descriptors) {
+    return descriptors.stream().map(DescriptorSignatures::signature).sorted().collect(Collectors.toList());
+  }
+}
@@ -32,6 +32,7 @@ public class DescriptorsToProtobuf {
     List<DescriptorsProtos.FunctionDescriptor> functionDescriptors = new ArrayList<>();
     List<DescriptorsProtos.VarDescriptor> varDescriptors = new ArrayList<>();
     List<DescriptorsProtos.AmbiguousDescriptor> ambiguousDescriptors = new ArrayList<>();
+    List<DescriptorsProtos.AliasDescriptor> aliasDescriptors = new ArrayList<>();
     for (Descriptor descriptor : descriptors) {
       Descriptor.Kind kind = descriptor.kind();
       if (kind == Descriptor.Kind.CLASS) {
@@ -40,6 +41,8 @@ public class DescriptorsToProtobuf {
         functionDescriptors.add(toProtobuf((FunctionDescriptor) descriptor));
       } else if (kind == Descriptor.Kind.VARIABLE) {
         varDescriptors.add(toProtobuf((VariableDescriptor) descriptor));
+      } else if (kind == Descriptor.Kind.ALIAS) {
+        aliasDescriptors.add(toProtobuf((AliasDescriptor) descriptor));
       } else {
         ambiguousDescriptors.add(toProtobuf((AmbiguousDescriptor) descriptor));
       }
@@ -49,6 +52,7 @@ public class DescriptorsToProtobuf {
       .addAllFunctionDescriptors(functionDescriptors)
       .addAllVarDescriptors(varDescriptors)
       .addAllAmbiguousDescriptors(ambiguousDescriptors)
+      .addAllAliasDescriptors(aliasDescriptors)
       .build();
   }
 
@@ -56,12 +60,15 @@ public class DescriptorsToProtobuf {
     List<DescriptorsProtos.FunctionDescriptor> functionDescriptors = new ArrayList<>();
     List<DescriptorsProtos.VarDescriptor> variableDescriptors = new ArrayList<>();
     List<DescriptorsProtos.ClassDescriptor> classDescriptors = new ArrayList<>();
+    List<DescriptorsProtos.AliasDescriptor> aliasDescriptors = new ArrayList<>();
     for (Descriptor descriptor : ambiguousDescriptor.alternatives()) {
       Descriptor.Kind kind = descriptor.kind();
       if (kind == Descriptor.Kind.FUNCTION) {
         functionDescriptors.add(toProtobuf((FunctionDescriptor) descriptor));
       } else if (kind == Descriptor.Kind.VARIABLE) {
         variableDescriptors.add(toProtobuf((VariableDescriptor) descriptor));
+      } else if (kind == Descriptor.Kind.ALIAS) {
+        aliasDescriptors.add(toProtobuf((AliasDescriptor) descriptor));
       } else {
         classDescriptors.add(toProtobuf((ClassDescriptor) descriptor));
       }
@@ -70,7 +77,8 @@ public class DescriptorsToProtobuf {
     builder.setName(ambiguousDescriptor.name())
       .addAllClassDescriptors(classDescriptors)
       .addAllFunctionDescriptors(functionDescriptors)
-      .addAllVarDescriptors(variableDescriptors);
+      .addAllVarDescriptors(variableDescriptors)
+      .addAllAliasDescriptors(aliasDescriptors);
     String fullyQualifiedName = ambiguousDescriptor.fullyQualifiedName();
     if (fullyQualifiedName != null) {
       builder.setFullyQualifiedName(fullyQualifiedName);
@@ -78,6 +86,19 @@ public class DescriptorsToProtobuf {
     return builder.build();
   }
 
+  public static DescriptorsProtos.AliasDescriptor toProtobuf(AliasDescriptor aliasDescriptor) {
+    DescriptorsProtos.AliasDescriptor.Builder builder = DescriptorsProtos.AliasDescriptor.newBuilder()
+      .setName(aliasDescriptor.name())
+      .setFullyQualifiedName(aliasDescriptor.fullyQualifiedName());
+    Descriptor originalDescriptor = aliasDescriptor.originalDescriptor();
+    if (originalDescriptor.kind() == Descriptor.Kind.FUNCTION) {
+      builder.setFunctionDescriptor(toProtobuf((FunctionDescriptor) originalDescriptor));
+    } else {
+      builder.setClassDescriptor(toProtobuf((ClassDescriptor) originalDescriptor));
+    }
+    return builder.build();
+  }
+
   public static DescriptorsProtos.ClassDescriptor toProtobuf(ClassDescriptor classDescriptor) {
     List<DescriptorsProtos.FunctionDescriptor> functionMembers = new ArrayList<>();
     List<DescriptorsProtos.VarDescriptor> variableMembers = new ArrayList<>();
@@ -135,6 +156,22 @@ public class DescriptorsToProtobuf {
     if (definitionLocation != null) {
       builder.setDefinitionLocation(toProtobuf(definitionLocation));
     }
+    TypeAnnotationDescriptor typeAnnotationDescriptor = functionDescriptor.typeAnnotationDescriptor();
+    if (typeAnnotationDescriptor != null) {
+      builder.setTypeAnnotationDescriptor(toProtobuf(typeAnnotationDescriptor));
+    }
+    return builder.build();
+  }
+
+  public static DescriptorsProtos.TypeAnnotationDescriptor toProtobuf(TypeAnnotationDescriptor typeAnnotationDescriptor) {
+    DescriptorsProtos.TypeAnnotationDescriptor.Builder builder = DescriptorsProtos.TypeAnnotationDescriptor.newBuilder()
+      .setPrettyPrintedName(typeAnnotationDescriptor.prettyPrintedName())
+      .setKind(typeAnnotationDescriptor.kind().name())
+      .addAllArgs(typeAnnotationDescriptor.args().stream().map(DescriptorsToProtobuf::toProtobuf).toList());
+    String fullyQualifiedName = typeAnnotationDescriptor.fullyQualifiedName();
+    if (fullyQualifiedName != null) {
+      builder.setFullyQualifiedName(fullyQualifiedName);
+    }
     return builder.build();
   }
 
@@ -170,6 +207,7 @@ public class DescriptorsToProtobuf {
     if (annotatedType != null) {
       builder.setAnnotatedType(annotatedType);
     }
+    builder.setIsImportedModule(variableDescriptor.isImportedModule());
     return builder.build();
   }
 
@@ -189,6 +227,7 @@ public class DescriptorsToProtobuf {
     moduleDescriptorProto.getFunctionDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
     moduleDescriptorProto.getAmbiguousDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
     moduleDescriptorProto.getVarDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
+    moduleDescriptorProto.getAliasDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
     return descriptors;
   }
 
@@ -198,6 +237,7 @@ public class DescriptorsToProtobuf {
     ambiguousDescriptor.getClassDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
     ambiguousDescriptor.getFunctionDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
     ambiguousDescriptor.getVarDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
+    ambiguousDescriptor.getAliasDescriptorsList().forEach(proto -> descriptors.add(fromProtobuf(proto)));
     return new AmbiguousDescriptor(
       ambiguousDescriptor.getName(),
       fullyQualifiedName,
@@ -205,6 +245,12 @@ public class DescriptorsToProtobuf {
     );
   }
 
+  public static AliasDescriptor fromProtobuf(DescriptorsProtos.AliasDescriptor aliasDescriptorProto) {
+    Descriptor originalDescriptor = aliasDescriptorProto.hasFunctionDescriptor() ? fromProtobuf(aliasDescriptorProto.getFunctionDescriptor())
+      : fromProtobuf(aliasDescriptorProto.getClassDescriptor());
+    return new AliasDescriptor(aliasDescriptorProto.getName(), aliasDescriptorProto.getFullyQualifiedName(), originalDescriptor);
+  }
+
   public static ClassDescriptor fromProtobuf(DescriptorsProtos.ClassDescriptor classDescriptorProto) {
     String metaclassFQN = classDescriptorProto.hasMetaClassFQN() ? classDescriptorProto.getMetaClassFQN() : null;
     LocationInFile definitionLocation = classDescriptorProto.hasDefinitionLocation() ? fromProtobuf(classDescriptorProto.getDefinitionLocation()) : null;
@@ -234,6 +280,8 @@ public class DescriptorsToProtobuf {
     functionDescriptorProto.getParametersList().forEach(proto -> parameters.add(fromProtobuf(proto)));
     LocationInFile definitionLocation = functionDescriptorProto.hasDefinitionLocation() ? fromProtobuf(functionDescriptorProto.getDefinitionLocation()) : null;
     String annotatedReturnTypeName = functionDescriptorProto.hasAnnotatedReturnType() ? functionDescriptorProto.getAnnotatedReturnType() : null;
+    TypeAnnotationDescriptor typeAnnotationDescriptor = functionDescriptorProto.hasTypeAnnotationDescriptor()
+      ? fromProtobuf(functionDescriptorProto.getTypeAnnotationDescriptor()) : null;
     return new FunctionDescriptor(
       functionDescriptorProto.getName(),
       fullyQualifiedName,
@@ -243,7 +291,18 @@ public class DescriptorsToProtobuf {
       new ArrayList<>(functionDescriptorProto.getDecoratorsList()),
       functionDescriptorProto.getHasDecorators(),
       definitionLocation,
-      annotatedReturnTypeName
+      annotatedReturnTypeName,
+      typeAnnotationDescriptor
+    );
+  }
+
+  public static TypeAnnotationDescriptor fromProtobuf(DescriptorsProtos.TypeAnnotationDescriptor typeAnnotationDescriptorProto) {
+    String fullyQualifiedName = typeAnnotationDescriptorProto.hasFullyQualifiedName() ? typeAnnotationDescriptorProto.getFullyQualifiedName() : null;
+    return new TypeAnnotationDescriptor(
+      typeAnnotationDescriptorProto.getPrettyPrintedName(),
+      TypeAnnotationDescriptor.TypeKind.valueOf(typeAnnotationDescriptorProto.getKind()),
+      typeAnnotationDescriptorProto.getArgsList().stream().map(DescriptorsToProtobuf::fromProtobuf).toList(),
+      fullyQualifiedName
     );
   }
 
@@ -269,7 +328,8 @@ public class DescriptorsToProtobuf {
     return new VariableDescriptor(
       varDescriptorProto.getName(),
       fullyQualifiedName,
-      annotatedType
+      annotatedType,
+      varDescriptorProto.getIsImportedModule()
     );
   }
 
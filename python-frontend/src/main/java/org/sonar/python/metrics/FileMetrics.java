@@ -17,58 +17,100 @@
 package org.sonar.python.metrics;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import org.sonar.plugins.python.api.PythonSubscriptionCheck;
 import org.sonar.plugins.python.api.PythonVisitorContext;
+import org.sonar.plugins.python.api.SubscriptionContext;
 import org.sonar.plugins.python.api.tree.FileInput;
-import org.sonar.plugins.python.api.tree.FunctionDef;
-import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
+import org.sonar.plugins.python.api.tree.IfStatement;
+import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.SubscriptionVisitor;
+import org.sonar.python.tree.TreeUtils;
 
+/**
+ * Metrics of a file. They are computed by {@link #visitors()}, which can either be run on their own
+ * or be part of the {@link SubscriptionVisitor} pass executing the rules on the file.
+ */
 public class FileMetrics {
 
-  private int numberOfStatements;
-  private int numberOfClasses;
-  private final ComplexityVisitor complexityVisitor = new ComplexityVisitor();
+  private final ComplexityCounter complexityCounter = new ComplexityCounter();
   private final CognitiveComplexityVisitor cognitiveComplexityVisitor = new CognitiveComplexityVisitor(null);
   private final FileLinesVisitor fileLinesVisitor;
-  private List<Integer> functionComplexities = new ArrayList<>();
 
-  public FileMetrics(PythonVisitorContext context, boolean isNotebook) {
-    FileInput fileInput = context.rootTree();
+  public FileMetrics(boolean isNotebook) {
     fileLinesVisitor = new FileLinesVisitor(isNotebook);
-    fileLinesVisitor.scanFile(context);
-    numberOfStatements = fileLinesVisitor.getStatements();
-    numberOfClasses = fileLinesVisitor.getClassDefs();
-    fileInput.accept(complexityVisitor);
-    fileInput.accept(cognitiveComplexityVisitor);
-    fileInput.accept(new FunctionVisitor());
+  }
+
+  public FileMetrics(PythonVisitorContext context, boolean isNotebook) {
+    this(isNotebook);
+    SubscriptionVisitor.analyze(visitors(), context);
   }
 
   public FileMetrics(PythonVisitorContext context) {
     this(context, false);
   }
 
-  private class FunctionVisitor extends BaseTreeVisitor {
+  /**
+   * Visitors computing the metrics: they have to be executed on the file before any metric is read.
+   */
+  public List<PythonSubscriptionCheck> visitors() {
+    return List.of(fileLinesVisitor, complexityCounter);
+  }
+
+  /**
+   * Computes the cyclomatic complexity of the file and of each of its functions in a single pass:
+   * each complexity increment is attributed to the innermost function containing it, as done by {@link ComplexityVisitor#complexity(Tree)}.
+   */
+  private class ComplexityCounter extends PythonSubscriptionCheck {
+
+    private final Map<Tree, Integer> functionComplexities = new LinkedHashMap<>();
+    private int complexity = 0;
+
     @Override
-    public void visitFunctionDef(FunctionDef pyFunctionDefTree) {
-      functionComplexities.add(ComplexityVisitor.complexity(pyFunctionDefTree));
-      super.visitFunctionDef(pyFunctionDefTree);
+    public void initialize(Context context) {
+      context.registerSyntaxNodeConsumer(Tree.Kind.FILE_INPUT, ctx -> ((FileInput) ctx.syntaxNode()).accept(cognitiveComplexityVisitor));
+      context.registerSyntaxNodeConsumer(Tree.Kind.FUNCDEF, ctx -> {
+        functionComplexities.put(ctx.syntaxNode(), 0);
+        increment(ctx);
+      });
+      context.registerSyntaxNodeConsumer(Tree.Kind.FOR_STMT, this::increment);
+      context.registerSyntaxNodeConsumer(Tree.Kind.WHILE_STMT, this::increment);
+      context.registerSyntaxNodeConsumer(Tree.Kind.CONDITIONAL_EXPR, this::increment);
+      context.registerSyntaxNodeConsumer(Tree.Kind.COMP_IF, this::increment);
+      context.registerSyntaxNodeConsumer(Tree.Kind.IF_STMT, ctx -> {
+        if (!((IfStatement) ctx.syntaxNode()).isElif()) {
+          increment(ctx);
+        }
+      });
+      context.registerSyntaxNodeConsumer(Tree.Kind.AND, this::increment);
+      context.registerSyntaxNodeConsumer(Tree.Kind.OR, this::increment);
+    }
+
+    private void increment(SubscriptionContext ctx) {
+      complexity++;
+      Tree function = ctx.syntaxNode().is(Tree.Kind.FUNCDEF) ? ctx.syntaxNode() : TreeUtils.firstAncestorOfKind(ctx.syntaxNode(), Tree.Kind.FUNCDEF);
+      if (function != null) {
+        functionComplexities.merge(function, 1, Integer::sum);
+      }
     }
   }
 
   public int numberOfStatements() {
-    return numberOfStatements;
+    return fileLinesVisitor.getStatements();
   }
 
   public int numberOfFunctions() {
-    return functionComplexities.size();
+    return complexityCounter.functionComplexities.size();
   }
 
   public int numberOfClasses() {
-    return numberOfClasses;
+    return fileLinesVisitor.getClassDefs();
   }
 
   public int complexity() {
-    return complexityVisitor.getComplexity();
+    return complexityCounter.complexity;
   }
 
   public int cognitiveComplexity() {
@@ -76,7 +118,7 @@ public class FileMetrics {
   }
 
   public List<Integer> functionComplexities() {
-    return functionComplexities;
+    return new ArrayList<>(complexityCounter.functionComplexities.values());
   }
 
   public FileLinesVisitor fileLinesVisitor() {
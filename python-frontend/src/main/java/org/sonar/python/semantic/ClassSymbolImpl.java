@@ -53,12 +53,13 @@ public class ClassSymbolImpl extends SymbolImpl implements ClassSymbol {
   private final List<Symbol> superClasses = new ArrayList<>();
   private List<String> superClassesFqns = new ArrayList<>();
   private List<String> inlinedSuperClassFqn = new ArrayList<>();
-  private Set<Symbol> allSuperClasses = null;
-  private Set<Symbol> allSuperClassesIncludingAmbiguousSymbols = null;
+  // Lazily computed state is published at once, as typeshed symbols may be shared by files analyzed concurrently
+  private volatile Set<Symbol> allSuperClasses = null;
+  private volatile Set<Symbol> allSuperClassesIncludingAmbiguousSymbols = null;
   private boolean hasSuperClassWithoutSymbol = false;
   private final Set<Symbol> members = new HashSet<>();
-  private Map<String, Symbol> membersByName = null;
-  private boolean hasAlreadyReadSuperClasses = false;
+  private volatile Map<String, Symbol> membersByName = null;
+  private volatile boolean hasAlreadyReadSuperClasses = false;
   private boolean hasAlreadyReadMembers = false;
   private boolean hasDecorators = false;
   private boolean hasMetaClass = false;
@@ -206,12 +207,18 @@ public class ClassSymbolImpl extends SymbolImpl implements ClassSymbol {
 
   @Override
   public List<Symbol> superClasses() {
+    if (!hasAlreadyReadSuperClasses) {
+      readSuperClasses();
+    }
+    return Collections.unmodifiableList(superClasses);
+  }
+
+  private synchronized void readSuperClasses() {
     // In case of symbols coming from TypeShed protobuf, we resolve superclasses lazily
     if (!hasAlreadyReadSuperClasses && superClasses.isEmpty() && !superClassesFqns.isEmpty()) {
       superClassesFqns.stream().map(SymbolUtils::typeshedSymbolWithFQN).forEach(this::addSuperClass);
     }
     hasAlreadyReadSuperClasses = true;
-    return Collections.unmodifiableList(superClasses);
   }
 
   public void addSuperClass(Symbol symbol) {
@@ -329,10 +336,12 @@ public class ClassSymbolImpl extends SymbolImpl implements ClassSymbol {
   }
 
   private Map<String, Symbol> membersByName() {
-    if (membersByName == null) {
-      membersByName = declaredMembers().stream().collect(Collectors.toMap(Symbol::name, m -> m, (s1, s2) -> s1));
+    Map<String, Symbol> result = membersByName;
+    if (result == null) {
+      result = declaredMembers().stream().collect(Collectors.toMap(Symbol::name, m -> m, (s1, s2) -> s1));
+      membersByName = result;
     }
-    return membersByName;
+    return result;
   }
 
   public void addMembers(Collection<Symbol> members) {
@@ -364,17 +373,21 @@ public class ClassSymbolImpl extends SymbolImpl implements ClassSymbol {
 
   private Set<Symbol> allSuperClasses(boolean includeAmbiguousSymbols) {
     if (!includeAmbiguousSymbols) {
-      if (allSuperClasses == null) {
-        allSuperClasses = new LinkedHashSet<>();
-        exploreSuperClasses(this, allSuperClasses, false);
+      Set<Symbol> result = allSuperClasses;
+      if (result == null) {
+        result = new LinkedHashSet<>();
+        exploreSuperClasses(this, result, false);
+        allSuperClasses = result;
       }
-      return allSuperClasses;
+      return result;
     }
-    if (allSuperClassesIncludingAmbiguousSymbols == null) {
-      allSuperClassesIncludingAmbiguousSymbols = new LinkedHashSet<>();
-      exploreSuperClasses(this, allSuperClassesIncludingAmbiguousSymbols, true);
+    Set<Symbol> result = allSuperClassesIncludingAmbiguousSymbols;
+    if (result == null) {
+      result = new LinkedHashSet<>();
+      exploreSuperClasses(this, result, true);
+      allSuperClassesIncludingAmbiguousSymbols = result;
     }
-    return allSuperClassesIncludingAmbiguousSymbols;
+    return result;
   }
 
   private static void exploreSuperClasses(Symbol symbol, Set<Symbol> set, boolean includeAmbiguousSymbols) {
@@ -23,7 +23,11 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -47,6 +51,7 @@ import org.sonar.python.types.v2.FunctionType;
 import org.sonar.python.types.v2.PythonType;
 import org.sonar.python.types.v2.TriBool;
 import org.sonar.python.types.v2.TypeCheckBuilder;
+import org.sonar.python.types.v2.TypeCheckStatistics;
 import org.sonar.python.types.v2.TypeChecker;
 import org.sonar.python.types.v2.UnknownType;
 
@@ -56,12 +61,21 @@ public class ProjectLevelSymbolTable {
 
   private final PythonTypeToDescriptorConverter pythonTypeToDescriptorConverter = new PythonTypeToDescriptorConverter();
   private final Map<String, Set<Descriptor>> globalDescriptorsByModuleName;
-  private Map<String, Descriptor> globalDescriptorsByFQN;
-  private final Set<String> djangoViewsFQN = new HashSet<>();
-  private final Map<String, Set<String>> importsByModule = new HashMap<>();
-  private final Set<String> projectBasePackages = new HashSet<>();
+  // Descriptors of each fully qualified name, by module declaring it: modules can be added and removed without rebuilding the whole index
+  private final Map<String, Map<String, Descriptor>> moduleDescriptorsByFQN = new HashMap<>();
+  private final Map<String, Descriptor> globalDescriptorsByFQN = new ConcurrentHashMap<>();
+  // Modules may be computed concurrently while the table is being filled: read structures are thread-safe
+  private final Set<String> djangoViewsFQN = ConcurrentHashMap.newKeySet();
+  private final Map<String, Set<String>> importsByModule = new ConcurrentHashMap<>();
+  private final Set<String> projectBasePackages = ConcurrentHashMap.newKeySet();
   private TypeShedDescriptorsProvider typeShedDescriptorsProvider = null;
   private Set<Symbol> cachedSymbols = null;
+  // Incremented whenever the type tables of the analysis threads become stale: they are then rebuilt when next requested
+  private final AtomicLong projectTypeTablesGeneration = new AtomicLong();
+  private final AtomicLong typeShedTypeTablesGeneration = new AtomicLong();
+  private final Map<Thread, GenerationTypeTable> projectLevelTypeTableByThread = Collections.synchronizedMap(new WeakHashMap<>());
+  private final Map<Thread, GenerationTypeTable> typeShedTypeTableByThread = Collections.synchronizedMap(new WeakHashMap<>());
+  private final TypeCheckStatistics typeCheckStatistics = new TypeCheckStatistics();
 
   public static ProjectLevelSymbolTable empty() {
     return new ProjectLevelSymbolTable();
@@ -72,29 +86,39 @@ public class ProjectLevelSymbolTable {
 
     for (var entry : globalDescriptorsByModuleName.entrySet()) {
       var descriptors = entry.getValue();
-      projectLevelSymbolTable.globalDescriptorsByModuleName.put(entry.getKey(), descriptors);
+      projectLevelSymbolTable.putModuleDescriptors(entry.getKey(), descriptors);
     }
 
     return projectLevelSymbolTable;
   }
 
   private ProjectLevelSymbolTable() {
-    this.globalDescriptorsByModuleName = new HashMap<>();
+    this.globalDescriptorsByModuleName = new ConcurrentHashMap<>();
   }
 
-  public void removeModule(String packageName, String fileName) {
+  public synchronized void removeModule(String packageName, String fileName) {
     String fullyQualifiedModuleName = SymbolUtils.fullyQualifiedModuleName(packageName, fileName);
-    globalDescriptorsByModuleName.remove(fullyQualifiedModuleName);
-    // ensure globalDescriptorsByFQN is re-computed
-    this.globalDescriptorsByFQN = null;
+    removeModuleDescriptors(fullyQualifiedModuleName);
+    importsByModule.remove(fullyQualifiedModuleName);
+    projectTypeTablesGeneration.incrementAndGet();
   }
 
   public void addModule(FileInput fileInput, String packageName, PythonFile pythonFile) {
+    addModule(computeModule(fileInput, packageName, pythonFile));
+  }
+
+  /**
+   * Computes the global symbols of a module without modifying this table, so that several modules can be computed concurrently.
+   * Names are resolved against builtins and typeshed modules only, not against the other project modules: the result does not depend
+   * on the modules already added to the table. It is added to the table with {@link #addModule(ModuleSymbols)}, project modules
+   * being linked together through their fully qualified names by the type tables created afterwards, see {@link #projectLevelTypeTable()}.
+   */
+  public ModuleSymbols computeModule(FileInput fileInput, String packageName, PythonFile pythonFile) {
     String fullyQualifiedModuleName = SymbolUtils.fullyQualifiedModuleName(packageName, pythonFile.fileName());
     var symbolTable = new SymbolTableBuilderV2(fileInput).build();
-    var typeInferenceV2 = new TypeInferenceV2(new BasicTypeTable(new ProjectLevelTypeTable(this)), pythonFile, symbolTable, packageName);
+    var basicTypeTable = new BasicTypeTable(typeShedTypeTable());
+    var typeInferenceV2 = new TypeInferenceV2(basicTypeTable, pythonFile, symbolTable, packageName);
     var typesBySymbol = typeInferenceV2.inferTypes(fileInput);
-    importsByModule.put(fullyQualifiedModuleName, typeInferenceV2.importedModulesFQN());
     var moduleDescriptors = typesBySymbol.entrySet()
       .stream()
       .filter(entry -> isNotMissingType(entry.getValue()))
@@ -107,33 +131,66 @@ public class ProjectLevelSymbolTable {
         || entry.getKey().usages().stream().anyMatch(u -> u.kind().equals(UsageV2.Kind.IMPORT))))
       .map(Map.Entry::getValue)
       .collect(Collectors.toSet());
-    globalDescriptorsByModuleName.put(fullyQualifiedModuleName, moduleDescriptors);
-    addModuleToGlobalSymbolsByFQN(moduleDescriptors);
 
-    DjangoViewsVisitor djangoViewsVisitor = new DjangoViewsVisitor(fullyQualifiedModuleName);
+    DjangoViewsVisitor djangoViewsVisitor = new DjangoViewsVisitor(basicTypeTable);
     fileInput.accept(djangoViewsVisitor);
+    return new ModuleSymbols(fullyQualifiedModuleName, moduleDescriptors, typeInferenceV2.importedModulesFQN(), djangoViewsVisitor.djangoViewsFQN);
+  }
+
+  public synchronized void addModule(ModuleSymbols moduleSymbols) {
+    importsByModule.put(moduleSymbols.fullyQualifiedModuleName(), moduleSymbols.importedModulesFQN());
+    putModuleDescriptors(moduleSymbols.fullyQualifiedModuleName(), moduleSymbols.descriptors());
+    djangoViewsFQN.addAll(moduleSymbols.djangoViewsFQN());
+    projectTypeTablesGeneration.incrementAndGet();
   }
 
   private static boolean isNotMissingType(Set<PythonType> types) {
     return !types.isEmpty() && types.stream().noneMatch(UnknownType.UnresolvedImportType.class::isInstance);
   }
 
-  private void addModuleToGlobalSymbolsByFQN(Set<Descriptor> descriptors) {
-    Map<String, Descriptor> moduleDescriptorsByFQN = descriptors.stream()
+  private synchronized void putModuleDescriptors(String moduleName, Set<Descriptor> descriptors) {
+    removeModuleDescriptors(moduleName);
+    globalDescriptorsByModuleName.put(moduleName, descriptors);
+    Map<String, Descriptor> descriptorsByFQN = descriptors.stream()
       .filter(d -> d.fullyQualifiedName() != null)
       .collect(Collectors.toMap(Descriptor::fullyQualifiedName, Function.identity(), AmbiguousDescriptor::create));
-    globalDescriptorsByFQN().putAll(moduleDescriptorsByFQN);
+    descriptorsByFQN.forEach((fqn, descriptor) -> {
+      moduleDescriptorsByFQN.computeIfAbsent(fqn, k -> new HashMap<>()).put(moduleName, descriptor);
+      updateGlobalDescriptor(fqn);
+    });
   }
 
-  private Map<String, Descriptor> globalDescriptorsByFQN() {
-    if (globalDescriptorsByFQN == null) {
-      globalDescriptorsByFQN = globalDescriptorsByModuleName.values()
-        .stream()
-        .flatMap(Collection::stream)
-        .filter(descriptor -> descriptor.fullyQualifiedName() != null)
-        .collect(Collectors.toMap(Descriptor::fullyQualifiedName, Function.identity(), AmbiguousDescriptor::create));
+  private synchronized void removeModuleDescriptors(String moduleName) {
+    Set<Descriptor> descriptors = globalDescriptorsByModuleName.remove(moduleName);
+    if (descriptors == null) {
+      return;
+    }
+    descriptors.stream()
+      .map(Descriptor::fullyQualifiedName)
+      .filter(Objects::nonNull)
+      .distinct()
+      .forEach(fqn -> {
+        Map<String, Descriptor> descriptorsByModule = moduleDescriptorsByFQN.get(fqn);
+        if (descriptorsByModule != null) {
+          descriptorsByModule.remove(moduleName);
+          updateGlobalDescriptor(fqn);
+        }
+      });
+  }
+
+  /**
+   * Descriptors declared by several modules for the same fully qualified name are merged into an ambiguous descriptor.
+   */
+  private void updateGlobalDescriptor(String fqn) {
+    Map<String, Descriptor> descriptorsByModule = moduleDescriptorsByFQN.get(fqn);
+    if (descriptorsByModule.isEmpty()) {
+      moduleDescriptorsByFQN.remove(fqn);
+      globalDescriptorsByFQN.remove(fqn);
+    } else if (descriptorsByModule.size() == 1) {
+      globalDescriptorsByFQN.put(fqn, descriptorsByModule.values().iterator().next());
+    } else {
+      globalDescriptorsByFQN.put(fqn, AmbiguousDescriptor.create(new HashSet<>(descriptorsByModule.values())));
     }
-    return globalDescriptorsByFQN;
   }
 
   @CheckForNull
@@ -148,13 +205,13 @@ public class ProjectLevelSymbolTable {
   public Symbol getSymbol(@Nullable String fullyQualifiedName, @Nullable String localSymbolName,
                           Map<Descriptor, Symbol> createdSymbolsByDescriptor, Map<String, Symbol> createdSymbolsByFqn) {
     if (fullyQualifiedName == null) return null;
-    Descriptor descriptor = globalDescriptorsByFQN().get(fullyQualifiedName);
+    Descriptor descriptor = globalDescriptorsByFQN.get(fullyQualifiedName);
     return descriptor == null ? null : DescriptorUtils.symbolFromDescriptor(descriptor, this, localSymbolName, createdSymbolsByDescriptor, createdSymbolsByFqn);
   }
 
   @CheckForNull
   public Set<Symbol> getSymbolsFromModule(@Nullable String moduleName) {
-    Set<Descriptor> descriptors = globalDescriptorsByModuleName.get(moduleName);
+    Set<Descriptor> descriptors = getDescriptorsFromModule(moduleName);
     if (descriptors == null) {
       return null;
     }
@@ -166,7 +223,7 @@ public class ProjectLevelSymbolTable {
 
   @CheckForNull
   public Set<Descriptor> getDescriptorsFromModule(@Nullable String moduleName) {
-    return globalDescriptorsByModuleName.get(moduleName);
+    return moduleName == null ? null : globalDescriptorsByModuleName.get(moduleName);
   }
 
   public Map<String, Set<String>> importsByModule() {
@@ -174,7 +231,8 @@ public class ProjectLevelSymbolTable {
   }
 
   public void insertEntry(String moduleName, Set<Descriptor> descriptors) {
-    this.globalDescriptorsByModuleName.put(moduleName, descriptors);
+    putModuleDescriptors(moduleName, descriptors);
+    projectTypeTablesGeneration.incrementAndGet();
   }
 
   @CheckForNull
@@ -183,18 +241,64 @@ public class ProjectLevelSymbolTable {
   }
 
   public boolean isDjangoView(@Nullable String fqn) {
-    return djangoViewsFQN.contains(fqn);
+    return fqn != null && djangoViewsFQN.contains(fqn);
   }
 
   public void addProjectPackage(String projectPackage) {
-    projectBasePackages.add(projectPackage.split("\\.", 2)[0]);
+    if (projectBasePackages.add(projectPackage.split("\\.", 2)[0])) {
+      // typeshed modules clashing with the new package should no longer be resolved
+      typeShedTypeTablesGeneration.incrementAndGet();
+      projectTypeTablesGeneration.incrementAndGet();
+    }
   }
 
   public Set<String> projectBasePackages() {
     return projectBasePackages;
   }
 
-  public TypeShedDescriptorsProvider typeShedDescriptorsProvider() {
+  /**
+   * Returns a type table for a single file analyzed against this project-level symbol table. Builtins and typeshed modules are
+   * converted once rather than for every file: the returned tables are views of a type table shared by the files of the analysis thread.
+   * Resolving lazy types mutates the shared type table: a distinct one is therefore kept for each analysis thread.
+   * It is discarded whenever project modules change.
+   * Module types are specific to each view, see {@link ProjectLevelTypeTable#newView()}.
+   */
+  public ProjectLevelTypeTable projectLevelTypeTable() {
+    return typeTableOfCurrentThread(projectLevelTypeTableByThread, projectTypeTablesGeneration, () -> new ProjectLevelTypeTable(this)).newView();
+  }
+
+  /**
+   * Type table of the current thread resolving builtins and typeshed modules only, see {@link #computeModule(FileInput, String, PythonFile)}.
+   * It is not discarded when project modules change.
+   */
+  ProjectLevelTypeTable typeShedTypeTable() {
+    return typeTableOfCurrentThread(typeShedTypeTableByThread, typeShedTypeTablesGeneration, () -> ProjectLevelTypeTable.typeShedTypeTable(this));
+  }
+
+  /**
+   * The type table is looked up and created atomically under the map lock, so that a table created before the generation changed is never returned.
+   * This symbol table's lock can be taken while creating it: the map lock is therefore never taken while holding this symbol table's lock.
+   */
+  private static ProjectLevelTypeTable typeTableOfCurrentThread(Map<Thread, GenerationTypeTable> typeTableByThread, AtomicLong generation,
+    Supplier<ProjectLevelTypeTable> typeTableFactory) {
+    return typeTableByThread.compute(Thread.currentThread(), (thread, typeTable) -> {
+      long currentGeneration = generation.get();
+      if (typeTable != null && typeTable.generation() == currentGeneration) {
+        return typeTable;
+      }
+      return new GenerationTypeTable(currentGeneration, typeTableFactory.get());
+    }).typeTable();
+  }
+
+  /**
+   * Statistics of the compiled type check builders of all the type tables created from this symbol table, see {@link TypeCheckBuilder#compile()}.
+   * They outlive the analysis threads and the type tables discarded when project modules change.
+   */
+  public TypeCheckStatistics typeCheckStatistics() {
+    return typeCheckStatistics;
+  }
+
+  public synchronized TypeShedDescriptorsProvider typeShedDescriptorsProvider() {
     if (typeShedDescriptorsProvider == null) {
       typeShedDescriptorsProvider = new TypeShedDescriptorsProvider(projectBasePackages);
     }
@@ -205,7 +309,7 @@ public class ProjectLevelSymbolTable {
    * Returns stub symbols to be used by SonarSecurity.
    * Ambiguous symbols that only contain class symbols are disambiguated with latest Python version.
    */
-  public Collection<Symbol> stubFilesSymbols() {
+  public synchronized Collection<Symbol> stubFilesSymbols() {
     if (cachedSymbols != null) {
       return cachedSymbols;
     }
@@ -221,19 +325,29 @@ public class ProjectLevelSymbolTable {
     return cachedSymbols;
   }
 
-  private class DjangoViewsVisitor extends BaseTreeVisitor {
+  /**
+   * Global symbols of a single module, as computed by {@link #computeModule(FileInput, String, PythonFile)}.
+   */
+  public record ModuleSymbols(String fullyQualifiedModuleName, Set<Descriptor> descriptors, Set<String> importedModulesFQN, Set<String> djangoViewsFQN) {
+  }
+
+  private record GenerationTypeTable(long generation, ProjectLevelTypeTable typeTable) {
+  }
+
+  private static class DjangoViewsVisitor extends BaseTreeVisitor {
 
-    String fullyQualifiedModuleName;
+    private final Set<String> djangoViewsFQN = new HashSet<>();
+    private final BasicTypeTable basicTypeTable;
     private TypeCheckBuilder confPathCall = null;
     private TypeCheckBuilder pathCall = null;
 
-    public DjangoViewsVisitor(String fullyQualifiedModuleName) {
-      this.fullyQualifiedModuleName = fullyQualifiedModuleName;
+    public DjangoViewsVisitor(BasicTypeTable basicTypeTable) {
+      this.basicTypeTable = basicTypeTable;
     }
 
     @Override
     public void visitFileInput(FileInput fileInput) {
-      TypeChecker typeChecker = new TypeChecker(new BasicTypeTable(new ProjectLevelTypeTable(ProjectLevelSymbolTable.this)));
+      TypeChecker typeChecker = new TypeChecker(basicTypeTable);
       confPathCall = typeChecker.typeCheckBuilder().isTypeWithName("django.urls.conf.path");
       pathCall = typeChecker.typeCheckBuilder().isTypeWithName("django.urls.path");
       super.visitFileInput(fileInput);
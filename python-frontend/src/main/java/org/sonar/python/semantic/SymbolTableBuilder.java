@@ -76,6 +76,7 @@ import org.sonar.plugins.python.api.tree.TypeAliasStatement;
 import org.sonar.plugins.python.api.tree.TypeAnnotation;
 import org.sonar.plugins.python.api.tree.TypeParams;
 import org.sonar.plugins.python.api.tree.WithItem;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.tree.ClassDefImpl;
 import org.sonar.python.tree.ComprehensionExpressionImpl;
 import org.sonar.python.tree.DictCompExpressionImpl;
@@ -100,6 +101,7 @@ public class SymbolTableBuilder extends BaseTreeVisitor {
   private FileInput fileInput = null;
   private final Set<Tree> assignmentLeftHandSides = new HashSet<>();
   private final PythonFile pythonFile;
+  private final CfgProvider cfgProvider;
   private final Set<String> importedModulesFQN = new HashSet<>();
 
   public SymbolTableBuilder(PythonFile pythonFile) {
@@ -107,6 +109,7 @@ public class SymbolTableBuilder extends BaseTreeVisitor {
     filePath = null;
     projectLevelSymbolTable = ProjectLevelSymbolTable.empty();
     this.pythonFile = pythonFile;
+    this.cfgProvider = new CfgProvider(pythonFile);
   }
 
   public Set<String> importedModulesFQN() {
@@ -118,7 +121,12 @@ public class SymbolTableBuilder extends BaseTreeVisitor {
   }
 
   public SymbolTableBuilder(String packageName, PythonFile pythonFile, ProjectLevelSymbolTable projectLevelSymbolTable) {
-    this.pythonFile = pythonFile;
+    this(packageName, projectLevelSymbolTable, new CfgProvider(pythonFile));
+  }
+
+  public SymbolTableBuilder(String packageName, ProjectLevelSymbolTable projectLevelSymbolTable, CfgProvider cfgProvider) {
+    this.pythonFile = cfgProvider.pythonFile();
+    this.cfgProvider = cfgProvider;
     String fileName = pythonFile.fileName();
     fullyQualifiedModuleName = SymbolUtils.fullyQualifiedModuleName(packageName, fileName);
     filePath = new ArrayList<>(Arrays.asList(fullyQualifiedModuleName.split("\\.")));
@@ -130,6 +138,14 @@ public class SymbolTableBuilder extends BaseTreeVisitor {
 
   @Override
   public void visitFileInput(FileInput fileInput) {
+    buildSymbols(fileInput);
+    TypeInference.inferTypes(fileInput, cfgProvider);
+  }
+
+  /**
+   * Computes the symbols of the file, without inferring types: symbols of qualified expressions are then left unresolved.
+   */
+  public void buildSymbols(FileInput fileInput) {
     this.fileInput = fileInput;
     scopesByRootTree = new HashMap<>();
     fileInput.accept(new FirstPhaseVisitor());
@@ -137,7 +153,6 @@ public class SymbolTableBuilder extends BaseTreeVisitor {
     createAmbiguousSymbols();
     addSymbolsToTree((FileInputImpl) fileInput);
     fileInput.accept(new ThirdPhaseVisitor());
-    TypeInference.inferTypes(fileInput, pythonFile);
   }
 
   private static class SymbolToUpdate {
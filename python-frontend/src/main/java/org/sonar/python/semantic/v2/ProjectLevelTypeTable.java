@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import org.sonar.python.semantic.ProjectLevelSymbolTable;
+import org.sonar.python.types.v2.CompiledTypeCheckBuilders;
 import org.sonar.python.types.v2.LazyTypeWrapper;
 import org.sonar.python.types.v2.ModuleType;
 import org.sonar.python.types.v2.ObjectType;
@@ -31,11 +32,40 @@ public class ProjectLevelTypeTable implements TypeTable {
   private final SymbolsModuleTypeProvider symbolsModuleTypeProvider;
   private final ModuleType rootModule;
   private final LazyTypesContext lazyTypesContext;
+  private final CompiledTypeCheckBuilders compiledTypeCheckBuilders;
 
   public ProjectLevelTypeTable(ProjectLevelSymbolTable projectLevelSymbolTable) {
+    this(projectLevelSymbolTable, true);
+  }
+
+  private ProjectLevelTypeTable(ProjectLevelSymbolTable projectLevelSymbolTable, boolean resolvesProjectModules) {
     this.lazyTypesContext = new LazyTypesContext(this);
-    this.symbolsModuleTypeProvider = new SymbolsModuleTypeProvider(projectLevelSymbolTable, lazyTypesContext);
+    this.symbolsModuleTypeProvider = new SymbolsModuleTypeProvider(projectLevelSymbolTable, lazyTypesContext, resolvesProjectModules);
+    this.rootModule = this.symbolsModuleTypeProvider.createBuiltinModule();
+    this.compiledTypeCheckBuilders = new CompiledTypeCheckBuilders(projectLevelSymbolTable.typeCheckStatistics());
+  }
+
+  private ProjectLevelTypeTable(ProjectLevelTypeTable sharedTypeTable) {
+    this.lazyTypesContext = sharedTypeTable.lazyTypesContext;
+    this.symbolsModuleTypeProvider = sharedTypeTable.symbolsModuleTypeProvider;
     this.rootModule = this.symbolsModuleTypeProvider.createBuiltinModule();
+    this.compiledTypeCheckBuilders = sharedTypeTable.compiledTypeCheckBuilders;
+  }
+
+  /**
+   * Returns a type table resolving builtins and typeshed modules only: the modules of the project level symbol table are ignored.
+   */
+  public static ProjectLevelTypeTable typeShedTypeTable(ProjectLevelSymbolTable projectLevelSymbolTable) {
+    return new ProjectLevelTypeTable(projectLevelSymbolTable, false);
+  }
+
+  /**
+   * Returns a type table sharing the types converted by this one, but with its own module types: the submodules resolved through
+   * the returned table are not registered in the other ones. A file analyzed against a new view therefore gets the same types
+   * whatever the files analyzed before it. Lazy types are still resolved through this table.
+   */
+  public ProjectLevelTypeTable newView() {
+    return new ProjectLevelTypeTable(this);
   }
 
   @Override
@@ -122,4 +152,8 @@ public class ProjectLevelTypeTable implements TypeTable {
   public LazyTypesContext lazyTypesContext() {
     return lazyTypesContext;
   }
+
+  public CompiledTypeCheckBuilders compiledTypeCheckBuilders() {
+    return compiledTypeCheckBuilders;
+  }
 }
@@ -16,6 +16,7 @@
  */
 package org.sonar.python.semantic.v2;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,7 +31,10 @@ import org.sonar.python.types.v2.TypeWrapper;
 
 public class SymbolsModuleTypeProvider {
   private final ProjectLevelSymbolTable projectLevelSymbolTable;
-  private final ModuleType rootModule;
+  private final boolean resolvesProjectModules;
+  private final Map<String, TypeWrapper> builtinMembers;
+  // Members are converted once for each module, module types being created on them for each type table view
+  private final Map<String, Optional<Map<String, TypeWrapper>>> membersByModuleFqn = new HashMap<>();
   private final LazyTypesContext lazyTypesContext;
   private final AnyDescriptorToPythonTypeConverter anyDescriptorToPythonTypeConverter;
   private final Map<String, Map<String, String>> aliasMembers = Map.ofEntries(
@@ -45,37 +49,49 @@ public class SymbolsModuleTypeProvider {
   );
 
   public SymbolsModuleTypeProvider(ProjectLevelSymbolTable projectLevelSymbolTable, LazyTypesContext lazyTypeContext) {
+    this(projectLevelSymbolTable, lazyTypeContext, true);
+  }
+
+  /**
+   * @param resolvesProjectModules whether the modules of the project level symbol table are resolved, rather than builtins and typeshed modules only
+   */
+  public SymbolsModuleTypeProvider(ProjectLevelSymbolTable projectLevelSymbolTable, LazyTypesContext lazyTypeContext, boolean resolvesProjectModules) {
     this.projectLevelSymbolTable = projectLevelSymbolTable;
+    this.resolvesProjectModules = resolvesProjectModules;
     this.lazyTypesContext = lazyTypeContext;
     this.anyDescriptorToPythonTypeConverter = new AnyDescriptorToPythonTypeConverter(lazyTypesContext);
 
-    var rootModuleMembers = projectLevelSymbolTable.typeShedDescriptorsProvider().builtinDescriptors()
+    this.builtinMembers = projectLevelSymbolTable.typeShedDescriptorsProvider().builtinDescriptors()
       .entrySet()
       .stream()
       .collect(Collectors.toMap(Map.Entry::getKey, e -> TypeWrapper.of(anyDescriptorToPythonTypeConverter.convert("", e.getValue(), TypeOrigin.STUB))));
-    this.rootModule = new ModuleType(null, null, rootModuleMembers);
   }
 
   public ModuleType createBuiltinModule() {
-    return rootModule;
+    return new ModuleType(null, null, builtinMembers);
   }
 
   public PythonType convertModuleType(List<String> moduleFqn, ModuleType parent) {
     var moduleName = moduleFqn.get(moduleFqn.size() - 1);
     var moduleFqnString = getModuleFqnString(moduleFqn);
-    Optional<ModuleType> result =  createModuleTypeFromProjectLevelSymbolTable(moduleName, moduleFqnString, parent)
-      .or(() -> createModuleTypeFromTypeShed(moduleName, moduleFqnString, parent));
-    if (result.isEmpty()) {
-      return PythonType.UNKNOWN;
+    Optional<Map<String, TypeWrapper>> members = membersByModuleFqn.get(moduleFqnString);
+    if (members == null) {
+      members = convertModuleMembersFromProjectLevelSymbolTable(moduleFqnString)
+        .or(() -> convertModuleMembersFromTypeShed(moduleFqnString));
+      members.ifPresent(m -> addTypingAliases(moduleFqnString, m));
+      membersByModuleFqn.put(moduleFqnString, members);
     }
-    return result.get();
+    return members.<PythonType>map(m -> new ModuleType(moduleName, parent, m)).orElse(PythonType.UNKNOWN);
   }
 
   private static String getModuleFqnString(List<String> moduleFqn) {
     return String.join(".", moduleFqn);
   }
 
-  private Optional<ModuleType> createModuleTypeFromProjectLevelSymbolTable(String moduleName, String moduleFqn, ModuleType parent) {
+  private Optional<Map<String, TypeWrapper>> convertModuleMembersFromProjectLevelSymbolTable(String moduleFqn) {
+    if (!resolvesProjectModules) {
+      return Optional.empty();
+    }
     var retrieved = projectLevelSymbolTable.getDescriptorsFromModule(moduleFqn);
     if (retrieved == null) {
       return Optional.empty();
@@ -84,23 +100,18 @@ public class SymbolsModuleTypeProvider {
       .collect(Collectors.toMap(Descriptor::name,
         d -> TypeWrapper.of(anyDescriptorToPythonTypeConverter.convert(moduleFqn, d, TypeOrigin.LOCAL))
       ));
-    return Optional.of(createModuleType(moduleName, moduleFqn, parent, members));
+    return Optional.of(members);
   }
 
-  private Optional<ModuleType> createModuleTypeFromTypeShed(String moduleName, String moduleFqn, ModuleType parent) {
+  private Optional<Map<String, TypeWrapper>> convertModuleMembersFromTypeShed(String moduleFqn) {
     Map<String, Descriptor> stringDescriptorMap = projectLevelSymbolTable.typeShedDescriptorsProvider().descriptorsForModule(moduleFqn);
     Map<String, TypeWrapper> members = anyDescriptorToPythonTypeConverter.convertModuleType(moduleFqn, stringDescriptorMap);
-    return Optional.of(members).filter(m -> !m.isEmpty()).map(m -> createModuleType(moduleName, moduleFqn, parent, m));
-  }
-
-  private ModuleType createModuleType(String moduleName, String moduleFqn, ModuleType parent, Map<String, TypeWrapper> members) {
-    addTypingAliases(moduleFqn, members);
-    return new ModuleType(moduleName, parent, members);
+    return Optional.of(members).filter(m -> !m.isEmpty());
   }
 
   private void addTypingAliases(String moduleFqn, Map<String, TypeWrapper> members) {
     aliasMembers.getOrDefault(moduleFqn, Map.of()).forEach((alias, original) -> {
-      var originalType = rootModule.members().get(original);
+      var originalType = builtinMembers.get(original);
       if (originalType != null) {
         members.put(alias, originalType);
       }
@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.sonar.plugins.python.api.PythonFile;
 import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
 import org.sonar.plugins.python.api.tree.BaseTreeVisitor;
@@ -33,6 +35,8 @@ import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.Parameter;
 import org.sonar.plugins.python.api.tree.StatementList;
 import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.cfg.CfgProvider;
+import org.sonar.python.cfg.fixpoint.ForwardAnalysis;
 import org.sonar.python.semantic.SymbolUtils;
 import org.sonar.python.semantic.v2.types.AstBasedTypeInference;
 import org.sonar.python.semantic.v2.types.FlowSensitiveTypeInference;
@@ -45,16 +49,26 @@ import org.sonar.python.types.v2.PythonType;
 
 public class TypeInferenceV2 {
 
+  private static final Logger LOG = LoggerFactory.getLogger(TypeInferenceV2.class);
+  // A block visited this often means that the fixpoint converges slowly, e.g. on types growing through loops
+  static final int SLOW_FIXPOINT_BLOCK_VISITS = 10;
+
   private final TypeTable projectLevelTypeTable;
   private final SymbolTable symbolTable;
   private final PythonFile pythonFile;
+  private final CfgProvider cfgProvider;
   private final String fullyQualifiedModuleName;
   private Set<String> importedModulesFQN;
 
   public TypeInferenceV2(TypeTable projectLevelTypeTable, PythonFile pythonFile, SymbolTable symbolTable, String packageName) {
+    this(projectLevelTypeTable, symbolTable, packageName, new CfgProvider(pythonFile));
+  }
+
+  public TypeInferenceV2(TypeTable projectLevelTypeTable, SymbolTable symbolTable, String packageName, CfgProvider cfgProvider) {
     this.projectLevelTypeTable = projectLevelTypeTable;
     this.symbolTable = symbolTable;
-    this.pythonFile = pythonFile;
+    this.pythonFile = cfgProvider.pythonFile();
+    this.cfgProvider = cfgProvider;
     this.fullyQualifiedModuleName = SymbolUtils.fullyQualifiedModuleName(packageName, pythonFile.fileName());
   }
 
@@ -87,7 +101,7 @@ public class TypeInferenceV2 {
       statements,
       moduleSymbols,
       Collections.emptySet(),
-      () -> ControlFlowGraph.build(fileInput, pythonFile)
+      () -> cfgProvider.cfg(fileInput)
     );
   }
 
@@ -101,7 +115,7 @@ public class TypeInferenceV2 {
       functionDef.body(),
       localVariables,
       parameterNames,
-      () -> ControlFlowGraph.build(functionDef, pythonFile)
+      () -> cfgProvider.cfg(functionDef)
     );
   }
 
@@ -132,10 +146,11 @@ public class TypeInferenceV2 {
       return Map.of();
     }
     assignedNames.addAll(annotatedParameterNames);
-    return flowSensitiveTypeInference(cfg, getTrackedVars(declaredVariables, assignedNames), propagationVisitor);
+    return flowSensitiveTypeInference(scopeTree, cfg, getTrackedVars(declaredVariables, assignedNames), propagationVisitor);
   }
 
-  private Map<SymbolV2, Set<PythonType>> flowSensitiveTypeInference(ControlFlowGraph cfg, Set<SymbolV2> trackedVars, PropagationVisitor propagationVisitor) {
+  private Map<SymbolV2, Set<PythonType>> flowSensitiveTypeInference(Tree scopeTree, ControlFlowGraph cfg, Set<SymbolV2> trackedVars,
+    PropagationVisitor propagationVisitor) {
     // TODO: infer parameter type based on default value assignement
     var parameterTypes = trackedVars
       .stream()
@@ -151,8 +166,16 @@ public class TypeInferenceV2 {
       propagationVisitor.definitionsByDefinitionStatement(),
       parameterTypes);
 
-    flowSensitiveTypeInference.compute(cfg);
-    return (flowSensitiveTypeInference.compute(cfg)).typesBySymbol();
+    var typesBySymbol = flowSensitiveTypeInference.compute(cfg).typesBySymbol();
+    logSlowFixpoint(scopeTree, flowSensitiveTypeInference.statistics());
+    return typesBySymbol;
+  }
+
+  private void logSlowFixpoint(Tree scopeTree, ForwardAnalysis.Statistics statistics) {
+    if (statistics.maxBlockVisits() >= SLOW_FIXPOINT_BLOCK_VISITS && LOG.isDebugEnabled()) {
+      LOG.debug("Slow type inference in {} at line {}: {} iterations over {} blocks, a block visited {} times",
+        pythonFile.fileName(), scopeTree.firstToken().line(), statistics.iterations(), statistics.blocks(), statistics.maxBlockVisits());
+    }
   }
 
   private static PythonType getParameterType(SymbolV2 symbol) {
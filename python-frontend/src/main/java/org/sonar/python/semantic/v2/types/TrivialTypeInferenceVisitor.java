@@ -139,7 +139,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     var builtins = this.projectLevelTypeTable.getBuiltinsModule();
     // TODO: SONARPY-1867 multiple object types to represent str instance?
     PythonType strType = builtins.resolveMember("str").orElse(PythonType.UNKNOWN);
-    ((StringLiteralImpl) stringLiteral).typeV2(new ObjectType(strType, new ArrayList<>(), new ArrayList<>()));
+    ((StringLiteralImpl) stringLiteral).typeV2(ObjectType.fromType(strType));
   }
 
   @Override
@@ -160,7 +160,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     super.visitDictionaryLiteral(dictionaryLiteral);
     var builtins = this.projectLevelTypeTable.getBuiltinsModule();
     PythonType dictType = builtins.resolveMember("dict").orElse(PythonType.UNKNOWN);
-    ((DictionaryLiteralImpl) dictionaryLiteral).typeV2(new ObjectType(dictType, new ArrayList<>(), new ArrayList<>()));
+    ((DictionaryLiteralImpl) dictionaryLiteral).typeV2(ObjectType.fromType(dictType));
   }
 
   @Override
@@ -168,7 +168,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     super.visitSetLiteral(setLiteral);
     var builtins = this.projectLevelTypeTable.getBuiltinsModule();
     PythonType setType = builtins.resolveMember("set").orElse(PythonType.UNKNOWN);
-    ((SetLiteralImpl) setLiteral).typeV2(new ObjectType(setType, new ArrayList<>(), new ArrayList<>()));
+    ((SetLiteralImpl) setLiteral).typeV2(ObjectType.fromType(setType));
   }
 
   @Override
@@ -177,7 +177,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     NumericLiteralImpl numericLiteralImpl = (NumericLiteralImpl) numericLiteral;
     NumericLiteralImpl.NumericKind numericKind = numericLiteralImpl.numericKind();
     PythonType pythonType = builtins.resolveMember(numericKind.value()).orElse(PythonType.UNKNOWN);
-    numericLiteralImpl.typeV2(new ObjectType(pythonType, new ArrayList<>(), new ArrayList<>()));
+    numericLiteralImpl.typeV2(ObjectType.fromType(pythonType));
   }
 
   @Override
@@ -185,7 +185,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     var builtins = this.projectLevelTypeTable.getBuiltinsModule();
     // TODO: SONARPY-1867 multiple object types to represent str instance?
     PythonType noneType = builtins.resolveMember("NoneType").orElse(PythonType.UNKNOWN);
-    ((NoneExpressionImpl) noneExpression).typeV2(new ObjectType(noneType, new ArrayList<>(), new ArrayList<>()));
+    ((NoneExpressionImpl) noneExpression).typeV2(ObjectType.fromType(noneType));
   }
 
   @Override
@@ -217,7 +217,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
       case SET_COMPREHENSION -> builtins.resolveMember("set").orElse(PythonType.UNKNOWN);
       default -> PythonType.UNKNOWN;
     };
-    ((ComprehensionExpressionImpl) comprehensionExpression).typeV2(new ObjectType(pythonType, new ArrayList<>(), new ArrayList<>()));
+    ((ComprehensionExpressionImpl) comprehensionExpression).typeV2(ObjectType.fromType(pythonType));
   }
 
   @Override
@@ -225,7 +225,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     super.visitDictCompExpression(dictCompExpression);
     var builtins = this.projectLevelTypeTable.getBuiltinsModule();
     var dictType = builtins.resolveMember("dict").orElse(PythonType.UNKNOWN);
-    ((DictCompExpressionImpl) dictCompExpression).typeV2(new ObjectType(dictType, new ArrayList<>(), new ArrayList<>()));
+    ((DictCompExpressionImpl) dictCompExpression).typeV2(ObjectType.fromType(dictType));
   }
 
   @Override
@@ -335,7 +335,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
     TypeAnnotation typeAnnotation = functionDef.returnTypeAnnotation();
     if (typeAnnotation != null) {
       PythonType returnType = typeAnnotation.expression().typeV2();
-      functionTypeBuilder.withReturnType(returnType instanceof UnknownType ? returnType : new ObjectType(returnType, TypeSource.TYPE_HINT));
+      functionTypeBuilder.withReturnType(returnType instanceof UnknownType ? returnType : ObjectType.fromType(returnType, TypeSource.TYPE_HINT));
       functionTypeBuilder.withTypeOrigin(TypeOrigin.LOCAL);
     }
     FunctionType functionType = functionTypeBuilder.build();
@@ -468,7 +468,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
             .map(TypeAnnotation::expression)
             .map(Expression::typeV2)
             .filter(Predicate.not(PythonType.UNKNOWN::equals))
-            .map(t -> new ObjectType(t, TypeSource.TYPE_HINT))
+            .map(t -> ObjectType.fromType(t, TypeSource.TYPE_HINT))
             .ifPresent(lhsName::typeV2);
           addStaticFieldToClass(lhsName, lhsName.typeV2());
         }
@@ -547,7 +547,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
 
   private static PythonType resolveTypeAnnotationExpressionType(Expression expression) {
     if (expression instanceof Name name && name.typeV2() != PythonType.UNKNOWN) {
-      return new ObjectType(name.typeV2(), TypeSource.TYPE_HINT);
+      return ObjectType.fromType(name.typeV2(), TypeSource.TYPE_HINT);
     } else if (expression instanceof SubscriptionExpression subscriptionExpression && subscriptionExpression.object().typeV2() != PythonType.UNKNOWN) {
       var candidateTypes = subscriptionExpression.subscripts()
         .expressions()
@@ -559,7 +559,7 @@ public class TrivialTypeInferenceVisitor extends BaseTreeVisitor {
       var elementsType = UnionType.or(candidateTypes);
 
       var attributes = new ArrayList<PythonType>();
-      attributes.add(new ObjectType(elementsType, TypeSource.TYPE_HINT));
+      attributes.add(ObjectType.fromType(elementsType, TypeSource.TYPE_HINT));
       return new ObjectType(subscriptionExpression.object().typeV2(), attributes, new ArrayList<>(), TypeSource.TYPE_HINT);
     } else if (expression instanceof BinaryExpression binaryExpression) {
       var left = resolveTypeAnnotationExpressionType(binaryExpression.leftOperand());
@@ -85,7 +85,7 @@ public class TrivialTypePropagationVisitor extends BaseTreeVisitor {
         && rightOperand.typeV2() instanceof ObjectType rightObjectType
         && rightObjectType.unwrappedType() instanceof ClassType rightClassType
         && leftClassType == rightClassType) {
-      return new ObjectType(leftClassType, TypeSource.min(leftObjectType.typeSource(), rightObjectType.typeSource()));
+      return ObjectType.fromType(leftClassType, TypeSource.min(leftObjectType.typeSource(), rightObjectType.typeSource()));
     }
     return PythonType.UNKNOWN;
   }
@@ -133,6 +133,6 @@ public class TrivialTypePropagationVisitor extends BaseTreeVisitor {
     } else if (type instanceof ObjectType objectType) {
       return new ObjectType(objectType.typeWrapper(), objectType.attributes(), objectType.members(), objectType.typeSource());
     }
-    return new ObjectType(type);
+    return ObjectType.fromType(type);
   }
 }
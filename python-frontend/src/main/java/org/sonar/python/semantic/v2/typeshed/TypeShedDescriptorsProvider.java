@@ -75,7 +75,7 @@ public class TypeShedDescriptorsProvider {
   // Public methods
   //================================================================================
 
-  public Map<String, Descriptor> builtinDescriptors() {
+  public synchronized Map<String, Descriptor> builtinDescriptors() {
     if (builtins == null) {
       Map<String, Descriptor> symbols = getModuleDescriptors(BUILTINS_FQN, PROTOBUF);
       symbols.put(NONE_TYPE, new ClassDescriptor.ClassDescriptorBuilder().withName(NONE_TYPE).withFullyQualifiedName(NONE_TYPE).build());
@@ -87,15 +87,34 @@ public class TypeShedDescriptorsProvider {
   /**
    * Returns map of exported symbols by name for a given module
    */
-  public Map<String, Descriptor> descriptorsForModule(String moduleName) {
+  public synchronized Map<String, Descriptor> descriptorsForModule(String moduleName) {
     if (searchedModuleMatchesCurrentProject(moduleName)) {
       return Collections.emptyMap();
     }
     return cachedDescriptors.computeIfAbsent(moduleName, this::searchTypeShedForModule);
   }
 
-  public Set<String> stubModules() {
-    return cachedDescriptors.keySet();
+  public synchronized Set<String> stubModules() {
+    return Set.copyOf(cachedDescriptors.keySet());
+  }
+
+  /**
+   * Returns map of exported symbols by name for each stub module which has been searched so far
+   */
+  public synchronized Map<String, Map<String, Descriptor>> stubModulesDescriptors() {
+    return Map.copyOf(cachedDescriptors);
+  }
+
+  /**
+   * Registers stub modules descriptors which were computed beforehand, typically by a previous analysis.
+   * Modules which have already been searched, or which match the current project, are ignored.
+   */
+  public synchronized void addStubModulesDescriptors(Map<String, Map<String, Descriptor>> descriptorsByModule) {
+    descriptorsByModule.forEach((moduleName, descriptors) -> {
+      if (!searchedModuleMatchesCurrentProject(moduleName)) {
+        cachedDescriptors.putIfAbsent(moduleName, descriptors);
+      }
+    });
   }
 
   //================================================================================
@@ -116,7 +135,7 @@ public class TypeShedDescriptorsProvider {
 
   private Map<String, Descriptor> getModuleDescriptors(String moduleName, String dirName) {
     String fileName = MODULES_TO_DISAMBIGUATE.getOrDefault(moduleName, moduleName);
-    InputStream resource = this.getClass().getResourceAsStream(dirName + fileName + ".protobuf");
+    InputStream resource = TypeShedStubIndex.openStub(dirName, fileName);
     if (resource == null) {
       return Collections.emptyMap();
     }
@@ -135,7 +154,7 @@ public class TypeShedDescriptorsProvider {
     }
   }
 
-  public List<Descriptor> stubFilesDescriptors() {
+  public synchronized List<Descriptor> stubFilesDescriptors() {
     List<Descriptor> descriptors = new ArrayList<>(new TreeMap<>(builtinDescriptors()).values());
     new TreeMap<>(cachedDescriptors).values().forEach(entry -> descriptors.addAll(new TreeMap<>(entry).values()));
     return descriptors;
@@ -0,0 +1,110 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.semantic.v2.typeshed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.CheckForNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the serialized Typeshed stubs available in each resource directory.
+ * Most module lookups do not match any stub: the index allows to answer them without querying the class loader.
+ * Each directory is listed once, either from the file system or from the entries of the plugin jar.
+ */
+public class TypeShedStubIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TypeShedStubIndex.class);
+  static final String STUB_EXTENSION = ".protobuf";
+
+  // Directories which could not be listed are mapped to an empty optional: lookups in these directories always query the class loader
+  private static final Map<String, Optional<Set<String>>> STUB_FILES_BY_DIRECTORY = new ConcurrentHashMap<>();
+
+  private TypeShedStubIndex() {
+  }
+
+  /**
+   * @param directory absolute resource path of the stubs directory, ending with a slash
+   * @param fileName name of the stub file, without extension
+   * @return the content of the stub, or null if there is no such stub
+   */
+  @CheckForNull
+  public static InputStream openStub(String directory, String fileName) {
+    Optional<Set<String>> stubFiles = STUB_FILES_BY_DIRECTORY.computeIfAbsent(directory, TypeShedStubIndex::listStubFiles);
+    if (stubFiles.isPresent() && !stubFiles.get().contains(fileName)) {
+      return null;
+    }
+    return TypeShedStubIndex.class.getResourceAsStream(directory + fileName + STUB_EXTENSION);
+  }
+
+  private static Optional<Set<String>> listStubFiles(String directory) {
+    URL url = TypeShedStubIndex.class.getResource(directory);
+    if (url == null) {
+      // Jars may be packaged without directory entries: the stubs of the directory can still be found by the class loader
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(stubFiles(url));
+    } catch (IOException | URISyntaxException e) {
+      LOG.debug("Unable to list Typeshed stubs of directory {}", directory, e);
+      return Optional.empty();
+    }
+  }
+
+  @CheckForNull
+  static Set<String> stubFiles(URL directoryUrl) throws IOException, URISyntaxException {
+    if ("file".equals(directoryUrl.getProtocol())) {
+      try (Stream<Path> files = Files.list(Path.of(directoryUrl.toURI()))) {
+        return stubFileNames(files.map(file -> file.getFileName().toString()));
+      }
+    }
+    if ("jar".equals(directoryUrl.getProtocol())) {
+      JarURLConnection connection = (JarURLConnection) directoryUrl.openConnection();
+      // The jar file is opened specifically to read its entries: it must not be shared with the class loader, as it is closed below
+      connection.setUseCaches(false);
+      String prefix = connection.getEntryName();
+      try (JarFile jarFile = connection.getJarFile()) {
+        return stubFileNames(jarFile.stream()
+          .map(JarEntry::getName)
+          .filter(name -> name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0)
+          .map(name -> name.substring(prefix.length())));
+      }
+    }
+    return null;
+  }
+
+  private static Set<String> stubFileNames(Stream<String> fileNames) {
+    return fileNames
+      .filter(name -> name.endsWith(STUB_EXTENSION))
+      .map(name -> name.substring(0, name.length() - STUB_EXTENSION.length()))
+      .collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -219,7 +219,7 @@ public class CallExpressionImpl extends PyTree implements CallExpression, HasTyp
 
   static PythonType returnTypeOfCall(PythonType calleeType) {
     if (calleeType instanceof ClassType classType) {
-      return new ObjectType(classType);
+      return ObjectType.fromType(classType);
     }
     if (calleeType instanceof FunctionType functionType) {
       return functionType.returnType();
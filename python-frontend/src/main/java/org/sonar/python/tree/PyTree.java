@@ -16,6 +16,7 @@
  */
 package org.sonar.python.tree;
 
+import java.util.Collection;
 import java.util.List;
 import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
@@ -25,6 +26,13 @@ public abstract class PyTree implements Tree {
   protected Token lastToken;
   private List<Tree> childs;
   private Tree parent = null;
+  private static final int KIND_WORDS = (Kind.values().length + Long.SIZE - 1) / Long.SIZE;
+  // Bitsets of a single kind, indexed by ordinal: shared by the subtrees made of nodes of a single kind, e.g. tokens
+  private static final long[][] SINGLE_KIND_BITSETS = singleKindBitSets();
+
+  // Kinds of the nodes of the subtree rooted at this node, indexed by ordinal: null when all kinds are assumed to be present,
+  // e.g. until the subtree is indexed. The array is copied before its first update when it is one of SINGLE_KIND_BITSETS.
+  private long[] subtreeKinds = null;
 
   protected PyTree() {
   }
@@ -78,6 +86,69 @@ public abstract class PyTree implements Tree {
     this.parent = parent;
   }
 
+  /**
+   * Resets the kinds of the subtree to the kind of this node: those of the children are then added with {@link #addSubtreeKinds(PyTree)}.
+   */
+  void indexSubtreeKinds() {
+    subtreeKinds = SINGLE_KIND_BITSETS[getKind().ordinal()];
+  }
+
+  void addSubtreeKinds(PyTree child) {
+    if (subtreeKinds == null) {
+      return;
+    }
+    long[] childKinds = child.subtreeKinds;
+    if (childKinds == null) {
+      subtreeKinds = null;
+      return;
+    }
+    for (int i = 0; i < KIND_WORDS; i++) {
+      long addedKinds = childKinds[i] & ~subtreeKinds[i];
+      if (addedKinds != 0) {
+        if (subtreeKinds == SINGLE_KIND_BITSETS[getKind().ordinal()]) {
+          subtreeKinds = subtreeKinds.clone();
+        }
+        subtreeKinds[i] |= addedKinds;
+      }
+    }
+  }
+
+  /**
+   * @param kinds bitset built with {@link #kindsBitSet(Collection)}
+   * @return false only when it is known that no node of this subtree, including this node, has one of the given kinds
+   */
+  public boolean subtreeMayContain(long[] kinds) {
+    if (subtreeKinds == null) {
+      return true;
+    }
+    for (int i = 0; i < KIND_WORDS; i++) {
+      if ((subtreeKinds[i] & kinds[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public static long[] kindsBitSet(Collection<Kind> kinds) {
+    long[] bitSet = new long[KIND_WORDS];
+    kinds.forEach(kind -> setKind(bitSet, kind));
+    return bitSet;
+  }
+
+  private static long[][] singleKindBitSets() {
+    Kind[] kinds = Kind.values();
+    long[][] bitSets = new long[kinds.length][];
+    for (Kind kind : kinds) {
+      bitSets[kind.ordinal()] = new long[KIND_WORDS];
+      setKind(bitSets[kind.ordinal()], kind);
+    }
+    return bitSets;
+  }
+
+  private static void setKind(long[] bitSet, Kind kind) {
+    bitSet[kind.ordinal() / Long.SIZE] |= 1L << (kind.ordinal() % Long.SIZE);
+  }
+
   abstract List<Tree> computeChildren();
 
   public List<Tree> children() {
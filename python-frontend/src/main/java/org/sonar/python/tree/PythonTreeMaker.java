@@ -136,11 +136,17 @@ public class PythonTreeMaker {
     return tokens.stream().map(this::toPyToken).toList();
   }
 
+  /**
+   * Also indexes the kinds of the nodes of each subtree, which allows visitors to skip the subtrees without relevant nodes.
+   */
   public void setParents(Tree root) {
+    PyTree pyRoot = (PyTree) root;
+    pyRoot.indexSubtreeKinds();
     for (Tree child : root.children()) {
       if (child != null) {
         ((PyTree) child).setParent(root);
         setParents(child);
+        pyRoot.addSubtreeKinds((PyTree) child);
       }
     }
   }
@@ -0,0 +1,90 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.tree;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import org.sonar.plugins.python.api.tree.Token;
+import org.sonar.plugins.python.api.tree.Tree;
+
+/**
+ * Iterates over the tokens of a tree in the order of the source code.
+ * Tokens are reached by walking the tree with an explicit stack: no intermediate list is built,
+ * and the walk stops as soon as the caller stops asking for tokens.
+ */
+public class TokenIterator implements Iterator<Token> {
+
+  private final Deque<Tree> stack = new ArrayDeque<>();
+  private final Predicate<Token> filter;
+  @Nullable
+  private Token next;
+
+  public TokenIterator(Tree tree) {
+    this(tree, token -> true);
+  }
+
+  /**
+   * @param filter only the tokens matching the filter are returned, e.g. the tokens having a given type
+   */
+  public TokenIterator(Tree tree, Predicate<Token> filter) {
+    this.filter = filter;
+    stack.push(tree);
+    next = computeNext();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return next != null;
+  }
+
+  @Override
+  public Token next() {
+    if (next == null) {
+      throw new NoSuchElementException();
+    }
+    Token token = next;
+    next = computeNext();
+    return token;
+  }
+
+  @Nullable
+  private Token computeNext() {
+    while (!stack.isEmpty()) {
+      Tree tree = stack.pop();
+      if (tree.is(Tree.Kind.TOKEN)) {
+        Token token = (Token) tree;
+        if (filter.test(token)) {
+          return token;
+        }
+      } else {
+        List<Tree> children = tree.children();
+        for (int i = children.size() - 1; i >= 0; i--) {
+          Tree child = children.get(i);
+          if (child != null) {
+            stack.push(child);
+          }
+        }
+      }
+    }
+    return null;
+  }
+}
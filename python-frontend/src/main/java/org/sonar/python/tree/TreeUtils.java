@@ -100,24 +100,24 @@ public class TreeUtils {
   }
 
   public static List<Token> tokens(Tree tree) {
-    if (tree.is(Kind.TOKEN)) {
-      return Collections.singletonList((Token) tree);
-    } 
-    List<Token> tokens = new ArrayList<>();
-    for (Tree child : tree.children()) {
-      if (child.is(Kind.TOKEN)) {
-        tokens.add(((Token) child));
-      } else {
-        tokens.addAll(tokens(child));
-      }
-    }
-    return tokens;
+    return tokens(new TokenIterator(tree));
   }
 
   public static List<Token> nonWhitespaceTokens(Tree tree) {
-    return TreeUtils.tokens(tree).stream()
-      .filter(t -> !WHITESPACE_TOKEN_TYPES.contains(t.type()))
-      .toList();
+    return tokens(new TokenIterator(tree, t -> !WHITESPACE_TOKEN_TYPES.contains(t.type())));
+  }
+
+  /**
+   * Stops visiting the tokens of the tree as soon as one of them matches the predicate.
+   */
+  public static boolean hasToken(Tree tree, Predicate<Token> predicate) {
+    return new TokenIterator(tree, predicate).hasNext();
+  }
+
+  private static List<Token> tokens(TokenIterator tokenIterator) {
+    List<Token> tokens = new ArrayList<>();
+    tokenIterator.forEachRemaining(tokens::add);
+    return tokens;
   }
 
   public static boolean hasDescendant(Tree tree, Predicate<Tree> predicate) {
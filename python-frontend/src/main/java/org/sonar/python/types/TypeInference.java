@@ -50,6 +50,7 @@ import org.sonar.plugins.python.api.tree.StatementList;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.plugins.python.api.tree.TryStatement;
 import org.sonar.plugins.python.api.types.InferredType;
+import org.sonar.python.cfg.CfgProvider;
 import org.sonar.python.semantic.SymbolImpl;
 import org.sonar.python.tree.FunctionDefImpl;
 import org.sonar.python.tree.NameImpl;
@@ -68,11 +69,15 @@ public class TypeInference extends BaseTreeVisitor {
   private Map<String, InferredType> parameterTypesByName = new HashMap<>();
 
   public static void inferTypes(FileInput fileInput, PythonFile pythonFile) {
+    inferTypes(fileInput, new CfgProvider(pythonFile));
+  }
+
+  public static void inferTypes(FileInput fileInput, CfgProvider cfgProvider) {
     fileInput.accept(new BaseTreeVisitor() {
       @Override
       public void visitFunctionDef(FunctionDef funcDef) {
         super.visitFunctionDef(funcDef);
-        inferTypesAndMemberAccessSymbols(funcDef, pythonFile);
+        inferTypesAndMemberAccessSymbols(funcDef, cfgProvider);
       }
     });
     fileInput.accept(new BaseTreeVisitor() {
@@ -91,7 +96,7 @@ public class TypeInference extends BaseTreeVisitor {
         }
       }
     });
-    inferTypesAndMemberAccessSymbols(fileInput, pythonFile);
+    inferTypesAndMemberAccessSymbols(fileInput, cfgProvider);
   }
 
   private static Set<Symbol> getTrackedVars(Set<Symbol> localVariables, Set<Name> assignedNames) {
@@ -108,7 +113,7 @@ public class TypeInference extends BaseTreeVisitor {
     return trackedVars;
   }
 
-  private static void inferTypesAndMemberAccessSymbols(FileInput fileInput, PythonFile pythonFile) {
+  private static void inferTypesAndMemberAccessSymbols(FileInput fileInput, CfgProvider cfgProvider) {
     StatementList statements = fileInput.statements();
     if (statements == null) {
       return;
@@ -118,11 +123,11 @@ public class TypeInference extends BaseTreeVisitor {
       statements,
       fileInput.globalVariables(),
       Collections.emptySet(),
-      () -> ControlFlowGraph.build(fileInput, pythonFile)
+      () -> cfgProvider.cfg(fileInput)
     );
   }
 
-  private static void inferTypesAndMemberAccessSymbols(FunctionDef functionDef, PythonFile pythonFile) {
+  private static void inferTypesAndMemberAccessSymbols(FunctionDef functionDef, CfgProvider cfgProvider) {
     Set<Name> annotatedParamNames = TreeUtils.nonTupleParameters(functionDef).stream()
       .filter(parameter -> parameter.typeAnnotation() != null)
       .map(Parameter::name)
@@ -132,7 +137,7 @@ public class TypeInference extends BaseTreeVisitor {
       functionDef.body(),
       functionDef.localVariables(),
       annotatedParamNames,
-      () -> ControlFlowGraph.build(functionDef, pythonFile)
+      () -> cfgProvider.cfg(functionDef)
     );
   }
 
@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -43,6 +44,7 @@ import org.sonar.python.semantic.ClassSymbolImpl;
 import org.sonar.python.semantic.FunctionSymbolImpl;
 import org.sonar.python.semantic.ProjectLevelSymbolTable;
 import org.sonar.python.semantic.SymbolImpl;
+import org.sonar.python.semantic.v2.typeshed.TypeShedStubIndex;
 import org.sonar.python.types.protobuf.SymbolsProtos;
 import org.sonar.python.types.protobuf.SymbolsProtos.ModuleSymbol;
 import org.sonar.python.types.protobuf.SymbolsProtos.OverloadedFunctionSymbol;
@@ -59,15 +61,17 @@ import static org.sonar.plugins.python.api.types.BuiltinTypes.TUPLE;
 
 public class TypeShed {
 
-  private static Map<String, Symbol> builtins;
-  private static final Map<String, Map<String, Symbol>> typeShedSymbols = new HashMap<>();
+  // Typeshed symbols are shared by all files of the analysis, which may be analyzed concurrently: loading them is synchronized
+  private static volatile Map<String, Symbol> builtins;
+  private static final Map<String, Map<String, Symbol>> typeShedSymbols = new ConcurrentHashMap<>();
   private static final Map<String, Set<Symbol>> builtinGlobalSymbols = new HashMap<>();
   private static final Set<String> modulesInProgress = new HashSet<>();
 
-  private static final String PROTOBUF_CUSTOM_STUBS = "custom_protobuf/";
-  private static final String PROTOBUF = "stdlib_protobuf/";
-  private static final String PROTOBUF_THIRD_PARTY = "third_party_protobuf/";
-  private static final String PROTOBUF_THIRD_PARTY_MYPY = "third_party_protobuf_mypy/";
+  private static final String PROTOBUF_BASE_RESOURCE_PATH = "/org/sonar/python/types/";
+  private static final String PROTOBUF_CUSTOM_STUBS = PROTOBUF_BASE_RESOURCE_PATH + "custom_protobuf/";
+  private static final String PROTOBUF = PROTOBUF_BASE_RESOURCE_PATH + "stdlib_protobuf/";
+  private static final String PROTOBUF_THIRD_PARTY = PROTOBUF_BASE_RESOURCE_PATH + "third_party_protobuf/";
+  private static final String PROTOBUF_THIRD_PARTY_MYPY = PROTOBUF_BASE_RESOURCE_PATH + "third_party_protobuf_mypy/";
   private static final String BUILTINS_FQN = "builtins";
   private static final String BUILTINS_PREFIX = BUILTINS_FQN + ".";
   // Those fundamentals builtins symbols need not to be ambiguous for the frontend to work properly
@@ -87,7 +91,7 @@ public class TypeShed {
   }
 
   private static final Logger LOG = LoggerFactory.getLogger(TypeShed.class);
-  private static Set<String> supportedPythonVersions;
+  private static volatile Set<String> supportedPythonVersions;
   private static ProjectLevelSymbolTable projectLevelSymbolTable;
 
   private TypeShed() {
@@ -102,14 +106,20 @@ public class TypeShed {
   }
 
   public static Map<String, Symbol> builtinSymbols() {
-    if ((TypeShed.builtins == null)) {
+    if (TypeShed.builtins == null) {
+      loadBuiltinSymbols();
+    }
+    return builtins;
+  }
+
+  private static synchronized void loadBuiltinSymbols() {
+    if (TypeShed.builtins == null) {
       supportedPythonVersions = ProjectPythonVersion.currentVersions().stream().map(PythonVersionUtils.Version::serializedValue).collect(Collectors.toSet());
       Map<String, Symbol> builtins = getSymbolsFromProtobufModule(BUILTINS_FQN, PROTOBUF);
       builtins.put(NONE_TYPE, new ClassSymbolImpl(NONE_TYPE, NONE_TYPE));
       TypeShed.builtins = Collections.unmodifiableMap(builtins);
       TypeShed.builtinGlobalSymbols.put("", new HashSet<>(builtins.values()));
     }
-    return builtins;
   }
 
   public static Map<String, Map<String, Symbol>> getLoadedTypeShedSymbols() {
@@ -141,12 +151,25 @@ public class TypeShed {
     if (searchedModuleMatchesCurrentProject(moduleName)) {
       return Collections.emptyMap();
     }
-    if (!TypeShed.typeShedSymbols.containsKey(moduleName)) {
-      Map<String, Symbol> symbols = searchTypeShedForModule(moduleName);
-      typeShedSymbols.put(moduleName, symbols);
+    Map<String, Symbol> symbols = TypeShed.typeShedSymbols.get(moduleName);
+    if (symbols == null) {
+      return loadModuleSymbols(moduleName);
+    }
+    return symbols;
+  }
+
+  private static synchronized Map<String, Symbol> loadModuleSymbols(String moduleName) {
+    Map<String, Symbol> symbols = TypeShed.typeShedSymbols.get(moduleName);
+    if (symbols != null) {
       return symbols;
     }
-    return TypeShed.typeShedSymbols.get(moduleName);
+    if (modulesInProgress.contains(moduleName)) {
+      // Cyclic import between stub modules: the module will be stored once fully loaded
+      return new HashMap<>();
+    }
+    symbols = searchTypeShedForModule(moduleName);
+    typeShedSymbols.put(moduleName, symbols);
+    return symbols;
   }
 
   @CheckForNull
@@ -272,7 +295,7 @@ public class TypeShed {
     String[] fqnSplitByDot = fullyQualifiedName.split("\\.");
     String symbolLocalNameFromFqn = fqnSplitByDot[fqnSplitByDot.length - 1];
     String moduleName = Arrays.stream(fqnSplitByDot, 0, fqnSplitByDot.length - 1).collect(Collectors.joining("."));
-    InputStream resource = TypeShed.class.getResourceAsStream(PROTOBUF + moduleName + ".protobuf");
+    InputStream resource = TypeShedStubIndex.openStub(PROTOBUF, moduleName);
     if (resource == null) return null;
     ModuleSymbol moduleSymbol = deserializedModule(moduleName, resource);
     if (moduleSymbol == null) return null;
@@ -289,7 +312,7 @@ public class TypeShed {
   //================================================================================
 
   // used by tests whenever 'sonar.python.version' changes
-  public static void resetBuiltinSymbols() {
+  public static synchronized void resetBuiltinSymbols() {
     builtins = null;
     typeShedSymbols.clear();
     builtinSymbols();
@@ -350,7 +373,7 @@ public class TypeShed {
 
   private static Map<String, Symbol> getSymbolsFromProtobufModule(String moduleName, String dirName) {
     String fileName = MODULES_TO_DISAMBIGUATE.getOrDefault(moduleName, moduleName);
-    InputStream resource = TypeShed.class.getResourceAsStream(dirName + fileName + ".protobuf");
+    InputStream resource = TypeShedStubIndex.openStub(dirName, fileName);
     if (resource == null) {
       return Collections.emptyMap();
     }
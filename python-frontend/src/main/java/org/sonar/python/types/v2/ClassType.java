@@ -16,13 +16,21 @@
  */
 package org.sonar.python.types.v2;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.sonar.api.Beta;
@@ -44,6 +52,16 @@ public final class ClassType implements PythonType {
   private final boolean isGeneric;
   private final LocationInFile locationInFile;
 
+  // Members are indexed by name. The index is dropped whenever the members are modified, which bumps membersVersion.
+  private volatile Map<String, PythonType> membersByName = null;
+  private final AtomicInteger membersVersion = new AtomicInteger();
+  // Superclasses never change once the class type is built, and lazy superclasses always resolve to the same type
+  private volatile List<PythonType> mro = null;
+  // Names known not to be members of the class hierarchy, valid as long as the members of the hierarchy are not modified
+  private volatile MissingMembers missingMembers = new MissingMembers(-1, Set.of());
+  // Shared instances of the class without attributes nor members, by type source
+  private final ObjectType[] instanceTypes = new ObjectType[TypeSource.values().length];
+
   public ClassType(
     String name,
     String fullyQualifiedName,
@@ -56,7 +74,7 @@ public final class ClassType implements PythonType {
     @Nullable LocationInFile locationInFile) {
     this.name = name;
     this.fullyQualifiedName = fullyQualifiedName;
-    this.members = members;
+    this.members = new MemberSet(members);
     this.attributes = attributes;
     this.superClasses = superClasses;
     this.metaClasses = metaClasses;
@@ -116,8 +134,20 @@ public final class ClassType implements PythonType {
     return attributes.stream().allMatch(attr -> other.attributes.stream().anyMatch(attr::isCompatibleWith));
   }
 
+  ObjectType instanceType(TypeSource typeSource) {
+    ObjectType instanceType = instanceTypes[typeSource.ordinal()];
+    if (instanceType == null) {
+      instanceType = new ObjectType(this, List.of(), List.of(), typeSource);
+      instanceTypes[typeSource.ordinal()] = instanceType;
+    }
+    return instanceType;
+  }
+
   @Override
   public String key() {
+    if (attributes.isEmpty()) {
+      return name + "[]";
+    }
     return Optional.of(attributes())
       .stream()
       .flatMap(Collection::stream)
@@ -127,33 +157,147 @@ public final class ClassType implements PythonType {
 
   @Override
   public Optional<PythonType> resolveMember(String memberName) {
-    return localMember(memberName)
-      .or(() -> inheritedMember(memberName));
+    Optional<PythonType> localMember = localMember(memberName);
+    if (localMember.isPresent()) {
+      return localMember;
+    }
+    long hierarchyMembersVersion = hierarchyMembersVersion();
+    MissingMembers knownMissingMembers = missingMembers;
+    if (knownMissingMembers.hierarchyMembersVersion() != hierarchyMembersVersion) {
+      knownMissingMembers = new MissingMembers(hierarchyMembersVersion, ConcurrentHashMap.newKeySet());
+      missingMembers = knownMissingMembers;
+    }
+    if (knownMissingMembers.names().contains(memberName)) {
+      return Optional.empty();
+    }
+    Optional<PythonType> inheritedMember = inheritedMember(memberName);
+    if (inheritedMember.isEmpty()) {
+      knownMissingMembers.names().add(memberName);
+    }
+    return inheritedMember;
   }
 
   private Optional<PythonType> localMember(String memberName) {
-    return members.stream()
-      .filter(m -> m.name().equals(memberName))
-      .map(Member::type)
-      .findFirst();
+    Map<String, PythonType> index = membersByName;
+    if (index == null) {
+      index = new HashMap<>();
+      for (Member member : members) {
+        index.putIfAbsent(member.name(), member.type());
+      }
+      membersByName = index;
+    }
+    return Optional.ofNullable(index.get(memberName));
   }
 
   private Optional<PythonType> inheritedMember(String memberName) {
-    return superClasses().stream()
-      .map(s -> s.type().resolveMember(memberName))
-      .filter(Optional::isPresent)
-      .map(Optional::get)
-      .findFirst();
+    List<PythonType> linearization = mro();
+    for (int i = 1; i < linearization.size(); i++) {
+      PythonType type = linearization.get(i);
+      Optional<PythonType> member = type instanceof ClassType classType ? classType.localMember(memberName) : type.resolveMember(memberName);
+      if (member.isPresent()) {
+        return member;
+      }
+    }
+    return Optional.empty();
   }
 
-  public boolean hasUnresolvedHierarchy() {
-    return superClasses().stream().anyMatch(s -> {
-        if (s.type() instanceof ClassType parentClassType) {
-          return parentClassType.hasUnresolvedHierarchy();
+  /**
+   * Sum of the versions of the members of all the classes of the hierarchy: it changes whenever one of them is modified.
+   */
+  private long hierarchyMembersVersion() {
+    long version = 0;
+    for (PythonType type : mro()) {
+      if (type instanceof ClassType classType) {
+        version += classType.membersVersion.get();
+      }
+    }
+    return version;
+  }
+
+  /**
+   * Method resolution order of the class, starting with the class itself. It is computed with the C3 linearization used by Python,
+   * or with a depth-first walk of the hierarchy when the hierarchy cannot be linearized.
+   * Superclasses which are not class types are part of the MRO, without their own hierarchy.
+   */
+  List<PythonType> mro() {
+    List<PythonType> linearization = mro;
+    if (linearization == null) {
+      linearization = computeMro(Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+    return linearization;
+  }
+
+  private List<PythonType> computeMro(Set<ClassType> visiting) {
+    List<PythonType> linearization = mro;
+    if (linearization != null) {
+      return linearization;
+    }
+    visiting.add(this);
+    List<PythonType> bases = new ArrayList<>();
+    List<List<PythonType>> sequences = new ArrayList<>();
+    for (TypeWrapper superClass : superClasses) {
+      PythonType base = superClass.type();
+      bases.add(base);
+      // a class which is already being linearized is part of a cycle in the hierarchy: it is not expanded again
+      boolean isExpandable = base instanceof ClassType && !visiting.contains(base);
+      sequences.add(new ArrayList<>(isExpandable ? ((ClassType) base).computeMro(visiting) : List.of(base)));
+    }
+    visiting.remove(this);
+    List<PythonType> depthFirstSequences = sequences.stream().flatMap(List::stream).toList();
+    sequences.add(new ArrayList<>(bases));
+
+    linearization = new ArrayList<>();
+    linearization.add(this);
+    if (!c3Merge(sequences, linearization)) {
+      linearization.subList(1, linearization.size()).clear();
+      for (PythonType type : depthFirstSequences) {
+        if (linearization.stream().noneMatch(t -> t == type)) {
+          linearization.add(type);
+        }
+      }
+    }
+    linearization = Collections.unmodifiableList(linearization);
+    mro = linearization;
+    return linearization;
+  }
+
+  private static boolean c3Merge(List<List<PythonType>> sequences, List<PythonType> linearization) {
+    while (true) {
+      sequences.removeIf(List::isEmpty);
+      if (sequences.isEmpty()) {
+        return true;
+      }
+      PythonType candidate = null;
+      for (List<PythonType> sequence : sequences) {
+        PythonType head = sequence.get(0);
+        if (sequences.stream().noneMatch(other -> containsInTail(other, head))) {
+          candidate = head;
+          break;
+        }
+      }
+      if (candidate == null) {
+        return false;
+      }
+      linearization.add(candidate);
+      for (List<PythonType> sequence : sequences) {
+        if (sequence.get(0) == candidate) {
+          sequence.remove(0);
         }
+      }
+    }
+  }
+
+  private static boolean containsInTail(List<PythonType> sequence, PythonType type) {
+    for (int i = 1; i < sequence.size(); i++) {
+      if (sequence.get(i) == type) {
         return true;
       }
-    );
+    }
+    return false;
+  }
+
+  public boolean hasUnresolvedHierarchy() {
+    return mro().stream().anyMatch(type -> !(type instanceof ClassType));
   }
 
   @Override
@@ -170,13 +314,7 @@ public final class ClassType implements PythonType {
   }
 
   public boolean hasMetaClass() {
-    return !this.metaClasses.isEmpty() ||
-      this.superClasses()
-        .stream()
-        .map(TypeWrapper::type)
-        .filter(ClassType.class::isInstance)
-        .map(ClassType.class::cast)
-        .anyMatch(ClassType::hasMetaClass);
+    return mro().stream().anyMatch(type -> type instanceof ClassType classType && !classType.metaClasses.isEmpty());
   }
 
   public TriBool instancesHaveMember(String memberName) {
@@ -236,4 +374,74 @@ public final class ClassType implements PythonType {
   public boolean isGeneric() {
     return isGeneric;
   }
+
+  private record MissingMembers(long hierarchyMembersVersion, Set<String> names) {
+  }
+
+  /**
+   * Members of the class: they can still be modified while the type of the class body is inferred, which invalidates the member index.
+   */
+  private final class MemberSet extends AbstractSet<Member> {
+
+    private final Set<Member> delegate;
+
+    private MemberSet(Set<Member> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Iterator<Member> iterator() {
+      Iterator<Member> iterator = delegate.iterator();
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Member next() {
+          return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+          iterator.remove();
+          membersModified();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return delegate.contains(o);
+    }
+
+    @Override
+    public boolean add(Member member) {
+      boolean added = delegate.add(member);
+      if (added) {
+        membersModified();
+      }
+      return added;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      boolean removed = delegate.remove(o);
+      if (removed) {
+        membersModified();
+      }
+      return removed;
+    }
+
+    private void membersModified() {
+      membersByName = null;
+      membersVersion.incrementAndGet();
+    }
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.types.v2;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes whether a class inherits from another one, as checked by {@link TypeCheckBuilder#isInstanceOf(String)}.
+ * Types are compared by identity, and are expected not to change while the cache is in use: it is scoped to a {@link TypeChecker}.
+ * It is not thread-safe.
+ */
+public class CompatibilityCache {
+
+  private final Map<TypePair, TriBool> inheritances = new HashMap<>();
+  private long hits = 0;
+  private long misses = 0;
+
+  TriBool isClassInheritedFrom(PythonType type, ClassType expectedType, Supplier<TriBool> computation) {
+    TypePair key = new TypePair(type, expectedType);
+    TriBool cachedResult = inheritances.get(key);
+    if (cachedResult != null) {
+      hits++;
+      return cachedResult;
+    }
+    misses++;
+    TriBool result = computation.get();
+    inheritances.put(key, result);
+    return result;
+  }
+
+  public long hits() {
+    return hits;
+  }
+
+  public long misses() {
+    return misses;
+  }
+
+  private record TypePair(PythonType first, PythonType second) {
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof TypePair other && first == other.first && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(first) + System.identityHashCode(second);
+    }
+  }
+}
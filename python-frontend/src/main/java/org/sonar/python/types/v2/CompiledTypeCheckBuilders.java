@@ -0,0 +1,56 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.types.v2;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Compiled {@link TypeCheckBuilder}s, see {@link TypeCheckBuilder#compile()}.
+ * Builders are keyed by their normalized predicates, so that equivalent type checks share their memoized results.
+ * A single instance is meant to be shared by all the files analyzed against the same project level type table: it is thread-safe.
+ */
+public class CompiledTypeCheckBuilders {
+
+  private final Map<List<TypeCheckBuilder.TypePredicate>, TypeCheckBuilder> builders = new ConcurrentHashMap<>();
+  private final TypeCheckStatistics statistics;
+
+  public CompiledTypeCheckBuilders() {
+    this(new TypeCheckStatistics());
+  }
+
+  public CompiledTypeCheckBuilders(TypeCheckStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  TypeCheckBuilder compile(List<TypeCheckBuilder.TypePredicate> predicates, Function<List<TypeCheckBuilder.TypePredicate>, TypeCheckBuilder> compiler) {
+    return builders.computeIfAbsent(predicates, compiler);
+  }
+
+  public int size() {
+    return builders.size();
+  }
+
+  /**
+   * Statistics of the checks of the compiled builders, which may be shared with other instances.
+   */
+  public TypeCheckStatistics statistics() {
+    return statistics;
+  }
+}
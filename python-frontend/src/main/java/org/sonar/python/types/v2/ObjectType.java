@@ -57,6 +57,21 @@ public final class ObjectType implements PythonType {
     this(type, attributes, members, TypeSource.EXACT);
   }
 
+  /**
+   * Instance of the given type, without attributes nor members.
+   * Instances of a class type are shared: the same object is returned for a given class and type source.
+   */
+  public static ObjectType fromType(PythonType type, TypeSource typeSource) {
+    if (type instanceof ClassType classType) {
+      return classType.instanceType(typeSource);
+    }
+    return new ObjectType(type, typeSource);
+  }
+
+  public static ObjectType fromType(PythonType type) {
+    return fromType(type, TypeSource.EXACT);
+  }
+
   @Override
   public Optional<String> displayName() {
     return typeWrapper.type().instanceDisplayName();
@@ -102,18 +117,33 @@ public final class ObjectType implements PythonType {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     ObjectType that = (ObjectType) o;
-    List<String> membersNames = members.stream().map(Member::name).toList();
-    List<String> otherMembersNames = that.members.stream().map(Member::name).toList();
-    List<String> attributesNames = attributes.stream().map(PythonType::key).toList();
-    List<String> otherAttributesNames = that.attributes.stream().map(PythonType::key).toList();
-    return Objects.equals(typeWrapper, that.typeWrapper) && Objects.equals(membersNames, otherMembersNames) && Objects.equals(attributesNames, otherAttributesNames);
+    if (!Objects.equals(typeWrapper, that.typeWrapper) || members.size() != that.members.size() || attributes.size() != that.attributes.size()) {
+      return false;
+    }
+    for (int i = 0; i < members.size(); i++) {
+      if (!Objects.equals(members.get(i).name(), that.members.get(i).name())) {
+        return false;
+      }
+    }
+    for (int i = 0; i < attributes.size(); i++) {
+      if (!Objects.equals(attributes.get(i).key(), that.attributes.get(i).key())) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    List<String> membersNames = members.stream().map(Member::name).toList();
-    List<String> attributesNames = attributes.stream().map(PythonType::key).toList();
-    return Objects.hash(typeWrapper, attributesNames, membersNames);
+    int attributesHash = 1;
+    for (PythonType attribute : attributes) {
+      attributesHash = 31 * attributesHash + Objects.hashCode(attribute.key());
+    }
+    int membersHash = 1;
+    for (Member member : members) {
+      membersHash = 31 * membersHash + Objects.hashCode(member.name());
+    }
+    return Objects.hash(typeWrapper, attributesHash, membersHash);
   }
 
   public PythonType type() {
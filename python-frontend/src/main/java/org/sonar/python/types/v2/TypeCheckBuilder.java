@@ -16,59 +16,132 @@
  */
 package org.sonar.python.types.v2;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 import org.sonar.python.semantic.v2.TypeTable;
 
 public class TypeCheckBuilder {
 
   TypeTable projectLevelTypeTable;
+  CompatibilityCache compatibilityCache;
+  CompiledTypeCheckBuilders compiledTypeCheckBuilders;
   List<TypePredicate> predicates = new ArrayList<>();
+  // Only set on compiled builders: results of the checks, keyed by the identity of the checked types
+  Cache<PythonType, TriBool> results = null;
 
   public TypeCheckBuilder(TypeTable projectLevelTypeTable) {
+    this(projectLevelTypeTable, new CompatibilityCache());
+  }
+
+  public TypeCheckBuilder(TypeTable projectLevelTypeTable, CompatibilityCache compatibilityCache) {
+    this(projectLevelTypeTable, compatibilityCache, new CompiledTypeCheckBuilders());
+  }
+
+  public TypeCheckBuilder(TypeTable projectLevelTypeTable, CompatibilityCache compatibilityCache, CompiledTypeCheckBuilders compiledTypeCheckBuilders) {
     this.projectLevelTypeTable = projectLevelTypeTable;
+    this.compatibilityCache = compatibilityCache;
+    this.compiledTypeCheckBuilders = compiledTypeCheckBuilders;
+  }
+
+  private TypeCheckBuilder(TypeTable projectLevelTypeTable, List<TypePredicate> normalizedPredicates, CompiledTypeCheckBuilders compiledTypeCheckBuilders) {
+    this.projectLevelTypeTable = projectLevelTypeTable;
+    this.compiledTypeCheckBuilders = compiledTypeCheckBuilders;
+    this.predicates = normalizedPredicates;
+    this.results = CacheBuilder.newBuilder().weakKeys().build();
+  }
+
+  /**
+   * Returns a compiled equivalent of this builder: its predicates are normalized once, and the result of {@link #check(PythonType)} is memoized for each checked type.
+   * Compiled builders are shared through {@link CompiledTypeCheckBuilders}: equivalent builders compile to the same instance, which can be reused across files.
+   * No predicate can be added to a compiled builder.
+   */
+  public TypeCheckBuilder compile() {
+    if (results != null) {
+      return this;
+    }
+    List<TypePredicate> normalizedPredicates = normalize(predicates);
+    if (dependsOnModuleType(normalizedPredicates)) {
+      // Module types are specific to the type table of a file: such a builder cannot be reused across files
+      return new TypeCheckBuilder(projectLevelTypeTable, normalizedPredicates, compiledTypeCheckBuilders);
+    }
+    return compiledTypeCheckBuilders.compile(normalizedPredicates, normalized -> new TypeCheckBuilder(projectLevelTypeTable, normalized, compiledTypeCheckBuilders));
+  }
+
+  private static boolean dependsOnModuleType(List<TypePredicate> predicates) {
+    return predicates.stream().anyMatch(predicate -> (predicate instanceof IsSameAsTypePredicate isSameAsTypePredicate && isSameAsTypePredicate.expectedType() instanceof ModuleType)
+      || (predicate instanceof IsInstanceOfPredicate isInstanceOfPredicate && isInstanceOfPredicate.expectedType() instanceof ModuleType));
+  }
+
+  public boolean isCompiled() {
+    return results != null;
   }
 
   public TypeCheckBuilder hasMember(String memberName) {
-    predicates.add(new HasMemberTypePredicate(memberName));
+    addPredicate(new HasMemberTypePredicate(memberName));
     return this;
   }
 
   public TypeCheckBuilder instancesHaveMember(String memberName) {
-    predicates.add(new InstancesHaveMemberTypePredicate(memberName));
+    addPredicate(new InstancesHaveMemberTypePredicate(memberName));
     return this;
   }
 
   public TypeCheckBuilder isTypeHintTypeSource() {
-    predicates.add(new TypeSourceMatcherTypePredicate(TypeSource.TYPE_HINT));
+    addPredicate(new TypeSourceMatcherTypePredicate(TypeSource.TYPE_HINT));
     return this;
   }
 
   public TypeCheckBuilder isExactTypeSource() {
-    predicates.add(new TypeSourceMatcherTypePredicate(TypeSource.EXACT));
+    addPredicate(new TypeSourceMatcherTypePredicate(TypeSource.EXACT));
     return this;
   }
 
   public TypeCheckBuilder isBuiltinWithName(String name) {
     PythonType builtinType = projectLevelTypeTable.getBuiltinsModule().resolveMember(name).orElse(PythonType.UNKNOWN);
-    predicates.add(new IsSameAsTypePredicate(builtinType));
+    addPredicate(new IsSameAsTypePredicate(builtinType));
     return this;
   }
 
   public TypeCheckBuilder isInstance() {
-    predicates.add(new IsInstancePredicate());
+    addPredicate(new IsInstancePredicate());
     return this;
   }
 
   public TypeCheckBuilder isGeneric() {
-    predicates.add(new IsGenericPredicate());
+    addPredicate(new IsGenericPredicate());
     return this;
   }
 
+  private void addPredicate(TypePredicate predicate) {
+    if (results != null) {
+      throw new IllegalStateException("No predicate can be added to a compiled TypeCheckBuilder");
+    }
+    predicates.add(predicate);
+  }
+
   public TriBool check(PythonType pythonType) {
+    if (results == null) {
+      return test(pythonType);
+    }
+    TriBool result = results.getIfPresent(pythonType);
+    if (result == null) {
+      compiledTypeCheckBuilders.statistics().recordMiss();
+      result = test(pythonType);
+      results.put(pythonType, result);
+    } else {
+      compiledTypeCheckBuilders.statistics().recordHit();
+    }
+    return result;
+  }
+
+  private TriBool test(PythonType pythonType) {
     TriBool result = TriBool.TRUE;
     for (TypePredicate predicate : predicates) {
       TriBool partialResult = predicate.test(pythonType);
@@ -82,32 +155,53 @@ public class TypeCheckBuilder {
 
   public TypeCheckBuilder isInstanceOf(String fqn) {
     var expected = projectLevelTypeTable.getType(fqn);
-    predicates.add(new IsInstanceOfPredicate(expected));
+    addPredicate(new IsInstanceOfPredicate(expected, compatibilityCache));
     return this;
   }
 
   public TypeCheckBuilder isTypeOrInstanceWithName(String expectedName) {
     var expected = projectLevelTypeTable.getType(expectedName);
-    predicates.add(new IsSameAsTypePredicate(expected, false));
+    addPredicate(new IsSameAsTypePredicate(expected, false));
     return this;
   }
 
   public TypeCheckBuilder isTypeWithName(String expectedName) {
     var expected = projectLevelTypeTable.getType(expectedName);
-    predicates.add(new IsSameAsTypePredicate(expected, true));
+    addPredicate(new IsSameAsTypePredicate(expected, true));
     return this;
   }
 
+  /**
+   * Duplicated predicates are dropped, and a predicate which can only be unknown replaces all the others, as it decides the result alone.
+   * Predicates do not hold per-file state, so that the compiled builder can be shared across files and threads.
+   */
+  private static List<TypePredicate> normalize(List<TypePredicate> predicates) {
+    Set<TypePredicate> normalized = new LinkedHashSet<>();
+    for (TypePredicate predicate : predicates) {
+      if (predicate instanceof IsInstanceOfPredicate isInstanceOfPredicate) {
+        predicate = new IsInstanceOfPredicate(isInstanceOfPredicate.expectedType(), null);
+      }
+      if (isAlwaysUnknown(predicate)) {
+        return List.of(predicate);
+      }
+      normalized.add(predicate);
+    }
+    return List.copyOf(normalized);
+  }
+
+  private static boolean isAlwaysUnknown(TypePredicate predicate) {
+    if (predicate instanceof IsSameAsTypePredicate isSameAsTypePredicate) {
+      PythonType expectedType = isSameAsTypePredicate.expectedType();
+      return expectedType instanceof UnknownType && !(expectedType instanceof UnknownType.UnresolvedImportType);
+    }
+    return predicate instanceof IsInstanceOfPredicate isInstanceOfPredicate && !(isInstanceOfPredicate.expectedType() instanceof ClassType);
+  }
+
   interface TypePredicate {
     TriBool test(PythonType pythonType);
   }
 
-  static class HasMemberTypePredicate implements TypePredicate {
-    String memberName;
-
-    public HasMemberTypePredicate(String memberName) {
-      this.memberName = memberName;
-    }
+  record HasMemberTypePredicate(String memberName) implements TypePredicate {
 
     @Override
     public TriBool test(PythonType pythonType) {
@@ -115,12 +209,7 @@ public class TypeCheckBuilder {
     }
   }
 
-  static class InstancesHaveMemberTypePredicate implements TypePredicate {
-    String memberName;
-
-    public InstancesHaveMemberTypePredicate(String memberName) {
-      this.memberName = memberName;
-    }
+  record InstancesHaveMemberTypePredicate(String memberName) implements TypePredicate {
 
     @Override
     public TriBool test(PythonType pythonType) {
@@ -139,20 +228,12 @@ public class TypeCheckBuilder {
     }
   }
 
-  static class IsSameAsTypePredicate implements TypePredicate {
-
-    PythonType expectedType;
-    boolean isStrictCheck;
+  record IsSameAsTypePredicate(PythonType expectedType, boolean isStrictCheck) implements TypePredicate {
 
     public IsSameAsTypePredicate(PythonType expectedType) {
       this(expectedType, false);
     }
 
-    public IsSameAsTypePredicate(PythonType expectedType, boolean isStrictCheck) {
-      this.expectedType = expectedType;
-      this.isStrictCheck = isStrictCheck;
-    }
-
     @Override
     public TriBool test(PythonType pythonType) {
       if ((pythonType instanceof ObjectType objectType) && !isStrictCheck) {
@@ -168,7 +249,7 @@ public class TypeCheckBuilder {
     }
   }
 
-  record IsInstanceOfPredicate(PythonType expectedType) implements TypePredicate {
+  record IsInstanceOfPredicate(PythonType expectedType, @Nullable CompatibilityCache compatibilityCache) implements TypePredicate {
 
     @Override
     public TriBool test(PythonType pythonType) {
@@ -189,7 +270,7 @@ public class TypeCheckBuilder {
       return TriBool.UNKNOWN;
     }
 
-    private static TriBool isObjectOfUnionTypeInstanceOf(ClassType expectedClassType, UnionType unionType) {
+    private TriBool isObjectOfUnionTypeInstanceOf(ClassType expectedClassType, UnionType unionType) {
       var results = unionType.candidates()
         .stream()
         .map(classType -> isClassInheritedFrom(classType, expectedClassType))
@@ -217,11 +298,17 @@ public class TypeCheckBuilder {
       }
     }
 
-    private static TriBool isClassInheritedFrom(PythonType classType, ClassType expectedClassType) {
+    private TriBool isClassInheritedFrom(PythonType classType, ClassType expectedClassType) {
       if (classType == expectedClassType) {
         return TriBool.TRUE;
       }
+      if (compatibilityCache == null) {
+        return computeIsClassInheritedFrom(classType, expectedClassType);
+      }
+      return compatibilityCache.isClassInheritedFrom(classType, expectedClassType, () -> computeIsClassInheritedFrom(classType, expectedClassType));
+    }
 
+    private static TriBool computeIsClassInheritedFrom(PythonType classType, ClassType expectedClassType) {
       var types = collectTypes(classType);
 
       if (types.contains(expectedClassType)) {
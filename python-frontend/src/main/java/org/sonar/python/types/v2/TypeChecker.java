@@ -21,12 +21,31 @@ import org.sonar.python.semantic.v2.TypeTable;
 public class TypeChecker {
 
   private TypeTable projectLevelTypeTable;
+  private final CompatibilityCache compatibilityCache = new CompatibilityCache();
+  private final CompiledTypeCheckBuilders compiledTypeCheckBuilders;
 
   public TypeChecker(TypeTable projectLevelTypeTable) {
+    this(projectLevelTypeTable, new CompiledTypeCheckBuilders());
+  }
+
+  /**
+   * @param compiledTypeCheckBuilders shared with the type checkers of the other files analyzed against the same type table,
+   *                                  so that {@link TypeCheckBuilder#compile()} reuses the builders compiled for them
+   */
+  public TypeChecker(TypeTable projectLevelTypeTable, CompiledTypeCheckBuilders compiledTypeCheckBuilders) {
     this.projectLevelTypeTable = projectLevelTypeTable;
+    this.compiledTypeCheckBuilders = compiledTypeCheckBuilders;
   }
 
   public TypeCheckBuilder typeCheckBuilder() {
-    return new TypeCheckBuilder(projectLevelTypeTable);
+    return new TypeCheckBuilder(projectLevelTypeTable, compatibilityCache, compiledTypeCheckBuilders);
+  }
+
+  public CompatibilityCache compatibilityCache() {
+    return compatibilityCache;
+  }
+
+  public CompiledTypeCheckBuilders compiledTypeCheckBuilders() {
+    return compiledTypeCheckBuilders;
   }
 }
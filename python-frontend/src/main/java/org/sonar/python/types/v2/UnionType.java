@@ -16,8 +16,11 @@
  */
 package org.sonar.python.types.v2;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -32,10 +35,23 @@ import org.sonar.api.Beta;
 @Beta
 public class UnionType implements PythonType {
 
-  private final Set<PythonType> candidates = new HashSet<>();
+  /**
+   * Unions are interned: unions of the same candidates built while one of them is still in use are the same instance.
+   * Candidates are compared by identity, as equal types may still differ, e.g. by their type source.
+   * Unions are built without access to the type table of the analysis, hence the interner is shared and only holds weak references
+   * to the keys of the unions, which stay reachable as long as their union.
+   */
+  private static final Interner<InternKey> INTERNER = Interners.newWeakInterner();
+
+  private final Set<PythonType> candidates;
+  private final InternKey internKey;
 
+  /**
+   * @param candidates a set which is not used anywhere else
+   */
   private UnionType(Set<PythonType> candidates) {
-    this.candidates.addAll(candidates);
+    this.candidates = Collections.unmodifiableSet(candidates);
+    this.internKey = new InternKey(this);
   }
 
   public Set<PythonType> candidates() {
@@ -83,6 +99,7 @@ public class UnionType implements PythonType {
 
   @Override
   public boolean equals(Object o) {
+    if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     UnionType unionType = (UnionType) o;
     return Objects.equals(candidates, unionType.candidates);
@@ -110,20 +127,28 @@ public class UnionType implements PythonType {
   }
 
   public static PythonType or(Collection<PythonType> types) {
-    types = types.stream().filter(Objects::nonNull).collect(Collectors.toSet());
-    if(types.isEmpty()) {
+    Set<PythonType> distinctTypes = new HashSet<>();
+    for (PythonType type : types) {
+      if (type != null) {
+        distinctTypes.add(type);
+      }
+    }
+    if(distinctTypes.isEmpty()) {
       return PythonType.UNKNOWN;
     }
-    if(types.size() == 1) {
-      return types.iterator().next();
+    if(distinctTypes.size() == 1) {
+      return distinctTypes.iterator().next();
     }
 
-    Set<PythonType> flatTypes = types.stream().flatMap(UnionType::flattenPythonType).collect(Collectors.toSet());
+    Set<PythonType> flatTypes = new HashSet<>();
+    for (PythonType type : distinctTypes) {
+      flattenPythonType(type).forEach(flatTypes::add);
+    }
     if(flatTypes.stream().anyMatch(type -> type == PythonType.UNKNOWN)) {
       return PythonType.UNKNOWN;
     }
     ensureCandidatesAreNotLazyTypes(flatTypes);
-    return new UnionType(flatTypes);
+    return INTERNER.intern(new UnionType(flatTypes).internKey).union;
   }
 
   private static Stream<PythonType> flattenPythonType(PythonType type) {
@@ -139,4 +164,28 @@ public class UnionType implements PythonType {
       throw new IllegalArgumentException("UnionType cannot contain Lazy types");
     }
   }
+
+  private static final class InternKey {
+    private final UnionType union;
+    private final int hashCode;
+
+    private InternKey(UnionType union) {
+      this.union = union;
+      this.hashCode = union.candidates.stream().mapToInt(System::identityHashCode).sum();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof InternKey other) || hashCode != other.hashCode || union.candidates.size() != other.union.candidates.size()) {
+        return false;
+      }
+      return union.candidates.stream().allMatch(candidate -> other.union.candidates.stream().anyMatch(otherCandidate -> otherCandidate == candidate));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
 }
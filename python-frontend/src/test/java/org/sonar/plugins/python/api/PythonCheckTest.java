@@ -0,0 +1,55 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.plugins.python.api;
+
+import org.junit.jupiter.api.Test;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PythonCheckTest {
+
+  @Test
+  void all_layers_are_required_by_default() {
+    assertThat(new UndeclaredCheck().requiredSemanticLayers()).containsExactlyInAnyOrder(SemanticLayer.values());
+  }
+
+  @Test
+  void declared_layers_are_required() {
+    assertThat(new SyntacticCheck().requiredSemanticLayers()).isEmpty();
+    assertThat(new TypedCheck().requiredSemanticLayers()).containsExactlyInAnyOrder(SemanticLayer.TYPES, SemanticLayer.TYPES_V2);
+    assertThat(new InheritingCheck().requiredSemanticLayers()).containsExactlyInAnyOrder(SemanticLayer.TYPES, SemanticLayer.TYPES_V2);
+  }
+
+  private static class UndeclaredCheck implements PythonCheck {
+    @Override
+    public void scanFile(PythonVisitorContext visitorContext) {
+      // no issues
+    }
+  }
+
+  @RequiredSemanticLayers({})
+  private static class SyntacticCheck extends UndeclaredCheck {
+  }
+
+  @RequiredSemanticLayers({SemanticLayer.TYPES, SemanticLayer.TYPES_V2})
+  private static class TypedCheck extends UndeclaredCheck {
+  }
+
+  private static class InheritingCheck extends TypedCheck {
+  }
+}
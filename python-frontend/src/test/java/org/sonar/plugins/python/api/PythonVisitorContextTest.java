@@ -24,9 +24,11 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.sonar.api.SonarProduct;
+import org.sonar.plugins.python.api.PythonCheck.SemanticLayer;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.FunctionDef;
+import org.sonar.plugins.python.api.tree.Name;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.PythonTestUtils;
 import org.sonar.python.caching.CacheContextImpl;
@@ -36,6 +38,9 @@ import org.sonar.python.parser.PythonParser;
 import org.sonar.python.semantic.ProjectLevelSymbolTable;
 import org.sonar.python.tree.FileInputImpl;
 import org.sonar.python.tree.PythonTreeMaker;
+import org.sonar.python.types.InferredTypes;
+import org.sonar.python.types.v2.ObjectType;
+import org.sonar.python.types.v2.PythonType;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.Mockito.mock;
@@ -113,4 +118,30 @@ class PythonVisitorContextTest {
     pythonVisitorContext = new PythonVisitorContext(pythonFile, parsingException, SonarProduct.SONARLINT);
     assertThat(pythonVisitorContext.sonarProduct()).isEqualTo(SonarProduct.SONARLINT);
   }
+
+  @Test
+  void semantic_layers() {
+    assertThat(lastName(Set.of()).symbol()).isNull();
+    assertThat(lastName(Set.of()).typeV2()).isEqualTo(PythonType.UNKNOWN);
+
+    Name name = lastName(Set.of(SemanticLayer.SYMBOLS));
+    assertThat(name.symbol()).isNotNull();
+    assertThat(name.type()).isEqualTo(InferredTypes.anyType());
+    assertThat(name.typeV2()).isEqualTo(PythonType.UNKNOWN);
+
+    name = lastName(Set.of(SemanticLayer.TYPES));
+    assertThat(name.symbol()).isNotNull();
+    assertThat(name.type()).isEqualTo(InferredTypes.INT);
+
+    name = lastName(Set.of(SemanticLayer.TYPES_V2));
+    assertThat(name.symbol()).isNull();
+    assertThat(name.typeV2()).isInstanceOf(ObjectType.class);
+  }
+
+  private static Name lastName(Set<SemanticLayer> semanticLayers) {
+    FileInput fileInput = new PythonTreeMaker().fileInput(PythonParser.create().parse("x = 42\nx"));
+    new PythonVisitorContext(fileInput, pythonFile("my_module.py"), null, "", ProjectLevelSymbolTable.empty(), CacheContextImpl.dummyCache(),
+      SonarProduct.SONARQUBE, semanticLayers);
+    return PythonTestUtils.getLastDescendant(fileInput, t -> t.is(Tree.Kind.NAME));
+  }
 }
@@ -16,7 +16,10 @@
  */
 package org.sonar.python;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -28,9 +31,12 @@ import org.sonar.plugins.python.api.caching.CacheContext;
 import org.sonar.plugins.python.api.tree.ClassDef;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.StringElement;
+import org.sonar.plugins.python.api.tree.Token;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.regex.RegexContext;
 import org.sonar.python.semantic.ProjectLevelSymbolTable;
+import org.sonar.python.tree.NameImpl;
+import org.sonar.python.tree.PyTree;
 import org.sonar.python.types.v2.TriBool;
 import org.sonarsource.analyzer.commons.regex.RegexParseResult;
 import org.sonarsource.analyzer.commons.regex.ast.FlagSet;
@@ -100,4 +106,82 @@ class SubscriptionVisitorTest {
     PythonVisitorContext context = new PythonVisitorContext(fileInput, PythonTestUtils.pythonFile("file"), null, "");
     SubscriptionVisitor.analyze(Collections.singleton(check), context);
   }
+
+  @Test
+  void profiler_records_every_call() {
+    PythonSubscriptionCheck check = new PythonSubscriptionCheck() {
+      @Override
+      public void initialize(Context context) {
+        context.registerSyntaxNodeConsumer(Tree.Kind.NAME, ctx -> {});
+      }
+    };
+
+    FileInput fileInput = PythonTestUtils.parse("a = b + c");
+    PythonVisitorContext context = new PythonVisitorContext(fileInput, PythonTestUtils.pythonFile("file"), null, "");
+    CheckProfiler profiler = new CheckProfiler(true);
+    SubscriptionVisitor.analyze(Collections.singleton(check), context, profiler);
+
+    assertThat(profiler.measures()).containsOnlyKeys(check);
+    CheckProfiler.Measure measure = profiler.measures().get(check);
+    // 3 names and the call to leaveFile
+    assertThat(measure.calls()).isEqualTo(4);
+    assertThat(measure.durationNanos()).isPositive();
+    assertThat(profiler.measuresAllocations()).isTrue();
+    assertThat(measure.allocatedBytes()).isNotNegative();
+  }
+
+  @Test
+  void profiler_without_allocations() {
+    PythonSubscriptionCheck check = new PythonSubscriptionCheck() {
+      @Override
+      public void initialize(Context context) {
+        context.registerSyntaxNodeConsumer(Tree.Kind.NAME, ctx -> new StringBuilder().append(ctx.syntaxNode()));
+      }
+    };
+
+    FileInput fileInput = PythonTestUtils.parse("a = b");
+    PythonVisitorContext context = new PythonVisitorContext(fileInput, PythonTestUtils.pythonFile("file"), null, "");
+    CheckProfiler profiler = new CheckProfiler(false);
+    SubscriptionVisitor.analyze(Collections.singleton(check), context, profiler);
+
+    assertThat(profiler.measuresAllocations()).isFalse();
+    assertThat(profiler.measures().get(check).allocatedBytes()).isZero();
+  }
+
+  @Test
+  void subtrees_without_subscribed_kinds() {
+    List<Tree> calls = new ArrayList<>();
+    PythonSubscriptionCheck check = new PythonSubscriptionCheck() {
+      @Override
+      public void initialize(Context context) {
+        context.registerSyntaxNodeConsumer(Tree.Kind.CALL_EXPR, ctx -> calls.add(ctx.syntaxNode()));
+      }
+    };
+
+    FileInput fileInput = PythonTestUtils.parse("a = b", "def f():", "  if x:", "    g(h())");
+    PythonVisitorContext context = new PythonVisitorContext(fileInput, PythonTestUtils.pythonFile("file"), null, "");
+    SubscriptionVisitor.analyze(Collections.singleton(check), context);
+    assertThat(calls).extracting(Tree::firstToken).extracting(Token::value).containsExactly("g", "h");
+
+    long[] callKind = PyTree.kindsBitSet(List.of(Tree.Kind.CALL_EXPR));
+    assertThat(((PyTree) fileInput).subtreeMayContain(callKind)).isTrue();
+    assertThat(((PyTree) fileInput.statements().statements().get(0)).subtreeMayContain(callKind)).isFalse();
+    assertThat(((PyTree) fileInput.statements().statements().get(1)).subtreeMayContain(callKind)).isTrue();
+    // trees which have not been indexed may contain any kind of node
+    assertThat(new NameImpl(fileInput.firstToken(), true).subtreeMayContain(callKind)).isTrue();
+    // tokens share the bitset of their kind, which must not be modified by their parents
+    PyTree token = (PyTree) fileInput.firstToken();
+    assertThat(token.subtreeMayContain(PyTree.kindsBitSet(List.of(Tree.Kind.TOKEN)))).isTrue();
+    assertThat(token.subtreeMayContain(PyTree.kindsBitSet(List.of(Tree.Kind.NAME)))).isFalse();
+  }
+
+  @Test
+  void kinds_bitset_covers_all_kinds() {
+    List<Tree.Kind> allKinds = List.of(Tree.Kind.values());
+    long[] allKindsBitSet = PyTree.kindsBitSet(allKinds);
+    assertThat(allKindsBitSet).hasSize((allKinds.size() + Long.SIZE - 1) / Long.SIZE);
+    assertThat(Arrays.stream(allKindsBitSet).map(Long::bitCount).sum()).isEqualTo(allKinds.size());
+    assertThat(allKinds).allSatisfy(kind -> assertThat(Arrays.stream(PyTree.kindsBitSet(List.of(kind))).map(Long::bitCount).sum()).isEqualTo(1));
+    assertThat(((PyTree) PythonTestUtils.parse("a = b")).subtreeMayContain(allKindsBitSet)).isTrue();
+  }
 }
@@ -20,9 +20,12 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.Token;
+import org.sonar.python.PythonTestUtils;
 import org.sonar.python.api.PythonKeyword;
 import org.sonar.python.tree.TokenImpl;
+import org.sonar.python.tree.TreeUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -40,9 +43,9 @@ class CpdSerializerTest {
       .build();
 
     List<Token> tokens = List.of(new TokenImpl(sslrToken));
-    CpdSerializer.SerializationResult result = CpdSerializer.serialize(tokens);
+    byte[] data = CpdSerializer.serialize(tokens);
 
-    List<CpdSerializer.TokenInfo> tokenInfos = CpdSerializer.deserialize(result.data, result.stringTable);
+    List<CpdSerializer.TokenInfo> tokenInfos = CpdSerializer.deserialize(data);
 
     assertThat(tokenInfos)
       .hasSize(1);
@@ -51,24 +54,47 @@ class CpdSerializerTest {
   }
 
   @Test
-  void corrupted_string_table_format() {
-    // A string table with zero elements and an invalid terminator
-    byte[] stringTable = new byte[] {0, 1, 2, 3};
-    byte[] data = new byte[] {0};
+  void delta_encoded_tokens() throws IOException {
+    FileInput fileInput = PythonTestUtils.parse(
+      "def foo(x):",
+      "    return x + '''a",
+      "b''' + foo(x)",
+      "",
+      "",
+      "foo(42)");
+    List<Token> tokens = TreeUtils.tokens(fileInput);
 
-    assertThatCode(() -> CpdSerializer.deserialize(data, stringTable))
-      .isInstanceOf(IOException.class)
-      .hasMessageStartingWith("Can't read data from cache, format corrupted");
+    List<CpdSerializer.TokenInfo> tokenInfos = CpdSerializer.deserialize(CpdSerializer.serialize(tokens));
+
+    assertThat(tokenInfos)
+      .usingRecursiveFieldByFieldElementComparator()
+      .containsExactlyElementsOf(tokens.stream().map(CpdSerializer.TokenInfo::from).toList());
+  }
+
+  @Test
+  void repeated_values_are_stored_once() throws IOException {
+    FileInput once = PythonTestUtils.parse("a_long_identifier_name = 1");
+    FileInput twice = PythonTestUtils.parse("a_long_identifier_name = 1", "a_long_identifier_name = 1");
+    int onceSize = CpdSerializer.serialize(TreeUtils.tokens(once)).length;
+    int twiceSize = CpdSerializer.serialize(TreeUtils.tokens(twice)).length;
+    assertThat(twiceSize - onceSize).isLessThan("a_long_identifier_name".length());
   }
 
   @Test
   void corrupted_data_format() {
-    // A string table with zero elements and a valid terminator string
-    byte[] stringTable = new byte[] {0, 3, 'E', 'N', 'D'};
-    byte[] data = new byte[] {0, 1, 2, 3};
+    // zero tokens and an invalid terminator
+    byte[] invalidTerminator = new byte[] {0, 3, 'E', 'O', 'F'};
+    assertThatCode(() -> CpdSerializer.deserialize(invalidTerminator))
+      .isInstanceOf(IOException.class)
+      .hasMessageStartingWith("Can't read data from cache, format corrupted");
 
-    assertThatCode(() -> CpdSerializer.deserialize(data, stringTable))
+    // one token referencing an unknown value
+    byte[] unknownValue = new byte[] {1, 2, 0, 127, 3, 'E', 'N', 'D'};
+    assertThatCode(() -> CpdSerializer.deserialize(unknownValue))
       .isInstanceOf(IOException.class)
       .hasMessageStartingWith("Can't read data from cache, format corrupted");
+
+    assertThatCode(() -> CpdSerializer.deserialize(new byte[] {1, 2}))
+      .isInstanceOf(IOException.class);
   }
 }
@@ -0,0 +1,61 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.caching;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class ModuleNamesSerializerTest {
+
+  @Test
+  void to_bytes_from_bytes() throws IOException {
+    List<String> names = List.of("mod", "pkg.mod", "pkg.sub.mod", "other.pkg", "", "pkg..mod");
+    byte[] bytes = ModuleNamesSerializer.serialize(names);
+    assertThat(ModuleNamesSerializer.deserialize(bytes)).containsExactlyInAnyOrderElementsOf(names);
+
+    assertThat(ModuleNamesSerializer.deserialize(ModuleNamesSerializer.serialize(List.of()))).isEmpty();
+  }
+
+  @Test
+  void segments_are_shared() {
+    byte[] once = ModuleNamesSerializer.serialize(List.of("a_long_package_name.a_long_module_name"));
+    byte[] twice = ModuleNamesSerializer.serialize(List.of("a_long_package_name.a_long_module_name", "a_long_package_name.a_long_module_name.x"));
+    assertThat(twice.length - once.length).isLessThan(10);
+  }
+
+  @Test
+  void corrupted_format() {
+    // A string table with zero elements, one name made of an unknown segment
+    byte[] unknownSegment = new byte[] {0, 1, 1, 0, 3, 'E', 'N', 'D'};
+    assertThatCode(() -> ModuleNamesSerializer.deserialize(unknownSegment))
+      .isInstanceOf(IOException.class)
+      .hasMessageStartingWith("Can't read data from cache, format corrupted");
+
+    // A string table with zero elements, zero names and an invalid terminator
+    byte[] invalidTerminator = new byte[] {0, 0, 3, 'E', 'O', 'F'};
+    assertThatCode(() -> ModuleNamesSerializer.deserialize(invalidTerminator))
+      .isInstanceOf(IOException.class)
+      .hasMessageStartingWith("Can't read data from cache, format corrupted");
+
+    assertThatCode(() -> ModuleNamesSerializer.deserialize(new byte[] {2}))
+      .isInstanceOf(IOException.class);
+  }
+}
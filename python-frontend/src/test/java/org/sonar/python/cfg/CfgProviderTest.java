@@ -0,0 +1,75 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.cfg;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.sonar.plugins.python.api.PythonFile;
+import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.plugins.python.api.tree.FunctionDef;
+import org.sonar.python.PythonTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CfgProviderTest {
+
+  private final PythonFile file = Mockito.mock(PythonFile.class, "file1.py");
+
+  @Test
+  void cfg_is_built_once_per_scope() {
+    FileInput fileInput = PythonTestUtils.parse(
+      "def f():",
+      "  x = 1",
+      "def g():",
+      "  return 2"
+    );
+    FunctionDef f = (FunctionDef) fileInput.statements().statements().get(0);
+    FunctionDef g = (FunctionDef) fileInput.statements().statements().get(1);
+    CfgProvider cfgProvider = new CfgProvider(file);
+
+    ControlFlowGraph cfg = cfgProvider.cfg(f);
+    assertThat(cfg).isNotNull().isSameAs(cfgProvider.cfg(f));
+    assertThat(cfgProvider.cfg(g)).isNotNull().isNotSameAs(cfg);
+    assertThat(cfgProvider.cfg(fileInput)).isNotNull().isSameAs(cfgProvider.cfg(fileInput));
+    assertThat(cfgProvider.pythonFile()).isSameAs(file);
+  }
+
+  @Test
+  void failed_cfg_is_memoized() {
+    FileInput fileInput = PythonTestUtils.parse("return");
+    CfgProvider cfgProvider = new CfgProvider(file);
+    assertThat(cfgProvider.cfg(fileInput)).isNull();
+    assertThat(cfgProvider.cfg(fileInput)).isNull();
+  }
+
+  @Test
+  void analyses_are_computed_once() {
+    FileInput fileInput = PythonTestUtils.parse(
+      "def f(p):",
+      "  x = p",
+      "  return x"
+    );
+    FunctionDef f = (FunctionDef) fileInput.statements().statements().get(0);
+    CfgProvider cfgProvider = new CfgProvider(file);
+    ControlFlowGraph cfg = cfgProvider.cfg(f);
+
+    assertThat(cfgProvider.liveVariables(cfg)).isSameAs(cfgProvider.liveVariables(cfg));
+    assertThat(cfgProvider.definedVariables(cfg, f.localVariables())).isSameAs(cfgProvider.definedVariables(cfg, f.localVariables()));
+    assertThat(cfgProvider.reachingDefinitions()).isSameAs(cfgProvider.reachingDefinitions());
+  }
+}
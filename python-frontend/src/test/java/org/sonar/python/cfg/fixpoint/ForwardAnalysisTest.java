@@ -0,0 +1,128 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.cfg.fixpoint;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.sonar.plugins.python.api.PythonFile;
+import org.sonar.plugins.python.api.cfg.ControlFlowGraph;
+import org.sonar.plugins.python.api.tree.AssignmentStatement;
+import org.sonar.plugins.python.api.tree.FileInput;
+import org.sonar.plugins.python.api.tree.FunctionDef;
+import org.sonar.plugins.python.api.tree.Name;
+import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.PythonTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForwardAnalysisTest {
+
+  private final PythonFile file = Mockito.mock(PythonFile.class, "file1.py");
+
+  @Test
+  void straight_line_code_visits_each_block_once() {
+    ControlFlowGraph cfg = cfg(
+      "x = 1",
+      "if x:",
+      "  y = 2",
+      "else:",
+      "  z = 3",
+      "w = 4"
+    );
+    AssignedNames assignedNames = new AssignedNames();
+    assertThat(assignedNames.statistics()).isNull();
+    NamesState result = (NamesState) assignedNames.compute(cfg);
+
+    assertThat(result.names).containsExactlyInAnyOrder("x", "y", "z", "w");
+    ForwardAnalysis.Statistics stats = assignedNames.statistics();
+    assertThat(stats.blocks()).isEqualTo(cfg.blocks().size());
+    assertThat(stats.iterations()).isEqualTo(cfg.blocks().size());
+    assertThat(stats.maxBlockVisits()).isEqualTo(1);
+  }
+
+  @Test
+  void loops_are_visited_until_fixpoint() {
+    ControlFlowGraph cfg = cfg(
+      "x = 1",
+      "while x:",
+      "  if x:",
+      "    y = 2",
+      "  z = 3",
+      "w = 4"
+    );
+    AssignedNames assignedNames = new AssignedNames();
+    NamesState result = (NamesState) assignedNames.compute(cfg);
+
+    assertThat(result.names).containsExactlyInAnyOrder("x", "y", "z", "w");
+    ForwardAnalysis.Statistics stats = assignedNames.statistics();
+    assertThat(stats.iterations()).isGreaterThan(cfg.blocks().size());
+    assertThat(stats.maxBlockVisits()).isEqualTo(2);
+  }
+
+  @Test
+  void unreachable_blocks_are_analyzed() {
+    ControlFlowGraph cfg = cfg(
+      "x = 1",
+      "return",
+      "y = 2"
+    );
+    AssignedNames assignedNames = new AssignedNames();
+    assignedNames.compute(cfg);
+    assertThat(assignedNames.programStateByBlock).hasSize(cfg.blocks().size());
+    NamesState unreachableOut = (NamesState) assignedNames.programStateByBlock.get(cfg.start().syntacticSuccessor()).out;
+    assertThat(unreachableOut.names).containsExactly("y");
+  }
+
+  private ControlFlowGraph cfg(String... lines) {
+    FileInput fileInput = PythonTestUtils.parse("def wrapper():", String.join("\n", lines).indent(2));
+    FunctionDef fun = (FunctionDef) fileInput.statements().statements().get(0);
+    return ControlFlowGraph.build(fun, file);
+  }
+
+  private static class AssignedNames extends ForwardAnalysis {
+
+    @Override
+    public ProgramState initialState() {
+      return new NamesState(new HashSet<>());
+    }
+
+    @Override
+    public void updateProgramState(Tree element, ProgramState programState) {
+      if (element.is(Tree.Kind.ASSIGNMENT_STMT)) {
+        Name name = (Name) ((AssignmentStatement) element).lhsExpressions().get(0).expressions().get(0);
+        ((NamesState) programState).names.add(name.name());
+      }
+    }
+  }
+
+  private record NamesState(Set<String> names) implements ProgramState {
+
+    @Override
+    public ProgramState join(ProgramState programState) {
+      Set<String> joined = new HashSet<>(names);
+      joined.addAll(((NamesState) programState).names);
+      return new NamesState(joined);
+    }
+
+    @Override
+    public ProgramState copy() {
+      return new NamesState(new HashSet<>(names));
+    }
+  }
+}
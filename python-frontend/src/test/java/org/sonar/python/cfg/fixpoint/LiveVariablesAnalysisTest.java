@@ -16,10 +16,12 @@
  */
 package org.sonar.python.cfg.fixpoint;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.sonar.plugins.python.api.cfg.CfgValidator;
@@ -31,6 +33,7 @@ import org.sonar.python.PythonTestUtils;
 import org.sonar.plugins.python.api.symbols.Symbol;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * This Live Variable Analysis Test uses a meta-language to specify the expected LVA values for each basic block.
@@ -209,6 +212,24 @@ class LiveVariablesAnalysisTest {
     fun.localVariables().forEach(symbol -> assertThat(analysis.getLiveVariables(cfg.start()).isSymbolUsedInBlock(symbol)).isTrue());
   }
 
+  @Test
+  void many_variables() {
+    List<String> variables = IntStream.range(0, 100).mapToObj(i -> "v" + i).toList();
+    List<String> lines = new ArrayList<>();
+    lines.add("if cond():");
+    variables.forEach(variable -> lines.add("  " + variable + " = 42"));
+    lines.add("read(" + String.join(", ", variables) + ")");
+    FileInput fileInput = PythonTestUtils.parse("def wrapper():", lines.stream().map(s -> "  " + s).collect(Collectors.joining("\n")));
+    FunctionDef fun = (FunctionDef) fileInput.statements().statements().get(0);
+    ControlFlowGraph cfg = ControlFlowGraph.build(fun, file);
+    LiveVariablesAnalysis analysis = LiveVariablesAnalysis.analyze(cfg);
+    Set<Symbol> liveOut = analysis.getLiveVariables(cfg.start()).getOut();
+    assertThat(liveOut).extracting(Symbol::name).containsExactlyInAnyOrderElementsOf(variables);
+    assertThat(liveOut).containsAll(fun.localVariables());
+    Symbol symbol = fun.localVariables().iterator().next();
+    assertThatThrownBy(() -> liveOut.remove(symbol)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
 
   private void verifyLiveVariableAnalysis(String... lines) {
     verifyLiveVariableAnalysisWithArgs("", lines);
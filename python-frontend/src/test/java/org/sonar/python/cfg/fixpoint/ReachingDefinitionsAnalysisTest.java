@@ -79,6 +79,23 @@ class ReachingDefinitionsAnalysisTest {
     assertThat(analysis.valuesAtLocation(x)).extracting(ReachingDefinitionsAnalysisTest::getValueAsString).containsExactlyInAnyOrder("1", "2");
   }
 
+  @Test
+  void valuesAtLocation_multiple_variables() {
+    FileInput fileInput = parse(
+      "def f(p):",
+      "  x = 1",
+      "  y = 2",
+      "  if p:",
+      "    x = 3",
+      "  y",
+      "  x"
+    );
+    Name y = ((Name) ((ExpressionStatement) getFirstDescendant(fileInput, tree -> tree.is(EXPRESSION_STMT))).expressions().get(0));
+    assertThat(analysis.valuesAtLocation(y)).extracting(ReachingDefinitionsAnalysisTest::getValueAsString).containsExactly("2");
+    Name x = ((Name) ((ExpressionStatement) getLastDescendant(fileInput, tree -> tree.is(EXPRESSION_STMT))).expressions().get(0));
+    assertThat(analysis.valuesAtLocation(x)).extracting(ReachingDefinitionsAnalysisTest::getValueAsString).containsExactlyInAnyOrder("1", "3");
+  }
+
   @Test
   void valuesAtLocation_outside_function() {
     Name x = (Name) lastExpression("x = 42; x");
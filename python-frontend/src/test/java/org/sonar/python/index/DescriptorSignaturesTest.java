@@ -0,0 +1,76 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.sonar.plugins.python.api.LocationInFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sonar.python.index.DescriptorSignatures.haveSameSignatures;
+
+class DescriptorSignaturesTest {
+
+  @Test
+  void locations_are_ignored() {
+    Set<Descriptor> descriptors = Set.of(classDescriptor(new LocationInFile("mod.py", 1, 0, 1, 5), "int"), new VariableDescriptor("x", "mod.x", null));
+    Set<Descriptor> movedDescriptors = Set.of(classDescriptor(new LocationInFile("mod.py", 3, 0, 3, 5), "int"), new VariableDescriptor("x", "mod.x", null));
+    assertThat(haveSameSignatures(descriptors, movedDescriptors)).isTrue();
+  }
+
+  @Test
+  void different_signatures() {
+    LocationInFile location = new LocationInFile("mod.py", 1, 0, 1, 5);
+    assertThat(haveSameSignatures(Set.of(classDescriptor(location, "int")), Set.of(classDescriptor(location, "str")))).isFalse();
+    assertThat(haveSameSignatures(Set.of(classDescriptor(location, "int")), Set.of())).isFalse();
+    assertThat(haveSameSignatures(Set.of(new VariableDescriptor("x", "mod.x", null)), Set.of(new VariableDescriptor("y", "mod.y", null)))).isFalse();
+    assertThat(haveSameSignatures(Set.of(), null)).isFalse();
+    assertThat(haveSameSignatures(null, null)).isTrue();
+  }
+
+  @Test
+  void all_kinds() {
+    VariableDescriptor x = new VariableDescriptor("x", "mod.x", "int");
+    VariableDescriptor otherX = new VariableDescriptor("x", "mod.x", "str");
+    Descriptor ambiguous = AmbiguousDescriptor.create(x, otherX);
+    Descriptor alias = new AliasDescriptor("y", "mod.y", x);
+    Descriptor module = new ModuleDescriptor("mod", "mod", Map.of("x", x));
+    TypeAnnotationDescriptor typeAnnotation = new TypeAnnotationDescriptor("list[int]", TypeAnnotationDescriptor.TypeKind.INSTANCE,
+      List.of(new TypeAnnotationDescriptor("int", TypeAnnotationDescriptor.TypeKind.INSTANCE, List.of(), "int")), "list");
+    Descriptor function = new FunctionDescriptor.FunctionDescriptorBuilder()
+      .withName("f")
+      .withFullyQualifiedName("mod.f")
+      .withParameters(List.of(new FunctionDescriptor.Parameter("p", "int", false, false, false, false, false, null)))
+      .withTypeAnnotationDescriptor(typeAnnotation)
+      .build();
+    Set<Descriptor> descriptors = Set.of(ambiguous, alias, module, function);
+    assertThat(haveSameSignatures(descriptors, Set.of(ambiguous, alias, module, function))).isTrue();
+    assertThat(haveSameSignatures(descriptors, Set.of(ambiguous, new AliasDescriptor("y", "mod.y", otherX), module, function))).isFalse();
+    assertThat(DescriptorSignatures.signature(function)).contains("p:int").contains("list[int]");
+  }
+
+  private static ClassDescriptor classDescriptor(LocationInFile location, String fieldType) {
+    return new ClassDescriptor.ClassDescriptorBuilder()
+      .withName("A")
+      .withFullyQualifiedName("mod.A")
+      .withDefinitionLocation(location)
+      .withMembers(Set.of(new VariableDescriptor("field", "mod.A.field", fieldType)))
+      .build();
+  }
+}
@@ -17,7 +17,12 @@
 package org.sonar.python.metrics;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.sonar.plugins.python.api.PythonSubscriptionCheck;
+import org.sonar.plugins.python.api.tree.Tree;
+import org.sonar.python.SubscriptionVisitor;
 import org.sonar.python.TestPythonVisitorRunner;
 
 import static org.fest.assertions.Assertions.assertThat;
@@ -55,6 +60,27 @@ class FileMetricsTest {
     assertThat(metrics("function-complexities.py").functionComplexities()).containsExactly(3, 1);
   }
 
+  @Test
+  void visitors_in_shared_pass() {
+    File file = new File("src/test/resources/metrics/function-complexities.py");
+    List<Tree> visitedFunctions = new ArrayList<>();
+    PythonSubscriptionCheck check = new PythonSubscriptionCheck() {
+      @Override
+      public void initialize(Context context) {
+        context.registerSyntaxNodeConsumer(Tree.Kind.FUNCDEF, ctx -> visitedFunctions.add(ctx.syntaxNode()));
+      }
+    };
+    FileMetrics fileMetrics = new FileMetrics(false);
+    List<PythonSubscriptionCheck> visitors = new ArrayList<>(fileMetrics.visitors());
+    visitors.add(check);
+    SubscriptionVisitor.analyze(visitors, TestPythonVisitorRunner.createContext(file));
+
+    assertThat(visitedFunctions).hasSize(2);
+    assertThat(fileMetrics.functionComplexities()).containsExactly(3, 1);
+    assertThat(fileMetrics.complexity()).isEqualTo(5);
+    assertThat(fileMetrics.numberOfStatements()).isEqualTo(8);
+  }
+
   private static FileMetrics metrics(String fileName) {
     File baseDir = new File("src/test/resources/metrics/");
     File file = new File(baseDir, fileName);
@@ -28,26 +28,36 @@ import java.util.stream.Collectors;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.sonar.plugins.python.api.PythonVisitorContext;
 import org.sonar.plugins.python.api.symbols.AmbiguousSymbol;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
 import org.sonar.plugins.python.api.symbols.FunctionSymbol;
 import org.sonar.plugins.python.api.symbols.Symbol;
 import org.sonar.plugins.python.api.symbols.Usage;
 import org.sonar.plugins.python.api.tree.CallExpression;
+import org.sonar.plugins.python.api.tree.ExpressionStatement;
 import org.sonar.plugins.python.api.tree.FileInput;
 import org.sonar.plugins.python.api.tree.FunctionDef;
 import org.sonar.plugins.python.api.tree.ImportFrom;
 import org.sonar.plugins.python.api.tree.QualifiedExpression;
+import org.sonar.plugins.python.api.tree.Statement;
 import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.PythonTestUtils;
+import org.sonar.python.caching.CacheContextImpl;
 import org.sonar.python.index.AmbiguousDescriptor;
 import org.sonar.python.index.ClassDescriptor;
 import org.sonar.python.index.Descriptor;
 import org.sonar.python.index.FunctionDescriptor;
 import org.sonar.python.index.VariableDescriptor;
+import org.sonar.python.semantic.v2.ProjectLevelTypeTable;
 import org.sonar.python.types.DeclaredType;
 import org.sonar.python.types.InferredTypes;
 import org.sonar.python.types.TypeShed;
+import org.sonar.python.types.v2.ClassType;
+import org.sonar.python.types.v2.ModuleType;
+import org.sonar.python.types.v2.PythonType;
+import org.sonar.python.types.v2.TypeCheckBuilder;
+import org.sonar.python.types.v2.TypeChecker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -413,6 +423,7 @@ class ProjectLevelSymbolTableTest {
     assertThat(projectLevelSymbolTable.getSymbolsFromModule("mod")).extracting(Symbol::name).containsExactlyInAnyOrder("A");
     projectLevelSymbolTable.removeModule("", "mod.py");
     assertThat(projectLevelSymbolTable.getSymbolsFromModule("mod")).isNull();
+    assertThat(projectLevelSymbolTable.importsByModule()).doesNotContainKey("mod");
   }
 
   @Test
@@ -424,6 +435,119 @@ class ProjectLevelSymbolTableTest {
     assertThat(projectLevelSymbolTable.getSymbol("mod.x").name()).isEqualTo("x");
   }
 
+  @Test
+  void fully_qualified_names_index_is_updated_per_module() {
+    ProjectLevelSymbolTable projectLevelSymbolTable = empty();
+    VariableDescriptor fooInMod1 = new VariableDescriptor("foo", "pkg.foo", null);
+    VariableDescriptor fooInMod2 = new VariableDescriptor("foo", "pkg.foo", "int");
+    projectLevelSymbolTable.insertEntry("mod1", Set.of(fooInMod1, new VariableDescriptor("x", "mod1.x", null)));
+    projectLevelSymbolTable.insertEntry("mod2", Set.of(fooInMod2));
+    assertThat(projectLevelSymbolTable.getSymbol("pkg.foo").kind()).isEqualTo(Symbol.Kind.AMBIGUOUS);
+    assertThat(((AmbiguousSymbol) projectLevelSymbolTable.getSymbol("pkg.foo")).alternatives()).hasSize(2);
+
+    projectLevelSymbolTable.removeModule("", "mod1.py");
+    assertThat(projectLevelSymbolTable.getSymbol("mod1.x")).isNull();
+    assertThat(projectLevelSymbolTable.getSymbol("pkg.foo").kind()).isEqualTo(Symbol.Kind.OTHER);
+
+    // Replacing a module drops the names it no longer declares
+    projectLevelSymbolTable.insertEntry("mod2", Set.of(new VariableDescriptor("y", "mod2.y", null)));
+    assertThat(projectLevelSymbolTable.getSymbol("pkg.foo")).isNull();
+    assertThat(projectLevelSymbolTable.getSymbol("mod2.y")).isNotNull();
+
+    projectLevelSymbolTable.removeModule("", "unknown.py");
+    assertThat(projectLevelSymbolTable.getSymbol("mod2.y")).isNotNull();
+  }
+
+  @Test
+  void project_level_type_table_is_shared_until_project_modules_change() throws InterruptedException {
+    ProjectLevelSymbolTable projectLevelSymbolTable = empty();
+    // Views of the same type table share the converted types
+    PythonType intType = projectLevelSymbolTable.projectLevelTypeTable().getType("int");
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable()).isNotSameAs(projectLevelSymbolTable.projectLevelTypeTable());
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable().getType("int")).isSameAs(intType);
+
+    PythonType[] otherThreadIntType = new PythonType[1];
+    Thread thread = new Thread(() -> otherThreadIntType[0] = projectLevelSymbolTable.projectLevelTypeTable().getType("int"));
+    thread.start();
+    thread.join();
+    assertThat(otherThreadIntType[0]).isNotNull().isNotSameAs(intType);
+
+    projectLevelSymbolTable.insertEntry("mod", Set.of(new ClassDescriptor.ClassDescriptorBuilder().withName("A").withFullyQualifiedName("mod.A").build()));
+    PythonType intTypeAfterInsertion = projectLevelSymbolTable.projectLevelTypeTable().getType("int");
+    assertThat(intTypeAfterInsertion).isNotSameAs(intType);
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable().getType("mod.A")).isInstanceOf(ClassType.class);
+
+    projectLevelSymbolTable.addProjectPackage("mod");
+    intType = projectLevelSymbolTable.projectLevelTypeTable().getType("int");
+    assertThat(intType).isNotSameAs(intTypeAfterInsertion);
+    projectLevelSymbolTable.addProjectPackage("mod.sub");
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable().getType("int")).isSameAs(intType);
+
+    projectLevelSymbolTable.removeModule("", "mod.py");
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable().getType("int")).isNotSameAs(intType);
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable().getType("mod.A")).isEqualTo(PythonType.UNKNOWN);
+  }
+
+  @Test
+  void type_check_statistics_outlive_type_tables() throws InterruptedException {
+    ProjectLevelSymbolTable projectLevelSymbolTable = empty();
+    Thread thread = new Thread(() -> {
+      ProjectLevelTypeTable typeTable = projectLevelSymbolTable.projectLevelTypeTable();
+      TypeCheckBuilder isInt = new TypeChecker(typeTable, typeTable.compiledTypeCheckBuilders()).typeCheckBuilder().isBuiltinWithName("int").compile();
+      isInt.check(typeTable.getType("int"));
+      isInt.check(typeTable.getType("int"));
+    });
+    thread.start();
+    thread.join();
+
+    projectLevelSymbolTable.insertEntry("mod", Set.of());
+    ProjectLevelTypeTable typeTable = projectLevelSymbolTable.projectLevelTypeTable();
+    new TypeChecker(typeTable, typeTable.compiledTypeCheckBuilders()).typeCheckBuilder().isBuiltinWithName("int").compile().check(typeTable.getType("int"));
+    assertThat(projectLevelSymbolTable.typeCheckStatistics().hits()).isEqualTo(1);
+    assertThat(projectLevelSymbolTable.typeCheckStatistics().misses()).isEqualTo(2);
+  }
+
+  @Test
+  void modules_are_computed_against_typeshed_only() {
+    ProjectLevelSymbolTable projectLevelSymbolTable = empty();
+    projectLevelSymbolTable.insertEntry("mod", Set.of(new ClassDescriptor.ClassDescriptorBuilder().withName("A").withFullyQualifiedName("mod.A").build()));
+    ProjectLevelTypeTable typeShedTypeTable = projectLevelSymbolTable.typeShedTypeTable();
+    assertThat(typeShedTypeTable.getType("mod.A")).isEqualTo(PythonType.UNKNOWN);
+    assertThat(typeShedTypeTable.getType("int")).isInstanceOf(ClassType.class);
+    assertThat(projectLevelSymbolTable.projectLevelTypeTable().getType("mod.A")).isInstanceOf(ClassType.class);
+
+    // Adding modules while indexing does not discard the type table used to compute modules
+    FileInput tree = parseWithoutSymbols("class B: pass");
+    projectLevelSymbolTable.addModule(projectLevelSymbolTable.computeModule(tree, "", pythonFile("mod2.py")));
+    assertThat(projectLevelSymbolTable.typeShedTypeTable()).isSameAs(typeShedTypeTable);
+
+    projectLevelSymbolTable.addProjectPackage("pkg");
+    assertThat(projectLevelSymbolTable.typeShedTypeTable()).isNotSameAs(typeShedTypeTable);
+  }
+
+  @Test
+  void types_of_a_file_do_not_depend_on_the_files_analyzed_before() {
+    String importingSubmodule = "import xml.dom.minidom\nxml.dom";
+    String importingPackage = "import xml\nxml.dom";
+
+    ProjectLevelSymbolTable projectLevelSymbolTable = empty();
+    PythonType submoduleType = lastExpressionType(projectLevelSymbolTable, importingSubmodule);
+    PythonType packageMemberType = lastExpressionType(projectLevelSymbolTable, importingPackage);
+    assertThat(submoduleType).isInstanceOf(ModuleType.class);
+
+    projectLevelSymbolTable = empty();
+    assertThat(lastExpressionType(projectLevelSymbolTable, importingPackage)).isEqualTo(packageMemberType);
+    assertThat(lastExpressionType(projectLevelSymbolTable, importingSubmodule)).isInstanceOf(ModuleType.class);
+    assertThat(packageMemberType).isNotInstanceOf(ModuleType.class);
+  }
+
+  private static PythonType lastExpressionType(ProjectLevelSymbolTable projectLevelSymbolTable, String code) {
+    FileInput fileInput = parseWithoutSymbols(code);
+    new PythonVisitorContext(fileInput, pythonFile("mod.py"), null, "", projectLevelSymbolTable, CacheContextImpl.dummyCache());
+    List<Statement> statements = fileInput.statements().statements();
+    return ((ExpressionStatement) statements.get(statements.size() - 1)).expressions().get(0).typeV2();
+  }
+
   @Test
   void test_add_module_after_creation() {
     FileInput tree = parseWithoutSymbols(
@@ -67,6 +67,22 @@ class ProjectLevelTypeTableTest {
     Assertions.assertThat(typingModuleType.resolveMember("Generator")).isPresent().containsSame(generatorClassType);
   }
 
+  @Test
+  void viewsShareConvertedTypesButNotModules() {
+    var table = new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty());
+    var view = table.newView();
+    var otherView = table.newView();
+
+    Assertions.assertThat(view.getType("typing.Generator")).isInstanceOf(ClassType.class).isSameAs(otherView.getType("typing.Generator"));
+    Assertions.assertThat(view.getType("typing")).isInstanceOf(ModuleType.class).isNotSameAs(otherView.getType("typing"));
+    Assertions.assertThat(view.getBuiltinsModule()).isNotSameAs(otherView.getBuiltinsModule());
+    Assertions.assertThat(view.compiledTypeCheckBuilders()).isSameAs(table.compiledTypeCheckBuilders());
+
+    Assertions.assertThat(view.getType("xml.dom")).isInstanceOf(ModuleType.class);
+    Assertions.assertThat(view.getType("xml").resolveMember("dom")).isPresent();
+    Assertions.assertThat(otherView.getType("xml").resolveMember("dom")).isEmpty();
+  }
+
   @Test
   void updateTypeTableDuringGetTypeTest() {
     var symbolTable = ProjectLevelSymbolTable.empty();
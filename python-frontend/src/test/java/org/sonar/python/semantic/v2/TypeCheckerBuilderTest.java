@@ -24,6 +24,7 @@ import org.sonar.python.types.v2.ObjectType;
 import org.sonar.python.types.v2.PythonType;
 import org.sonar.python.types.v2.TriBool;
 import org.sonar.python.types.v2.TypeCheckBuilder;
+import org.sonar.python.types.v2.TypeChecker;
 import org.sonar.python.types.v2.TypeSource;
 import org.sonar.python.types.v2.UnionType;
 import org.sonar.python.types.v2.UnknownType.UnresolvedImportType;
@@ -167,6 +168,62 @@ class TypeCheckerBuilderTest {
     );
   }
 
+  @Test
+  void compiledBuilderMemoizesResults() {
+    var table = new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty());
+    var compiledBuilder = new TypeChecker(table, table.compiledTypeCheckBuilders()).typeCheckBuilder().isInstanceOf("int").isInstanceOf("int").compile();
+    Assertions.assertThat(compiledBuilder.isCompiled()).isTrue();
+    Assertions.assertThat(compiledBuilder.compile()).isSameAs(compiledBuilder);
+
+    var intObjectType = new ObjectType(table.getType("int"));
+    var strObjectType = new ObjectType(table.getType("str"));
+    Assertions.assertThat(compiledBuilder.check(intObjectType)).isEqualTo(TriBool.TRUE);
+    Assertions.assertThat(compiledBuilder.check(intObjectType)).isEqualTo(TriBool.TRUE);
+    Assertions.assertThat(compiledBuilder.check(strObjectType)).isEqualTo(TriBool.FALSE);
+    Assertions.assertThat(table.compiledTypeCheckBuilders().statistics().hits()).isEqualTo(1);
+    Assertions.assertThat(table.compiledTypeCheckBuilders().statistics().misses()).isEqualTo(2);
+
+    // Equivalent builders of another file compile to the same instance
+    var otherTypeChecker = new TypeChecker(table, table.compiledTypeCheckBuilders());
+    Assertions.assertThat(otherTypeChecker.typeCheckBuilder().isInstanceOf("int").compile()).isSameAs(compiledBuilder);
+    Assertions.assertThat(otherTypeChecker.typeCheckBuilder().isInstanceOf("str").compile()).isNotSameAs(compiledBuilder);
+    Assertions.assertThat(table.compiledTypeCheckBuilders().size()).isEqualTo(2);
+
+    Assertions.assertThatThrownBy(() -> compiledBuilder.isInstance())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("No predicate can be added to a compiled TypeCheckBuilder");
+
+    var builder = new TypeCheckBuilder(table).isInstanceOf("int");
+    Assertions.assertThat(builder.isCompiled()).isFalse();
+    Assertions.assertThat(builder.check(intObjectType)).isEqualTo(TriBool.TRUE);
+    Assertions.assertThat(table.compiledTypeCheckBuilders().statistics().misses()).isEqualTo(2);
+  }
+
+  @Test
+  void compiledBuilderOnModuleTypeIsNotShared() {
+    var table = new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty());
+    var view = table.newView();
+    var compiledBuilder = new TypeChecker(view, view.compiledTypeCheckBuilders()).typeCheckBuilder().isTypeWithName("typing").compile();
+    Assertions.assertThat(compiledBuilder.isCompiled()).isTrue();
+    Assertions.assertThat(compiledBuilder.check(view.getType("typing"))).isEqualTo(TriBool.TRUE);
+    Assertions.assertThat(compiledBuilder.check(table.newView().getType("typing"))).isEqualTo(TriBool.FALSE);
+    Assertions.assertThat(table.compiledTypeCheckBuilders().size()).isZero();
+  }
+
+  @Test
+  void compiledBuilderWithAlwaysUnknownPredicate() {
+    var table = new ProjectLevelTypeTable(ProjectLevelSymbolTable.empty());
+    var typeChecker = new TypeChecker(table);
+    var compiledBuilder = typeChecker.typeCheckBuilder().isInstance().isTypeWithName("unknown").compile();
+    Assertions.assertThat(typeChecker.typeCheckBuilder().isTypeWithName("unknown").compile()).isSameAs(compiledBuilder);
+    Assertions.assertThat(typeChecker.typeCheckBuilder().isInstance().isInstanceOf("unknown").compile().check(new ObjectType(table.getType("int"))))
+      .isEqualTo(TriBool.UNKNOWN);
+
+    var intObjectType = new ObjectType(table.getType("int"));
+    Assertions.assertThat(compiledBuilder.check(intObjectType)).isEqualTo(TriBool.UNKNOWN);
+    Assertions.assertThat(typeChecker.typeCheckBuilder().isInstance().isTypeWithName("unknown").check(intObjectType)).isEqualTo(TriBool.UNKNOWN);
+  }
+
   @Test
   void objectTypeThrowsOnDefinitionLocation() {
     var objectTypeBuilder = new ObjectTypeBuilder();
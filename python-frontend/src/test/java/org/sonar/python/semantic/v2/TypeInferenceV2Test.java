@@ -29,10 +29,13 @@ import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
+import org.slf4j.event.Level;
+import org.sonar.api.testfixtures.log.LogTesterJUnit5;
 import org.sonar.plugins.python.api.LocationInFile;
 import org.sonar.plugins.python.api.PythonFile;
 import org.sonar.plugins.python.api.symbols.ClassSymbol;
@@ -99,6 +102,9 @@ public class TypeInferenceV2Test {
 
   static PythonFile pythonFile = pythonFile("mod");
 
+  @RegisterExtension
+  public LogTesterJUnit5 logTester = new LogTesterJUnit5().setLevel(Level.DEBUG);
+
   @Test
   void testTypeshedImports() {
     FileInput root = inferTypes("""
@@ -1908,9 +1914,9 @@ public class TypeInferenceV2Test {
           ...
       except:
           ...
-      
+
       do_smth = None
-      
+
       def something(param):
           type(do_smth)
       """);
@@ -2127,10 +2133,10 @@ public class TypeInferenceV2Test {
     var root = inferTypes("""
       def foo():
         print("foo")
-      
+
       def bar():
         print("bar")
-      
+
       def f():
         l = [foo, bar]
         for i in l:
@@ -2225,11 +2231,11 @@ public class TypeInferenceV2Test {
   void inferLoopOverCustomIterableVarType() {
     var root = inferTypes("""
       from typing import Iterator
-      
+
       class MyIterable[T]:
         def __iter__(self) -> Iterator[str]:
           ...
-      
+
       def f():
         a = MyIterable[int]()
         for i in a:
@@ -2428,13 +2434,13 @@ public class TypeInferenceV2Test {
     var root = inferTypes("""
       class CustomMetaClass:
         ...
-      
+
       class ParentClass(metaclass=CustomMetaClass):
         ...
-      
+
       class ChildClass(ParentClass):
         ...
-      
+
       def f():
         a = ChildClass()
         a
@@ -3586,6 +3592,42 @@ public class TypeInferenceV2Test {
       .isNotEqualTo(actualFoo.typeV2());
   }
 
+  @Test
+  void slowFixpointIsLogged() {
+    inferTypes("""
+      def f(cond):
+        x = 1
+        while cond:
+          x = 2
+
+      def g(cond):
+        a1 = ''
+        a2 = ''
+        a3 = ''
+        a4 = ''
+        a5 = ''
+        a6 = ''
+        a7 = ''
+        a8 = ''
+        a9 = ''
+        a10 = ''
+        while cond:
+          a1 = a2
+          a2 = a3
+          a3 = a4
+          a4 = a5
+          a5 = a6
+          a6 = a7
+          a7 = a8
+          a8 = a9
+          a9 = a10
+          a10 = 42
+      """);
+    assertThat(logTester.logs(Level.DEBUG))
+      .filteredOn(log -> log.startsWith("Slow type inference"))
+      .containsExactly("Slow type inference in mod at line 6: 32 iterations over 5 blocks, a block visited 10 times");
+  }
+
   private static Map<SymbolV2, Set<PythonType>> inferTypesBySymbol(String lines) {
     FileInput root = parse(lines);
     var symbolTable = new SymbolTableBuilderV2(root).build();
@@ -18,7 +18,11 @@ package org.sonar.python.semantic.v2.typeshed;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.slf4j.event.Level;
@@ -27,6 +31,7 @@ import org.sonar.plugins.python.api.PythonVersionUtils;
 import org.sonar.python.index.AmbiguousDescriptor;
 import org.sonar.python.index.ClassDescriptor;
 import org.sonar.python.index.Descriptor;
+import org.sonar.python.index.DescriptorsToProtobuf;
 import org.sonar.python.index.FunctionDescriptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -99,6 +104,32 @@ class TypeShedDescriptorsProviderTest {
     assertThat(typing).isEmpty();
   }
 
+  @Test
+  void stubModulesDescriptorsTest() {
+    var provider = typeshedDescriptorsProvider();
+    var typing = provider.descriptorsForModule("typing");
+    var stubModulesDescriptors = provider.stubModulesDescriptors();
+    assertThat(stubModulesDescriptors).containsOnlyKeys("typing");
+
+    var otherProvider = typeshedDescriptorsProvider(Set.of("mod"));
+    otherProvider.addStubModulesDescriptors(Map.of("typing", typing, "mod", typing));
+    assertThat(otherProvider.stubModules()).containsExactly("typing");
+    assertThat(otherProvider.descriptorsForModule("typing")).isSameAs(typing);
+    assertThat(otherProvider.descriptorsForModule("mod")).isEmpty();
+  }
+
+  @Test
+  void stubModulesDescriptorsSerializationTest() {
+    var provider = typeshedDescriptorsProvider();
+    // "collections.abc" re-exports symbols of other modules, which are converted to aliases
+    Map<String, Descriptor> descriptors = provider.descriptorsForModule("collections.abc");
+    assertThat(descriptors.values()).anyMatch(d -> d.kind() == Descriptor.Kind.ALIAS);
+    Map<String, Descriptor> deserialized = DescriptorsToProtobuf.fromProtobuf(DescriptorsToProtobuf.toProtobufModuleDescriptor(new HashSet<>(descriptors.values())))
+      .stream()
+      .collect(Collectors.toMap(Descriptor::name, Function.identity()));
+    assertThat(deserialized).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(descriptors);
+  }
+
   @Test
   void cacheTest() {
     var provider = typeshedDescriptorsProvider();
@@ -0,0 +1,73 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.semantic.v2.typeshed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeShedStubIndexTest {
+
+  private static final String STDLIB_STUBS = "/org/sonar/python/types/stdlib_protobuf/";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void open_stub() throws IOException {
+    try (InputStream stub = TypeShedStubIndex.openStub(STDLIB_STUBS, "builtins")) {
+      assertThat(stub).isNotNull();
+    }
+    assertThat(TypeShedStubIndex.openStub(STDLIB_STUBS, "unknown_module")).isNull();
+    assertThat(TypeShedStubIndex.openStub("/org/sonar/python/types/unknown_protobuf/", "builtins")).isNull();
+  }
+
+  @Test
+  void stub_files_from_directory() throws IOException, URISyntaxException {
+    Files.createFile(tempDir.resolve("mod.protobuf"));
+    Files.createFile(tempDir.resolve("other.txt"));
+    assertThat(TypeShedStubIndex.stubFiles(tempDir.toUri().toURL())).containsExactly("mod");
+  }
+
+  @Test
+  void stub_files_from_jar() throws IOException, URISyntaxException {
+    Path jar = tempDir.resolve("stubs.jar");
+    try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (String entry : new String[] {"stubs/", "stubs/mod.protobuf", "stubs/pkg.mod.protobuf", "stubs/nested/other.protobuf", "other/ignored.protobuf"}) {
+        outputStream.putNextEntry(new JarEntry(entry));
+        outputStream.closeEntry();
+      }
+    }
+    URL directoryUrl = URI.create("jar:" + jar.toUri() + "!/stubs/").toURL();
+    assertThat(TypeShedStubIndex.stubFiles(directoryUrl)).containsExactlyInAnyOrder("mod", "pkg.mod");
+  }
+
+  @Test
+  void stub_files_from_unsupported_location() throws IOException, URISyntaxException {
+    assertThat(TypeShedStubIndex.stubFiles(URI.create("http://localhost/stubs/").toURL())).isNull();
+  }
+}
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -115,6 +116,25 @@ class TreeUtilsTest {
     assertThat(nonWhitespaceTokens.stream().map(Token::value)).containsExactly("if", "foo", ":", "pass");
   }
 
+  @Test
+  void has_token() {
+    FileInput parsed = parse("if foo:\n  # comment\n  pass\n");
+    IfStatement ifStmt = (IfStatement) parsed.statements().statements().get(0);
+    assertThat(TreeUtils.hasToken(ifStmt, t -> "foo".equals(t.value()))).isTrue();
+    assertThat(TreeUtils.hasToken(ifStmt, t -> !t.trivia().isEmpty())).isTrue();
+    assertThat(TreeUtils.hasToken(ifStmt.condition(), t -> !t.trivia().isEmpty())).isFalse();
+  }
+
+  @Test
+  void token_iterator() {
+    FileInput parsed = parse("if foo:\n  pass\n");
+    TokenIterator tokenIterator = new TokenIterator(parsed, t -> t.type() == PythonTokenType.NEWLINE);
+    assertThat(tokenIterator.next().line()).isEqualTo(1);
+    assertThat(tokenIterator.next().line()).isEqualTo(2);
+    assertThat(tokenIterator.hasNext()).isFalse();
+    assertThatThrownBy(tokenIterator::next).isInstanceOf(NoSuchElementException.class);
+  }
+
   @Test
   void hasDescendants() {
     FileInput fileInput = parse("class A:\n  def foo(): pass");
@@ -30,6 +30,7 @@ import org.sonar.plugins.python.api.tree.Tree;
 import org.sonar.python.PythonTestUtils;
 import org.sonar.python.semantic.SymbolUtils;
 import org.sonar.python.semantic.v2.ClassTypeBuilder;
+import org.sonar.python.semantic.v2.FunctionTypeBuilder;
 import org.sonar.python.semantic.v2.SymbolTableBuilderV2;
 import org.sonar.python.semantic.v2.SymbolV2;
 import org.sonar.python.semantic.v2.TypeInferenceV2;
@@ -594,6 +595,60 @@ public class ClassTypeTest {
     assertThat(classType.displayName()).contains("type");
   }
 
+  @Test
+  void mro_of_diamond_hierarchy() {
+    ClassType a = new ClassTypeBuilder("A", "mod.A").build();
+    a.members().add(new Member("foo", PythonType.UNKNOWN));
+    ClassType b = new ClassTypeBuilder("B", "mod.B").withSuperClasses(a).build();
+    ClassType c = new ClassTypeBuilder("C", "mod.C").withSuperClasses(a).build();
+    FunctionType cFoo = new FunctionTypeBuilder("foo").build();
+    c.members().add(new Member("foo", cFoo));
+    ClassType d = new ClassTypeBuilder("D", "mod.D").withSuperClasses(b, c).build();
+
+    assertThat(d.mro()).containsExactly(d, b, c, a);
+    // C3 linearization: C.foo overrides A.foo
+    assertThat(d.resolveMember("foo")).containsSame(cFoo);
+    assertThat(d.hasUnresolvedHierarchy()).isFalse();
+  }
+
+  @Test
+  void mro_of_inconsistent_hierarchy() {
+    ClassType a = new ClassTypeBuilder("A", "mod.A").build();
+    ClassType b = new ClassTypeBuilder("B", "mod.B").withSuperClasses(a).build();
+    ClassType c = new ClassTypeBuilder("C", "mod.C").withSuperClasses(a, b).build();
+    assertThat(c.mro()).containsExactly(c, a, b);
+  }
+
+  @Test
+  void mro_with_unknown_parent() {
+    ClassType a = new ClassTypeBuilder("A", "mod.A").withSuperClasses(PythonType.UNKNOWN).build();
+    ClassType b = new ClassTypeBuilder("B", "mod.B").withSuperClasses(a).build();
+    assertThat(b.mro()).containsExactly(b, a, PythonType.UNKNOWN);
+    assertThat(b.hasUnresolvedHierarchy()).isTrue();
+    assertThat(b.resolveMember("foo")).isEmpty();
+  }
+
+  @Test
+  void members_modified_after_lookup() {
+    ClassType a = new ClassTypeBuilder("A", "mod.A").build();
+    ClassType b = new ClassTypeBuilder("B", "mod.B").withSuperClasses(a).build();
+    assertThat(b.resolveMember("foo")).isEmpty();
+    assertThat(b.instancesHaveMember("foo")).isEqualTo(TriBool.FALSE);
+
+    a.members().add(new Member("foo", PythonType.UNKNOWN));
+    assertThat(b.resolveMember("foo")).contains(PythonType.UNKNOWN);
+
+    a.members().removeIf(member -> "foo".equals(member.name()));
+    assertThat(a.resolveMember("foo")).isEmpty();
+    assertThat(b.resolveMember("foo")).isEmpty();
+
+    b.members().add(new Member("foo", a));
+    assertThat(b.resolveMember("foo")).containsSame(a);
+    b.members().remove(new Member("foo", a));
+    assertThat(b.resolveMember("foo")).isEmpty();
+    assertThat(b.members().contains(new Member("foo", a))).isFalse();
+  }
+
   public static ClassType classType(String... code) {
     return classTypes(code).get(0);
   }
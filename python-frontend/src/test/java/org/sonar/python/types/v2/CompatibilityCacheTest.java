@@ -0,0 +1,37 @@
+/*
+ * SonarQube Python Plugin
+ * Copyright (C) 2011-2025 SonarSource SA
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Sonar Source-Available License Version 1, as published by SonarSource SA.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the Sonar Source-Available License for more details.
+ *
+ * You should have received a copy of the Sonar Source-Available License
+ * along with this program; if not, see https://sonarsource.com/license/ssal/
+ */
+package org.sonar.python.types.v2;
+
+import org.junit.jupiter.api.Test;
+import org.sonar.python.semantic.v2.ClassTypeBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompatibilityCacheTest {
+
+  @Test
+  void type_checker_shares_its_cache() {
+    TypeChecker typeChecker = new TypeChecker(TypesTestUtils.PROJECT_LEVEL_TYPE_TABLE);
+    TypeCheckBuilder isInt = typeChecker.typeCheckBuilder().isInstanceOf("int");
+    ClassType myInt = new ClassTypeBuilder("MyInt", "mod.MyInt").withSuperClasses(TypesTestUtils.INT_TYPE).build();
+
+    assertThat(isInt.check(new ObjectType(myInt))).isEqualTo(TriBool.TRUE);
+    assertThat(typeChecker.typeCheckBuilder().isInstanceOf("int").check(new ObjectType(myInt))).isEqualTo(TriBool.TRUE);
+    assertThat(typeChecker.compatibilityCache().misses()).isEqualTo(1);
+    assertThat(typeChecker.compatibilityCache().hits()).isEqualTo(1);
+  }
+}
@@ -180,4 +180,21 @@ class ObjectTypeTest {
     ObjectType objectType = new ObjectType(PythonType.UNKNOWN, List.of(), List.of());
     assertThat(objectType.hasMember("foo")).isEqualTo(TriBool.UNKNOWN);
   }
+
+  @Test
+  void instances_of_class_types_are_shared() {
+    ClassType classType = new ClassType("A", "mod.A");
+    ObjectType instance = ObjectType.fromType(classType);
+    assertThat(ObjectType.fromType(classType, TypeSource.EXACT)).isSameAs(instance);
+    assertThat(ObjectType.fromType(classType, TypeSource.TYPE_HINT))
+      .isNotSameAs(instance)
+      .isSameAs(ObjectType.fromType(classType, TypeSource.TYPE_HINT));
+    assertThat(instance.attributes()).isEmpty();
+    assertThat(instance.members()).isEmpty();
+    assertThat(instance).isEqualTo(new ObjectType(classType));
+
+    ObjectType unknownInstance = ObjectType.fromType(PythonType.UNKNOWN);
+    assertThat(unknownInstance).isNotSameAs(ObjectType.fromType(PythonType.UNKNOWN));
+    assertThat(unknownInstance.type()).isEqualTo(PythonType.UNKNOWN);
+  }
 }
@@ -194,4 +194,27 @@ class UnionTypeTest {
       .isEqualTo(union2)
       .hasSameHashCodeAs(union2);
   }
+
+  @Test
+  void unions_are_interned() {
+    PythonType intOrStr = UnionType.or(INT_TYPE, STR_TYPE);
+    PythonType strOrInt = UnionType.or(List.of(STR_TYPE, INT_TYPE));
+    assertThat(intOrStr).isSameAs(strOrInt);
+    assertThat(UnionType.or(intOrStr, BOOL_TYPE)).isSameAs(UnionType.or(BOOL_TYPE, UnionType.or(STR_TYPE, INT_TYPE)));
+    Set<PythonType> candidates = ((UnionType) intOrStr).candidates();
+    assertThatThrownBy(() -> candidates.add(FLOAT_TYPE)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void unions_of_distinct_candidates_are_not_interned_together() {
+    ObjectType exactInt = new ObjectType(INT_TYPE, TypeSource.EXACT);
+    ObjectType exactStr = new ObjectType(STR_TYPE, TypeSource.EXACT);
+    PythonType exactUnion = UnionType.or(exactInt, exactStr);
+    PythonType typeHintUnion = UnionType.or(new ObjectType(INT_TYPE, TypeSource.TYPE_HINT), new ObjectType(STR_TYPE, TypeSource.TYPE_HINT));
+
+    assertThat(exactUnion).isNotSameAs(typeHintUnion);
+    assertThat(exactUnion.typeSource()).isEqualTo(TypeSource.EXACT);
+    assertThat(typeHintUnion.typeSource()).isEqualTo(TypeSource.TYPE_HINT);
+    assertThat(UnionType.or(exactStr, exactInt)).isSameAs(exactUnion);
+  }
 }